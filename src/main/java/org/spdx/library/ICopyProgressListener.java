@@ -0,0 +1,36 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library;
+
+/**
+ * Receives progress updates from {@link ModelCopyManager#copyGraph}
+ * <p>
+ * Updates may be made concurrently from the copying threads.
+ *
+ * @author Gary O'Neall
+ */
+@FunctionalInterface
+public interface ICopyProgressListener {
+
+	/**
+	 * Called after the properties of an object have been copied
+	 * @param copied number of objects whose properties have been copied
+	 * @param discovered number of objects found to be copied so far
+	 */
+	void progress(int copied, int discovered);
+}
@@ -17,14 +17,25 @@
  */
 package org.spdx.library;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.spdx.core.CoreModelObject;
 import org.spdx.core.DefaultModelStore;
 import org.spdx.core.DefaultStoreNotInitializedException;
 import org.spdx.core.IModelCopyManager;
@@ -41,6 +52,8 @@ import org.spdx.library.model.v3_0_1.simplelicensing.InvalidLicenseExpression;
 import org.spdx.storage.IModelStore;
 import org.spdx.utility.license.LicenseExpressionParser;
 import org.spdx.utility.license.LicenseParserException;
+import org.spdx.utility.license.ParsedLicenseExpression;
+import org.spdx.utility.license.ParsedLicenseExpressionCache;
 
 /**
  * Factory for creating SPDXLicenseInfo objects from a Jena model
@@ -270,6 +283,285 @@ public class LicenseInfoFactory {
 
 
 
+	/**
+	 * Parses many license strings into licenses using the SPDX Version 3.X model
+	 * <p>
+	 * Each distinct license string is parsed once, using <code>threadCount</code> threads, and the licenses are then
+	 * created on the calling thread.  Each distinct license and addition ID is looked up or created in the store once
+	 * for the whole batch, and equal license strings share the same license.
+	 * @param licenseStrings Strings conforming to the syntax described in <code>parseSPDXLicenseString</code>
+	 * @param store Store containing any extractedLicenseInfos - if any extractedLicenseInfos by ID already exist, they will be used.  If
+	 * none exist for an ID, they will be added.  If null, the default model store will be used.
+	 * @param customLicensePrefix Prefix to use for any custom licenses or addition IDs found in the string.  If the resultant object URI does not exist
+	 * for an ID, they will be added.  If null, the default model document URI + "#" will be used.
+	 * @param creationInfo Creation information to use for newly created elements.  If null, the default
+	 * @param copyManager allows for copying of any properties set which use other model stores or document URI's.  If null, the default will be used.
+	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID
+	 * @param threadCount number of threads parsing the license strings - if 1, the license strings are parsed on the calling thread
+	 * @return a license for each license string in the order of <code>licenseStrings</code>.  If a license string is not parseable,
+	 * an <code>InvalidLicenseExpression</code> is returned for that license string.
+	 * @throws DefaultStoreNotInitializedException if the default model store is not initialized
+	 * @throws InvalidSPDXAnalysisException if interrupted while parsing
+	 */
+	public static List<AnyLicenseInfo> parseSPDXLicenseStrings(Collection<String> licenseStrings, @Nullable IModelStore store,
+			@Nullable String customLicensePrefix, @Nullable CreationInfo creationInfo, @Nullable IModelCopyManager copyManager,
+			@Nullable List<DictionaryEntry> customIdToUri, int threadCount) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(licenseStrings, "License strings can not be null");
+		if (Objects.isNull(store)) {
+			store = DefaultModelStore.getDefaultModelStore();
+		}
+		if (Objects.isNull(customLicensePrefix)) {
+			customLicensePrefix = DefaultModelStore.getDefaultDocumentUri() + "#";
+		}
+		if (Objects.isNull(copyManager)) {
+			copyManager = DefaultModelStore.getDefaultCopyManager();
+		}
+		if (Objects.isNull(creationInfo)) {
+			creationInfo = SpdxModelClassFactoryV3.createCreationInfo(
+					store, customLicensePrefix + "licenseinfo-creator", "LicenseInfoFactory",
+					copyManager);
+		}
+		Map<String, ParsedLicenseString> parsedStrings = parseDistinct(licenseStrings, false, threadCount);
+		Map<ParsedLicenseExpression, CoreModelObject> resolvedTerms = new HashMap<>();
+		Map<String, AnyLicenseInfo> licenses = new HashMap<>();
+		for (Map.Entry<String, ParsedLicenseString> entry : parsedStrings.entrySet()) {
+			String message = entry.getValue().errorMessage;
+			if (Objects.isNull(message)) {
+				try {
+					licenses.put(entry.getKey(), LicenseExpressionParser.toLicenseInfo(entry.getValue().parsed, store,
+							customLicensePrefix, creationInfo, copyManager, customIdToUri, resolvedTerms));
+					continue;
+				} catch (LicenseParserException e) {
+					message = e.getMessage() + " License expression: '" + entry.getKey() + "'";
+				} catch (InvalidSPDXAnalysisException e) {
+					message = String.format("Unexpected SPDX error parsing license string: %s", e.getMessage());
+				}
+			}
+			InvalidLicenseExpression invalid = new InvalidLicenseExpression(store, store.getNextId(IModelStore.IdType.Anonymous),
+					copyManager, true, customLicensePrefix);
+			invalid.setMessage(message);
+			licenses.put(entry.getKey(), invalid);
+		}
+		List<AnyLicenseInfo> retval = new ArrayList<>(licenseStrings.size());
+		for (String licenseString : licenseStrings) {
+			retval.add(licenses.get(licenseString));
+		}
+		return retval;
+	}
+
+	/**
+	 * Parses many license strings into licenses using the SPDX Version 2.X model
+	 * <p>
+	 * Each distinct license string is parsed once, using <code>threadCount</code> threads, and the licenses are then
+	 * created on the calling thread.  Each distinct license and exception ID is looked up or created in the store once
+	 * for the whole batch, and equal license strings share the same license.
+	 * @param licenseStrings Strings conforming to the syntax described in <code>parseSPDXLicenseStringCompatV2</code>
+	 * @param store Store containing any extractedLicenseInfos - if any extractedLicenseInfos by ID already exist, they will be used.  If
+	 * none exist for an ID, they will be added.  If null, the default model store will be used.
+	 * @param documentUri Document URI for the document containing any extractedLicenseInfos - if any extractedLicenseInfos by ID already exist, they will be used.  If
+	 * none exist for an ID, they will be added.  If null, the default model document URI will be used.
+	 * @param copyManager allows for copying of any properties set which use other model stores or document URI's.  If null, the default will be used.
+	 * @param threadCount number of threads parsing the license strings - if 1, the license strings are parsed on the calling thread
+	 * @return a license for each license string in the order of <code>licenseStrings</code>.  If a license string is not parseable,
+	 * an <code>InvalidLicenseExpression</code> is returned for that license string.
+	 * @throws DefaultStoreNotInitializedException if the default model store is not initialized
+	 * @throws InvalidSPDXAnalysisException if interrupted while parsing
+	 */
+	public static List<org.spdx.library.model.v2.license.AnyLicenseInfo> parseSPDXLicenseStringsCompatV2(Collection<String> licenseStrings,
+			@Nullable IModelStore store, @Nullable String documentUri, @Nullable IModelCopyManager copyManager,
+			int threadCount) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(licenseStrings, "License strings can not be null");
+		if (Objects.isNull(store)) {
+			store = DefaultModelStore.getDefaultModelStore();
+		}
+		if (Objects.isNull(documentUri)) {
+			documentUri = DefaultModelStore.getDefaultDocumentUri();
+		}
+		if (Objects.isNull(copyManager)) {
+			copyManager = DefaultModelStore.getDefaultCopyManager();
+		}
+		Map<String, ParsedLicenseString> parsedStrings = parseDistinct(licenseStrings, true, threadCount);
+		Map<ParsedLicenseExpression, CoreModelObject> resolvedTerms = new HashMap<>();
+		Map<String, org.spdx.library.model.v2.license.AnyLicenseInfo> licenses = new HashMap<>();
+		for (Map.Entry<String, ParsedLicenseString> entry : parsedStrings.entrySet()) {
+			String message = entry.getValue().errorMessage;
+			if (Objects.isNull(message)) {
+				try {
+					licenses.put(entry.getKey(), LicenseExpressionParser.toLicenseInfoCompatV2(entry.getValue().parsed,
+							store, documentUri, copyManager, resolvedTerms));
+					continue;
+				} catch (LicenseParserException e) {
+					message = e.getMessage() + " License expression: '" + entry.getKey() + "'";
+				} catch (InvalidSPDXAnalysisException e) {
+					message = String.format("Unexpected SPDX error parsing license string: %s", e.getMessage());
+				}
+			}
+			licenses.put(entry.getKey(), new org.spdx.library.model.v2.license.InvalidLicenseExpression(store, documentUri,
+					store.getNextId(IModelStore.IdType.Anonymous), copyManager, message, entry.getKey()));
+		}
+		List<org.spdx.library.model.v2.license.AnyLicenseInfo> retval = new ArrayList<>(licenseStrings.size());
+		for (String licenseString : licenseStrings) {
+			retval.add(licenses.get(licenseString));
+		}
+		return retval;
+	}
+
+	/**
+	 * Result of parsing one distinct license string in a batch
+	 */
+	private static class ParsedLicenseString {
+		/**
+		 * parsed license expression - null if the license string could not be parsed
+		 */
+		final @Nullable ParsedLicenseExpression parsed;
+		/**
+		 * reason the license string could not be parsed - null if parsed
+		 */
+		final @Nullable String errorMessage;
+
+		ParsedLicenseString(@Nullable ParsedLicenseExpression parsed, @Nullable String errorMessage) {
+			this.parsed = parsed;
+			this.errorMessage = errorMessage;
+		}
+	}
+
+	/**
+	 * Parses each distinct license string once
+	 * @param licenseStrings license strings which may contain duplicates
+	 * @param compatV2 true if parsing for the SPDX Version 2.X model
+	 * @param threadCount number of threads parsing the license strings - if 1, the license strings are parsed on the calling thread
+	 * @return the result of parsing each distinct license string in the order the license strings first occur
+	 * @throws InvalidSPDXAnalysisException if interrupted while parsing
+	 */
+	private static Map<String, ParsedLicenseString> parseDistinct(Collection<String> licenseStrings, boolean compatV2,
+			int threadCount) throws InvalidSPDXAnalysisException {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be at least 1");
+		}
+		Map<String, ParsedLicenseString> retval = new LinkedHashMap<>();
+		for (String licenseString : licenseStrings) {
+			retval.put(licenseString, null);
+		}
+		if (threadCount == 1 || retval.size() < 2) {
+			for (Map.Entry<String, ParsedLicenseString> entry : retval.entrySet()) {
+				entry.setValue(parseOne(entry.getKey(), compatV2));
+			}
+			return retval;
+		}
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, retval.size()), runnable -> {
+			Thread thread = new Thread(runnable, "spdx-license-parse-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			Map<String, Future<ParsedLicenseString>> futures = new LinkedHashMap<>();
+			for (String licenseString : retval.keySet()) {
+				futures.put(licenseString, executor.submit(() -> parseOne(licenseString, compatV2)));
+			}
+			for (Map.Entry<String, Future<ParsedLicenseString>> entry : futures.entrySet()) {
+				retval.put(entry.getKey(), entry.getValue().get());
+			}
+			return retval;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InvalidSPDXAnalysisException("Interrupted parsing license strings", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else {
+				throw new InvalidSPDXAnalysisException("Error parsing license strings", e.getCause());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * @param licenseString license string to parse
+	 * @param compatV2 true if parsing for the SPDX Version 2.X model
+	 * @return the result of parsing the license string
+	 */
+	private static ParsedLicenseString parseOne(String licenseString, boolean compatV2) {
+		try {
+			return new ParsedLicenseString(compatV2 ? LicenseExpressionParser.parseExpressionCompatV2(licenseString) :
+				LicenseExpressionParser.parseExpression(licenseString), null);
+		} catch (LicenseParserException e) {
+			return new ParsedLicenseString(null, e.getMessage());
+		}
+	}
+
+	/**
+	 * Parses and validates a license string for the SPDX Version 3.X model without creating any licenses
+	 * <p>
+	 * License and exception IDs are checked against the SPDX license list IDs only - no model store, creation
+	 * information or copy manager is used and nothing is written to any store.  Use this when only the validity
+	 * of the license string or the IDs it references are needed; the result can later be converted to licenses
+	 * using <code>LicenseExpressionParser.toLicenseInfo</code>.
+	 * @param licenseString String conforming to the syntax
+	 * @return the parsed license expression
+	 * @throws InvalidLicenseStringException if the license string is not valid
+	 */
+	public static ParsedLicenseExpression parseSPDXLicenseExpression(String licenseString) throws InvalidLicenseStringException {
+		try {
+			return LicenseExpressionParser.parseExpression(licenseString);
+		} catch (LicenseParserException e) {
+			throw new InvalidLicenseStringException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Parses and validates a license string for the SPDX Version 2.X model without creating any licenses
+	 * <p>
+	 * License and exception IDs are checked against the SPDX license list IDs only - no model store is used.
+	 * @param licenseString String conforming to the syntax
+	 * @return the parsed license expression
+	 * @throws InvalidLicenseStringException if the license string is not valid
+	 */
+	public static ParsedLicenseExpression parseSPDXLicenseExpressionCompatV2(String licenseString) throws InvalidLicenseStringException {
+		try {
+			return LicenseExpressionParser.parseExpressionCompatV2(licenseString);
+		} catch (LicenseParserException e) {
+			throw new InvalidLicenseStringException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @param licenseString license string to check
+	 * @return true if the license string is a valid SPDX Version 3.X license expression - no licenses are created
+	 */
+	public static boolean isValidLicenseString(String licenseString) {
+		try {
+			LicenseExpressionParser.parseExpression(licenseString);
+			return true;
+		} catch (LicenseParserException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * @param licenseString license string to check
+	 * @return true if the license string is a valid SPDX Version 2.X license expression - no licenses are created
+	 */
+	public static boolean isValidLicenseStringCompatV2(String licenseString) {
+		try {
+			LicenseExpressionParser.parseExpressionCompatV2(licenseString);
+			return true;
+		} catch (LicenseParserException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * The cache holds the parsed form of license strings so that parsing the same string again, into the same
+	 * or a different model store, only creates the licenses.  It is disabled until a maximum size is set with
+	 * <code>setMaxSize</code> or the <code>org.spdx.parsedLicenseExpressionCacheSize</code> configuration property.
+	 * @return the cache of parsed license expressions used when parsing license strings
+	 */
+	public static ParsedLicenseExpressionCache getParsedLicenseExpressionCache() {
+		return ParsedLicenseExpressionCache.getInstance();
+	}
+
 	/**
 	 * @param licenseID case insensitive
 	 * @return true if the licenseID belongs to an SPDX listed license
@@ -0,0 +1,139 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Outcome of a background refresh of the listed licenses
+ *
+ * @author Gary O'Neall
+ */
+public class ListedLicenseRefreshEvent {
+
+	/**
+	 * Result of a refresh
+	 */
+	public enum Status {
+		/**
+		 * The refreshed listed licenses replaced the previous listed licenses
+		 */
+		UPDATED,
+		/**
+		 * The refreshed listed licenses are the same version as the current listed licenses - the current listed licenses are retained
+		 */
+		UNCHANGED,
+		/**
+		 * The refreshed listed licenses failed validation - the current listed licenses are retained
+		 */
+		REJECTED,
+		/**
+		 * An error occurred loading the listed licenses - the current listed licenses are retained
+		 */
+		FAILED
+	}
+
+	private final Status status;
+	private final String previousVersion;
+	private final @Nullable String refreshedVersion;
+	private final long elapsedMillis;
+	private final @Nullable String message;
+	private final @Nullable Throwable error;
+
+	/**
+	 * @param status result of the refresh
+	 * @param previousVersion license list version prior to the refresh
+	 * @param refreshedVersion license list version loaded by the refresh - null if the load failed
+	 * @param elapsedMillis time to load and validate the listed licenses in milliseconds
+	 * @param message reason the refresh was rejected or failed
+	 * @param error error for a failed refresh
+	 */
+	public ListedLicenseRefreshEvent(Status status, String previousVersion, @Nullable String refreshedVersion,
+			long elapsedMillis, @Nullable String message, @Nullable Throwable error) {
+		this.status = status;
+		this.previousVersion = previousVersion;
+		this.refreshedVersion = refreshedVersion;
+		this.elapsedMillis = elapsedMillis;
+		this.message = message;
+		this.error = error;
+	}
+
+	/**
+	 * @return result of the refresh
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return license list version prior to the refresh
+	 */
+	public String getPreviousVersion() {
+		return previousVersion;
+	}
+
+	/**
+	 * @return license list version loaded by the refresh - empty if the load failed
+	 */
+	public Optional<String> getRefreshedVersion() {
+		return Optional.ofNullable(refreshedVersion);
+	}
+
+	/**
+	 * @return time to load and validate the listed licenses in milliseconds
+	 */
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	/**
+	 * @return reason the refresh was rejected or failed
+	 */
+	public Optional<String> getMessage() {
+		return Optional.ofNullable(message);
+	}
+
+	/**
+	 * @return error for a failed refresh
+	 */
+	public Optional<Throwable> getError() {
+		return Optional.ofNullable(error);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("Listed license refresh ");
+		sb.append(status);
+		sb.append(" from version ");
+		sb.append(previousVersion);
+		if (refreshedVersion != null) {
+			sb.append(" to version ");
+			sb.append(refreshedVersion);
+		}
+		sb.append(" in ");
+		sb.append(elapsedMillis);
+		sb.append("ms");
+		if (message != null) {
+			sb.append(": ");
+			sb.append(message);
+		}
+		return sb.toString();
+	}
+}
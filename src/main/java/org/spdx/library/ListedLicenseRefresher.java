@@ -0,0 +1,369 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.Configuration;
+import org.spdx.library.ListedLicenseRefreshEvent.Status;
+
+/**
+ * Refreshes the listed licenses in the background
+ * <p>
+ * A refresh loads a new copy of the listed licenses on a background thread, validates it, and replaces
+ * the instance returned by {@link ListedLicenses#getListedLicenses()}.  Callers continue to use the current
+ * listed licenses while the refresh is in progress and any instance already retrieved remains usable after
+ * it is replaced.
+ * <p>
+ * A refresh is rejected if no licenses were loaded or if the license list version is older than the current
+ * version - e.g. if the web site could not be reached and the licenses were loaded from the JAR file.
+ * If the version is unchanged, the current listed licenses are retained to preserve any cached license data.
+ * <p>
+ * Refreshes can be scheduled with {@link #start(long, TimeUnit)} or by setting the
+ * <code>org.spdx.listedLicenseRefreshIntervalSeconds</code> configuration property.
+ *
+ * @author Gary O'Neall
+ */
+public class ListedLicenseRefresher {
+
+	static final Logger logger = LoggerFactory.getLogger(ListedLicenseRefresher.class);
+
+	static final String CONFIG_PROPERTY_REFRESH_INTERVAL = "org.spdx.listedLicenseRefreshIntervalSeconds";
+
+	private static final Object INSTANCE_LOCK = new Object();
+	private static volatile ListedLicenseRefresher instance = null;
+
+	private final Callable<ListedLicenses> loader;
+	private final ScheduledExecutorService executor;
+	private final List<Consumer<ListedLicenseRefreshEvent>> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Refresh in progress - guarded by this
+	 */
+	private @Nullable CompletableFuture<ListedLicenseRefreshEvent> refreshInProgress = null;
+	/**
+	 * Scheduled refreshes - guarded by this
+	 */
+	private @Nullable ScheduledFuture<?> scheduledRefresh = null;
+
+	private volatile @Nullable ListedLicenseRefreshEvent lastEvent = null;
+	private final AtomicLong refreshCount = new AtomicLong();
+	private final AtomicLong updateCount = new AtomicLong();
+	private final AtomicLong rejectedCount = new AtomicLong();
+	private final AtomicLong failureCount = new AtomicLong();
+
+	/**
+	 * @param loader loads a new copy of the listed licenses
+	 */
+	ListedLicenseRefresher(Callable<ListedLicenses> loader) {
+		this.loader = loader;
+		ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "spdx-listed-license-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduledExecutor.setRemoveOnCancelPolicy(true);
+		this.executor = scheduledExecutor;
+	}
+
+	/**
+	 * @return the refresher for the listed licenses
+	 */
+	public static ListedLicenseRefresher getInstance() {
+		ListedLicenseRefresher retval = instance;
+		if (Objects.isNull(retval)) {
+			synchronized (INSTANCE_LOCK) {
+				retval = instance;
+				if (Objects.isNull(retval)) {
+					retval = new ListedLicenseRefresher(ListedLicenses::createListedLicenses);
+					instance = retval;
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Start scheduled refreshes if the refresh interval configuration property is set
+	 */
+	static void startIfConfigured() {
+		String interval = Configuration.getInstance().getProperty(CONFIG_PROPERTY_REFRESH_INTERVAL);
+		if (Objects.isNull(interval) || interval.trim().isEmpty()) {
+			return;
+		}
+		try {
+			long seconds = Long.parseLong(interval.trim());
+			if (seconds > 0) {
+				ListedLicenseRefresher refresher = getInstance();
+				if (!refresher.isStarted()) {
+					refresher.start(seconds, TimeUnit.SECONDS);
+				}
+			}
+		} catch (NumberFormatException e) {
+			logger.warn("Invalid listed license refresh interval {} - background refresh is disabled", interval);
+		}
+	}
+
+	/**
+	 * Schedule a refresh of the listed licenses at a fixed interval, replacing any existing schedule
+	 * @param interval interval between the end of one refresh and the start of the next
+	 * @param unit unit for the interval
+	 */
+	public synchronized void start(long interval, TimeUnit unit) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("Refresh interval must be positive");
+		}
+		if (Objects.nonNull(scheduledRefresh)) {
+			scheduledRefresh.cancel(false);
+		}
+		scheduledRefresh = executor.scheduleWithFixedDelay(this::scheduledRefresh, interval, interval, unit);
+		logger.info("Refreshing the SPDX listed licenses every {} {}", interval, unit);
+	}
+
+	/**
+	 * Stop any scheduled refreshes - a refresh in progress is allowed to complete
+	 */
+	public synchronized void stop() {
+		if (Objects.nonNull(scheduledRefresh)) {
+			scheduledRefresh.cancel(false);
+			scheduledRefresh = null;
+		}
+	}
+
+	/**
+	 * @return true if refreshes are scheduled
+	 */
+	public synchronized boolean isStarted() {
+		return Objects.nonNull(scheduledRefresh);
+	}
+
+	/**
+	 * Refresh the listed licenses on a background thread
+	 * <p>
+	 * If a refresh is already in progress, the in progress refresh is returned.
+	 * @return future completing with the outcome of the refresh
+	 */
+	public CompletableFuture<ListedLicenseRefreshEvent> refreshAsync() {
+		CompletableFuture<ListedLicenseRefreshEvent> refresh;
+		synchronized (this) {
+			if (Objects.nonNull(refreshInProgress)) {
+				return refreshInProgress;
+			}
+			refresh = new CompletableFuture<>();
+			refreshInProgress = refresh;
+		}
+		executor.execute(() -> runRefresh(refresh));
+		return refresh;
+	}
+
+	/**
+	 * Called by the scheduler on the refresh thread
+	 */
+	private void scheduledRefresh() {
+		CompletableFuture<ListedLicenseRefreshEvent> refresh;
+		synchronized (this) {
+			if (Objects.nonNull(refreshInProgress)) {
+				return;
+			}
+			refresh = new CompletableFuture<>();
+			refreshInProgress = refresh;
+		}
+		runRefresh(refresh);
+	}
+
+	/**
+	 * Run the refresh, notify the listeners and complete the future
+	 * @param refresh future for the refresh
+	 */
+	private void runRefresh(CompletableFuture<ListedLicenseRefreshEvent> refresh) {
+		ListedLicenseRefreshEvent event;
+		try {
+			event = refresh();
+		} catch (RuntimeException e) {
+			// refresh only throws on unexpected errors - make sure the in progress refresh is always cleared
+			event = new ListedLicenseRefreshEvent(Status.FAILED, "", null, 0, e.getMessage(), e);
+		}
+		recordEvent(event);
+		synchronized (this) {
+			refreshInProgress = null;
+		}
+		for (Consumer<ListedLicenseRefreshEvent> listener : listeners) {
+			try {
+				listener.accept(event);
+			} catch (RuntimeException e) {
+				logger.warn("Error in listed license refresh listener", e);
+			}
+		}
+		refresh.complete(event);
+	}
+
+	/**
+	 * Load, validate and replace the listed licenses
+	 * @return outcome of the refresh
+	 */
+	private ListedLicenseRefreshEvent refresh() {
+		ListedLicenses current = ListedLicenses.getListedLicenses();
+		String currentVersion = current.getLicenseListVersion();
+		long startTime = System.currentTimeMillis();
+		ListedLicenses refreshed;
+		try {
+			refreshed = loader.call();
+		} catch (Exception e) {
+			logger.warn("Error refreshing the SPDX listed licenses", e);
+			return new ListedLicenseRefreshEvent(Status.FAILED, currentVersion, null,
+					System.currentTimeMillis() - startTime, e.getMessage(), e);
+		}
+		String refreshedVersion = refreshed.getLicenseListVersion();
+		long elapsed = System.currentTimeMillis() - startTime;
+		if (refreshed.getSpdxListedLicenseIds().isEmpty()) {
+			return new ListedLicenseRefreshEvent(Status.REJECTED, currentVersion, refreshedVersion, elapsed,
+					"No listed licenses were loaded", null);
+		}
+		int versionCompare = compareLicenseListVersions(refreshedVersion, currentVersion);
+		if (versionCompare < 0) {
+			return new ListedLicenseRefreshEvent(Status.REJECTED, currentVersion, refreshedVersion, elapsed,
+					"Refreshed license list version is older than the current version", null);
+		}
+		if (versionCompare == 0) {
+			return new ListedLicenseRefreshEvent(Status.UNCHANGED, currentVersion, refreshedVersion, elapsed, null, null);
+		}
+		if (!ListedLicenses.replaceListedLicenses(current, refreshed)) {
+			return new ListedLicenseRefreshEvent(Status.REJECTED, currentVersion, refreshedVersion, elapsed,
+					"Listed licenses were reset during the refresh", null);
+		}
+		return new ListedLicenseRefreshEvent(Status.UPDATED, currentVersion, refreshedVersion, elapsed, null, null);
+	}
+
+	private void recordEvent(ListedLicenseRefreshEvent event) {
+		refreshCount.incrementAndGet();
+		switch (event.getStatus()) {
+			case UPDATED:
+				updateCount.incrementAndGet();
+				logger.info(event.toString());
+				break;
+			case REJECTED:
+				rejectedCount.incrementAndGet();
+				logger.warn(event.toString());
+				break;
+			case FAILED:
+				failureCount.incrementAndGet();
+				break;
+			default:
+				logger.debug(event.toString());
+		}
+		lastEvent = event;
+	}
+
+	/**
+	 * Compare license list versions of the form M.N
+	 * @param version1 first version
+	 * @param version2 second version
+	 * @return negative if version1 is older than version2, 0 if they are the same, positive if version1 is newer
+	 */
+	static int compareLicenseListVersions(@Nullable String version1, @Nullable String version2) {
+		if (Objects.equals(version1, version2)) {
+			return 0;
+		}
+		if (Objects.isNull(version1)) {
+			return -1;
+		}
+		if (Objects.isNull(version2)) {
+			return 1;
+		}
+		String[] parts1 = version1.trim().split("\\.");
+		String[] parts2 = version2.trim().split("\\.");
+		for (int i = 0; i < Math.max(parts1.length, parts2.length); i++) {
+			String part1 = i < parts1.length ? parts1[i] : "0";
+			String part2 = i < parts2.length ? parts2[i] : "0";
+			int compare;
+			try {
+				compare = Integer.compare(Integer.parseInt(part1), Integer.parseInt(part2));
+			} catch (NumberFormatException e) {
+				compare = part1.compareTo(part2);
+			}
+			if (compare != 0) {
+				return compare;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * @param listener called on the refresh thread at the end of each refresh
+	 */
+	public void addRefreshListener(Consumer<ListedLicenseRefreshEvent> listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * @param listener listener to remove
+	 */
+	public void removeRefreshListener(Consumer<ListedLicenseRefreshEvent> listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * @return the outcome of the most recent refresh
+	 */
+	public Optional<ListedLicenseRefreshEvent> getLastEvent() {
+		return Optional.ofNullable(lastEvent);
+	}
+
+	/**
+	 * @return number of completed refreshes
+	 */
+	public long getRefreshCount() {
+		return refreshCount.get();
+	}
+
+	/**
+	 * @return number of refreshes which replaced the listed licenses
+	 */
+	public long getUpdateCount() {
+		return updateCount.get();
+	}
+
+	/**
+	 * @return number of refreshes which failed validation
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	/**
+	 * @return number of refreshes which failed to load the listed licenses
+	 */
+	public long getFailureCount() {
+		return failureCount.get();
+	}
+}
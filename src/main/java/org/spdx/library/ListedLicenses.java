@@ -18,8 +18,10 @@
 package org.spdx.library;
 
 import java.util.*;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +35,7 @@ import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicense;
 import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicenseException;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.listedlicense.IListedLicenseStore;
+import org.spdx.storage.listedlicense.ListedLicensePreloadResult;
 import org.spdx.storage.listedlicense.SpdxListedLicenseLocalStore;
 import org.spdx.storage.listedlicense.SpdxListedLicenseModelStore;
 import org.spdx.storage.listedlicense.SpdxListedLicenseWebStore;
@@ -54,16 +57,23 @@ public class ListedLicenses {
 	private IListedLicenseStore baseModelStore;
 	private SpdxV2ListedLicenseModelStore licenseStoreV2;
 	private SpdxV3ListedLicenseModelStore licenseStoreV3;
-	private static ListedLicenses listedLicenses = null;
-	private Map<String, SpdxListedLicense> spdxListedLicenseMapCompatV2;
-	private Map<String, ListedLicense> spdxListedLicenseMap;
-	private Map<String, org.spdx.library.model.v2.license.ListedLicenseException> spdxListedExceptionMapCompatV2;
-	private Map<String, ListedLicenseException> spdxListedExceptionMap;
-
 	/**
-	 * Lock for any modifications to the underlying licenseModelStore
+	 * Current listed licenses - read without locking so that readers are never blocked by a refresh or reset.
+	 * A new instance is fully constructed before it is published by a set or compare and set.
+	 */
+	private static final AtomicReference<ListedLicenses> listedLicenses = new AtomicReference<>();
+	/**
+	 * Held only while the first listed licenses are loaded
 	 */
-	private static final ReadWriteLock listedLicenseModificationLock = new ReentrantReadWriteLock();
+	private static final Object INITIALIZATION_LOCK = new Object();
+	/*
+	 * The maps below are built without a lock and published by a single volatile write.  Threads racing to
+	 * build the same map build equivalent maps, and any one of them may be published.
+	 */
+	private volatile Map<String, SpdxListedLicense> spdxListedLicenseMapCompatV2;
+	private volatile Map<String, ListedLicense> spdxListedLicenseMap;
+	private volatile Map<String, org.spdx.library.model.v2.license.ListedLicenseException> spdxListedExceptionMapCompatV2;
+	private volatile Map<String, ListedLicenseException> spdxListedExceptionMap;
 	
 	/**
 	 * This constructor should only be called by the getListedLicenses method
@@ -74,6 +84,15 @@ public class ListedLicenses {
 		initializeLicenseModelStore();
 	}
 
+	/**
+	 * @param baseModelStore store for the listed licenses
+	 */
+	ListedLicenses(IListedLicenseStore baseModelStore) {
+		this.baseModelStore = baseModelStore;
+		this.licenseStoreV2 = new SpdxV2ListedLicenseModelStore(baseModelStore);
+		this.licenseStoreV3 = new SpdxV3ListedLicenseModelStore(baseModelStore);
+	}
+
 	/**
 	 * Initializes the license model store for managing SPDX listed licenses and
 	 * exceptions
@@ -84,31 +103,30 @@ public class ListedLicenses {
 	 * This method also initializes the SPDX version 2 and version 3 model stores
 	 * for compatibility.
 	 * </p>
+	 * <p>
+	 * No lock is held since the instance is not published until it is fully constructed,
+	 * so loading the license list from the web does not block the current listed licenses.
+	 * </p>
 	 */
     private void initializeLicenseModelStore() {
-        listedLicenseModificationLock.writeLock().lock();
-        try {
-        	if (!this.onlyUseLocalLicenses) {
-        		try {
-        			baseModelStore = new SpdxListedLicenseWebStore();
-        		} catch(InvalidSPDXAnalysisException ex) {
-                    logger.warn("Unable to access the most current listed licenses from https://spdx.org/licenses - using locally cached licenses: {} Note: you can set the org.spdx.useJARLicenseInfoOnly property to true to avoid this warning.", ex.getMessage(), ex);
-        			baseModelStore = null;
-        		}
+        if (!this.onlyUseLocalLicenses) {
+        	try {
+        		baseModelStore = new SpdxListedLicenseWebStore();
+        	} catch(InvalidSPDXAnalysisException ex) {
+                logger.warn("Unable to access the most current listed licenses from https://spdx.org/licenses - using locally cached licenses: {} Note: you can set the org.spdx.useJARLicenseInfoOnly property to true to avoid this warning.", ex.getMessage(), ex);
+        		baseModelStore = null;
         	}
-        	if (baseModelStore == null) {
-        		try {
-        			baseModelStore = new SpdxListedLicenseLocalStore();
-        		} catch(InvalidSPDXAnalysisException ex) {
-        			logger.error("Error loading cached SPDX licenses", ex);
-        			throw new RuntimeException("Unexpected error loading SPDX Listed Licenses", ex);
-        		}
+        }
+        if (baseModelStore == null) {
+        	try {
+        		baseModelStore = new SpdxListedLicenseLocalStore();
+        	} catch(InvalidSPDXAnalysisException ex) {
+        		logger.error("Error loading cached SPDX licenses", ex);
+        		throw new RuntimeException("Unexpected error loading SPDX Listed Licenses", ex);
         	}
-        	licenseStoreV2 = new SpdxV2ListedLicenseModelStore(baseModelStore);
-        	licenseStoreV3 = new SpdxV3ListedLicenseModelStore(baseModelStore);
-        } finally {
-            listedLicenseModificationLock.writeLock().unlock();
         }
+        licenseStoreV2 = new SpdxV2ListedLicenseModelStore(baseModelStore);
+        licenseStoreV3 = new SpdxV3ListedLicenseModelStore(baseModelStore);
 	}
 
 	/**
@@ -119,50 +137,89 @@ public class ListedLicenses {
 	 * throughout the application. If the instance does not already exist, it
 	 * is initialized.
 	 * </p>
+	 * <p>
+	 * Once the instance is published, it is read without holding a lock.
+	 * </p>
 	 *
 	 * @return The singleton instance of the {@code ListedLicenses} class.
 	 */
 	public static ListedLicenses getListedLicenses() {
-	    ListedLicenses retval;
-	    listedLicenseModificationLock.readLock().lock();
-	    try {
-	        retval = listedLicenses;
-	    } finally {
-	        listedLicenseModificationLock.readLock().unlock();
-	    }
-	    if (Objects.isNull(retval)) {
-	        listedLicenseModificationLock.writeLock().lock();
-	        try {
-	            if (listedLicenses == null) {
-	                listedLicenses = new ListedLicenses();
-	            }
-	            retval = listedLicenses;
-	        } finally {
-	            listedLicenseModificationLock.writeLock().unlock();
-	        }
-	    }
-        return retval;
+	    ListedLicenses retval = listedLicenses.get();
+	    return Objects.nonNull(retval) ? retval : initializeListedLicenses();
     }
 
+	/**
+	 * Load and publish the first listed licenses and start the background refresh if it is configured
+	 * <p>
+	 * Only the first load holds a lock, so threads requesting the listed licenses before they are
+	 * published wait for a single load of the license list.
+	 * </p>
+	 *
+	 * @return The published listed licenses.
+	 */
+	private static ListedLicenses initializeListedLicenses() {
+		ListedLicenses retval;
+		synchronized (INITIALIZATION_LOCK) {
+			retval = listedLicenses.get();
+			if (Objects.nonNull(retval)) {
+				return retval;
+			}
+			ListedLicenses created = new ListedLicenses();
+			retval = listedLicenses.compareAndSet(null, created) ? created : listedLicenses.get();
+		}
+		ListedLicenseRefresher.startIfConfigured();
+		return retval;
+	}
+
 	/**
 	 * Reset all cached license information and reload the license IDs
 	 * <p>
 	 * NOTE: This method should be used with caution as it can negatively
-	 * impact performance due to the reloading process.
+	 * impact performance due to the reloading process.  Other callers keep using
+	 * the current instance until the new instance is loaded and published.
 	 * </p>
 	 *
 	 * @return A new instance of the {@code ListedLicenses} class.
 	 */
     public static ListedLicenses resetListedLicenses() {
-        listedLicenseModificationLock.writeLock().lock();
-        try {
-            listedLicenses = new ListedLicenses();
-            return listedLicenses;
-        } finally {
-            listedLicenseModificationLock.writeLock().unlock();
-        }
+        ListedLicenses retval = new ListedLicenses();
+        listedLicenses.set(retval);
+        return retval;
     }
 
+	/**
+	 * Refresh the listed licenses on a background thread
+	 * <p>
+	 * Unlike {@link #resetListedLicenses()}, callers are not blocked while the
+	 * license list is loaded.  The refreshed listed licenses replace the current
+	 * listed licenses only if they pass validation.
+	 * </p>
+	 *
+	 * @return A future which completes with the outcome of the refresh.
+	 * @see ListedLicenseRefresher
+	 */
+	public static CompletableFuture<ListedLicenseRefreshEvent> refreshListedLicensesAsync() {
+		return ListedLicenseRefresher.getInstance().refreshAsync();
+	}
+
+	/**
+	 * @return A new instance loaded from the configured listed license source.
+	 */
+	static ListedLicenses createListedLicenses() {
+		return new ListedLicenses();
+	}
+
+	/**
+	 * Replace the current listed licenses if they have not been replaced or reset
+	 *
+	 * @param expected    The listed licenses expected to be current.
+	 * @param replacement The listed licenses to replace the current listed licenses.
+	 * @return {@code true} if the listed licenses were replaced.
+	 */
+	static boolean replaceListedLicenses(ListedLicenses expected, ListedLicenses replacement) {
+		return listedLicenses.compareAndSet(expected, replacement);
+	}
+
 	/**
 	 * Check whether the given license ID belongs to an SPDX listed license
 	 *
@@ -244,12 +301,7 @@ public class ListedLicenses {
 	 * @return A list of all SPDX Listed License IDs.
 	 */
     public List<String> getSpdxListedLicenseIds() {
-        listedLicenseModificationLock.readLock().lock();
-        try {
-            return this.baseModelStore.getSpdxListedLicenseIds();
-        } finally {
-			listedLicenseModificationLock.readLock().unlock();
-        }
+        return this.baseModelStore.getSpdxListedLicenseIds();
     }
 
 	/**
@@ -261,29 +313,18 @@ public class ListedLicenses {
 	 *                                      licenses.
 	 */
 	public Map<String, ListedLicense> getSpdxListedLicenses() throws InvalidSPDXAnalysisException {
-		listedLicenseModificationLock.readLock().lock();
-		try {
-			if (Objects.nonNull(this.spdxListedLicenseMap)) {
-				return this.spdxListedLicenseMap;
-			}
-		} finally {
-			listedLicenseModificationLock.readLock().unlock();
+		Map<String, ListedLicense> retval = this.spdxListedLicenseMap;
+		if (Objects.nonNull(retval)) {
+			return retval;
 		}
-		listedLicenseModificationLock.writeLock().lock();
-		try {
-			if (Objects.nonNull(this.spdxListedLicenseMap)) {
-				return this.spdxListedLicenseMap;
-			}
-			Map<String, ListedLicense> allListedLicenses = new HashMap<>();
-			for (String licenseId : this.baseModelStore.getSpdxListedLicenseIds()) {
-				allListedLicenses.put(licenseId, new ListedLicense(this.licenseStoreV3, SpdxListedLicenseModelStore.licenseOrExceptionIdToObjectUri(licenseId), null,
-						false, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX));
-			}
-			this.spdxListedLicenseMap = Collections.unmodifiableMap(allListedLicenses);
-			return this.spdxListedLicenseMap;
-		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+		Map<String, ListedLicense> allListedLicenses = new HashMap<>();
+		for (String licenseId : this.baseModelStore.getSpdxListedLicenseIds()) {
+			allListedLicenses.put(licenseId, new ListedLicense(this.licenseStoreV3, SpdxListedLicenseModelStore.licenseOrExceptionIdToObjectUri(licenseId), null,
+					false, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX));
 		}
+		retval = Collections.unmodifiableMap(allListedLicenses);
+		this.spdxListedLicenseMap = retval;
+		return retval;
 	}
 
 	/**
@@ -296,29 +337,18 @@ public class ListedLicenses {
 	 *                                      license exceptions.
 	 */
 	public Map<String, ListedLicenseException> getSpdxListedLicenseExceptions() throws InvalidSPDXAnalysisException {
-		listedLicenseModificationLock.readLock().lock();
-		try {
-			if (Objects.nonNull(this.spdxListedExceptionMap)) {
-				return this.spdxListedExceptionMap;
-			}
-		} finally {
-			listedLicenseModificationLock.readLock().unlock();
+		Map<String, ListedLicenseException> retval = this.spdxListedExceptionMap;
+		if (Objects.nonNull(retval)) {
+			return retval;
 		}
-		listedLicenseModificationLock.writeLock().lock();
-		try {
-			if (Objects.nonNull(this.spdxListedExceptionMap)) {
-				return this.spdxListedExceptionMap;
-			}
-			Map<String, ListedLicenseException> allListedExceptions = new HashMap<>();
-			for (String exceptionId : this.baseModelStore.getSpdxListedExceptionIds()) {
-				allListedExceptions.put(exceptionId, new ListedLicenseException(this.licenseStoreV3, SpdxListedLicenseModelStore.licenseOrExceptionIdToObjectUri(exceptionId), null,
-						false, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX));
-			}
-			this.spdxListedExceptionMap = Collections.unmodifiableMap(allListedExceptions);
-			return this.spdxListedExceptionMap;
-		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+		Map<String, ListedLicenseException> allListedExceptions = new HashMap<>();
+		for (String exceptionId : this.baseModelStore.getSpdxListedExceptionIds()) {
+			allListedExceptions.put(exceptionId, new ListedLicenseException(this.licenseStoreV3, SpdxListedLicenseModelStore.licenseOrExceptionIdToObjectUri(exceptionId), null,
+					false, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX));
 		}
+		retval = Collections.unmodifiableMap(allListedExceptions);
+		this.spdxListedExceptionMap = retval;
+		return retval;
 	}
 
 	/**
@@ -331,30 +361,19 @@ public class ListedLicenses {
 	 *                                      licenses.
 	 */
 	protected Map<String, SpdxListedLicense> getSpdxListedLicensesCompatV2() throws InvalidSPDXAnalysisException {
-		listedLicenseModificationLock.readLock().lock();
-		try {
-			if (Objects.nonNull(this.spdxListedLicenseMapCompatV2)) {
-				return this.spdxListedLicenseMapCompatV2;
-			}
-		} finally {
-			listedLicenseModificationLock.readLock().unlock();
+		Map<String, SpdxListedLicense> retval = this.spdxListedLicenseMapCompatV2;
+		if (Objects.nonNull(retval)) {
+			return retval;
 		}
-		listedLicenseModificationLock.writeLock().lock();
-		try {
-			if (Objects.nonNull(this.spdxListedLicenseMapCompatV2)) {
-				return this.spdxListedLicenseMapCompatV2;
-			}
-			Map<String, SpdxListedLicense> allListedLicenses = new HashMap<>();
-			for (String licenseId : this.baseModelStore.getSpdxListedLicenseIds()) {
-				allListedLicenses.put(licenseId, (SpdxListedLicense)SpdxModelFactoryCompatV2.getModelObjectV2(this.licenseStoreV2,
-						SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, licenseId,
-						SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE, null, false));
-			}
-			this.spdxListedLicenseMapCompatV2 = Collections.unmodifiableMap(allListedLicenses);
-			return this.spdxListedLicenseMapCompatV2;
-		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+		Map<String, SpdxListedLicense> allListedLicenses = new HashMap<>();
+		for (String licenseId : this.baseModelStore.getSpdxListedLicenseIds()) {
+			allListedLicenses.put(licenseId, (SpdxListedLicense)SpdxModelFactoryCompatV2.getModelObjectV2(this.licenseStoreV2,
+					SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX, licenseId,
+					SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE, null, false));
 		}
+		retval = Collections.unmodifiableMap(allListedLicenses);
+		this.spdxListedLicenseMapCompatV2 = retval;
+		return retval;
 	}
 
 	/**
@@ -370,30 +389,56 @@ public class ListedLicenses {
 	 *                                      license exceptions.
 	 */
 	protected Map<String, org.spdx.library.model.v2.license.ListedLicenseException> getSpdxListedLicenseExceptionsCompatV2() throws InvalidSPDXAnalysisException {
-		listedLicenseModificationLock.readLock().lock();
-		try {
-			if (Objects.nonNull(this.spdxListedExceptionMapCompatV2)) {
-				return this.spdxListedExceptionMapCompatV2;
-			}
-		} finally {
-			listedLicenseModificationLock.readLock().unlock();
+		Map<String, org.spdx.library.model.v2.license.ListedLicenseException> retval = this.spdxListedExceptionMapCompatV2;
+		if (Objects.nonNull(retval)) {
+			return retval;
 		}
-		listedLicenseModificationLock.writeLock().lock();
-		try {
-			if (Objects.nonNull(this.spdxListedExceptionMapCompatV2)) {
-				return this.spdxListedExceptionMapCompatV2;
-			}
-			Map<String, org.spdx.library.model.v2.license.ListedLicenseException> allListedExceptions = new HashMap<>();
-			for (String exceptionId : this.baseModelStore.getSpdxListedExceptionIds()) {
-				allListedExceptions.put(exceptionId, (org.spdx.library.model.v2.license.ListedLicenseException)SpdxModelFactoryCompatV2.getModelObjectV2(
-						this.licenseStoreV2, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX,
-						exceptionId, SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE_EXCEPTION, null, false));
-			}
-			this.spdxListedExceptionMapCompatV2 = Collections.unmodifiableMap(allListedExceptions);
-			return this.spdxListedExceptionMapCompatV2;
-		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+		Map<String, org.spdx.library.model.v2.license.ListedLicenseException> allListedExceptions = new HashMap<>();
+		for (String exceptionId : this.baseModelStore.getSpdxListedExceptionIds()) {
+			allListedExceptions.put(exceptionId, (org.spdx.library.model.v2.license.ListedLicenseException)SpdxModelFactoryCompatV2.getModelObjectV2(
+					this.licenseStoreV2, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX,
+					exceptionId, SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE_EXCEPTION, null, false));
 		}
+		retval = Collections.unmodifiableMap(allListedExceptions);
+		this.spdxListedExceptionMapCompatV2 = retval;
+		return retval;
+	}
+
+	/**
+	 * Load all listed licenses and exceptions using the common fork join pool
+	 *
+	 * @return Counts and timings for the preload.
+	 * @throws InvalidSPDXAnalysisException If interrupted during the preload.
+	 * @see #preload(ExecutorService)
+	 */
+	public ListedLicensePreloadResult preload() throws InvalidSPDXAnalysisException {
+		return preload(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Load all listed licenses and exceptions
+	 * <p>
+	 * The license and exception JSON is decoded in parallel and the license and exception
+	 * maps are populated so that subsequent requests do not need to load any license data.
+	 * This can be called during startup to avoid delaying the first requests for licenses.
+	 * </p>
+	 *
+	 * @param executor Executor used to decode the licenses and exceptions - a
+	 *                 dedicated executor is recommended if the licenses are
+	 *                 retrieved from the web.
+	 * @return Counts and timings for the preload.
+	 * @throws InvalidSPDXAnalysisException If interrupted during the preload.
+	 */
+	public ListedLicensePreloadResult preload(ExecutorService executor) throws InvalidSPDXAnalysisException {
+		long startTime = System.currentTimeMillis();
+		ListedLicensePreloadResult result = this.baseModelStore.preload(executor);
+		getSpdxListedLicenses();
+		getSpdxListedLicenseExceptions();
+		getSpdxListedLicensesCompatV2();
+		getSpdxListedLicenseExceptionsCompatV2();
+		logger.info("Preloaded SPDX listed licenses version {} in {}ms: {}", getLicenseListVersion(),
+				System.currentTimeMillis() - startTime, result);
+		return result;
 	}
 
 	/**
@@ -17,11 +17,19 @@
  */
 package org.spdx.library;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.Nullable;
 
@@ -40,6 +48,7 @@ import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IModelStoreLock;
 import org.spdx.storage.IModelStore.IdType;
 import org.spdx.storage.PropertyDescriptor;
+import org.spdx.storage.simple.SpdxStoreBatch;
 
 /**
  * This class helps facilitate copying objects from one model to another.
@@ -70,6 +79,11 @@ public class ModelCopyManager implements IModelCopyManager {
 			ConcurrentHashMap<IModelStore, ConcurrentHashMap<SpdxConstantsV3.SpdxMajorVersion,
 			ConcurrentHashMap<SpdxConstantsV3.SpdxMajorVersion, ISpdxConverter>>>> spdxConverters = new ConcurrentHashMap<>();
 
+	/**
+	 * Default number of threads used by <code>copyGraph</code>
+	 */
+	public static final int DEFAULT_COPY_THREADS = Runtime.getRuntime().availableProcessors();
+	
 	/**
 	 * Create a ModelCopyManager with default options
 	 */
@@ -298,102 +312,79 @@ public class ModelCopyManager implements IModelCopyManager {
 			toStore.create(new TypedValue(toObjectUri, fromTv.getType(), toSpecVersion));
 		}
 		putCopiedId(fromStore, fromTv.getObjectUri(), toStore, toObjectUri);	
-		List<PropertyDescriptor> propertyDescriptors = fromStore.getPropertyValueDescriptors(fromTv.getObjectUri());
-		for (PropertyDescriptor propDesc:propertyDescriptors) {
-			if (fromStore.isCollectionProperty(fromTv.getObjectUri(), propDesc)) {
-			    copyCollectionProperty(toStore, toObjectUri, fromStore, fromTv.getObjectUri(), propDesc, toSpecVersion, toNamespace);
-			} else {
-			    copyIndividualProperty(toStore, toObjectUri, fromStore, fromTv.getObjectUri(), propDesc, toSpecVersion, toNamespace);
-			}
-		}
+		copyProperties(toStore, toObjectUri, fromStore, fromTv.getObjectUri(),
+				sourceUri -> copy(toStore, fromStore, sourceUri, toSpecVersion, toNamespace));
 	}
-	
+
 	/**
-	 * Copies an individual property value (non-collection property value)
-     * @param toStore Model Store to copy to
-     * @param toObjectUri to object URI to copy to
-     * @param fromStore Model Store containing the source item
-     * @param fromObjectUri object to copy from
-     * @param propDescriptor Descriptor for the property
-     * @param toSpecVersion Version of the SPDX spec the to value complies with
-	 * @param toNamespace Namespace to use if an ID needs to be generated for the to object
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * Copies the property values of an item to an existing item
+	 * <p>
+	 * The property values are read from the fromStore in a single critical section for the item and
+	 * collected in a batch which is applied to the toStore together once any referenced items have been
+	 * copied.
+	 * @param toStore Model Store to copy to
+	 * @param toObjectUri URI for the destination object
+	 * @param fromStore Model Store containing the source item
+	 * @param fromObjectUri URI for the source object
+	 * @param referenceCopier copies items referenced by the property values
+	 * @throws InvalidSPDXAnalysisException on any SPDX related error
 	 */
-	private void copyIndividualProperty(IModelStore toStore, String toObjectUri, IModelStore fromStore,
-            String fromObjectUri, PropertyDescriptor propDescriptor,
-			String toSpecVersion, @Nullable String toNamespace) throws InvalidSPDXAnalysisException {
+	private void copyProperties(IModelStore toStore, String toObjectUri, IModelStore fromStore,
+			String fromObjectUri, ReferenceCopier referenceCopier) throws InvalidSPDXAnalysisException {
+		List<PropertyDescriptor> propertyDescriptors;
+		List<Object> individualValues = new ArrayList<>();
+		List<Iterator<Object>> collectionValues = new ArrayList<>();
 		IModelStoreLock fromStoreLock = fromStore.enterCriticalSection(false);
 		//Note: we use a write lock since the RDF store may end up creating a property to check if it is a collection
-		Optional<Object> result;
 		try {
-			if (fromStore.isCollectionProperty(fromObjectUri, propDescriptor)) {
-	            throw new InvalidSPDXAnalysisException("Property "+propDescriptor+" is a collection type");
-	        }
-			result =  fromStore.getValue(fromObjectUri, propDescriptor);
+			propertyDescriptors = fromStore.getPropertyValueDescriptors(fromObjectUri);
+			for (PropertyDescriptor propDesc:propertyDescriptors) {
+				if (fromStore.isCollectionProperty(fromObjectUri, propDesc)) {
+					collectionValues.add(fromStore.listValues(fromObjectUri, propDesc));
+					individualValues.add(null);
+				} else {
+					collectionValues.add(null);
+					individualValues.add(fromStore.getValue(fromObjectUri, propDesc).orElse(null));
+				}
+			}
 		} finally {
 			fromStoreLock.unlock();
 		}
-        if (result.isPresent()) {
-            if (result.get() instanceof IndividualUriValue) {
-                toStore.setValue(toObjectUri, propDescriptor, new SimpleUriValue((IndividualUriValue)result.get()));
-            } else if (result.get() instanceof TypedValue) {
-                TypedValue tv = (TypedValue)result.get();
-                if (fromStore.equals(toStore)) {
-                    toStore.setValue(toObjectUri, propDescriptor, tv);
-                } else {
-                    toStore.setValue(toObjectUri, propDescriptor, 
-                            copy(toStore, fromStore, tv.getObjectUri(), toSpecVersion, toNamespace));
-                }
-            } else {
-                toStore.setValue(toObjectUri, propDescriptor, result.get());
-            }
-        }
-    }
+		SpdxStoreBatch batch = new SpdxStoreBatch();
+		for (int i = 0; i < propertyDescriptors.size(); i++) {
+			PropertyDescriptor propDesc = propertyDescriptors.get(i);
+			if (Objects.nonNull(collectionValues.get(i))) {
+				Iterator<Object> values = collectionValues.get(i);
+				while (values.hasNext()) {
+					batch.addValueToCollection(toObjectUri, propDesc, 
+							toStoreValue(toStore, fromStore, values.next(), referenceCopier));
+				}
+			} else if (Objects.nonNull(individualValues.get(i))) {
+				batch.setValue(toObjectUri, propDesc, 
+						toStoreValue(toStore, fromStore, individualValues.get(i), referenceCopier));
+			}
+		}
+		batch.applyTo(toStore);
+	}
 
-    /**
-	 * Copies a property which is a collection
-     * @param toStore Model Store to copy to
-     * @param toObjectUri URI to copy to
-     * @param fromStore Model Store containing the source item
-     * @param fromObjectUri Object URI to copy from
-	 * @param propDescriptor Descriptor for the property
-	 * @param toSpecVersion Version of the SPDX spec the to value complies with
-	 * @param toNamespace Namespace to use if an ID needs to be generated for the to object
+	/**
+	 * @param toStore Model Store to copy to
+	 * @param fromStore Model Store containing the value
+	 * @param value property value or collection item from the fromStore
+	 * @param referenceCopier copies an item referenced by the value
+	 * @return the value to store in the toStore
 	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
 	 */
-	private void copyCollectionProperty(IModelStore toStore, String toObjectUri, IModelStore fromStore,
-            String fromObjectUri, PropertyDescriptor propDescriptor, 
-			String toSpecVersion, @Nullable String toNamespace) throws InvalidSPDXAnalysisException {
-		IModelStoreLock fromStoreLock = fromStore.enterCriticalSection(false);
-		//Note: we use a write lock since the RDF store may end up creating a property to check if it is a collection
-		Iterator<Object> fromListIter;
-		try {
-			if (!fromStore.isCollectionProperty(fromObjectUri, propDescriptor)) {
-		        throw new InvalidSPDXAnalysisException("Property "+propDescriptor+" is not a collection type");
-		    }
-		    fromListIter = fromStore.listValues(fromObjectUri, propDescriptor);
-		} finally {
-			fromStoreLock.unlock();
+	private Object toStoreValue(IModelStore toStore, IModelStore fromStore, Object value,
+			ReferenceCopier referenceCopier) throws InvalidSPDXAnalysisException {
+		if (value instanceof IndividualUriValue) {
+			return new SimpleUriValue((IndividualUriValue)value);
+		} else if (value instanceof TypedValue && !fromStore.equals(toStore)) {
+			return referenceCopier.copy(((TypedValue)value).getObjectUri());
+		} else {
+			return value;
 		}
-        while (fromListIter.hasNext()) {
-            Object listItem = fromListIter.next();
-            Object toStoreItem;
-            if (listItem instanceof IndividualUriValue) {
-                toStoreItem = new SimpleUriValue((IndividualUriValue)listItem);
-            } else if (listItem instanceof TypedValue) {
-                TypedValue listItemTv = (TypedValue)listItem;
-                if (toStore.equals(fromStore)) {
-                    toStoreItem = listItemTv;
-                } else {
-                    toStoreItem = copy(toStore, fromStore, listItemTv.getObjectUri(), 
-                    		toSpecVersion, toNamespace);
-                }
-            } else {
-                toStoreItem = listItem;
-            }
-            toStore.addValueToCollection(toObjectUri, propDescriptor, toStoreItem);
-        }
-    }
+	}
 
     /**
 	 * Copy an item from one Model Object Store to another using the source ID for the target unless it is anonymous
@@ -418,9 +409,7 @@ public class ModelCopyManager implements IModelCopyManager {
 			if (!fromTv.isPresent()) {
 				throw new InvalidSPDXAnalysisException(sourceUri + " does not exist in the from Store");
 			}
-			toObjectUri = toSpecVersion.startsWith("SPDX-2") ? sourceUriToObjectUriV2Compat(sourceUri, 
-					fromStore.getIdType(sourceUri), toStore, toNamespace, SpdxConstantsCompatV2.CLASS_EXTERNAL_DOC_REF.equals(fromTv.get().getType())) :
-				sourceUriToObjectUri(sourceUri, fromStore.getIdType(sourceUri), toStore, toNamespace);
+			toObjectUri = toObjectUri(toStore, fromStore, fromTv.get(), toSpecVersion, toNamespace);
 			copy(toStore, toObjectUri, fromStore, sourceUri, toSpecVersion, toNamespace);
 		}
 		Optional<TypedValue> retval = toStore.getTypedValue(toObjectUri);
@@ -430,6 +419,257 @@ public class ModelCopyManager implements IModelCopyManager {
         throw new InvalidSPDXAnalysisException("Unable to retrieve typed value from toStore");
     }
 
+	/**
+	 * @param toStore model store to store the copied item
+	 * @param fromStore model store containing the source item
+	 * @param fromTv typed value for the source item
+	 * @param toSpecVersion version of the SPDX spec the to value complies with
+	 * @param toNamespace namespace for the generated elements for "to"
+	 * @return the object URI to copy the source item to
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 */
+	private String toObjectUri(IModelStore toStore, IModelStore fromStore, TypedValue fromTv,
+			String toSpecVersion, @Nullable String toNamespace) throws InvalidSPDXAnalysisException {
+		String sourceUri = fromTv.getObjectUri();
+		return toSpecVersion.startsWith("SPDX-2") ? sourceUriToObjectUriV2Compat(sourceUri, 
+				fromStore.getIdType(sourceUri), toStore, toNamespace, SpdxConstantsCompatV2.CLASS_EXTERNAL_DOC_REF.equals(fromTv.getType())) :
+			sourceUriToObjectUri(sourceUri, fromStore.getIdType(sourceUri), toStore, toNamespace);
+	}
+
+	/**
+	 * Copy the items reachable from the source items from one Model Object Store to another using the
+	 * default number of threads
+	 * @param toStore Model Store to copy to
+	 * @param fromStore Model Store containing the source items
+	 * @param sourceUris URIs for the source objects
+	 * @param toSpecVersion Version of the SPDX spec the to values comply with
+	 * @param toNamespace Namespace to use if an ID needs to be generated for a to object - must be a unique prefix to the store
+	 * @return typed values for the copied source objects in the order of the source URIs
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 */
+	public List<TypedValue> copyGraph(IModelStore toStore, IModelStore fromStore, Collection<String> sourceUris,
+			String toSpecVersion, @Nullable String toNamespace) throws InvalidSPDXAnalysisException {
+		return copyGraph(toStore, fromStore, sourceUris, toSpecVersion, toNamespace, DEFAULT_COPY_THREADS, null);
+	}
+
+	/**
+	 * Copy the items reachable from the source items from one Model Object Store to another
+	 * <p>
+	 * The result is the same as calling <code>copy</code> for each source URI, but the object graph is
+	 * walked from a work queue rather than recursively, so deep reference chains do not overflow the stack.
+	 * Each item is created in the toStore when it is first found and its property values are copied by a
+	 * separate task, so the values of independent items are copied in parallel.  Items already copied by
+	 * this copy manager are not copied again.
+	 * <p>
+	 * Items of a spec version which is not compatible with the toSpecVersion are converted as they are by
+	 * <code>copy</code> - the conversion is not currently implemented, so an
+	 * <code>InvalidSPDXAnalysisException</code> is thrown for these items.
+	 * @param toStore Model Store to copy to
+	 * @param fromStore Model Store containing the source items
+	 * @param sourceUris URIs for the source objects
+	 * @param toSpecVersion Version of the SPDX spec the to values comply with
+	 * @param toNamespace Namespace to use if an ID needs to be generated for a to object - must be a unique prefix to the store
+	 * @param threadCount number of threads copying property values - if 1, the values are copied on the calling thread
+	 * @param progressListener optional listener notified as each item is copied
+	 * @return typed values for the copied source objects in the order of the source URIs
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 */
+	public List<TypedValue> copyGraph(IModelStore toStore, IModelStore fromStore, Collection<String> sourceUris,
+			String toSpecVersion, @Nullable String toNamespace, int threadCount,
+			@Nullable ICopyProgressListener progressListener) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(toStore, "To Store can not be null");
+		Objects.requireNonNull(fromStore, "From Store can not be null");
+		Objects.requireNonNull(sourceUris, "Source URIs can not be null");
+		Objects.requireNonNull(toSpecVersion, "To specVersion can not be null");
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be at least 1");
+		}
+		return new GraphCopy(toStore, fromStore, toSpecVersion, toNamespace, threadCount, progressListener).run(sourceUris);
+	}
+
+	/**
+	 * Copies an item referenced by a property value
+	 */
+	@FunctionalInterface
+	private interface ReferenceCopier {
+		/**
+		 * @param sourceUri URI for the referenced source object
+		 * @return typed value for the copied object
+		 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+		 */
+		TypedValue copy(String sourceUri) throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * State for a single <code>copyGraph</code> call
+	 * <p>
+	 * Items are assigned a to object URI and created while holding the assignment lock, so each item is
+	 * created once.  The typed values of assigned items are kept so that later references to an item
+	 * do not take the assignment lock.  Copying the property values of each created item is a task - tasks run on a thread
+	 * pool or, for a single thread, from a queue on the calling thread.
+	 */
+	private final class GraphCopy {
+		private final IModelStore toStore;
+		private final IModelStore fromStore;
+		private final String toSpecVersion;
+		private final @Nullable String toNamespace;
+		private final @Nullable ICopyProgressListener progressListener;
+		private final @Nullable ExecutorService executor;
+		private final Deque<Runnable> queue = new ArrayDeque<>();
+		private final Object assignmentLock = new Object();
+		private final ConcurrentHashMap<String, TypedValue> assigned = new ConcurrentHashMap<>();
+		private final AtomicInteger discovered = new AtomicInteger();
+		private final AtomicInteger copied = new AtomicInteger();
+		/**
+		 * Number of tasks not completed plus one while source items are being assigned
+		 */
+		private final AtomicInteger pending = new AtomicInteger(1);
+		private final AtomicReference<InvalidSPDXAnalysisException> error = new AtomicReference<>();
+
+		GraphCopy(IModelStore toStore, IModelStore fromStore, String toSpecVersion, @Nullable String toNamespace,
+				int threadCount, @Nullable ICopyProgressListener progressListener) {
+			this.toStore = toStore;
+			this.fromStore = fromStore;
+			this.toSpecVersion = toSpecVersion;
+			this.toNamespace = toNamespace;
+			this.progressListener = progressListener;
+			if (threadCount > 1) {
+				AtomicInteger threadNumber = new AtomicInteger();
+				this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+					Thread thread = new Thread(runnable, "spdx-copy-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+			} else {
+				this.executor = null;
+			}
+		}
+
+		List<TypedValue> run(Collection<String> sourceUris) throws InvalidSPDXAnalysisException {
+			List<TypedValue> retval = new ArrayList<>();
+			try {
+				try {
+					for (String sourceUri : sourceUris) {
+						retval.add(assign(sourceUri));
+					}
+				} finally {
+					taskDone();
+				}
+				if (Objects.isNull(executor)) {
+					Runnable task;
+					while (Objects.nonNull(task = queue.poll())) {
+						task.run();
+					}
+				} else {
+					synchronized (pending) {
+						while (pending.get() > 0) {
+							pending.wait();
+						}
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InvalidSPDXAnalysisException("Interrupted copying from the model store", e);
+			} finally {
+				if (Objects.nonNull(executor)) {
+					executor.shutdownNow();
+				}
+			}
+			if (Objects.nonNull(error.get())) {
+				throw error.get();
+			}
+			return retval;
+		}
+
+		/**
+		 * Create the to item for a source item if it has not already been copied and schedule copying its
+		 * property values
+		 * @param sourceUri URI for the source object
+		 * @return typed value for the to object
+		 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+		 */
+		TypedValue assign(String sourceUri) throws InvalidSPDXAnalysisException {
+			TypedValue retval = assigned.get(sourceUri);
+			if (Objects.nonNull(retval)) {
+				return retval;
+			}
+			synchronized (assignmentLock) {
+				retval = assigned.get(sourceUri);
+				if (Objects.nonNull(retval)) {
+					return retval;
+				}
+				String toObjectUri = getCopiedObjectUri(fromStore, sourceUri, toStore);
+				if (Objects.isNull(toObjectUri)) {
+					Optional<TypedValue> fromTv = fromStore.getTypedValue(sourceUri);
+					if (!fromTv.isPresent()) {
+						throw new InvalidSPDXAnalysisException(sourceUri + " does not exist in the from Store");
+					}
+					toObjectUri = toObjectUri(toStore, fromStore, fromTv.get(), toSpecVersion, toNamespace);
+					if (versionsCompatible(fromTv.get().getSpecVersion(), toSpecVersion)) {
+						if (!toStore.exists(toObjectUri)) {
+							retval = new TypedValue(toObjectUri, fromTv.get().getType(), toSpecVersion);
+							toStore.create(retval);
+						}
+						putCopiedId(fromStore, sourceUri, toStore, toObjectUri);
+						if (!(fromStore.equals(toStore) && sourceUri.equals(toObjectUri))) {
+							schedule(sourceUri, toObjectUri);
+						}
+					} else if (canConvert(fromTv.get().getSpecVersion(), toSpecVersion)) {
+						copyConverted(toStore, toObjectUri, fromStore, fromTv.get(), toSpecVersion, toNamespace);
+						putCopiedId(fromStore, sourceUri, toStore, toObjectUri);
+					} else {
+						throw new InvalidSPDXAnalysisException("Incompatible versions - can not convert from " + 
+								fromTv.get().getSpecVersion() + " to version "+toSpecVersion);
+					}
+				}
+				if (Objects.isNull(retval)) {
+					Optional<TypedValue> toTv = toStore.getTypedValue(toObjectUri);
+					if (!toTv.isPresent()) {
+						throw new InvalidSPDXAnalysisException("Unable to retrieve typed value from toStore");
+					}
+					retval = toTv.get();
+				}
+				assigned.put(sourceUri, retval);
+				return retval;
+			}
+		}
+
+		private void schedule(String fromObjectUri, String toObjectUri) {
+			discovered.incrementAndGet();
+			pending.incrementAndGet();
+			Runnable task = () -> {
+				try {
+					if (Objects.isNull(error.get())) {
+						copyProperties(toStore, toObjectUri, fromStore, fromObjectUri, this::assign);
+						int count = copied.incrementAndGet();
+						if (Objects.nonNull(progressListener)) {
+							progressListener.progress(count, discovered.get());
+						}
+					}
+				} catch (InvalidSPDXAnalysisException e) {
+					error.compareAndSet(null, e);
+				} catch (RuntimeException e) {
+					error.compareAndSet(null, new InvalidSPDXAnalysisException("Error copying " + fromObjectUri, e));
+				} finally {
+					taskDone();
+				}
+			};
+			if (Objects.isNull(executor)) {
+				queue.add(task);
+			} else {
+				executor.execute(task);
+			}
+		}
+
+		private void taskDone() {
+			if (pending.decrementAndGet() == 0) {
+				synchronized (pending) {
+					pending.notifyAll();
+				}
+			}
+		}
+	}
+
 	/**
 	 * @param sourceUri source URI copied from
 	 * @param idType idType from the sourceUri
@@ -0,0 +1,39 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.conversion;
+
+import java.util.List;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v3_0_1.core.Element;
+
+/**
+ * Receives the elements produced by {@link Spdx2to3Converter#convertStreaming}
+ *
+ * @author Gary O'Neall
+ */
+@FunctionalInterface
+public interface IConvertedElementSink {
+
+	/**
+	 * Called once a window of elements has been converted
+	 * @param elements SPDX spec version 3 elements created for the window in the order they were created
+	 * @throws InvalidSPDXAnalysisException on any error handling the elements - the conversion is stopped
+	 */
+	void accept(List<Element> elements) throws InvalidSPDXAnalysisException;
+}
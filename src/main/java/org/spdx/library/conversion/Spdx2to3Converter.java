@@ -17,10 +17,20 @@
  */
 package org.spdx.library.conversion;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -28,9 +38,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
 import org.spdx.library.ListedLicenses;
+import org.spdx.library.model.v2.ModelObjectV2;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxCreatorInformation;
+import org.spdx.library.model.v2.SpdxModelFactoryCompatV2;
 import org.spdx.library.model.v2.pointer.ByteOffsetPointer;
 import org.spdx.library.model.v2.pointer.LineCharPointer;
 import org.spdx.library.model.v2.pointer.StartEndPointer;
@@ -284,6 +297,25 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		PURPOSE_MAP = Collections.unmodifiableMap(purposeMap);
 	}
 	
+	/**
+	 * SPDX spec version 2 types converted by <code>convertStreaming</code> in the order they are converted
+	 */
+	public static final List<String> STREAMING_TYPE_ORDER = Collections.unmodifiableList(Arrays.asList(
+			SpdxConstantsCompatV2.CLASS_SPDX_EXTRACTED_LICENSING_INFO,
+			SpdxConstantsCompatV2.CLASS_SPDX_FILE,
+			SpdxConstantsCompatV2.CLASS_SPDX_SNIPPET,
+			SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE));
+
+	/**
+	 * Default number of SPDX spec version 2 elements converted between calls to the sink for <code>convertStreaming</code>
+	 */
+	public static final int DEFAULT_STREAMING_WINDOW_SIZE = 1000;
+
+	/**
+	 * Prefix for the canonical keys of licenses converted by <code>convertToLicenseExpression</code>
+	 */
+	private static final String LICENSE_EXPRESSION_KEY_PREFIX = "expression:";
+	
 	String toSpecVersion;
 	IModelStore toModelStore;
 	Map<String, String> alreadyConverted = Collections.synchronizedMap(new HashMap<>());
@@ -296,10 +328,145 @@ public class Spdx2to3Converter implements ISpdxConverter {
 
 	private final IModelCopyManager copyManager;
 
-	private int documentIndex = 0;
+	private final AtomicInteger documentIndex = new AtomicInteger();
 
 	private final boolean complexLicenses;
 
+	/**
+	 * Elements created by the current thread - only set while converting a streamed element
+	 */
+	private final ThreadLocal<List<Element>> createdElements = new ThreadLocal<>();
+
+	/**
+	 * Scope for the IDs generated by the current thread - only set while converting the properties of a streamed element
+	 */
+	private static final ThreadLocal<IdScope> ID_SCOPE = new ThreadLocal<>();
+
+	/**
+	 * Guards the conversion of listed licenses and listed exceptions which are published once fully converted
+	 */
+	private final Object listedLicenseLock = new Object();
+
+	/**
+	 * Canonical keys of the converted license expressions to the object URI of the converted license
+	 */
+	private final Map<String, String> canonicalLicenses = new ConcurrentHashMap<>();
+
+	private final AtomicLong licenseCacheHits = new AtomicLong();
+
+	private final AtomicLong licenseCacheMisses = new AtomicLong();
+
+	/**
+	 * Elements created by conversions shared between streamed elements - passed to the sink with the window
+	 * they are created in rather than with the element which happened to create them
+	 */
+	private final Queue<Element> sharedElements = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Bases for the IDs of licenses converted while streaming - reserved by the first streaming conversion
+	 */
+	private String licenseIdBase = null;
+	private String licenseAnonIdBase = null;
+
+	/**
+	 * Guards the agents and creation information shared by annotations
+	 */
+	private final Object annotationLock = new Object();
+
+	/**
+	 * Annotator to the agent converted from the annotator - shared by all annotations with the same annotator
+	 */
+	private final Map<String, Agent> annotators = new HashMap<>();
+
+	/**
+	 * Annotator and annotation date to the creation information shared by all annotations with the same
+	 * annotator and date
+	 */
+	private final Map<String, CreationInfo> annotationCreationInfos = new HashMap<>();
+
+	/**
+	 * Namespaces of the SPDX spec version 2 documents being converted by <code>convertStreaming</code> to the
+	 * bases for the IDs of the streamed elements
+	 */
+	private final Map<String, StreamingIds> streamingNamespaces = new ConcurrentHashMap<>();
+
+	/**
+	 * Bases for the IDs of the elements converted by one streaming conversion
+	 * <p>
+	 * The IDs for a streamed element and for the objects created while converting its properties are derived
+	 * from the SPDX spec version 2 ID of the element, so the IDs do not need to be reserved or retained
+	 * before the element is converted.
+	 */
+	private static final class StreamingIds {
+		private final String spdxIdBase;
+		private final String anonIdBase;
+
+		private StreamingIds(String spdxIdBase, String anonIdBase) {
+			this.spdxIdBase = spdxIdBase;
+			this.anonIdBase = anonIdBase;
+		}
+
+		/**
+		 * @param id SPDX spec version 2 ID of the streamed element
+		 * @return the SPDX ID of the SPDX spec version 3 element
+		 */
+		private String spdxId(String id) {
+			return spdxIdBase + "-" + id;
+		}
+
+		/**
+		 * @param toObjectUri object URI of the SPDX spec version 3 element
+		 * @param id SPDX spec version 2 ID of the streamed element
+		 * @return scope for the IDs of the objects created while converting the element's properties
+		 */
+		private IdScope scope(String toObjectUri, String id) {
+			return new IdScope(toObjectUri, spdxId(id), anonIdBase + "-" + id);
+		}
+	}
+
+	/**
+	 * IDs for the objects created while converting the properties of one streamed element
+	 * <p>
+	 * The IDs are derived from IDs reserved for the element before any properties are converted, so the IDs
+	 * do not depend on which thread converts the element or on the order the elements are converted in.
+	 */
+	private static final class IdScope {
+		private final @Nullable String toObjectUri;
+		private final String spdxIdBase;
+		private final String anonIdBase;
+		private int next = 0;
+
+		private IdScope(@Nullable String toObjectUri, String spdxIdBase, String anonIdBase) {
+			this.toObjectUri = toObjectUri;
+			this.spdxIdBase = spdxIdBase;
+			this.anonIdBase = anonIdBase;
+		}
+
+		/**
+		 * @param idType type of ID
+		 * @return the next ID in the scope or null if IDs of the type are not scoped
+		 */
+		private @Nullable String nextId(IdType idType) {
+			switch (idType) {
+				case SpdxId: return spdxIdBase + "-" + next++;
+				case Anonymous: return anonIdBase + "-" + next++;
+				default: return null;
+			}
+		}
+	}
+
+	/**
+	 * @param modelStore model store the ID is for
+	 * @param idType type of ID
+	 * @return the next ID from the scope of the streamed element being converted by this thread or from the model store
+	 * @throws InvalidSPDXAnalysisException on error getting the ID from the model store
+	 */
+	private static String nextId(IModelStore modelStore, IdType idType) throws InvalidSPDXAnalysisException {
+		IdScope scope = ID_SCOPE.get();
+		String id = Objects.isNull(scope) ? null : scope.nextId(idType);
+		return Objects.isNull(id) ? modelStore.getNextId(idType) : id;
+	}
+
 	/**
 	 * @param creationInfoV2 SPDX Spec version 2 creation info
 	 * @param modelStore modelStore to store the CreationInfo
@@ -312,7 +479,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			IModelStore modelStore,
 			String uriPrefix
 			) throws InvalidSPDXAnalysisException {
-		CreationInfo retval = new CreationInfo.CreationInfoBuilder(modelStore, modelStore.getNextId(IdType.Anonymous), null)
+		CreationInfo retval = new CreationInfo.CreationInfoBuilder(modelStore, nextId(modelStore, IdType.Anonymous), null)
 				.setCreated(creationInfoV2.getCreated())
 				.setSpecVersion(SpdxConstantsV3.MODEL_SPEC_VERSION)
 			    .setComment(creationInfoV2.getComment().orElse(null))
@@ -321,7 +488,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		for (String docCreator:creationInfoV2.getCreators()) {
 			if (docCreator.startsWith(SpdxConstantsCompatV2.CREATOR_PREFIX_TOOL)) {
 				Tool tool = (Tool)SpdxModelClassFactoryV3.getModelObject(modelStore, 
-						uriPrefix + "additionalTool" + modelStore.getNextId(IdType.SpdxId),
+						uriPrefix + "additionalTool" + nextId(modelStore, IdType.SpdxId),
 						SpdxConstantsV3.CORE_TOOL, null, true, uriPrefix);
 				tool.setCreationInfo(retval)
 					.setName(docCreator.substring(SpdxConstantsCompatV2.CREATOR_PREFIX_TOOL.length()).trim())
@@ -353,14 +520,14 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			}
 			// return a generic Agent
 			Agent agent = (Agent)SpdxModelClassFactoryV3.getModelObject(creationInfo.getModelStore(), 
-					creationInfo.getIdPrefix() + creationInfo.getModelStore().getNextId(IdType.SpdxId),
+					creationInfo.getIdPrefix() + nextId(creationInfo.getModelStore(), IdType.SpdxId),
 					SpdxConstantsV3.CORE_AGENT, creationInfo.getCopyManager(), true, creationInfo.getIdPrefix());
 			agent.setCreationInfo(creationInfo);
 			agent.setName(spdx2personOrgString);
 			return agent;
 		} else if (matcher.group(1).trim().equals("Person")) {
 			Person person = (Person)SpdxModelClassFactoryV3.getModelObject(creationInfo.getModelStore(), 
-					idPrefix + creationInfo.getModelStore().getNextId(IdType.SpdxId),
+					idPrefix + nextId(creationInfo.getModelStore(), IdType.SpdxId),
 					SpdxConstantsV3.CORE_PERSON, creationInfo.getCopyManager(), true, creationInfo.getIdPrefix());
 			person.setCreationInfo(creationInfo);
 			if (matcher.groupCount() > 1) {
@@ -373,7 +540,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			if (matcher.groupCount() > 3) {
 				String email = matcher.group(4);
 				if (Objects.nonNull(email) && !email.isEmpty()) {
-					person.getExternalIdentifiers().add(person.createExternalIdentifier(creationInfo.getModelStore().getNextId(IdType.Anonymous))
+					person.getExternalIdentifiers().add(person.createExternalIdentifier(nextId(creationInfo.getModelStore(), IdType.Anonymous))
 							.setExternalIdentifierType(ExternalIdentifierType.EMAIL)
 							.setIdentifier(email)
 							.build());
@@ -382,7 +549,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			return person;
 		} else if (matcher.group(1).trim().equals("Organization"))  {
 			Organization organization = (Organization)SpdxModelClassFactoryV3.getModelObject(creationInfo.getModelStore(), 
-					creationInfo.getIdPrefix() + creationInfo.getModelStore().getNextId(IdType.SpdxId),
+					creationInfo.getIdPrefix() + nextId(creationInfo.getModelStore(), IdType.SpdxId),
 					SpdxConstantsV3.CORE_ORGANIZATION, creationInfo.getCopyManager(), true, creationInfo.getIdPrefix());
 			organization.setCreationInfo(creationInfo);
 			if (matcher.groupCount() > 1) {
@@ -395,7 +562,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			if (matcher.groupCount() > 3) {
 				String email = matcher.group(4);
 				if (Objects.nonNull(email) && !email.isEmpty()) {
-					organization.getExternalIdentifiers().add(organization.createExternalIdentifier(creationInfo.getModelStore().getNextId(IdType.Anonymous))
+					organization.getExternalIdentifiers().add(organization.createExternalIdentifier(nextId(creationInfo.getModelStore(), IdType.Anonymous))
 							.setExternalIdentifierType(ExternalIdentifierType.EMAIL)
 							.setIdentifier(email)
 							.build());
@@ -406,7 +573,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
             logger.warn("Incorrect person or organization format: {}", spdx2personOrgString);
 			// return a generic Agent
 			Agent agent = (Agent)SpdxModelClassFactoryV3.getModelObject(creationInfo.getModelStore(), 
-					creationInfo.getIdPrefix() + creationInfo.getModelStore().getNextId(IdType.SpdxId),
+					creationInfo.getIdPrefix() + nextId(creationInfo.getModelStore(), IdType.SpdxId),
 					SpdxConstantsV3.CORE_AGENT, creationInfo.getCopyManager(), true, creationInfo.getIdPrefix());
 			agent.setCreationInfo(creationInfo);
 			agent.setName(spdx2personOrgString);
@@ -557,11 +724,202 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (Objects.isNull(toObjectUri)) {
 			return Optional.empty();
 		} else {
+			// another thread may have claimed the conversion and not yet created the object - listed licenses
+			// and exceptions are only published once converted
+			boolean create = !SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE.equals(toType) &&
+					!SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE_EXCEPTION.equals(toType) &&
+					!toModelStore.exists(toObjectUri);
 			return Optional.of(SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-					toObjectUri, toType, copyManager, false, defaultUriPrefix));
+					toObjectUri, toType, copyManager, create, defaultUriPrefix));
 		}
 	}
 	
+	/**
+	 * Creates an SPDX spec version 3 model object in the toModelStore recording any created element
+	 * for the current streamed conversion
+	 * @param toObjectUri object URI for the new model object
+	 * @param toType SPDX spec version 3 type
+	 * @return the created model object
+	 * @throws InvalidSPDXAnalysisException on any error creating the model object
+	 */
+	private ModelObjectV3 createModelObject(String toObjectUri, String toType) throws InvalidSPDXAnalysisException {
+		return recordCreated(SpdxModelClassFactoryV3.getModelObject(toModelStore, 
+				toObjectUri, toType, copyManager, true, defaultUriPrefix));
+	}
+
+	/**
+	 * Record a newly created object if it is an element and a streamed conversion is in progress on this thread
+	 * @param created object created by the conversion
+	 * @return the created object
+	 */
+	private <T> T recordCreated(@Nullable T created) {
+		List<Element> elements = createdElements.get();
+		if (Objects.nonNull(elements) && created instanceof Element) {
+			elements.add((Element)created);
+		}
+		return created;
+	}
+
+	/**
+	 * @return the number of license expressions converted which reused an equivalent license already converted
+	 */
+	public long getLicenseCacheHits() {
+		return licenseCacheHits.get();
+	}
+
+	/**
+	 * @return the number of license expressions converted which did not match a license already converted
+	 */
+	public long getLicenseCacheMisses() {
+		return licenseCacheMisses.get();
+	}
+
+	/**
+	 * @return the number of distinct license expressions converted
+	 */
+	public int getLicenseCacheSize() {
+		return canonicalLicenses.size();
+	}
+
+	/**
+	 * The key is the same for equivalent license expressions - members of license sets are sorted so that
+	 * the order of the members does not matter
+	 * @param license SPDX spec version 2 license
+	 * @return canonical key for the license expression
+	 * @throws InvalidSPDXAnalysisException on any errors reading the license
+	 */
+	static String licenseKey(org.spdx.library.model.v2.license.AnyLicenseInfo license) throws InvalidSPDXAnalysisException {
+		if (license instanceof org.spdx.library.model.v2.license.ConjunctiveLicenseSet) {
+			return licenseSetKey(((org.spdx.library.model.v2.license.ConjunctiveLicenseSet)license).getMembers(), "AND");
+		} else if (license instanceof org.spdx.library.model.v2.license.DisjunctiveLicenseSet) {
+			return licenseSetKey(((org.spdx.library.model.v2.license.DisjunctiveLicenseSet)license).getMembers(), "OR");
+		} else if (license instanceof org.spdx.library.model.v2.license.OrLaterOperator) {
+			return licenseKey(((org.spdx.library.model.v2.license.OrLaterOperator)license).getLicense()) + "+";
+		} else if (license instanceof org.spdx.library.model.v2.license.WithExceptionOperator) {
+			org.spdx.library.model.v2.license.WithExceptionOperator with = (org.spdx.library.model.v2.license.WithExceptionOperator)license;
+			return "(" + licenseKey(with.getLicense()) + " WITH " + with.getException().getObjectUri() + ")";
+		} else if (license instanceof org.spdx.library.model.v2.license.SpdxNoneLicense) {
+			return SpdxConstantsCompatV2.NONE_VALUE;
+		} else if (license instanceof org.spdx.library.model.v2.license.SpdxNoAssertionLicense) {
+			return SpdxConstantsCompatV2.NOASSERTION_VALUE;
+		} else {
+			return license.getObjectUri();
+		}
+	}
+
+	private static String licenseSetKey(Collection<org.spdx.library.model.v2.license.AnyLicenseInfo> members, 
+			String operator) throws InvalidSPDXAnalysisException {
+		List<String> memberKeys = new ArrayList<>();
+		for (org.spdx.library.model.v2.license.AnyLicenseInfo member:members) {
+			memberKeys.add(licenseKey(member));
+		}
+		Collections.sort(memberKeys);
+		// the operator prefixes the members so sets with a single member or no members are distinct
+		return operator + "(" + String.join(",", memberKeys) + ")";
+	}
+
+	/**
+	 * Converts a license expression unless an equivalent license expression has already been converted in which
+	 * case the license already converted is returned
+	 * <p>
+	 * While streaming the IDs for the converted license are derived from the key so that they do not depend on
+	 * which thread converts the license first.
+	 * @param fromObjectUri object URI of the SPDX spec version 2 license
+	 * @param key canonical key for the license expression
+	 * @param toType SPDX spec version 3 type
+	 * @param conversion conversion creating the license with the object URI passed to the conversion
+	 * @return the converted license
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends ModelObjectV3> T convertCanonicalLicense(String fromObjectUri, String key, String toType,
+			CanonicalConversion<T> conversion) throws InvalidSPDXAnalysisException {
+		String toObjectUri = canonicalLicenses.get(key);
+		if (Objects.isNull(toObjectUri)) {
+			IdScope previousScope = ID_SCOPE.get();
+			IdScope scope = Objects.isNull(previousScope) ? null : canonicalIdScope(key);
+			String newObjectUri = defaultUriPrefix + (Objects.isNull(scope) ? 
+					toModelStore.getNextId(IdType.SpdxId) : scope.nextId(IdType.SpdxId));
+			toObjectUri = canonicalLicenses.putIfAbsent(key, newObjectUri);
+			if (Objects.isNull(toObjectUri)) {
+				licenseCacheMisses.incrementAndGet();
+				if (Objects.nonNull(this.alreadyConverted.putIfAbsent(fromObjectUri, newObjectUri))) {
+					// small window if conversion occurred since the last check already converted
+					return (T)getExistingObject(fromObjectUri, toType).get();
+				}
+				if (Objects.nonNull(scope)) {
+					ID_SCOPE.set(scope);
+				}
+				try {
+					return convertShared(() -> conversion.convert(newObjectUri));
+				} finally {
+					if (Objects.nonNull(scope)) {
+						ID_SCOPE.set(previousScope);
+					}
+				}
+			}
+		}
+		licenseCacheHits.incrementAndGet();
+		this.alreadyConverted.putIfAbsent(fromObjectUri, toObjectUri);
+		// the license may be claimed by another thread which has not yet created it
+		return (T)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
+				toObjectUri, toType, copyManager, true, defaultUriPrefix);
+	}
+
+	/**
+	 * @param key canonical key for a license expression or other object shared by several streamed elements
+	 * @return scope for the IDs of the object converted while streaming
+	 */
+	private synchronized IdScope canonicalIdScope(String key) {
+		String keyId = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+		return new IdScope(null, licenseIdBase + "-" + keyId, licenseAnonIdBase + "-" + keyId);
+	}
+
+	/**
+	 * Reserve the bases for the IDs of licenses converted while streaming
+	 * @throws InvalidSPDXAnalysisException on error getting the IDs from the model store
+	 */
+	private synchronized void reserveLicenseIdBases() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(licenseIdBase)) {
+			licenseIdBase = toModelStore.getNextId(IdType.SpdxId);
+			licenseAnonIdBase = toModelStore.getNextId(IdType.Anonymous);
+		}
+	}
+
+	/**
+	 * Run a conversion which may be shared by several streamed elements recording any elements created
+	 * as shared elements
+	 * @param conversion conversion to run
+	 * @return the result of the conversion
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private <T> T convertShared(StreamedConversion<T> conversion) throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(createdElements.get())) {
+			return conversion.convert();
+		}
+		List<Element> shared = new ArrayList<>();
+		try {
+			return convertRecorded(shared, conversion);
+		} finally {
+			sharedElements.addAll(shared);
+		}
+	}
+
+	/**
+	 * Remove the shared elements created so far and add them to a list of elements sorted by object URI
+	 * @param elements list to add the shared elements to
+	 */
+	private void drainSharedElements(List<Element> elements) {
+		List<Element> shared = new ArrayList<>();
+		Element element = sharedElements.poll();
+		while (Objects.nonNull(element)) {
+			shared.add(element);
+			element = sharedElements.poll();
+		}
+		shared.sort(Comparator.comparing(Element::getObjectUri));
+		elements.addAll(shared);
+	}
+
 	/**
 	 * Converts an SPDX spec version 2 relationship to an SPDX spec version 3 relationship
 	 * @param fromRelationship relationship to convert from
@@ -579,7 +937,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (Relationship)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId);
+		String toObjectUri = defaultUriPrefix + nextId(toModelStore, IdType.SpdxId);
 		String exitingUri = alreadyConverted.putIfAbsent(fromUri, toObjectUri);
 		if (Objects.nonNull(exitingUri)) {
 			return (Relationship)getExistingObject(fromUri,
@@ -587,11 +945,9 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		}
 		Relationship toRelationship;
 		if (Objects.isNull(scope)) {
-			toRelationship = (Relationship)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-					toObjectUri, SpdxConstantsV3.CORE_RELATIONSHIP, copyManager, true, defaultUriPrefix);
+			toRelationship = (Relationship)createModelObject(toObjectUri, SpdxConstantsV3.CORE_RELATIONSHIP);
 		} else {
-			toRelationship = (LifecycleScopedRelationship)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-					toObjectUri, SpdxConstantsV3.CORE_LIFECYCLE_SCOPED_RELATIONSHIP, copyManager, true, defaultUriPrefix);
+			toRelationship = (LifecycleScopedRelationship)createModelObject(toObjectUri, SpdxConstantsV3.CORE_LIFECYCLE_SCOPED_RELATIONSHIP);
 		}
 		toRelationship.setCreationInfo(defaultCreationInfo);
 		toRelationship.setRelationshipType(RELATIONSHIP_TYPE_MAP.get(fromRelationshipType));
@@ -636,28 +992,96 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (Annotation)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId);
+		String toObjectUri = defaultUriPrefix + nextId(toModelStore, IdType.SpdxId);
 		String exitingUri = alreadyConverted.putIfAbsent(fromUri, toObjectUri);
 		if (Objects.nonNull(exitingUri)) {
 			return (Annotation)getExistingObject(fromUri, SpdxConstantsV3.CORE_ANNOTATION).get();
 		}
-		Annotation toAnnotation = (Annotation)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.CORE_ANNOTATION, copyManager, true, defaultUriPrefix);
+		Annotation toAnnotation = (Annotation)createModelObject(toObjectUri, SpdxConstantsV3.CORE_ANNOTATION);
 		
 		toAnnotation.setAnnotationType(ANNOTATION_TYPE_MAP.get(fromAnnotation.getAnnotationType()));
 		toAnnotation.setStatement(fromAnnotation.getComment());
 		toAnnotation.setSubject(toElement);
-		CreationInfo creationInfo = new CreationInfo.CreationInfoBuilder(toModelStore, toModelStore.getNextId(IdType.Anonymous), null)
-				.setCreated(fromAnnotation.getAnnotationDate())
-				.setSpecVersion(SpdxConstantsV3.MODEL_SPEC_VERSION)
-				.addAllCreatedUsing(defaultCreationInfo.getCreatedUsings())
-				.build();
-		creationInfo.setIdPrefix(defaultUriPrefix);
-		creationInfo.getCreatedBys().add(stringToAgent(fromAnnotation.getAnnotator(), creationInfo));
-		toAnnotation.setCreationInfo(creationInfo);
+		toAnnotation.setCreationInfo(annotationCreationInfo(fromAnnotation.getAnnotator(), fromAnnotation.getAnnotationDate()));
 		return toAnnotation;
 	}
 
+	/**
+	 * Converts the annotator and date of an annotation to creation information unless the same annotator and
+	 * date have already been converted in which case the creation information already converted is returned
+	 * <p>
+	 * While streaming the IDs for the creation information and the annotator are derived from the annotator
+	 * and date so that they do not depend on which thread converts the annotation first.
+	 * @param annotator SPDX spec version 2 annotator
+	 * @param annotationDate SPDX spec version 2 annotation date
+	 * @return creation information for the annotation
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private CreationInfo annotationCreationInfo(String annotator, String annotationDate) throws InvalidSPDXAnalysisException {
+		String key = annotator + "\n" + annotationDate;
+		synchronized (annotationLock) {
+			CreationInfo creationInfo = annotationCreationInfos.get(key);
+			if (Objects.isNull(creationInfo)) {
+				creationInfo = convertCanonical("annotation:" + key, () -> {
+					CreationInfo retval = new CreationInfo.CreationInfoBuilder(toModelStore, nextId(toModelStore, IdType.Anonymous), null)
+							.setCreated(annotationDate)
+							.setSpecVersion(SpdxConstantsV3.MODEL_SPEC_VERSION)
+							.addAllCreatedUsing(defaultCreationInfo.getCreatedUsings())
+							.build();
+					retval.setIdPrefix(defaultUriPrefix);
+					return retval;
+				});
+				creationInfo.getCreatedBys().add(annotator(annotator, creationInfo));
+				annotationCreationInfos.put(key, creationInfo);
+			}
+			return creationInfo;
+		}
+	}
+
+	/**
+	 * Converts an annotator unless the annotator has already been converted in which case the agent
+	 * already converted is returned
+	 * @param annotator SPDX spec version 2 annotator
+	 * @param creationInfo creation information of the first annotation converted with the annotator
+	 * @return agent for the annotator
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private @Nullable Agent annotator(String annotator, CreationInfo creationInfo) throws InvalidSPDXAnalysisException {
+		if (annotators.containsKey(annotator)) {
+			return annotators.get(annotator);
+		}
+		Agent agent = convertCanonical("annotator:" + annotator, () -> {
+			Agent retval = recordCreated(stringToAgent(annotator, creationInfo));
+			if (Objects.nonNull(retval)) {
+				// shared by annotations with different creation information
+				retval.setCreationInfo(defaultCreationInfo);
+			}
+			return retval;
+		});
+		annotators.put(annotator, agent);
+		return agent;
+	}
+
+	/**
+	 * Run a conversion shared by several elements - while streaming the IDs are derived from the key
+	 * @param key canonical key for the converted object
+	 * @param conversion conversion creating the object
+	 * @return the result of the conversion
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private <T> T convertCanonical(String key, StreamedConversion<T> conversion) throws InvalidSPDXAnalysisException {
+		IdScope previousScope = ID_SCOPE.get();
+		if (Objects.isNull(previousScope)) {
+			return convertShared(conversion);
+		}
+		ID_SCOPE.set(canonicalIdScope(key));
+		try {
+			return convertShared(conversion);
+		} finally {
+			ID_SCOPE.set(previousScope);
+		}
+	}
+
 	/**
 	 * Converts an SPDX spec version 2 SPDX document to an SPDX spec version 3 SPDX document and store the result
 	 * in the toStore
@@ -670,21 +1094,330 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (SpdxDocument)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix + "document" + documentIndex++;
+		String toObjectUri = defaultUriPrefix + "document" + documentIndex.getAndIncrement();
 		String existingUri = this.alreadyConverted.putIfAbsent(fromDoc.getObjectUri(), toObjectUri);
 		if (Objects.nonNull(existingUri)) {
 			// small window if conversion occurred since the last check already converted
 			return (SpdxDocument)getExistingObject(fromDoc.getObjectUri(), SpdxConstantsV3.CORE_SPDX_DOCUMENT).get();
 		} 
-		SpdxDocument toDoc = (SpdxDocument)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.CORE_SPDX_DOCUMENT, copyManager, true, defaultUriPrefix);
+		SpdxDocument toDoc = createDocument(fromDoc, toObjectUri);
+		convertDocumentProperties(fromDoc, toDoc);
+		return toDoc;
+	}
+
+	/**
+	 * Converts an SPDX spec version 2 SPDX document to SPDX spec version 3 a window of elements at a time on the
+	 * calling thread, passing the elements created for each window to the sink as soon as the window is converted
+	 * @param fromDoc SPDX spec version 2 document to convert from
+	 * @param windowSize maximum number of SPDX spec version 2 elements to convert before passing the result to the sink
+	 * @param sink receives the elements created by the conversion
+	 * @return SPDX spec version 3 document converted from the version 2 document
+	 * @throws InvalidSPDXAnalysisException on any errors converting the SPDX document, if the document has already been converted or on any error from the sink
+	 */
+	public SpdxDocument convertStreaming(org.spdx.library.model.v2.SpdxDocument fromDoc, int windowSize,
+			IConvertedElementSink sink) throws InvalidSPDXAnalysisException {
+		return convertStreaming(fromDoc, windowSize, 1, sink);
+	}
+
+	/**
+	 * Converts an SPDX spec version 2 SPDX document to SPDX spec version 3 a window of elements at a time,
+	 * passing the elements created for each window to the sink as soon as the window is converted
+	 * <p>
+	 * Elements are read from the document's model store by type in the order given by
+	 * <code>STREAMING_TYPE_ORDER</code> such that the external document references, extracted licenses and
+	 * files are converted before the elements which reference them.  All elements of those types in the document
+	 * namespace are converted, including any not referenced from the document.  Each element created in the toModelStore
+	 * is passed to the sink exactly once.  Relationships and annotations are passed with the window of the element
+	 * which contains them.  The SPDX document is the last element passed once all of its properties are converted.
+	 * <p>
+	 * The IDs of each SPDX spec version 3 element and of the objects created while converting its properties
+	 * are derived from the SPDX spec version 2 ID of the element.  An element referenced before it is streamed
+	 * is created without any properties when first referenced and its properties are converted with its own
+	 * window.  The properties of the elements in a window are converted concurrently by <code>threadCount</code>
+	 * threads.  Since every ID is derived from the SPDX spec version 2 IDs and the elements are passed to the sink
+	 * in source order, the result is the same for any number of threads.
+	 * <p>
+	 * At most <code>windowSize</code> SPDX spec version 2 elements are inflated and held between calls to the sink.
+	 * Only the object URIs are retained to track elements which have already been converted.
+	 * @param fromDoc SPDX spec version 2 document to convert from
+	 * @param windowSize maximum number of SPDX spec version 2 elements to convert before passing the result to the sink
+	 * @param threadCount number of threads converting the elements in a window - if 1, the elements are converted on the calling thread
+	 * @param sink receives the elements created by the conversion
+	 * @return SPDX spec version 3 document converted from the version 2 document
+	 * @throws InvalidSPDXAnalysisException on any errors converting the SPDX document, if the document has already been converted or on any error from the sink
+	 */
+	public SpdxDocument convertStreaming(org.spdx.library.model.v2.SpdxDocument fromDoc, int windowSize,
+			int threadCount, IConvertedElementSink sink) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(fromDoc, "From document can not be null");
+		Objects.requireNonNull(sink, "Sink can not be null");
+		if (windowSize < 1) {
+			throw new IllegalArgumentException("Window size must be at least 1");
+		}
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be at least 1");
+		}
+		String toObjectUri = defaultUriPrefix + "document" + documentIndex.getAndIncrement();
+		if (Objects.nonNull(this.alreadyConverted.putIfAbsent(fromDoc.getObjectUri(), toObjectUri))) {
+			throw new InvalidSPDXAnalysisException("SPDX document "+fromDoc.getObjectUri()+" has already been converted");
+		}
+		List<Element> documentElements = new ArrayList<>();
+		SpdxDocument toDoc = convertRecorded(documentElements, () -> createDocument(fromDoc, toObjectUri));
+		IModelStore fromModelStore = fromDoc.getModelStore();
+		String documentUri = fromDoc.getDocumentUri();
+		String nameSpace = documentUri + "#";
+		reserveLicenseIdBases();
+		StreamingIds streamingIds = new StreamingIds(toModelStore.getNextId(IdType.SpdxId), toModelStore.getNextId(IdType.Anonymous));
+		streamingNamespaces.put(nameSpace, streamingIds);
+		ExecutorService executor = null;
+		if (threadCount > 1) {
+			AtomicInteger threadNumber = new AtomicInteger();
+			executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+				Thread thread = new Thread(runnable, "spdx-convert-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		try {
+			for (String type:STREAMING_TYPE_ORDER) {
+				try (Stream<TypedValue> items = fromModelStore.getAllItems(nameSpace, type)) {
+					Iterator<TypedValue> iter = items.iterator();
+					List<StreamedConversion<List<Element>>> window = new ArrayList<>();
+					while (iter.hasNext()) {
+						String fromObjectUri = iter.next().getObjectUri();
+						String id = fromObjectUri.substring(nameSpace.length());
+						String toElementUri = defaultUriPrefix + streamingIds.spdxId(id);
+						String existingUri = alreadyConverted.putIfAbsent(fromObjectUri, toElementUri);
+						if (Objects.isNull(existingUri)) {
+							createModelObject(toElementUri, streamedToType(type));
+						}
+						// elements referenced before they are streamed are created empty with the same object URI
+						if (Objects.isNull(existingUri) || toElementUri.equals(existingUri)) {
+							IdScope scope = streamingIds.scope(toElementUri, id);
+							window.add(() -> convertStreamedElement(fromModelStore, documentUri, id, type, scope));
+						}
+						if (window.size() >= windowSize) {
+							emit(sink, convertWindow(window, executor));
+							window = new ArrayList<>();
+						}
+					}
+					emit(sink, convertWindow(window, executor));
+				}
+			}
+		} finally {
+			streamingNamespaces.remove(nameSpace);
+			if (Objects.nonNull(executor)) {
+				executor.shutdownNow();
+			}
+		}
+		List<Element> lastWindow = new ArrayList<>();
+		convertRecorded(lastWindow, () -> {
+			convertDocumentProperties(fromDoc, toDoc);
+			return toDoc;
+		});
+		drainSharedElements(lastWindow);
+		// the document is created first but passed last once all of its properties are set
+		lastWindow.addAll(documentElements);
+		emit(sink, lastWindow);
+		return toDoc;
+	}
+
+	/**
+	 * Creates an element without any properties for an SPDX spec version 2 element referenced before it is
+	 * streamed - the properties are converted once the element is streamed
+	 * @param fromObjectUri object URI of the SPDX spec version 2 element
+	 * @param toType SPDX spec version 3 type
+	 * @return the element if the SPDX spec version 2 element is in a document being streamed, otherwise empty
+	 * @throws InvalidSPDXAnalysisException on any error creating the element
+	 */
+	private Optional<ModelObjectV3> reserveStreamedElement(String fromObjectUri, String toType) throws InvalidSPDXAnalysisException {
+		int idStart = fromObjectUri.lastIndexOf('#') + 1;
+		StreamingIds streamingIds = idStart > 0 ? streamingNamespaces.get(fromObjectUri.substring(0, idStart)) : null;
+		if (Objects.isNull(streamingIds)) {
+			return Optional.empty();
+		}
+		String toObjectUri = defaultUriPrefix + streamingIds.spdxId(fromObjectUri.substring(idStart));
+		if (Objects.isNull(alreadyConverted.putIfAbsent(fromObjectUri, toObjectUri))) {
+			// not recorded - the element is passed to the sink with the window it is streamed in
+			return Optional.of(SpdxModelClassFactoryV3.getModelObject(toModelStore, 
+					toObjectUri, toType, copyManager, true, defaultUriPrefix));
+		}
+		return getExistingObject(fromObjectUri, toType);
+	}
+
+	/**
+	 * @param fromType SPDX spec version 2 type from <code>STREAMING_TYPE_ORDER</code>
+	 * @return the SPDX spec version 3 type the type is converted to
+	 */
+	private static String streamedToType(String fromType) {
+		switch (fromType) {
+			case SpdxConstantsCompatV2.CLASS_SPDX_EXTRACTED_LICENSING_INFO: return SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE;
+			case SpdxConstantsCompatV2.CLASS_SPDX_FILE: return SpdxConstantsV3.SOFTWARE_SPDX_FILE;
+			case SpdxConstantsCompatV2.CLASS_SPDX_SNIPPET: return SpdxConstantsV3.SOFTWARE_SNIPPET;
+			case SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE: return SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE;
+			default: throw new IllegalArgumentException("Streaming conversion of SPDX 2 type " + fromType + " is not supported");
+		}
+	}
+
+	/**
+	 * Converts the elements in a window returning the created elements in the order of the window
+	 * @param window conversions for the elements in the window
+	 * @param executor executor to run the conversions or null to run them on the calling thread
+	 * @return the elements created by the conversions
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private List<Element> convertWindow(List<StreamedConversion<List<Element>>> window, 
+			@Nullable ExecutorService executor) throws InvalidSPDXAnalysisException {
+		List<Element> retval = new ArrayList<>();
+		if (Objects.isNull(executor)) {
+			for (StreamedConversion<List<Element>> conversion:window) {
+				retval.addAll(conversion.convert());
+			}
+			drainSharedElements(retval);
+			return retval;
+		}
+		List<Future<List<Element>>> futures = new ArrayList<>();
+		for (StreamedConversion<List<Element>> conversion:window) {
+			futures.add(executor.submit(conversion::convert));
+		}
+		try {
+			for (Future<List<Element>> future:futures) {
+				retval.addAll(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InvalidSPDXAnalysisException("Interrupted converting SPDX elements", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof InvalidSPDXAnalysisException) {
+				throw (InvalidSPDXAnalysisException)e.getCause();
+			} else if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else {
+				throw new InvalidSPDXAnalysisException("Error converting SPDX elements", e.getCause());
+			}
+		} finally {
+			for (Future<List<Element>> future:futures) {
+				future.cancel(true);
+			}
+		}
+		drainSharedElements(retval);
+		return retval;
+	}
+
+	/**
+	 * Converts the properties of an element created by <code>convertStreaming</code>
+	 * @param fromModelStore model store containing the SPDX spec version 2 element
+	 * @param documentUri document URI for the SPDX spec version 2 element
+	 * @param id ID of the SPDX spec version 2 element
+	 * @param type SPDX spec version 2 type from <code>STREAMING_TYPE_ORDER</code>
+	 * @param scope IDs reserved for the element
+	 * @return the converted element followed by any other elements created by the conversion
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private List<Element> convertStreamedElement(IModelStore fromModelStore, String documentUri, String id,
+			String type, IdScope scope) throws InvalidSPDXAnalysisException {
+		ModelObjectV2 fromObject = SpdxModelFactoryCompatV2.getModelObjectV2(fromModelStore, documentUri, 
+				id, type, copyManager, false);
+		ModelObjectV3 toObject = SpdxModelClassFactoryV3.getModelObject(toModelStore, 
+				scope.toObjectUri, streamedToType(type), copyManager, false, defaultUriPrefix);
+		List<Element> created = new ArrayList<>();
+		created.add((Element)toObject);
+		ID_SCOPE.set(scope);
+		try {
+			return convertRecorded(created, () -> {
+				if (fromObject instanceof org.spdx.library.model.v2.license.ExtractedLicenseInfo) {
+					convertCustomLicenseProperties((org.spdx.library.model.v2.license.ExtractedLicenseInfo)fromObject, (CustomLicense)toObject);
+				} else if (fromObject instanceof org.spdx.library.model.v2.SpdxFile) {
+					convertFileProperties((org.spdx.library.model.v2.SpdxFile)fromObject, (SpdxFile)toObject);
+				} else if (fromObject instanceof org.spdx.library.model.v2.SpdxSnippet) {
+					convertSnippetProperties((org.spdx.library.model.v2.SpdxSnippet)fromObject, (Snippet)toObject);
+				} else if (fromObject instanceof org.spdx.library.model.v2.SpdxPackage) {
+					convertPackageProperties((org.spdx.library.model.v2.SpdxPackage)fromObject, (SpdxPackage)toObject);
+				} else {
+					throw new InvalidSPDXAnalysisException("Streaming conversion of SPDX 2 type " + fromObject.getType() + " is not supported");
+				}
+				return created;
+			});
+		} finally {
+			ID_SCOPE.remove();
+		}
+	}
+
+	/**
+	 * Run a conversion recording any elements it creates
+	 * @param recorded list to add the created elements to
+	 * @param conversion conversion to run
+	 * @return the result of the conversion
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private <T> T convertRecorded(List<Element> recorded, StreamedConversion<T> conversion) throws InvalidSPDXAnalysisException {
+		List<Element> previous = createdElements.get();
+		createdElements.set(recorded);
+		try {
+			return conversion.convert();
+		} finally {
+			if (Objects.isNull(previous)) {
+				createdElements.remove();
+			} else {
+				createdElements.set(previous);
+			}
+		}
+	}
+
+	private static void emit(IConvertedElementSink sink, List<Element> elements) throws InvalidSPDXAnalysisException {
+		if (!elements.isEmpty()) {
+			sink.accept(Collections.unmodifiableList(elements));
+		}
+	}
+
+	/**
+	 * Conversion run while recording the created elements
+	 */
+	@FunctionalInterface
+	private interface StreamedConversion<T> {
+		T convert() throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Conversion of a license expression to a license with a given object URI
+	 */
+	@FunctionalInterface
+	private interface CanonicalConversion<T> {
+		T convert(String toObjectUri) throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Creates the SPDX spec version 3 document and converts the external document references
+	 * @param fromDoc SPDX spec version 2 document to convert from
+	 * @param toObjectUri object URI for the SPDX spec version 3 document
+	 * @return SPDX spec version 3 document with the namespace maps and imports populated
+	 * @throws InvalidSPDXAnalysisException on any errors converting the SPDX document
+	 */
+	private SpdxDocument createDocument(org.spdx.library.model.v2.SpdxDocument fromDoc, String toObjectUri) throws InvalidSPDXAnalysisException {
+		SpdxDocument toDoc = (SpdxDocument)createModelObject(toObjectUri, SpdxConstantsV3.CORE_SPDX_DOCUMENT);
 		// NOTE: We have to add the external doc refs first so that the ExternalMap will be properly populated
 		for (org.spdx.library.model.v2.ExternalDocumentRef externalDocRef:fromDoc.getExternalDocumentRefs()) {
 			toDoc.getNamespaceMaps().add(convertAndStore(externalDocRef, toDoc.getSpdxImports()));
 		}
+		return toDoc;
+	}
+
+	/**
+	 * Converts the remaining properties of the SPDX document once the document has been created
+	 * @param fromDoc SPDX spec version 2 document to convert from
+	 * @param toDoc SPDX spec version 3 document created by <code>createDocument</code>
+	 * @throws InvalidSPDXAnalysisException on any errors converting the SPDX document
+	 */
+	private void convertDocumentProperties(org.spdx.library.model.v2.SpdxDocument fromDoc, SpdxDocument toDoc) throws InvalidSPDXAnalysisException {
 		convertElementProperties(fromDoc, toDoc);
 		if (!equivalentCreationInfo(Objects.requireNonNull(fromDoc.getCreationInfo()), defaultCreationInfo)) {
-			toDoc.setCreationInfo(convertCreationInfo(fromDoc.getCreationInfo(), this.toModelStore, this.defaultUriPrefix));
+			CreationInfo creationInfo = convertCreationInfo(fromDoc.getCreationInfo(), this.toModelStore, this.defaultUriPrefix);
+			for (Agent agent:creationInfo.getCreatedBys()) {
+				recordCreated(agent);
+			}
+			for (Tool tool:creationInfo.getCreatedUsings()) {
+				recordCreated(tool);
+			}
+			toDoc.setCreationInfo(creationInfo);
 		}
 		toDoc.setDataLicense(convertAndStore(fromDoc.getDataLicense()));
 		toDoc.getRootElements().addAll(fromDoc.getDocumentDescribes().stream().map(spdxElement -> {
@@ -699,7 +1432,6 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		for (org.spdx.library.model.v2.license.ExtractedLicenseInfo extractedLicense:fromDoc.getExtractedLicenseInfos()) {
 			convertAndStore(extractedLicense);
 		}
-		return toDoc;
 	}
 
 	/**
@@ -725,14 +1457,13 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (NamespaceMap)existing.get();
 		}
-		String toObjectUri = toModelStore.getNextId(IdType.Anonymous);
+		String toObjectUri = nextId(toModelStore, IdType.Anonymous);
 		String existingUri = this.alreadyConverted.putIfAbsent(externalDocRef.getObjectUri(), toObjectUri);
 		if (Objects.nonNull(existingUri)) {
 			// small window if conversion occurred since the last check already converted
 			return (NamespaceMap)getExistingObject(externalDocRef.getObjectUri(), SpdxConstantsV3.CORE_NAMESPACE_MAP).get();
 		} 
-		NamespaceMap toNamespaceMap = (NamespaceMap)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.CORE_NAMESPACE_MAP, copyManager, true, defaultUriPrefix);
+		NamespaceMap toNamespaceMap = (NamespaceMap)createModelObject(toObjectUri, SpdxConstantsV3.CORE_NAMESPACE_MAP);
 		toNamespaceMap.setPrefix(externalDocRef.getId());
 		toNamespaceMap.setNamespace(externalDocRef.getSpdxDocumentNamespace() + "#");
 		return toNamespaceMap;
@@ -750,19 +1481,14 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (ConjunctiveLicenseSet)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix +  toModelStore.getNextId(IdType.SpdxId);
-		String existingUri = this.alreadyConverted.putIfAbsent(fromConjunctiveLicenseSet.getObjectUri(), toObjectUri);
-		if (Objects.nonNull(existingUri)) {
-			// small window if conversion occurred since the last check already converted
-			return (ConjunctiveLicenseSet)getExistingObject(fromConjunctiveLicenseSet.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_CONJUNCTIVE_LICENSE_SET).get();
-		} 
-		ConjunctiveLicenseSet toConjunctiveLicenseSet = (ConjunctiveLicenseSet)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_CONJUNCTIVE_LICENSE_SET, copyManager, true, defaultUriPrefix);
-		for (org.spdx.library.model.v2.license.AnyLicenseInfo fromMember:fromConjunctiveLicenseSet.getMembers()) {
-			toConjunctiveLicenseSet.getMembers().add(convertAndStore(fromMember));
-		}
-		toConjunctiveLicenseSet.setCreationInfo(defaultCreationInfo);
-		return toConjunctiveLicenseSet;
+		return convertCanonicalLicense(fromConjunctiveLicenseSet.getObjectUri(), licenseKey(fromConjunctiveLicenseSet), SpdxConstantsV3.EXPANDED_LICENSING_CONJUNCTIVE_LICENSE_SET, toObjectUri -> {
+			ConjunctiveLicenseSet toConjunctiveLicenseSet = (ConjunctiveLicenseSet)createModelObject(toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_CONJUNCTIVE_LICENSE_SET);
+			for (org.spdx.library.model.v2.license.AnyLicenseInfo fromMember:fromConjunctiveLicenseSet.getMembers()) {
+				toConjunctiveLicenseSet.getMembers().add(convertAndStore(fromMember));
+			}
+			toConjunctiveLicenseSet.setCreationInfo(defaultCreationInfo);
+			return toConjunctiveLicenseSet;
+		});
 	}
 	
 	/**
@@ -777,19 +1503,14 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (DisjunctiveLicenseSet)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix +  toModelStore.getNextId(IdType.SpdxId);
-		String existingUri = this.alreadyConverted.putIfAbsent(fromDisjunctiveLicenseSet.getObjectUri(), toObjectUri);
-		if (Objects.nonNull(existingUri)) {
-			// small window if conversion occurred since the last check already converted
-			return (DisjunctiveLicenseSet)getExistingObject(fromDisjunctiveLicenseSet.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_DISJUNCTIVE_LICENSE_SET).get();
-		} 
-		DisjunctiveLicenseSet toDisjunctiveLicenseSet = (DisjunctiveLicenseSet)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_DISJUNCTIVE_LICENSE_SET, copyManager, true, defaultUriPrefix);
-		for (org.spdx.library.model.v2.license.AnyLicenseInfo fromMember:fromDisjunctiveLicenseSet.getMembers()) {
-			toDisjunctiveLicenseSet.getMembers().add(convertAndStore(fromMember));
-		}
-		toDisjunctiveLicenseSet.setCreationInfo(defaultCreationInfo);
-		return toDisjunctiveLicenseSet;
+		return convertCanonicalLicense(fromDisjunctiveLicenseSet.getObjectUri(), licenseKey(fromDisjunctiveLicenseSet), SpdxConstantsV3.EXPANDED_LICENSING_DISJUNCTIVE_LICENSE_SET, toObjectUri -> {
+			DisjunctiveLicenseSet toDisjunctiveLicenseSet = (DisjunctiveLicenseSet)createModelObject(toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_DISJUNCTIVE_LICENSE_SET);
+			for (org.spdx.library.model.v2.license.AnyLicenseInfo fromMember:fromDisjunctiveLicenseSet.getMembers()) {
+				toDisjunctiveLicenseSet.getMembers().add(convertAndStore(fromMember));
+			}
+			toDisjunctiveLicenseSet.setCreationInfo(defaultCreationInfo);
+			return toDisjunctiveLicenseSet;
+		});
 	}
 	
 	/**
@@ -801,23 +1522,35 @@ public class Spdx2to3Converter implements ISpdxConverter {
 	 */
 	public CustomLicense convertAndStore(org.spdx.library.model.v2.license.ExtractedLicenseInfo fromExtractedLicenseInfo) throws InvalidSPDXAnalysisException {
 		Optional<ModelObjectV3> existing = getExistingObject(fromExtractedLicenseInfo.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE);
+		if (!existing.isPresent()) {
+			existing = reserveStreamedElement(fromExtractedLicenseInfo.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE);
+		}
 		if (existing.isPresent()) {
 			return (CustomLicense)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId);
+		String toObjectUri = defaultUriPrefix + nextId(toModelStore, IdType.SpdxId);
 		String existingUri = this.alreadyConverted.putIfAbsent(fromExtractedLicenseInfo.getObjectUri(), toObjectUri);
 		if (Objects.nonNull(existingUri)) {
 			// small window if conversion occurred since the last check already converted
 			return (CustomLicense)getExistingObject(fromExtractedLicenseInfo.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE).get();
 		} 
-		CustomLicense toCustomLicense = (CustomLicense)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE, copyManager, true, defaultUriPrefix);
+		CustomLicense toCustomLicense = (CustomLicense)createModelObject(toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE);
+		convertCustomLicenseProperties(fromExtractedLicenseInfo, toCustomLicense);
+		return toCustomLicense;
+	}
+
+	/**
+	 * Converts the properties of the SPDX spec version 2 ExtractedLicenseInfo to the SPDX spec version 3 CustomLicense
+	 * @param fromExtractedLicenseInfo an SPDX spec version 2 ExtractedLicenseInfo to convert from
+	 * @param toCustomLicense SPDX spec version 3 CustomLicense to convert to
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private void convertCustomLicenseProperties(org.spdx.library.model.v2.license.ExtractedLicenseInfo fromExtractedLicenseInfo, CustomLicense toCustomLicense) throws InvalidSPDXAnalysisException {
 		toCustomLicense.setCreationInfo(defaultCreationInfo);
 		toCustomLicense.setLicenseText(fromExtractedLicenseInfo.getExtractedText());
 		toCustomLicense.setName(fromExtractedLicenseInfo.getName());
 		toCustomLicense.getSeeAlsos().addAll(fromExtractedLicenseInfo.getSeeAlso());
 		toCustomLicense.setComment(fromExtractedLicenseInfo.getComment());
-		return toCustomLicense;
 	}
 	
 	/**
@@ -832,17 +1565,12 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (OrLaterOperator)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix +  toModelStore.getNextId(IdType.SpdxId);
-		String existingUri = this.alreadyConverted.putIfAbsent(fromOrLaterOperator.getObjectUri(), toObjectUri);
-		if (Objects.nonNull(existingUri)) {
-			// small window if conversion occurred since the last check already converted
-			return (OrLaterOperator)getExistingObject(fromOrLaterOperator.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_OR_LATER_OPERATOR).get();
-		} 
-		OrLaterOperator toOrLaterOperator = (OrLaterOperator)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_OR_LATER_OPERATOR, copyManager, true, defaultUriPrefix);
-		toOrLaterOperator.setCreationInfo(defaultCreationInfo);
-		toOrLaterOperator.setSubjectLicense((License)convertAndStore(fromOrLaterOperator.getLicense()));
-		return toOrLaterOperator;
+		return convertCanonicalLicense(fromOrLaterOperator.getObjectUri(), licenseKey(fromOrLaterOperator), SpdxConstantsV3.EXPANDED_LICENSING_OR_LATER_OPERATOR, toObjectUri -> {
+			OrLaterOperator toOrLaterOperator = (OrLaterOperator)createModelObject(toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_OR_LATER_OPERATOR);
+			toOrLaterOperator.setCreationInfo(defaultCreationInfo);
+			toOrLaterOperator.setSubjectLicense((License)convertAndStore(fromOrLaterOperator.getLicense()));
+			return toOrLaterOperator;
+		});
 	}
 	
 	/**
@@ -857,11 +1585,24 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (ListedLicense)existing.get();
 		}
-		String existingUri = this.alreadyConverted.putIfAbsent(fromSpdxListedLicense.getObjectUri(), fromSpdxListedLicense.getObjectUri());
-		if (Objects.nonNull(existingUri)) {
-			// small window if conversion occurred since the last check already converted
-			return (ListedLicense)getExistingObject(fromSpdxListedLicense.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE).get();
+		synchronized (listedLicenseLock) {
+			existing = getExistingObject(fromSpdxListedLicense.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE);
+			if (existing.isPresent()) {
+				return (ListedLicense)existing.get();
+			}
+			ListedLicense retval = convertShared(() -> convertListedLicense(fromSpdxListedLicense));
+			// only published once converted so other threads never see a partially copied listed license
+			this.alreadyConverted.put(fromSpdxListedLicense.getObjectUri(), fromSpdxListedLicense.getObjectUri());
+			return retval;
 		}
+	}
+
+	/**
+	 * @param fromSpdxListedLicense an SPDX spec version 2 SPDX SpdxListedLicense to convert from
+	 * @return an SPDX spec version 3 ListedLicense
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private ListedLicense convertListedLicense(org.spdx.library.model.v2.license.SpdxListedLicense fromSpdxListedLicense) throws InvalidSPDXAnalysisException {
 		String licenseId = SpdxListedLicenseModelStore.objectUriToLicenseOrExceptionId(fromSpdxListedLicense.getObjectUri());
 		if (ListedLicenses.getListedLicenses().isSpdxListedLicenseId(licenseId)) {
 			ListedLicense retval = ListedLicenses.getListedLicenses().getListedLicenseById(licenseId);
@@ -871,8 +1612,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			}
 			return retval;
 		}
-		ListedLicense toListedLicense = (ListedLicense)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				fromSpdxListedLicense.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE, copyManager, true, defaultUriPrefix);
+		ListedLicense toListedLicense = (ListedLicense)createModelObject(fromSpdxListedLicense.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE);
 		toListedLicense.setCreationInfo(defaultCreationInfo);
 		toListedLicense.setComment(fromSpdxListedLicense.getComment());
 		// fromSpdxListedLicense.getCrossRef()) - no equivalent in SPDX version 3.X
@@ -903,18 +1643,13 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (WithAdditionOperator)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix +  toModelStore.getNextId(IdType.SpdxId);
-		String existingUri = this.alreadyConverted.putIfAbsent(fromWithExceptionOperator.getObjectUri(), toObjectUri);
-		if (Objects.nonNull(existingUri)) {
-			// small window if conversion occurred since the last check already converted
-			return (WithAdditionOperator)getExistingObject(fromWithExceptionOperator.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_WITH_ADDITION_OPERATOR).get();
-		} 
-		WithAdditionOperator toWithAdditionOperator = (WithAdditionOperator)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_WITH_ADDITION_OPERATOR, copyManager, true, defaultUriPrefix);
-		toWithAdditionOperator.setCreationInfo(defaultCreationInfo);
-		toWithAdditionOperator.setSubjectAddition(convertAndStore(fromWithExceptionOperator.getException()));
-		toWithAdditionOperator.setSubjectExtendableLicense((ExtendableLicense)convertAndStore(fromWithExceptionOperator.getLicense()));
-		return toWithAdditionOperator;
+		return convertCanonicalLicense(fromWithExceptionOperator.getObjectUri(), licenseKey(fromWithExceptionOperator), SpdxConstantsV3.EXPANDED_LICENSING_WITH_ADDITION_OPERATOR, toObjectUri -> {
+			WithAdditionOperator toWithAdditionOperator = (WithAdditionOperator)createModelObject(toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_WITH_ADDITION_OPERATOR);
+			toWithAdditionOperator.setCreationInfo(defaultCreationInfo);
+			toWithAdditionOperator.setSubjectAddition(convertAndStore(fromWithExceptionOperator.getException()));
+			toWithAdditionOperator.setSubjectExtendableLicense((ExtendableLicense)convertAndStore(fromWithExceptionOperator.getLicense()));
+			return toWithAdditionOperator;
+		});
 	}
 	
 
@@ -933,14 +1668,13 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (CustomLicenseAddition)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix +  toModelStore.getNextId(IdType.SpdxId);
+		String toObjectUri = defaultUriPrefix +  nextId(toModelStore, IdType.SpdxId);
 		String existingUri = this.alreadyConverted.putIfAbsent(fromException.getObjectUri(), toObjectUri);
 		if (Objects.nonNull(existingUri)) {
 			// small window if conversion occurred since the last check already converted
 			return (CustomLicenseAddition)getExistingObject(fromException.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE_ADDITION).get();
 		} 
-		CustomLicenseAddition toCustomAddition = (CustomLicenseAddition)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE_ADDITION, copyManager, true, defaultUriPrefix);
+		CustomLicenseAddition toCustomAddition = (CustomLicenseAddition)createModelObject(toObjectUri, SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE_ADDITION);
 		convertLicenseAdditionProperties(fromException, toCustomAddition);
 		return toCustomAddition;
 	}
@@ -974,11 +1708,24 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (ListedLicenseException)existing.get();
 		}
-		String existingUri = this.alreadyConverted.putIfAbsent(fromException.getObjectUri(), fromException.getObjectUri());
-		if (Objects.nonNull(existingUri)) {
-			// small window if conversion occurred since the last check already converted
-			return (ListedLicenseException)getExistingObject(fromException.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE_EXCEPTION).get();
+		synchronized (listedLicenseLock) {
+			existing = getExistingObject(fromException.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE_EXCEPTION);
+			if (existing.isPresent()) {
+				return (ListedLicenseException)existing.get();
+			}
+			ListedLicenseException retval = convertShared(() -> convertListedException(fromException));
+			// only published once converted so other threads never see a partially copied listed exception
+			this.alreadyConverted.put(fromException.getObjectUri(), fromException.getObjectUri());
+			return retval;
 		}
+	}
+
+	/**
+	 * @param fromException an SPDX spec version 2 ListedLicenseException to convert from
+	 * @return an SPDX spec version 3 ListedLicenseException
+	 * @throws InvalidSPDXAnalysisException on any errors converting
+	 */
+	private ListedLicenseException convertListedException(org.spdx.library.model.v2.license.ListedLicenseException fromException) throws InvalidSPDXAnalysisException {
 		String exceptionId = SpdxListedLicenseModelStore.objectUriToLicenseOrExceptionId(fromException.getObjectUri());
 		if (ListedLicenses.getListedLicenses().isSpdxListedExceptionId(exceptionId)) {
 			ListedLicenseException retval = ListedLicenses.getListedLicenses().getListedExceptionById(exceptionId);
@@ -988,8 +1735,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			}
 			return retval;
 		}
-		ListedLicenseException toListedException = (ListedLicenseException)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				fromException.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE_EXCEPTION, copyManager, true, defaultUriPrefix);
+		ListedLicenseException toListedException = (ListedLicenseException)createModelObject(fromException.getObjectUri(), SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE_EXCEPTION);
 		convertLicenseAdditionProperties(fromException, toListedException);
 		toListedException.setDeprecatedVersion(fromException.getDeprecatedVersion());
 		toListedException.setIsDeprecatedAdditionId(fromException.isDeprecated());
@@ -1009,28 +1755,24 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (LicenseExpression)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId);
-		String existingUri = this.alreadyConverted.putIfAbsent(fromLicense.getObjectUri(), toObjectUri);
-		if (Objects.nonNull(existingUri)) {
-			// small window if conversion occurred since the last check already converted
-			return (LicenseExpression)getExistingObject(fromLicense.getObjectUri(), SpdxConstantsV3.SIMPLE_LICENSING_LICENSE_EXPRESSION).get();
-		}
-		LicenseExpression licenseExpression = (LicenseExpression)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.SIMPLE_LICENSING_LICENSE_EXPRESSION, copyManager, true, defaultUriPrefix);
-		licenseExpression.setCreationInfo(defaultCreationInfo);
 		String expression = fromLicense.toString();
-		licenseExpression.setLicenseExpression(expression);
-		StringTokenizer tokenizer = new StringTokenizer(expression, "() ");
-		while (tokenizer.hasMoreTokens()) {
-			String token = tokenizer.nextToken().trim();
-			if (token.startsWith(SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM)) {
-				licenseExpression.getCustomIdToUris().add(licenseExpression.createDictionaryEntry(toModelStore.getNextId(IdType.Anonymous))
-						.setKey(token)
-						.setValue(defaultUriPrefix + token)
-						.build());
+		return convertCanonicalLicense(fromLicense.getObjectUri(), LICENSE_EXPRESSION_KEY_PREFIX + expression, 
+				SpdxConstantsV3.SIMPLE_LICENSING_LICENSE_EXPRESSION, toObjectUri -> {
+			LicenseExpression licenseExpression = (LicenseExpression)createModelObject(toObjectUri, SpdxConstantsV3.SIMPLE_LICENSING_LICENSE_EXPRESSION);
+			licenseExpression.setCreationInfo(defaultCreationInfo);
+			licenseExpression.setLicenseExpression(expression);
+			StringTokenizer tokenizer = new StringTokenizer(expression, "() ");
+			while (tokenizer.hasMoreTokens()) {
+				String token = tokenizer.nextToken().trim();
+				if (token.startsWith(SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM)) {
+					licenseExpression.getCustomIdToUris().add(licenseExpression.createDictionaryEntry(nextId(toModelStore, IdType.Anonymous))
+							.setKey(token)
+							.setValue(defaultUriPrefix + token)
+							.build());
+				}
 			}
-		}
-		return licenseExpression;
+			return licenseExpression;
+		});
 	}
 
 	/**
@@ -1129,17 +1871,30 @@ public class Spdx2to3Converter implements ISpdxConverter {
 	 */
 	public SpdxFile convertAndStore(org.spdx.library.model.v2.SpdxFile spdxFile) throws InvalidSPDXAnalysisException {
 		Optional<ModelObjectV3> existing = getExistingObject(spdxFile.getObjectUri(), SpdxConstantsV3.SOFTWARE_SPDX_FILE);
+		if (!existing.isPresent()) {
+			existing = reserveStreamedElement(spdxFile.getObjectUri(), SpdxConstantsV3.SOFTWARE_SPDX_FILE);
+		}
 		if (existing.isPresent()) {
 			return (SpdxFile)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId);
+		String toObjectUri = defaultUriPrefix + nextId(toModelStore, IdType.SpdxId);
 		String existingUri = this.alreadyConverted.putIfAbsent(spdxFile.getObjectUri(), toObjectUri);
 		if (Objects.nonNull(existingUri)) {
 			// small window if conversion occurred since the last check already converted
 			return (SpdxFile)getExistingObject(spdxFile.getObjectUri(), SpdxConstantsV3.SOFTWARE_SPDX_FILE).get();
 		} 
-		SpdxFile toFile = (SpdxFile)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.SOFTWARE_SPDX_FILE, copyManager, true, defaultUriPrefix);
+		SpdxFile toFile = (SpdxFile)createModelObject(toObjectUri, SpdxConstantsV3.SOFTWARE_SPDX_FILE);
+		convertFileProperties(spdxFile, toFile);
+		return toFile;
+	}
+
+	/**
+	 * Converts the properties of the SPDX 2 SpdxFile to the SPDX 3 SpdxFile
+	 * @param spdxFile SPDX file to convert from
+	 * @param toFile SPDX 3 SpdxFile to convert to
+	 * @throws InvalidSPDXAnalysisException on any error in conversion
+	 */
+	private void convertFileProperties(org.spdx.library.model.v2.SpdxFile spdxFile, SpdxFile toFile) throws InvalidSPDXAnalysisException {
 		convertItemProperties(spdxFile, toFile);
 		
 		for (org.spdx.library.model.v2.Checksum checksum:spdxFile.getChecksums()) {
@@ -1155,7 +1910,6 @@ public class Spdx2to3Converter implements ISpdxConverter {
 
         noticeText.ifPresent(s -> toFile.getAttributionTexts().add(s));
 		// - this is already captured in the checksums - String sha1 = spdxFile.getSha1();
-		return toFile;
 	}
 	
 	/**
@@ -1169,14 +1923,13 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (existing.isPresent()) {
 			return (Hash)existing.get();
 		}
-		String toObjectUri = toModelStore.getNextId(IdType.Anonymous);
+		String toObjectUri = nextId(toModelStore, IdType.Anonymous);
 		String existingUri = this.alreadyConverted.putIfAbsent(checksum.getObjectUri(), toObjectUri);
 		if (Objects.nonNull(existingUri)) {
 			// small window if conversion occurred since the last check already converted
 			return (Hash)getExistingObject(checksum.getObjectUri(), SpdxConstantsV3.CORE_HASH).get();
 		} 
-		Hash toHash = (Hash)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.CORE_HASH, copyManager, true, defaultUriPrefix);
+		Hash toHash = (Hash)createModelObject(toObjectUri, SpdxConstantsV3.CORE_HASH);
 		toHash.setAlgorithm(HASH_ALGORITH_MAP.get(checksum.getAlgorithm()));
 		toHash.setHashValue(checksum.getValue());
 		return toHash;
@@ -1239,8 +1992,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		}
 		org.spdx.library.model.v2.license.AnyLicenseInfo concludedLicense = fromItem.getLicenseConcluded();
 		if (Objects.nonNull(concludedLicense)) {
-			Relationship concludedRelationship = (Relationship)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-					defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId), SpdxConstantsV3.CORE_RELATIONSHIP, copyManager, true, defaultUriPrefix);
+			Relationship concludedRelationship = (Relationship)createModelObject(defaultUriPrefix + nextId(toModelStore, IdType.SpdxId), SpdxConstantsV3.CORE_RELATIONSHIP);
 			concludedRelationship.setCreationInfo(defaultCreationInfo);
 			concludedRelationship.setFrom(toArtifact);
 			concludedRelationship.getTos().add(convertAndStore(concludedLicense));
@@ -1249,8 +2001,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		if (!(fromItem instanceof org.spdx.library.model.v2.SpdxPackage)) {
 			// we use the license concluded for the SPDX package
 			for (org.spdx.library.model.v2.license.AnyLicenseInfo declaredLicense:fromItem.getLicenseInfoFromFiles()) {
-				Relationship declaredRelationship = (Relationship)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-						defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId), SpdxConstantsV3.CORE_RELATIONSHIP, copyManager, true, defaultUriPrefix);
+				Relationship declaredRelationship = (Relationship)createModelObject(defaultUriPrefix + nextId(toModelStore, IdType.SpdxId), SpdxConstantsV3.CORE_RELATIONSHIP);
 				declaredRelationship.setCreationInfo(defaultCreationInfo);
 				declaredRelationship.setFrom(toArtifact);
 				declaredRelationship.getTos().add(convertAndStore(declaredLicense));
@@ -1267,17 +2018,30 @@ public class Spdx2to3Converter implements ISpdxConverter {
 	 */
 	public SpdxPackage convertAndStore(org.spdx.library.model.v2.SpdxPackage spdxPackage) throws InvalidSPDXAnalysisException {
 		Optional<ModelObjectV3> existing = getExistingObject(spdxPackage.getObjectUri(), SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE);
+		if (!existing.isPresent()) {
+			existing = reserveStreamedElement(spdxPackage.getObjectUri(), SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE);
+		}
 		if (existing.isPresent()) {
 			return (SpdxPackage)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId);
+		String toObjectUri = defaultUriPrefix + nextId(toModelStore, IdType.SpdxId);
 		String existingUri = this.alreadyConverted.putIfAbsent(spdxPackage.getObjectUri(), toObjectUri);
 		if (Objects.nonNull(existingUri)) {
 			// small window if conversion occurred since the last check already converted
 			return (SpdxPackage)getExistingObject(spdxPackage.getObjectUri(), SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE).get();
 		} 
-		SpdxPackage toPackage = (SpdxPackage)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE, copyManager, true, defaultUriPrefix);
+		SpdxPackage toPackage = (SpdxPackage)createModelObject(toObjectUri, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE);
+		convertPackageProperties(spdxPackage, toPackage);
+		return toPackage;
+	}
+
+	/**
+	 * Converts the properties of the SPDX 2 SpdxPackage to the SPDX 3 SpdxPackage
+	 * @param spdxPackage SPDX package to convert from
+	 * @param toPackage SPDX 3 SpdxPackage to convert to
+	 * @throws InvalidSPDXAnalysisException on any error in conversion
+	 */
+	private void convertPackageProperties(org.spdx.library.model.v2.SpdxPackage spdxPackage, SpdxPackage toPackage) throws InvalidSPDXAnalysisException {
 		convertItemProperties(spdxPackage, toPackage);
 		toPackage.setBuiltTime(spdxPackage.getBuiltDate().orElse(null));
 		toPackage.setDescription(spdxPackage.getDescription().orElse(null));
@@ -1289,7 +2053,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		toPackage.setHomePage(spdxPackage.getHomepage().orElse(null));
 		Optional<String> originator = spdxPackage.getOriginator();
 		if (originator.isPresent()) {
-			toPackage.getOriginatedBys().add(stringToAgent(originator.get(), toPackage.getCreationInfo()));
+			toPackage.getOriginatedBys().add(recordCreated(stringToAgent(originator.get(), toPackage.getCreationInfo())));
 		}
 		Optional<String> packageFileName = spdxPackage.getPackageFileName();
 		if (packageFileName.isPresent()) {
@@ -1311,21 +2075,19 @@ public class Spdx2to3Converter implements ISpdxConverter {
 		toPackage.setSummary(spdxPackage.getSummary().orElse(null));
 		Optional<String> supplier = spdxPackage.getSupplier();
 		if (supplier.isPresent()) {
-			toPackage.setSuppliedBy(stringToAgent(supplier.get(), toPackage.getCreationInfo()));
+			toPackage.setSuppliedBy(recordCreated(stringToAgent(supplier.get(), toPackage.getCreationInfo())));
 		}
 		toPackage.setValidUntilTime(spdxPackage.getValidUntilDate().orElse(null));
 		toPackage.setPackageVersion(spdxPackage.getVersionInfo().orElse(null));
 		
 		org.spdx.library.model.v2.license.AnyLicenseInfo declaredLicense = spdxPackage.getLicenseDeclared();
 		if (Objects.nonNull(declaredLicense)) {
-			Relationship declaredRelationship = (Relationship)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-					defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId), SpdxConstantsV3.CORE_RELATIONSHIP, copyManager, true, defaultUriPrefix);
+			Relationship declaredRelationship = (Relationship)createModelObject(defaultUriPrefix + nextId(toModelStore, IdType.SpdxId), SpdxConstantsV3.CORE_RELATIONSHIP);
 			declaredRelationship.setCreationInfo(defaultCreationInfo);
 			declaredRelationship.setFrom(toPackage);
 			declaredRelationship.getTos().add(convertAndStore(declaredLicense));
 			declaredRelationship.setRelationshipType(RelationshipType.HAS_DECLARED_LICENSE);
 		}
-		return toPackage;
 	}
 
 	/**
@@ -1337,7 +2099,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 	public IntegrityMethod convertAndStore(
 			org.spdx.library.model.v2.SpdxPackageVerificationCode spdxPackageVerificationCode) throws InvalidSPDXAnalysisException {
 		PackageVerificationCode pkgVerificationCode = (PackageVerificationCode)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toModelStore.getNextId(IdType.Anonymous), SpdxConstantsV3.CORE_PACKAGE_VERIFICATION_CODE,
+				nextId(toModelStore, IdType.Anonymous), SpdxConstantsV3.CORE_PACKAGE_VERIFICATION_CODE,
 				copyManager, true, defaultUriPrefix);
 		
 		pkgVerificationCode.setAlgorithm(HashAlgorithm.SHA1);
@@ -1355,13 +2117,13 @@ public class Spdx2to3Converter implements ISpdxConverter {
 	 */
 	private void addPackageFileNameToPackage(String fileName,
 			SpdxPackage toPackage, Collection<org.spdx.library.model.v2.Checksum> fileChecksums) throws InvalidSPDXAnalysisException {
-		SpdxFile file = toPackage.createSpdxFile(defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId))
+		SpdxFile file = toPackage.createSpdxFile(defaultUriPrefix + nextId(toModelStore, IdType.SpdxId))
 				.setName(fileName)
 				.build();
 		for (org.spdx.library.model.v2.Checksum checksum : fileChecksums) {
 			file.getVerifiedUsings().add(convertAndStore(checksum));
 		}
-		toPackage.createRelationship(defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId))
+		toPackage.createRelationship(defaultUriPrefix + nextId(toModelStore, IdType.SpdxId))
 				.setRelationshipType(RelationshipType.HAS_DISTRIBUTION_ARTIFACT)
 				.setFrom(toPackage)
 				.addTo(file)
@@ -1408,7 +2170,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			case SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "cpe22Type":
 			case SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "cpe23Type":
 			case SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "swid":
-				artifact.getExternalIdentifiers().add(artifact.createExternalIdentifier(modelStore.getNextId(IdType.Anonymous))
+				artifact.getExternalIdentifiers().add(artifact.createExternalIdentifier(nextId(modelStore, IdType.Anonymous))
 						.setExternalIdentifierType(EXTERNAL_IDENTIFIER_TYPE_MAP.get(referenceType.getIndividualURI()))
 						.setIdentifier(referenceLocator)
 						.setComment(comment)
@@ -1417,7 +2179,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 				if (artifact instanceof SpdxPackage) {
 					((SpdxPackage)artifact).setPackageUrl(referenceLocator);
 				} else {
-					artifact.getExternalIdentifiers().add(artifact.createExternalIdentifier(modelStore.getNextId(IdType.Anonymous))
+					artifact.getExternalIdentifiers().add(artifact.createExternalIdentifier(nextId(modelStore, IdType.Anonymous))
 							.setExternalIdentifierType(EXTERNAL_IDENTIFIER_TYPE_MAP.get(referenceType.getIndividualURI()))
 							.setIdentifier(referenceLocator)
 							.setComment(comment)
@@ -1426,7 +2188,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			} break;
 			case SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "swh":
 			case SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "gitoid":
-				artifact.getContentIdentifiers().add(artifact.createContentIdentifier(modelStore.getNextId(IdType.Anonymous))
+				artifact.getContentIdentifiers().add(artifact.createContentIdentifier(nextId(modelStore, IdType.Anonymous))
 						.setContentIdentifierType(CONTENT_IDENTIFIER_TYPE_MAP.get(referenceType.getIndividualURI()))
 						.setContentIdentifierValue(referenceLocator)
 						.setComment(comment)
@@ -1440,7 +2202,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 						default: externalRefType = ExternalRefType.OTHER;
 					}
 				}
-				artifact.getExternalRefs().add(artifact.createExternalRef(modelStore.getNextId(IdType.Anonymous))
+				artifact.getExternalRefs().add(artifact.createExternalRef(nextId(modelStore, IdType.Anonymous))
 						.setExternalRefType(externalRefType)
 						.addLocator(referenceLocator)
 						.setComment(comment)
@@ -1457,17 +2219,30 @@ public class Spdx2to3Converter implements ISpdxConverter {
 	 */
 	public Snippet convertAndStore(org.spdx.library.model.v2.SpdxSnippet fromSnippet) throws InvalidSPDXAnalysisException {
 		Optional<ModelObjectV3> existing = getExistingObject(fromSnippet.getObjectUri(), SpdxConstantsV3.SOFTWARE_SNIPPET);
+		if (!existing.isPresent()) {
+			existing = reserveStreamedElement(fromSnippet.getObjectUri(), SpdxConstantsV3.SOFTWARE_SNIPPET);
+		}
 		if (existing.isPresent()) {
 			return (Snippet)existing.get();
 		}
-		String toObjectUri = defaultUriPrefix + toModelStore.getNextId(IdType.SpdxId);
+		String toObjectUri = defaultUriPrefix + nextId(toModelStore, IdType.SpdxId);
 		String existingUri = this.alreadyConverted.putIfAbsent(fromSnippet.getObjectUri(), toObjectUri);
 		if (Objects.nonNull(existingUri)) {
 			// small window if conversion occurred since the last check already converted
 			return (Snippet)getExistingObject(fromSnippet.getObjectUri(), SpdxConstantsV3.SOFTWARE_SNIPPET).get();
 		} 
-		Snippet toSnippet = (Snippet)SpdxModelClassFactoryV3.getModelObject(toModelStore, 
-				toObjectUri, SpdxConstantsV3.SOFTWARE_SNIPPET, copyManager, true, defaultUriPrefix);
+		Snippet toSnippet = (Snippet)createModelObject(toObjectUri, SpdxConstantsV3.SOFTWARE_SNIPPET);
+		convertSnippetProperties(fromSnippet, toSnippet);
+		return toSnippet;
+	}
+
+	/**
+	 * Converts the properties of the SPDX 2 SpdxSnippet to the SPDX 3 Snippet
+	 * @param fromSnippet SPDX snippet to convert from
+	 * @param toSnippet SPDX 3 Snippet to convert to
+	 * @throws InvalidSPDXAnalysisException on any error in conversion
+	 */
+	private void convertSnippetProperties(org.spdx.library.model.v2.SpdxSnippet fromSnippet, Snippet toSnippet) throws InvalidSPDXAnalysisException {
 		convertItemProperties(fromSnippet, toSnippet);
 		StartEndPointer fromByteRange = fromSnippet.getByteRange();
 		if (Objects.nonNull(fromByteRange)) {
@@ -1476,7 +2251,7 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			ByteOffsetPointer endPointer = (ByteOffsetPointer) fromByteRange.getEndPointer();
 			if (Objects.nonNull(startPointer) && Objects.nonNull(endPointer)) {
 				toSnippet.setByteRange(toSnippet
-						.createPositiveIntegerRange(toModelStore.getNextId(IdType.Anonymous))
+						.createPositiveIntegerRange(nextId(toModelStore, IdType.Anonymous))
 						.setBeginIntegerRange(startPointer.getOffset())
 						.setEndIntegerRange(endPointer.getOffset()).build());
 			}
@@ -1488,12 +2263,11 @@ public class Spdx2to3Converter implements ISpdxConverter {
 			LineCharPointer endPointer = (LineCharPointer) fromLineRange.get().getEndPointer();
 			if (Objects.nonNull(startPointer) && Objects.nonNull(endPointer)) {
 				toSnippet.setLineRange(toSnippet
-						.createPositiveIntegerRange(toModelStore.getNextId(IdType.Anonymous))
+						.createPositiveIntegerRange(nextId(toModelStore, IdType.Anonymous))
 						.setBeginIntegerRange(startPointer.getLineNumber())
 						.setEndIntegerRange(endPointer.getLineNumber()).build());
 			}
 		}
 		toSnippet.setSnippetFromFile(convertAndStore(Objects.requireNonNull(fromSnippet.getSnippetFromFile())));
-		return toSnippet;
 	}
 }
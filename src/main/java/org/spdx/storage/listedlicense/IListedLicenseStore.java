@@ -17,8 +17,10 @@
  */
 package org.spdx.storage.listedlicense;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v3_0_1.core.CreationInfo;
@@ -78,4 +80,17 @@ public interface IListedLicenseStore extends IModelStore {
 	 */
 	CreationInfo getListedLicenseCreationInfo() throws InvalidSPDXAnalysisException;
 
+	/**
+	 * Decode all listed licenses and exceptions not already cached in parallel, then publish them to the cache
+	 * <p>
+	 * Licenses or exceptions which fail to decode are logged and are loaded again on first use.
+	 * The default implementation does not preload anything - licenses and exceptions are loaded on first use.
+	 * @param executor executor used to decode the licenses and exceptions
+	 * @return counts and timings for the preload
+	 * @throws InvalidSPDXAnalysisException if interrupted while waiting for the decode to complete
+	 */
+	default ListedLicensePreloadResult preload(ExecutorService executor) throws InvalidSPDXAnalysisException {
+		return new ListedLicensePreloadResult(0, 0, 0, 0, Collections.emptyList(), 0, 0);
+	}
+
 }
@@ -0,0 +1,125 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.listedlicense;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts and timings for a preload of the listed licenses and exceptions
+ * <p>
+ * The preload runs in two phases - a decode phase where the JSON for all licenses and exceptions
+ * not already cached is read in parallel, and a publish phase where the decoded JSON is added to the cache.
+ *
+ * @author Gary O'Neall
+ */
+public class ListedLicensePreloadResult {
+
+	private final int licensesDecoded;
+	private final int licensesAlreadyCached;
+	private final int exceptionsDecoded;
+	private final int exceptionsAlreadyCached;
+	private final List<String> failedIds;
+	private final long decodeNanos;
+	private final long publishNanos;
+
+	/**
+	 * @param licensesDecoded number of licenses decoded during the preload
+	 * @param licensesAlreadyCached number of licenses already cached prior to the preload
+	 * @param exceptionsDecoded number of exceptions decoded during the preload
+	 * @param exceptionsAlreadyCached number of exceptions already cached prior to the preload
+	 * @param failedIds license and exception IDs which could not be decoded
+	 * @param decodeNanos elapsed time for the decode phase in nanoseconds
+	 * @param publishNanos elapsed time for the publish phase in nanoseconds
+	 */
+	public ListedLicensePreloadResult(int licensesDecoded, int licensesAlreadyCached, int exceptionsDecoded,
+			int exceptionsAlreadyCached, List<String> failedIds, long decodeNanos, long publishNanos) {
+		this.licensesDecoded = licensesDecoded;
+		this.licensesAlreadyCached = licensesAlreadyCached;
+		this.exceptionsDecoded = exceptionsDecoded;
+		this.exceptionsAlreadyCached = exceptionsAlreadyCached;
+		this.failedIds = Collections.unmodifiableList(new ArrayList<>(failedIds));
+		this.decodeNanos = decodeNanos;
+		this.publishNanos = publishNanos;
+	}
+
+	/**
+	 * @return number of licenses decoded during the preload
+	 */
+	public int getLicensesDecoded() {
+		return licensesDecoded;
+	}
+
+	/**
+	 * @return number of licenses already cached prior to the preload
+	 */
+	public int getLicensesAlreadyCached() {
+		return licensesAlreadyCached;
+	}
+
+	/**
+	 * @return number of exceptions decoded during the preload
+	 */
+	public int getExceptionsDecoded() {
+		return exceptionsDecoded;
+	}
+
+	/**
+	 * @return number of exceptions already cached prior to the preload
+	 */
+	public int getExceptionsAlreadyCached() {
+		return exceptionsAlreadyCached;
+	}
+
+	/**
+	 * @return license and exception IDs which could not be decoded - these are loaded on first use
+	 */
+	public List<String> getFailedIds() {
+		return failedIds;
+	}
+
+	/**
+	 * @return elapsed time for the decode phase in milliseconds
+	 */
+	public long getDecodeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(decodeNanos);
+	}
+
+	/**
+	 * @return elapsed time for the publish phase in milliseconds
+	 */
+	public long getPublishMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(publishNanos);
+	}
+
+	/**
+	 * @return total elapsed time for the preload in milliseconds
+	 */
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(decodeNanos + publishNanos);
+	}
+
+	@Override
+	public String toString() {
+		return "decoded " + licensesDecoded + " licenses and " + exceptionsDecoded + " exceptions in " +
+				getDecodeMillis() + "ms, published in " + getPublishMillis() + "ms (" + licensesAlreadyCached +
+				" licenses and " + exceptionsAlreadyCached + " exceptions already cached, " + failedIds.size() + " failed)";
+	}
+}
@@ -0,0 +1,628 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.listedlicense;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Read-only binary snapshot of the SPDX listed license and exception JSON files
+ * <p>
+ * The snapshot is generated at build time by the {@link ListedLicenseSnapshotWriter} and contains the license
+ * list version, the license and exception IDs and the JSON content of every license and exception (including
+ * the cross-refs) encoded in a compact binary form.  All strings, including the property names, are stored
+ * once in a string table shared across all entries, and long strings such as the license texts are deflated,
+ * so the snapshot is about a quarter of the size of the JSON files.
+ * <p>
+ * Opening the snapshot decodes the license list version and the license and exception ID indexes.  The JSON for
+ * a license or exception is decoded only when the license or exception is requested, and is bound directly from
+ * the snapshot to the license or exception without building an intermediate JSON tree.  Strings are decoded
+ * (and inflated) from the string table on first use.
+ * <p>
+ * Format (all integers are big-endian 32 bit):
+ * <pre>
+ * MAGIC FORMAT_VERSION
+ * stringCount offset[stringCount + 1] utf8Bytes
+ * licenseListVersionString releaseDateString
+ * licenseCount (idString valueOffset)*
+ * exceptionCount (idString valueOffset)*
+ * values
+ * </pre>
+ * where each string in the string table is a one byte encoding followed by either the UTF-8 bytes or the
+ * length of the UTF-8 bytes and the deflated UTF-8 bytes, and each value is a one byte tag followed by the
+ * tag specific content.
+ * <p>
+ * Instances are immutable and may be shared across threads.
+ *
+ * @author Gary O'Neall
+ */
+public class ListedLicenseSnapshot {
+
+	static final Logger logger = LoggerFactory.getLogger(ListedLicenseSnapshot.class);
+
+	static final int MAGIC = 0x53504458;	// SPDX
+	static final int FORMAT_VERSION = 2;
+
+	static final byte STRING_UTF8 = 0;
+	static final byte STRING_DEFLATED = 1;
+	/**
+	 * Strings with at least this number of UTF-8 bytes are deflated if deflating makes them smaller
+	 */
+	static final int MIN_DEFLATED_STRING_LENGTH = 256;
+
+	static final byte TAG_NULL = 0;
+	static final byte TAG_FALSE = 1;
+	static final byte TAG_TRUE = 2;
+	static final byte TAG_STRING = 3;
+	static final byte TAG_NUMBER = 4;
+	static final byte TAG_ARRAY = 5;
+	static final byte TAG_OBJECT = 6;
+
+	private final ByteBuffer buffer;
+	private final int stringCount;
+	private final int stringOffsetsStart;
+	private final int stringBytesStart;
+	/**
+	 * Decoded strings - a race decoding the same string is harmless since strings are immutable
+	 */
+	private final String[] strings;
+	private final String licenseListVersion;
+	private final String releaseDate;
+	private final Map<String, Integer> licenseValueOffsets;
+	private final Map<String, Integer> exceptionValueOffsets;
+
+	/**
+	 * Snapshots read from URLs which can not be mapped in place, keyed by URL, so that each is read only once
+	 */
+	private static final Map<String, ListedLicenseSnapshot> readSnapshots = new HashMap<>();
+
+	/**
+	 * @param buffer buffer containing the snapshot - the buffer must not be modified
+	 * @throws IOException if the buffer does not contain a valid snapshot
+	 */
+	public ListedLicenseSnapshot(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer;
+		try {
+			if (buffer.getInt(0) != MAGIC) {
+				throw new IOException("Invalid listed license snapshot");
+			}
+			if (buffer.getInt(4) != FORMAT_VERSION) {
+				throw new IOException("Unsupported listed license snapshot format version "+buffer.getInt(4));
+			}
+			stringCount = buffer.getInt(8);
+			stringOffsetsStart = 12;
+			stringBytesStart = stringOffsetsStart + (stringCount + 1) * 4;
+			strings = new String[stringCount];
+			int position = stringBytesStart + buffer.getInt(stringOffsetsStart + stringCount * 4);
+			licenseListVersion = getString(buffer.getInt(position));
+			releaseDate = getString(buffer.getInt(position + 4));
+			position += 8;
+			int licenseCount = buffer.getInt(position);
+			position += 4;
+			int valuesStart = position + licenseCount * 8;
+			int exceptionCount = buffer.getInt(valuesStart);
+			valuesStart += 4 + exceptionCount * 8;
+			licenseValueOffsets = readIndex(position, licenseCount, valuesStart);
+			exceptionValueOffsets = readIndex(position + licenseCount * 8 + 4, exceptionCount, valuesStart);
+		} catch (IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException e) {
+			throw new IOException("Invalid listed license snapshot", e);
+		}
+	}
+
+	/**
+	 * @param position position of the first index entry
+	 * @param count number of entries
+	 * @param valuesStart position of the start of the values
+	 * @return map of ID to the absolute position of the value
+	 */
+	private Map<String, Integer> readIndex(int position, int count, int valuesStart) {
+		Map<String, Integer> retval = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			retval.put(getString(buffer.getInt(position)), valuesStart + buffer.getInt(position + 4));
+			position += 8;
+		}
+		return Collections.unmodifiableMap(retval);
+	}
+
+	/**
+	 * Open a snapshot from a URL
+	 * <p>
+	 * File URLs are memory mapped in place.  Any other URL, such as a snapshot inside a jar, is read once per
+	 * process into a direct buffer which is shared by all later opens of the same URL, so the snapshot is never
+	 * held on the heap and no temporary files are created.
+	 * @param url URL for the snapshot
+	 * @return the snapshot
+	 * @throws IOException on errors reading the snapshot
+	 */
+	public static ListedLicenseSnapshot open(URL url) throws IOException {
+		if ("file".equals(url.getProtocol())) {
+			try {
+				return new ListedLicenseSnapshot(map(Paths.get(url.toURI())));
+			} catch (URISyntaxException e) {
+				throw new IOException("Invalid snapshot URL "+url, e);
+			}
+		}
+		String key = url.toExternalForm();
+		synchronized (readSnapshots) {
+			ListedLicenseSnapshot retval = readSnapshots.get(key);
+			if (Objects.isNull(retval)) {
+				retval = new ListedLicenseSnapshot(read(url));
+				readSnapshots.put(key, retval);
+			}
+			return retval;
+		}
+	}
+
+	/**
+	 * @param url URL for the snapshot
+	 * @return direct buffer containing the content of the URL
+	 * @throws IOException on errors reading the URL
+	 */
+	private static ByteBuffer read(URL url) throws IOException {
+		URLConnection connection = url.openConnection();
+		long length = connection.getContentLengthLong();
+		try (InputStream is = connection.getInputStream()) {
+			if (length < 0 || length > Integer.MAX_VALUE) {
+				throw new IOException("Unknown or unsupported size "+length+" for the snapshot at "+url);
+			}
+			ByteBuffer retval = ByteBuffer.allocateDirect((int)length);
+			ReadableByteChannel channel = Channels.newChannel(is);
+			while (retval.hasRemaining()) {
+				if (channel.read(retval) < 0) {
+					throw new IOException("Unexpected end of the snapshot at "+url);
+				}
+			}
+			retval.flip();
+			return retval;
+		}
+	}
+
+	/**
+	 * @param path path to the snapshot file
+	 * @return read only mapping of the entire file
+	 * @throws IOException on errors mapping the file
+	 */
+	private static ByteBuffer map(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	/**
+	 * @param index index into the string table
+	 * @return the string decoded from the string table
+	 */
+	private String getString(int index) {
+		String retval = strings[index];
+		if (retval == null) {
+			int start = buffer.getInt(stringOffsetsStart + index * 4);
+			int end = buffer.getInt(stringOffsetsStart + (index + 1) * 4);
+			byte[] bytes = new byte[end - start];
+			ByteBuffer duplicate = buffer.duplicate();
+			duplicate.position(stringBytesStart + start);
+			duplicate.get(bytes);
+			if (bytes[0] == STRING_DEFLATED) {
+				retval = new String(inflate(bytes), StandardCharsets.UTF_8);
+			} else {
+				retval = new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+			}
+			strings[index] = retval;
+		}
+		return retval;
+	}
+
+	/**
+	 * @param encoded deflated string encoding followed by the length of the UTF-8 bytes and the deflated UTF-8 bytes
+	 * @return the UTF-8 bytes
+	 */
+	private static byte[] inflate(byte[] encoded) {
+		ByteBuffer header = ByteBuffer.wrap(encoded, 1, 4);
+		byte[] retval = new byte[header.getInt()];
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(encoded, 5, encoded.length - 5);
+			int length = 0;
+			while (length < retval.length && !inflater.finished()) {
+				int inflated = inflater.inflate(retval, length, retval.length - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += inflated;
+			}
+			if (length != retval.length) {
+				throw new IllegalStateException("Invalid deflated string in the listed license snapshot");
+			}
+			return retval;
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Invalid deflated string in the listed license snapshot", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * @param position position of a value
+	 * @return the position following the value
+	 */
+	private int skipValue(int position) {
+		byte tag = buffer.get(position++);
+		switch (tag) {
+			case TAG_NULL:
+			case TAG_FALSE:
+			case TAG_TRUE: return position;
+			case TAG_STRING:
+			case TAG_NUMBER: return position + 4;
+			case TAG_ARRAY: {
+				int count = buffer.getInt(position);
+				position += 4;
+				for (int i = 0; i < count; i++) {
+					position = skipValue(position);
+				}
+				return position;
+			}
+			case TAG_OBJECT: {
+				int count = buffer.getInt(position);
+				position += 4;
+				for (int i = 0; i < count; i++) {
+					position = skipValue(position + 4);	// skip the name string index
+				}
+				return position;
+			}
+			default: throw new IllegalStateException("Invalid listed license snapshot value tag "+tag);
+		}
+	}
+
+	/**
+	 * @param valueOffsets map of ID to value position
+	 * @param id case sensitive ID
+	 * @param gson Gson used to bind the JSON
+	 * @param clazz class to bind the JSON to
+	 * @return the bound JSON or null if the ID is not in the snapshot
+	 */
+	private @Nullable <T> T getJson(Map<String, Integer> valueOffsets, String id, Gson gson, Class<T> clazz) {
+		Integer position = valueOffsets.get(id);
+		if (Objects.isNull(position)) {
+			return null;
+		}
+		return gson.fromJson(new SnapshotJsonReader(position), clazz);
+	}
+
+	/**
+	 * @param id case sensitive license ID
+	 * @param gson Gson used to bind the JSON to the license
+	 * @return the license JSON or null if the license is not in the snapshot
+	 */
+	public @Nullable LicenseJson getLicense(String id, Gson gson) {
+		return getJson(licenseValueOffsets, id, gson, LicenseJson.class);
+	}
+
+	/**
+	 * @param id case sensitive exception ID
+	 * @param gson Gson used to bind the JSON to the exception
+	 * @return the exception JSON or null if the exception is not in the snapshot
+	 */
+	public @Nullable ExceptionJson getException(String id, Gson gson) {
+		return getJson(exceptionValueOffsets, id, gson, ExceptionJson.class);
+	}
+
+	/**
+	 * @return the version of the license list in the snapshot
+	 */
+	public String getLicenseListVersion() {
+		return licenseListVersion;
+	}
+
+	/**
+	 * @return the release date of the license list in the snapshot
+	 */
+	public String getReleaseDate() {
+		return releaseDate;
+	}
+
+	/**
+	 * @return the license IDs in the snapshot
+	 */
+	public Set<String> getLicenseIds() {
+		return licenseValueOffsets.keySet();
+	}
+
+	/**
+	 * @return the exception IDs in the snapshot
+	 */
+	public Set<String> getExceptionIds() {
+		return exceptionValueOffsets.keySet();
+	}
+
+	/**
+	 * @param licenseListVersion version of the license list from the JSON table of contents
+	 * @param licenseIds license IDs from the JSON table of contents
+	 * @param exceptionIds exception IDs from the JSON table of contents
+	 * @return true if the snapshot was generated from the same license list
+	 */
+	public boolean isCurrent(String licenseListVersion, Collection<String> licenseIds, Collection<String> exceptionIds) {
+		return Objects.equals(this.licenseListVersion, licenseListVersion) &&
+				this.licenseValueOffsets.keySet().equals(new HashSet<>(licenseIds)) &&
+				this.exceptionValueOffsets.keySet().equals(new HashSet<>(exceptionIds));
+	}
+
+	/**
+	 * Streams a single value from the snapshot to Gson without building a JSON tree
+	 * <p>
+	 * Overrides every reading method of {@link JsonReader}, so the underlying reader is never used.
+	 * Binding to maps is not supported - the license and exception JSON does not contain any.
+	 */
+	private class SnapshotJsonReader extends JsonReader {
+
+		private int position;
+		/**
+		 * Values remaining in each open array or object
+		 */
+		private int[] remaining = new int[8];
+		private boolean[] inObject = new boolean[8];
+		/**
+		 * True if the next token in the innermost open object is a property name
+		 */
+		private boolean expectingName = false;
+		private int depth = 0;
+		private boolean documentComplete = false;
+
+		SnapshotJsonReader(int position) {
+			super(UNUSED_READER);
+			this.position = position;
+		}
+
+		@Override
+		public JsonToken peek() {
+			if (depth > 0 && remaining[depth - 1] == 0) {
+				return inObject[depth - 1] ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+			}
+			if (expectingName) {
+				return JsonToken.NAME;
+			}
+			if (documentComplete) {
+				return JsonToken.END_DOCUMENT;
+			}
+			byte tag = buffer.get(position);
+			switch (tag) {
+				case TAG_NULL: return JsonToken.NULL;
+				case TAG_FALSE:
+				case TAG_TRUE: return JsonToken.BOOLEAN;
+				case TAG_STRING: return JsonToken.STRING;
+				case TAG_NUMBER: return JsonToken.NUMBER;
+				case TAG_ARRAY: return JsonToken.BEGIN_ARRAY;
+				case TAG_OBJECT: return JsonToken.BEGIN_OBJECT;
+				default: throw new IllegalStateException("Invalid listed license snapshot value tag "+tag);
+			}
+		}
+
+		/**
+		 * @param expected expected token
+		 * @throws IllegalStateException if the next token is not the expected token
+		 */
+		private void expect(JsonToken expected) {
+			JsonToken next = peek();
+			if (next != expected) {
+				throw new IllegalStateException("Expected "+expected+" but was "+next+" at "+getPath());
+			}
+		}
+
+		/**
+		 * Update the state after a complete value has been read
+		 */
+		private void valueRead() {
+			if (depth == 0) {
+				documentComplete = true;
+			} else {
+				remaining[depth - 1]--;
+				expectingName = inObject[depth - 1];
+			}
+		}
+
+		private void push(boolean object) {
+			if (depth == remaining.length) {
+				remaining = Arrays.copyOf(remaining, depth * 2);
+				inObject = Arrays.copyOf(inObject, depth * 2);
+			}
+			position++;
+			remaining[depth] = buffer.getInt(position);
+			position += 4;
+			inObject[depth] = object;
+			depth++;
+			expectingName = object;
+		}
+
+		private void pop() {
+			depth--;
+			expectingName = false;
+			valueRead();
+		}
+
+		/**
+		 * @return the string for the string or number value at the current position
+		 */
+		private String readStringValue() {
+			JsonToken next = peek();
+			if (next != JsonToken.STRING && next != JsonToken.NUMBER) {
+				throw new IllegalStateException("Expected a string but was "+next+" at "+getPath());
+			}
+			String retval = getString(buffer.getInt(position + 1));
+			position += 5;
+			valueRead();
+			return retval;
+		}
+
+		@Override
+		public void beginArray() {
+			expect(JsonToken.BEGIN_ARRAY);
+			push(false);
+		}
+
+		@Override
+		public void endArray() {
+			expect(JsonToken.END_ARRAY);
+			pop();
+		}
+
+		@Override
+		public void beginObject() {
+			expect(JsonToken.BEGIN_OBJECT);
+			push(true);
+		}
+
+		@Override
+		public void endObject() {
+			expect(JsonToken.END_OBJECT);
+			pop();
+		}
+
+		@Override
+		public boolean hasNext() {
+			JsonToken next = peek();
+			return next != JsonToken.END_OBJECT && next != JsonToken.END_ARRAY && next != JsonToken.END_DOCUMENT;
+		}
+
+		@Override
+		public String nextName() {
+			expect(JsonToken.NAME);
+			String retval = getString(buffer.getInt(position));
+			position += 4;
+			expectingName = false;
+			return retval;
+		}
+
+		@Override
+		public String nextString() {
+			return readStringValue();
+		}
+
+		@Override
+		public boolean nextBoolean() {
+			expect(JsonToken.BOOLEAN);
+			boolean retval = buffer.get(position) == TAG_TRUE;
+			position++;
+			valueRead();
+			return retval;
+		}
+
+		@Override
+		public void nextNull() {
+			expect(JsonToken.NULL);
+			position++;
+			valueRead();
+		}
+
+		@Override
+		public double nextDouble() {
+			return Double.parseDouble(readStringValue());
+		}
+
+		@Override
+		public long nextLong() {
+			try {
+				return new BigDecimal(readStringValue()).longValueExact();
+			} catch (ArithmeticException e) {
+				throw new NumberFormatException("Expected a long at "+getPath());
+			}
+		}
+
+		@Override
+		public int nextInt() {
+			try {
+				return new BigDecimal(readStringValue()).intValueExact();
+			} catch (ArithmeticException e) {
+				throw new NumberFormatException("Expected an int at "+getPath());
+			}
+		}
+
+		@Override
+		public void skipValue() {
+			JsonToken next = peek();
+			if (next == JsonToken.NAME) {
+				nextName();
+			} else if (next == JsonToken.END_ARRAY || next == JsonToken.END_OBJECT) {
+				pop();
+			} else if (next != JsonToken.END_DOCUMENT) {
+				position = ListedLicenseSnapshot.this.skipValue(position);
+				valueRead();
+			}
+		}
+
+		@Override
+		public String getPath() {
+			return "listed license snapshot position "+position;
+		}
+
+		@Override
+		public void close() {
+			// nothing to close - the snapshot buffer is shared
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName()+" at "+getPath();
+		}
+	}
+
+	/**
+	 * Reader passed to the {@link JsonReader} constructor - never read since {@link SnapshotJsonReader}
+	 * overrides every reading method
+	 */
+	private static final Reader UNUSED_READER = new Reader() {
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			throw new AssertionError("The listed license snapshot is not read as characters");
+		}
+
+		@Override
+		public void close() {
+			// nothing to close
+		}
+	};
+}
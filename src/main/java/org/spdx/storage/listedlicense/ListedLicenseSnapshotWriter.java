@@ -0,0 +1,254 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.listedlicense;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+import org.spdx.storage.listedlicense.ExceptionJsonTOC.ExceptionJson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Writes a {@link ListedLicenseSnapshot} from a directory containing the SPDX listed license JSON files
+ * <p>
+ * Run as part of the build, once the main classes are compiled, to generate the snapshot for the bundled
+ * listed licenses:
+ * <pre>
+ * ListedLicenseSnapshotWriter jsonDirectory outputFile
+ * </pre>
+ *
+ * @author Gary O'Neall
+ */
+public class ListedLicenseSnapshotWriter {
+
+	private final Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+	private final ByteArrayOutputStream valueBytes = new ByteArrayOutputStream();
+	private final DataOutputStream values = new DataOutputStream(valueBytes);
+
+	private ListedLicenseSnapshotWriter() {
+		// Only used through the static methods
+	}
+
+	/**
+	 * @param args JSON directory containing the licenses.json and exceptions.json files followed by the output file
+	 * @throws IOException on errors reading the JSON files or writing the snapshot
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			throw new IllegalArgumentException("Usage: ListedLicenseSnapshotWriter jsonDirectory outputFile");
+		}
+		// Runs in the Maven JVM during the build, so errors are thrown rather than calling System.exit
+		try (OutputStream os = new BufferedOutputStream(new FileOutputStream(new File(args[1])))) {
+			write(new File(args[0]), os);
+		}
+	}
+
+	/**
+	 * Write a snapshot of all licenses and exceptions in the JSON directory
+	 * @param jsonDir directory containing the licenses.json and exceptions.json table of contents and the license and exception JSON files
+	 * @param os output stream to write the snapshot to
+	 * @throws IOException on errors reading the JSON files or writing the snapshot
+	 */
+	public static void write(File jsonDir, OutputStream os) throws IOException {
+		Gson gson = new Gson();
+		LicenseJsonTOC licenseToc;
+		try (Reader reader = new InputStreamReader(Files.newInputStream(
+				new File(jsonDir, SpdxListedLicenseModelStore.LICENSE_TOC_FILENAME).toPath()), StandardCharsets.UTF_8)) {
+			licenseToc = gson.fromJson(reader, LicenseJsonTOC.class);
+		}
+		ExceptionJsonTOC exceptionToc;
+		try (Reader reader = new InputStreamReader(Files.newInputStream(
+				new File(jsonDir, SpdxListedLicenseModelStore.EXCEPTION_TOC_FILENAME).toPath()), StandardCharsets.UTF_8)) {
+			exceptionToc = gson.fromJson(reader, ExceptionJsonTOC.class);
+		}
+		if (Objects.isNull(licenseToc) || Objects.isNull(exceptionToc)) {
+			throw new IOException("Missing listed license table of contents in "+jsonDir);
+		}
+		List<String> exceptionIds = new ArrayList<>();
+		for (ExceptionJson exception : exceptionToc.getExceptions()) {
+			exceptionIds.add(exception.getLicenseExceptionId());
+		}
+		new ListedLicenseSnapshotWriter().writeSnapshot(jsonDir, licenseToc.getLicenseListVersion(),
+				licenseToc.getReleaseDate(), new ArrayList<>(licenseToc.getLicenseIds().values()), exceptionIds, os);
+	}
+
+	private void writeSnapshot(File jsonDir, String licenseListVersion, String releaseDate,
+			List<String> licenseIds, List<String> exceptionIds, OutputStream os) throws IOException {
+		int versionIndex = stringIndex(Objects.isNull(licenseListVersion) ? "" : licenseListVersion);
+		int releaseDateIndex = stringIndex(Objects.isNull(releaseDate) ? "" : releaseDate);
+		int[] licenseIndex = encodeEntries(jsonDir, licenseIds);
+		int[] exceptionIndex = encodeEntries(jsonDir, exceptionIds);
+		values.flush();
+
+		DataOutputStream out = new DataOutputStream(os);
+		out.writeInt(ListedLicenseSnapshot.MAGIC);
+		out.writeInt(ListedLicenseSnapshot.FORMAT_VERSION);
+		List<byte[]> encodedStrings = new ArrayList<>(stringIndexes.size());
+		for (String str : stringIndexes.keySet()) {
+			encodedStrings.add(encodeString(str));
+		}
+		out.writeInt(encodedStrings.size());
+		int offset = 0;
+		out.writeInt(offset);
+		for (byte[] encoded : encodedStrings) {
+			offset += encoded.length;
+			out.writeInt(offset);
+		}
+		for (byte[] encoded : encodedStrings) {
+			out.write(encoded);
+		}
+		out.writeInt(versionIndex);
+		out.writeInt(releaseDateIndex);
+		writeIndex(out, licenseIndex);
+		writeIndex(out, exceptionIndex);
+		valueBytes.writeTo(out);
+		out.flush();
+	}
+
+	/**
+	 * Encode the JSON for each of the IDs into the values
+	 * @param jsonDir directory containing the JSON files
+	 * @param ids IDs to encode
+	 * @return pairs of ID string index and value offset
+	 * @throws IOException on errors reading the JSON files
+	 */
+	private int[] encodeEntries(File jsonDir, List<String> ids) throws IOException {
+		int[] retval = new int[ids.size() * 2];
+		for (int i = 0; i < ids.size(); i++) {
+			String id = ids.get(i);
+			JsonElement json;
+			try (Reader reader = new InputStreamReader(Files.newInputStream(
+					new File(jsonDir, id + SpdxListedLicenseModelStore.JSON_SUFFIX).toPath()), StandardCharsets.UTF_8)) {
+				json = JsonParser.parseReader(reader);
+			}
+			retval[i * 2] = stringIndex(id);
+			retval[i * 2 + 1] = values.size();
+			encodeValue(json);
+		}
+		return retval;
+	}
+
+	/**
+	 * @param str string to encode
+	 * @return the string encoding followed by the UTF-8 bytes or, if deflating makes a long string smaller, by the
+	 * length of the UTF-8 bytes and the deflated UTF-8 bytes
+	 * @throws IOException on errors writing the encoding
+	 */
+	private static byte[] encodeString(String str) throws IOException {
+		byte[] utf8 = str.getBytes(StandardCharsets.UTF_8);
+		ByteArrayOutputStream encoded = new ByteArrayOutputStream(utf8.length + 1);
+		DataOutputStream out = new DataOutputStream(encoded);
+		if (utf8.length >= ListedLicenseSnapshot.MIN_DEFLATED_STRING_LENGTH) {
+			byte[] deflated = deflate(utf8);
+			if (deflated.length + 4 < utf8.length) {
+				out.writeByte(ListedLicenseSnapshot.STRING_DEFLATED);
+				out.writeInt(utf8.length);
+				out.write(deflated);
+				return encoded.toByteArray();
+			}
+		}
+		out.writeByte(ListedLicenseSnapshot.STRING_UTF8);
+		out.write(utf8);
+		return encoded.toByteArray();
+	}
+
+	private static byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream retval = new ByteArrayOutputStream(bytes.length / 2);
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				retval.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return retval.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private void writeIndex(DataOutputStream out, int[] index) throws IOException {
+		out.writeInt(index.length / 2);
+		for (int entry : index) {
+			out.writeInt(entry);
+		}
+	}
+
+	private int stringIndex(String str) {
+		Integer retval = stringIndexes.get(str);
+		if (Objects.isNull(retval)) {
+			retval = stringIndexes.size();
+			stringIndexes.put(str, retval);
+		}
+		return retval;
+	}
+
+	private void encodeValue(JsonElement json) throws IOException {
+		if (json.isJsonNull()) {
+			values.writeByte(ListedLicenseSnapshot.TAG_NULL);
+		} else if (json.isJsonArray()) {
+			JsonArray array = json.getAsJsonArray();
+			values.writeByte(ListedLicenseSnapshot.TAG_ARRAY);
+			values.writeInt(array.size());
+			for (JsonElement element : array) {
+				encodeValue(element);
+			}
+		} else if (json.isJsonObject()) {
+			JsonObject object = json.getAsJsonObject();
+			values.writeByte(ListedLicenseSnapshot.TAG_OBJECT);
+			values.writeInt(object.size());
+			for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+				values.writeInt(stringIndex(entry.getKey()));
+				encodeValue(entry.getValue());
+			}
+		} else {
+			JsonPrimitive primitive = json.getAsJsonPrimitive();
+			if (primitive.isBoolean()) {
+				values.writeByte(primitive.getAsBoolean() ? ListedLicenseSnapshot.TAG_TRUE : ListedLicenseSnapshot.TAG_FALSE);
+			} else if (primitive.isNumber()) {
+				values.writeByte(ListedLicenseSnapshot.TAG_NUMBER);
+				values.writeInt(stringIndex(primitive.getAsString()));
+			} else {
+				values.writeByte(ListedLicenseSnapshot.TAG_STRING);
+				values.writeInt(stringIndex(primitive.getAsString()));
+			}
+		}
+	}
+}
@@ -19,22 +19,95 @@ package org.spdx.storage.listedlicense;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.Objects;
 
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.spdx.core.InvalidSPDXAnalysisException;
 
 
 /**
  * Model store for listed licenses using the JSON files in the resources/stdlicenses directory.
  * Note the resources/stdlicenses must be on the build path.
+ * <p>
+ * If a {@link ListedLicenseSnapshot} generated from the same license list is available in the
+ * resources/stdlicenses directory, the license and exception JSON is read from the snapshot
+ * rather than parsed from the individual JSON files.
  *
  * @author Gary O'Neall
  */
 public class SpdxListedLicenseLocalStore extends SpdxListedLicenseModelStore {
 	
+	static final Logger logger = LoggerFactory.getLogger(SpdxListedLicenseLocalStore.class);
+	
 	static final String LISTED_LICENSE_JSON_LOCAL_DIR = "resources" + "/" + "stdlicenses";
 	
+	static final String SNAPSHOT_FILENAME = "listed-licenses.snapshot";
+	
+	/**
+	 * Snapshot of the license and exception JSON - null if no current snapshot is available
+	 */
+	private final @Nullable ListedLicenseSnapshot snapshot;
+	
 	public SpdxListedLicenseLocalStore() throws InvalidSPDXAnalysisException {
 		super();
+		snapshot = openSnapshot(SpdxListedLicenseLocalStore.class.getResource(
+				"/" + LISTED_LICENSE_JSON_LOCAL_DIR + "/" + SNAPSHOT_FILENAME));
+	}
+	
+	/**
+	 * @param snapshotUrl URL for the snapshot - may be null if the snapshot is not available
+	 * @return the snapshot if it is available and was generated from the same license list as the JSON table of contents, otherwise null
+	 */
+	@Nullable ListedLicenseSnapshot openSnapshot(@Nullable URL snapshotUrl) {
+		if (Objects.isNull(snapshotUrl)) {
+			logger.debug("No listed license snapshot found - using the JSON files");
+			return null;
+		}
+		try {
+			ListedLicenseSnapshot retval = ListedLicenseSnapshot.open(snapshotUrl);
+			if (!retval.isCurrent(getLicenseListVersion(), getSpdxListedLicenseIds(), getSpdxListedExceptionIds())) {
+				logger.warn("Listed license snapshot version {} does not match the license list version {} - using the JSON files",
+						retval.getLicenseListVersion(), getLicenseListVersion());
+				return null;
+			}
+			return retval;
+		} catch (IOException e) {
+			logger.warn("Unable to open the listed license snapshot - using the JSON files", e);
+			return null;
+		}
+	}
+	
+	/**
+	 * @return the snapshot used to read the license and exception JSON or null if the JSON files are used
+	 */
+	public @Nullable ListedLicenseSnapshot getSnapshot() {
+		return snapshot;
+	}
+	
+	@Override
+	protected LicenseJson readLicenseJson(String id) throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(snapshot)) {
+			LicenseJson retval = snapshot.getLicense(id, gson);
+			if (Objects.nonNull(retval)) {
+				return retval;
+			}
+		}
+		return super.readLicenseJson(id);
+	}
+	
+	@Override
+	protected ExceptionJson readExceptionJson(String id) throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(snapshot)) {
+			ExceptionJson retval = snapshot.getException(id, gson);
+			if (Objects.nonNull(retval)) {
+				return retval;
+			}
+		}
+		return super.readExceptionJson(id);
 	}
 
 	@Override
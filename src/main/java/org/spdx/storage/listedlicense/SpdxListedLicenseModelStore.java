@@ -33,6 +33,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
@@ -78,15 +84,33 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	public static final String LISTED_LICENSE_NAMESPACE = SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX;
 	
 	/**
-	 * Map of lower case to correct case license IDs
+	 * Map of lower case to correct case license IDs - some readers do not take the listedLicenseModificationLock.
+	 * Replaced only while holding the write lock.
 	 */
-	Map<String, String> licenseIds = new HashMap<>();
+	volatile Map<String, String> licenseIds = new ConcurrentHashMap<>();
 	/**
-	 * Map of lower case to correct case exception IDs
+	 * Map of lower case to correct case exception IDs - some readers do not take the listedLicenseModificationLock.
+	 * Replaced only while holding the write lock.
 	 */
-	Map<String, String> exceptionIds = new HashMap<>();
-	Map<String, LicenseJson> listedLicenseCache = null;
-	Map<String, ExceptionJson> listedExceptionCache = null;
+	volatile Map<String, String> exceptionIds = new ConcurrentHashMap<>();
+	/**
+	 * Cache of license JSON by case sensitive ID - read without taking the listedLicenseModificationLock.
+	 * Replaced only while holding the write lock.
+	 */
+	volatile ConcurrentHashMap<String, LicenseJson> listedLicenseCache = null;
+	/**
+	 * Cache of exception JSON by case sensitive ID - read without taking the listedLicenseModificationLock.
+	 * Replaced only while holding the write lock.
+	 */
+	volatile ConcurrentHashMap<String, ExceptionJson> listedExceptionCache = null;
+	/**
+	 * License JSON currently being loaded by case sensitive ID
+	 */
+	private final ConcurrentHashMap<String, FutureTask<LicenseJson>> pendingLicenseLoads = new ConcurrentHashMap<>();
+	/**
+	 * Exception JSON currently being loaded by case sensitive ID
+	 */
+	private final ConcurrentHashMap<String, FutureTask<ExceptionJson>> pendingExceptionLoads = new ConcurrentHashMap<>();
 	Map<String, CrossRefJson> crossRefs = new HashMap<>();
 	String licenseListVersion = DEFAULT_LICENSE_LIST_VERSION;
 	String licenseListReleaseDate = new SimpleDateFormat(SpdxConstantsCompatV2.SPDX_DATE_FORMAT).format(new Date());
@@ -100,7 +124,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	
 	private final IModelStoreLock writeLock = () -> listedLicenseModificationLock.writeLock().unlock();
 
-	Gson gson = new Gson();	// we should be able to reuse since all access is within write locks
+	Gson gson = new Gson();	// Gson instances are thread safe
 	
 	public static String objectUriToLicenseOrExceptionId(String objectUri) {
 		return objectUri.substring(LISTED_LICENSE_NAMESPACE.length());
@@ -150,9 +174,6 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	private void loadIds() throws InvalidSPDXAnalysisException {
         listedLicenseModificationLock.writeLock().lock();
         try {
-            listedLicenseCache = new HashMap<>(); // clear the cache
-            listedExceptionCache = new HashMap<>();
-            licenseIds = new HashMap<>(); //Clear the listed license IDs to avoid stale licenses.
              //NOTE: This includes deprecated licenses - should this be changed to only return non-deprecated licenses?
             InputStream tocStream;
             BufferedReader reader = null;
@@ -166,9 +187,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
                 	tocJsonStr.append(line);
                 }
                 LicenseJsonTOC jsonToc = gson.fromJson(tocJsonStr.toString(), LicenseJsonTOC.class);
-                licenseIds = jsonToc.getLicenseIds();
-                this.licenseListVersion = jsonToc.getLicenseListVersion();
-                this.licenseListReleaseDate = jsonToc.getReleaseDate();
+                Map<String, String> newLicenseIds = new ConcurrentHashMap<>(jsonToc.getLicenseIds());
                 
                 // read the exception ID's
                 tocStream = getExceptionTocInputStream();
@@ -178,7 +197,14 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
                 	tocJsonStr.append(line);
                 }
                 ExceptionJsonTOC exceptionToc = gson.fromJson(tocJsonStr.toString(), ExceptionJsonTOC.class);
-                exceptionIds = exceptionToc.getExceptionIds();
+                Map<String, String> newExceptionIds = new ConcurrentHashMap<>(exceptionToc.getExceptionIds());
+                // publish fully built maps - lock free readers never observe a partially loaded or cleared map
+                listedLicenseCache = new ConcurrentHashMap<>(); // clear the cache
+                listedExceptionCache = new ConcurrentHashMap<>();
+                licenseIds = newLicenseIds;	// replaces the listed license IDs to avoid stale licenses
+                exceptionIds = newExceptionIds;
+                this.licenseListVersion = jsonToc.getLicenseListVersion();
+                this.licenseListReleaseDate = jsonToc.getReleaseDate();
             } catch (MalformedURLException e) {
 				logger.error("License TOC URL invalid", e);
 				throw new SpdxListedLicenseException("License TOC URL invalid", e) ;
@@ -297,24 +323,35 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 			return LicenseCreatorAgent.ALL_PROPERTY_DESCRIPTORS;
 		}
 		String id = objectUriToId(objectUri);
-		listedLicenseModificationLock.writeLock().lock();
+		boolean isLicenseId = false;
+		boolean isExceptionId = false;
+		CrossRefJson crossRef = null;
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
-				LicenseJson license = fetchLicenseJson(licenseIds.get(id.toLowerCase()));
-				return license.getPropertyValueDescriptors();
-				// NOTE: we're returning both version 2 and version 3 property value descriptors
+				isLicenseId = true;
 			} else if (exceptionIds.containsKey(id.toLowerCase())) {
-				ExceptionJson exc = fetchExceptionJson(exceptionIds.get(id.toLowerCase()));
-				return exc.getPropertyValueDescriptors();
+				isExceptionId = true;
 			} else if (crossRefs.containsKey(id)) {
-				return crossRefs.get(id).getPropertyValueDescriptors();
-				// Currently, there is no SPDX 3 support for cross refs
-			} else {
-                logger.error("ID {} is not a listed license ID, crossRef ID nor a listed exception ID", id);
-				throw new SpdxIdNotFoundException("ID "+id+" is not a listed license ID. crossRef ID nor a listed exception ID");
+				crossRef = crossRefs.get(id);
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
+		}
+		// the JSON is fetched outside the lock since it may require I/O
+		if (isLicenseId) {
+			LicenseJson license = fetchLicenseJson(id);
+			return license.getPropertyValueDescriptors();
+			// NOTE: we're returning both version 2 and version 3 property value descriptors
+		} else if (isExceptionId) {
+			ExceptionJson exc = fetchExceptionJson(id);
+			return exc.getPropertyValueDescriptors();
+		} else if (Objects.nonNull(crossRef)) {
+			return crossRef.getPropertyValueDescriptors();
+			// Currently, there is no SPDX 3 support for cross refs
+		} else {
+            logger.error("ID {} is not a listed license ID, crossRef ID nor a listed exception ID", id);
+			throw new SpdxIdNotFoundException("ID "+id+" is not a listed license ID. crossRef ID nor a listed exception ID");
 		}
 	}
 
@@ -324,69 +361,17 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
 	 */
 	private LicenseJson fetchLicenseJson(String idCaseInsensitive) throws InvalidSPDXAnalysisException {
-		String idLowerCase = idCaseInsensitive.toLowerCase();
-		String id;
-		listedLicenseModificationLock.readLock().lock();
-		try {
-			id = this.licenseIds.get(idLowerCase);
-			if (Objects.isNull(id)) {
-                logger.error("Attempting to get property values on non-existent ID {}", idCaseInsensitive);
-				throw new SpdxIdNotFoundException("ID "+idCaseInsensitive+" not found.");
-			}
-			if (this.listedLicenseCache.containsKey(id)) {
-				return this.listedLicenseCache.get(id);
-			}
-		} finally {
-			listedLicenseModificationLock.readLock().unlock();
+		String id = this.licenseIds.get(idCaseInsensitive.toLowerCase());
+		if (Objects.isNull(id)) {
+            logger.error("Attempting to get property values on non-existent ID {}", idCaseInsensitive);
+			throw new SpdxIdNotFoundException("ID "+idCaseInsensitive+" not found.");
 		}
-		// If we got here, it wasn't in the cache
-		listedLicenseModificationLock.writeLock().lock();
-		try {
-			// have to retest since we were unlocked
-			id = this.licenseIds.get(idLowerCase);
-			if (Objects.isNull(id)) {
-                logger.error("Attempting to get property values on non-existent ID {}", idCaseInsensitive);
-				throw new SpdxIdNotFoundException("ID "+idCaseInsensitive+" not found.");
-			}
-			if (!this.listedLicenseCache.containsKey(id)) {
-	            InputStream jsonStream = null;
-	            BufferedReader reader = null;
-	            try {
-	            	jsonStream = getLicenseInputStream(id);
-	                reader = new BufferedReader(new InputStreamReader(jsonStream, StandardCharsets.UTF_8));
-	                StringBuilder licenseJsonStr = new StringBuilder();
-	                String line;
-	                while((line = reader.readLine()) != null) {
-	                	licenseJsonStr.append(line);
-	                }
-	                LicenseJson license = gson.fromJson(licenseJsonStr.toString(), LicenseJson.class);
-	                this.listedLicenseCache.put(id, license);
-	            } catch (MalformedURLException e) {
-                    logger.error("Json license invalid for ID {}", id, e);
-					throw new SpdxListedLicenseException("JSON license URL invalid for ID "+id, e);
-				} catch (IOException e) {
-					logger.error("I/O error opening Json license URL", e);
-					throw new SpdxListedLicenseException("I/O Error reading license data for ID "+id, e);
-				} finally {
-	            	if (reader != null) {
-	            		try {
-							reader.close();
-						} catch (IOException e) {
-							logger.warn("Unable to close JSON TOC reader", e);
-						}
-	            	} else if (jsonStream != null) {
-	            		try {
-							jsonStream.close();
-						} catch (IOException e) {
-							logger.warn("Unable to close JSON TOC input stream", e);
-						}
-	            	}
-				}
-			}
-			return this.listedLicenseCache.get(id);
-		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+		LicenseJson license = this.listedLicenseCache.get(id);
+		if (Objects.nonNull(license)) {
+			return license;
 		}
+		// If we got here, it wasn't in the cache
+		return fetchJson(id, listedLicenseCache, pendingLicenseLoads, () -> readLicenseJson(id));
 	}
 	
 	/**
@@ -395,68 +380,256 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	 * @throws InvalidSPDXAnalysisException on IO errors
 	 */
 	private ExceptionJson fetchExceptionJson(String idCaseInsensitive) throws InvalidSPDXAnalysisException {
-		String idLower = idCaseInsensitive.toLowerCase();
-		String id; // case sensitive ID
-		listedLicenseModificationLock.readLock().lock();
+		String id = this.exceptionIds.get(idCaseInsensitive.toLowerCase()); // case sensitive ID
+		if (Objects.isNull(id)) {
+            logger.error("Attempting to get property values on non-existent ID {}", idCaseInsensitive);
+			throw new SpdxIdNotFoundException("ID "+idCaseInsensitive+" not found.");
+		}
+		ExceptionJson exc = this.listedExceptionCache.get(id);
+		if (Objects.nonNull(exc)) {
+			return exc;
+		}
+		// If we got here, it wasn't in the cache
+		return fetchJson(id, listedExceptionCache, pendingExceptionLoads, () -> readExceptionJson(id));
+	}
+	
+	/**
+	 * Load the JSON for an ID not found in the cache.  Only one thread loads the JSON for any given ID - any
+	 * other threads requesting the same ID wait for the load to complete.  Requests for other IDs are not blocked.
+	 * @param id case sensitive license or exception ID
+	 * @param cache cache to store the loaded JSON
+	 * @param pendingLoads loads currently in progress
+	 * @param loader reads the JSON from the input stream
+	 * @return the JSON for the ID
+	 * @throws InvalidSPDXAnalysisException on errors reading the JSON
+	 */
+	private <T> T fetchJson(String id, ConcurrentHashMap<String, T> cache,
+			ConcurrentHashMap<String, FutureTask<T>> pendingLoads, Callable<T> loader) throws InvalidSPDXAnalysisException {
+		FutureTask<T> load = pendingLoads.get(id);
+		if (Objects.isNull(load)) {
+			FutureTask<T> newLoad = new FutureTask<>(() -> {
+				// have to retest since a previous load may have completed after we checked the cache
+				T cached = cache.get(id);
+				if (Objects.nonNull(cached)) {
+					return cached;
+				}
+				T loaded = loader.call();
+				T previous = cache.putIfAbsent(id, loaded);
+				return Objects.nonNull(previous) ? previous : loaded;
+			});
+			load = pendingLoads.putIfAbsent(id, newLoad);
+			if (Objects.isNull(load)) {
+				load = newLoad;
+				try {
+					newLoad.run();
+				} finally {
+					pendingLoads.remove(id, newLoad);
+				}
+			}
+		}
+		try {
+			return load.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SpdxListedLicenseException("Interrupted loading license data for ID "+id, e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof InvalidSPDXAnalysisException) {
+				throw (InvalidSPDXAnalysisException)e.getCause();
+			} else if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else {
+				throw new SpdxListedLicenseException("Error reading license data for ID "+id, e.getCause());
+			}
+		}
+	}
+	
+	/**
+	 * Decode all listed licenses and exceptions not already cached in parallel, then publish them to the cache
+	 * <p>
+	 * Each cache is published by replacing it with a fully built copy in a single volatile write, so a reader
+	 * which does not take the listedLicenseModificationLock sees either none or all of the preloaded licenses
+	 * (or exceptions).  The license and exception caches are replaced one after the other, not together.
+	 * A license loaded on first use into the replaced cache while the copy is being built is loaded again on
+	 * its next use.
+	 */
+	@Override
+	public ListedLicensePreloadResult preload(ExecutorService executor) throws InvalidSPDXAnalysisException {
+		long startTime = System.nanoTime();
+		ConcurrentHashMap<String, LicenseJson> startLicenseCache = listedLicenseCache;
+		ConcurrentHashMap<String, ExceptionJson> startExceptionCache = listedExceptionCache;
+		List<String> licenseIdsToDecode = new ArrayList<>();
+		List<String> exceptionIdsToDecode = new ArrayList<>();
+		int licensesAlreadyCached = 0;
+		int exceptionsAlreadyCached = 0;
+		for (String id : getSpdxListedLicenseIds()) {
+			if (startLicenseCache.containsKey(id)) {
+				licensesAlreadyCached++;
+			} else {
+				licenseIdsToDecode.add(id);
+			}
+		}
+		for (String id : getSpdxListedExceptionIds()) {
+			if (startExceptionCache.containsKey(id)) {
+				exceptionsAlreadyCached++;
+			} else {
+				exceptionIdsToDecode.add(id);
+			}
+		}
+		List<String> failedIds = new ArrayList<>();
+		Map<String, Future<LicenseJson>> licenseDecodes = new HashMap<>();
+		Map<String, Future<ExceptionJson>> exceptionDecodes = new HashMap<>();
+		Map<String, LicenseJson> decodedLicenses;
+		Map<String, ExceptionJson> decodedExceptions;
 		try {
-			id = this.exceptionIds.get(idLower);
-			if (Objects.isNull(id)) {
-                logger.error("Attempting to get property values on non-existent ID {}", idCaseInsensitive);
-				throw new SpdxIdNotFoundException("ID "+idCaseInsensitive+" not found.");
+			for (String id : licenseIdsToDecode) {
+				licenseDecodes.put(id, executor.submit(() -> readLicenseJson(id)));
 			}
-			if (this.listedExceptionCache.containsKey(id)) {
-				return this.listedExceptionCache.get(id);
+			for (String id : exceptionIdsToDecode) {
+				exceptionDecodes.put(id, executor.submit(() -> readExceptionJson(id)));
 			}
+			decodedLicenses = collectDecoded(licenseDecodes, failedIds);
+			decodedExceptions = collectDecoded(exceptionDecodes, failedIds);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SpdxListedLicenseException("Interrupted preloading the listed licenses", e);
 		} finally {
-			listedLicenseModificationLock.readLock().unlock();
+			// no-op for completed decodes
+			for (Future<?> decode : licenseDecodes.values()) {
+				decode.cancel(true);
+			}
+			for (Future<?> decode : exceptionDecodes.values()) {
+				decode.cancel(true);
+			}
 		}
-		// If we got here, it wasn't in the cache
+		long publishStartTime = System.nanoTime();
+		// the write lock only excludes other cache replacements - readers of the cache do not take a lock
 		listedLicenseModificationLock.writeLock().lock();
 		try {
-			// have to retest since we were unlocked
-			id = this.exceptionIds.get(idLower);
-			if (Objects.isNull(id)) {
-                logger.error("Attempting to get property values on non-existent ID {}", idCaseInsensitive);
-				throw new SpdxIdNotFoundException("ID "+idCaseInsensitive+" not found.");
+			if (listedLicenseCache == startLicenseCache && listedExceptionCache == startExceptionCache) {
+				listedLicenseCache = withDecoded(startLicenseCache, decodedLicenses);
+				listedExceptionCache = withDecoded(startExceptionCache, decodedExceptions);
+			} else {
+				// the IDs were reloaded during the preload - the decoded JSON may be stale
+				logger.warn("Listed licenses were reloaded during the preload - discarding the preloaded licenses");
 			}
-			if (!this.listedExceptionCache.containsKey(id)) {
-	            InputStream jsonStream = null;
-	            BufferedReader reader = null;
-	            try {
-	            	jsonStream = getExceptionInputStream(id);
-	                reader = new BufferedReader(new InputStreamReader(jsonStream, StandardCharsets.UTF_8));
-	                StringBuilder exceptionJsonStr = new StringBuilder();
-	                String line;
-	                while((line = reader.readLine()) != null) {
-	                	exceptionJsonStr.append(line);
-	                }
-	                ExceptionJson exc = gson.fromJson(exceptionJsonStr.toString(), ExceptionJson.class);
-	                this.listedExceptionCache.put(id, exc);
-	            } catch (MalformedURLException e) {
-                    logger.error("Json license invalid for ID {}", id);
-					throw new SpdxListedLicenseException("JSON license URL invalid for ID "+id, e);
+		} finally {
+			listedLicenseModificationLock.writeLock().unlock();
+		}
+		return new ListedLicensePreloadResult(decodedLicenses.size(), licensesAlreadyCached,
+				decodedExceptions.size(), exceptionsAlreadyCached, failedIds,
+				publishStartTime - startTime, System.nanoTime() - publishStartTime);
+	}
+	
+	/**
+	 * @param cache current cache
+	 * @param decoded decoded JSON by case sensitive ID
+	 * @return a new cache containing the current cache entries and any decoded JSON not already cached
+	 */
+	private static <T> ConcurrentHashMap<String, T> withDecoded(ConcurrentHashMap<String, T> cache, Map<String, T> decoded) {
+		ConcurrentHashMap<String, T> retval = new ConcurrentHashMap<>(cache);
+		for (Map.Entry<String, T> entry : decoded.entrySet()) {
+			retval.putIfAbsent(entry.getKey(), entry.getValue());
+		}
+		return retval;
+	}
+	
+	/**
+	 * Wait for the decodes to complete, collecting the decoded JSON
+	 * @param decodes decodes by case sensitive ID
+	 * @param failedIds list to add the IDs of any failed decodes to
+	 * @return map of ID to decoded JSON for all successful decodes
+	 * @throws InterruptedException if interrupted while waiting for a decode
+	 */
+	private <T> Map<String, T> collectDecoded(Map<String, Future<T>> decodes, List<String> failedIds) throws InterruptedException {
+		Map<String, T> retval = new HashMap<>();
+		for (Map.Entry<String, Future<T>> decode : decodes.entrySet()) {
+			try {
+				retval.put(decode.getKey(), decode.getValue().get());
+			} catch (ExecutionException e) {
+				logger.warn("Unable to preload license data for ID {}", decode.getKey(), e.getCause());
+				failedIds.add(decode.getKey());
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * @param id case sensitive license ID
+	 * @return License JSON read from the input stream
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 */
+	protected LicenseJson readLicenseJson(String id) throws InvalidSPDXAnalysisException {
+        InputStream jsonStream = null;
+        BufferedReader reader = null;
+        try {
+        	jsonStream = getLicenseInputStream(id);
+            reader = new BufferedReader(new InputStreamReader(jsonStream, StandardCharsets.UTF_8));
+            StringBuilder licenseJsonStr = new StringBuilder();
+            String line;
+            while((line = reader.readLine()) != null) {
+            	licenseJsonStr.append(line);
+            }
+            return gson.fromJson(licenseJsonStr.toString(), LicenseJson.class);
+        } catch (MalformedURLException e) {
+            logger.error("Json license invalid for ID {}", id, e);
+			throw new SpdxListedLicenseException("JSON license URL invalid for ID "+id, e);
+		} catch (IOException e) {
+			logger.error("I/O error opening Json license URL", e);
+			throw new SpdxListedLicenseException("I/O Error reading license data for ID "+id, e);
+		} finally {
+        	if (reader != null) {
+        		try {
+					reader.close();
 				} catch (IOException e) {
-					logger.error("I/O error opening Json license URL");
-					throw new SpdxListedLicenseException("I/O Error reading license data for ID "+id, e);
-				} finally {
-	            	if (reader != null) {
-	            		try {
-							reader.close();
-						} catch (IOException e) {
-							logger.warn("Unable to close JSON TOC reader", e);
-						}
-	            	} else if (jsonStream != null) {
-	            		try {
-							jsonStream.close();
-						} catch (IOException e) {
-							logger.warn("Unable to close JSON TOC input stream", e);
-						}
-	            	}
+					logger.warn("Unable to close JSON TOC reader", e);
 				}
-			}
-			return this.listedExceptionCache.get(id);
+        	} else if (jsonStream != null) {
+        		try {
+					jsonStream.close();
+				} catch (IOException e) {
+					logger.warn("Unable to close JSON TOC input stream", e);
+				}
+        	}
+		}
+	}
+	
+	/**
+	 * @param id case sensitive exception ID
+	 * @return Exception JSON read from the input stream
+	 * @throws InvalidSPDXAnalysisException on IO errors
+	 */
+	protected ExceptionJson readExceptionJson(String id) throws InvalidSPDXAnalysisException {
+        InputStream jsonStream = null;
+        BufferedReader reader = null;
+        try {
+        	jsonStream = getExceptionInputStream(id);
+            reader = new BufferedReader(new InputStreamReader(jsonStream, StandardCharsets.UTF_8));
+            StringBuilder exceptionJsonStr = new StringBuilder();
+            String line;
+            while((line = reader.readLine()) != null) {
+            	exceptionJsonStr.append(line);
+            }
+            return gson.fromJson(exceptionJsonStr.toString(), ExceptionJson.class);
+        } catch (MalformedURLException e) {
+            logger.error("Json license invalid for ID {}", id);
+			throw new SpdxListedLicenseException("JSON license URL invalid for ID "+id, e);
+		} catch (IOException e) {
+			logger.error("I/O error opening Json license URL");
+			throw new SpdxListedLicenseException("I/O Error reading license data for ID "+id, e);
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+        	if (reader != null) {
+        		try {
+					reader.close();
+				} catch (IOException e) {
+					logger.warn("Unable to close JSON TOC reader", e);
+				}
+        	} else if (jsonStream != null) {
+        		try {
+					jsonStream.close();
+				} catch (IOException e) {
+					logger.warn("Unable to close JSON TOC input stream", e);
+				}
+        	}
 		}
 	}
 
@@ -678,7 +851,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 		boolean isLicenseId = false;
 		boolean isExceptionId = false;
 		CrossRefJson crossRef = null;
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				isLicenseId = true;
@@ -688,7 +861,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 				crossRef = crossRefs.get(id);
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 		if (isLicenseId) {
 			LicenseJson license = fetchLicenseJson(id);
@@ -765,7 +938,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 		boolean isLicenseId = false;
 		boolean isExceptionId = false;
 		CrossRefJson crossRef = null;
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				isLicenseId = true;
@@ -775,7 +948,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 				crossRef = crossRefs.get(id);
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 		if (SpdxConstantsV3.PROP_CREATION_INFO.equals(propertyDescriptor) && (isLicenseId || isExceptionId)) {
 			return Optional.of(licenseCreationInfo.getTypedValue());
@@ -890,7 +1063,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 			return Optional.of(licenseCreator.getTypedValue());
 		}
 		String id = objectUriToId(objectUri);
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				return Optional.of(new TypedValue(objectUri, SpdxConstantsV3.EXPANDED_LICENSING_LISTED_LICENSE, SpdxConstantsV3.MODEL_SPEC_VERSION));
@@ -903,7 +1076,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 				return Optional.empty();
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 	}
 	
@@ -949,7 +1122,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	@Override
 	public Stream<TypedValue> getAllItems(@Nullable String documentUri, @Nullable String typeFilter)
 			throws InvalidSPDXAnalysisException {
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			List<TypedValue> allItems = new ArrayList<>();
 			if (SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE.equals(typeFilter)) {
@@ -985,7 +1158,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 			}
 			return Collections.unmodifiableList(allItems).stream();
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 	}
 
@@ -1000,7 +1173,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 		boolean isLicenseId = false;
 		boolean isExceptionId = false;
 		CrossRefJson crossRef = null;
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				isLicenseId = true;
@@ -1010,7 +1183,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 				crossRef = crossRefs.get(id);
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 		if (isLicenseId) {
 			LicenseJson license = fetchLicenseJson(id);
@@ -1039,7 +1212,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 		boolean isLicenseId = false;
 		boolean isExceptionId = false;
 		CrossRefJson crossRef = null;
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				isLicenseId = true;
@@ -1049,7 +1222,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 				crossRef = crossRefs.get(id);
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 		if (isLicenseId) {
 			LicenseJson license = fetchLicenseJson(id);
@@ -1087,7 +1260,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 		boolean isLicenseId = false;
 		boolean isExceptionId = false;
 		CrossRefJson crossRef = null;
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				isLicenseId = true;
@@ -1097,7 +1270,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 				crossRef = crossRefs.get(id);
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 		if (isLicenseId) {
 			return LicenseJson.isCollectionMembersAssignableTo(propertyDescriptor, clazz);
@@ -1124,7 +1297,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 		boolean isLicenseId = false;
 		boolean isExceptionId = false;
 		CrossRefJson crossRef = null;
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				isLicenseId = true;
@@ -1134,7 +1307,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 				crossRef = crossRefs.get(id);
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 		if (isLicenseId) {
 			LicenseJson license = fetchLicenseJson(id);
@@ -1162,7 +1335,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 		boolean isLicenseId = false;
 		boolean isExceptionId = false;
 		CrossRefJson crossRef = null;
-		listedLicenseModificationLock.writeLock().lock();
+		listedLicenseModificationLock.readLock().lock();
 		try {
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				isLicenseId = true;
@@ -1172,7 +1345,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 				crossRef = crossRefs.get(id);
 			}
 		} finally {
-			listedLicenseModificationLock.writeLock().unlock();
+			listedLicenseModificationLock.readLock().unlock();
 		}
 		if (isLicenseId) {
 			LicenseJson license = fetchLicenseJson(id);
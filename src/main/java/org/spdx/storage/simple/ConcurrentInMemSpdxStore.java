@@ -0,0 +1,425 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.DuplicateSpdxIdException;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.SpdxIdInUseException;
+import org.spdx.core.SpdxIdNotFoundException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * In memory SPDX store optimized for concurrent updates from many threads
+ * <p>
+ * Items are sharded by a hash of the object URI.  Each shard has its own map and read/write lock, so
+ * threads updating different items do not contend on a single store wide lock as they do
+ * in {@link InMemSpdxStore}:
+ * <ul>
+ * <li>Updates take the read lock for the shard of the updated item and the read locks for the shards of
+ * the items referenced by the new and replaced values.</li>
+ * <li>Deletes take the write lock for the shard of the deleted item, so an item can not be deleted while a
+ * reference to it is being added and references from an item can not be changed while it is being deleted.</li>
+ * <li>Updates for an item are synchronized on the item, so reference counts stay consistent with the
+ * stored values.  Collection reads do not lock.</li>
+ * </ul>
+ * <p>
+ * <code>getAllItems</code> returns items in creation order, consistent with {@link InMemSpdxStore}.
+ *
+ * @author Gary O'Neall
+ */
+public class ConcurrentInMemSpdxStore extends InMemSpdxStore {
+
+	/**
+	 * Default number of shards - should be larger than the expected number of concurrent threads
+	 */
+	public static final int DEFAULT_SHARD_COUNT = 64;
+
+	private final ConcurrentHashMap<String, StoredTypedItem>[] shards;
+	private final ReadWriteLock[] shardLocks;
+	private final int shardMask;
+
+	/**
+	 * Update to an item made while holding the locks for the item and the items referenced by its values
+	 */
+	@FunctionalInterface
+	private interface ReferenceUpdate<T> {
+		T apply(StoredTypedItem item, @Nullable Object previousValue) throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Create a store with the default number of shards
+	 */
+	public ConcurrentInMemSpdxStore() {
+		this(DEFAULT_SHARD_COUNT);
+	}
+
+	/**
+	 * @param shardCount number of shards - rounded up to a power of 2
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentInMemSpdxStore(int shardCount) {
+		super();
+		if (shardCount < 1) {
+			throw new IllegalArgumentException("Shard count must be positive");
+		}
+		int size = Integer.highestOneBit(shardCount);
+		if (size < shardCount) {
+			size = size << 1;
+		}
+		shards = new ConcurrentHashMap[size];
+		shardLocks = new ReadWriteLock[size];
+		for (int i = 0; i < size; i++) {
+			shards[i] = new ConcurrentHashMap<>();
+			shardLocks[i] = new ReentrantReadWriteLock();
+		}
+		shardMask = size - 1;
+	}
+
+	/**
+	 * @return number of shards
+	 */
+	public int getShardCount() {
+		return shards.length;
+	}
+
+	/**
+	 * @param key lower case object URI
+	 * @return shard index for the key
+	 */
+	private int shardIndex(String key) {
+		int h = key.hashCode();
+		return (h ^ (h >>> 16)) & shardMask;
+	}
+
+	/**
+	 * Lock the read locks for the shards of the object URIs in shard order
+	 * @param objectUri object URI for the item being updated
+	 * @param referencedObjectUri object URI for the item being referenced - may be null
+	 * @return locks to unlock in reverse order
+	 */
+	private Lock[] lockShardsForUpdate(String objectUri, @Nullable String referencedObjectUri) {
+		BitSet shardSet = new BitSet(shards.length);
+		shardSet.set(shardIndex(objectUri.toLowerCase()));
+		if (Objects.nonNull(referencedObjectUri)) {
+			shardSet.set(shardIndex(referencedObjectUri.toLowerCase()));
+		}
+		return lockShards(shardSet);
+	}
+
+	/**
+	 * Lock the read locks for the shards in shard order
+	 * @param shardSet indexes of the shards to lock
+	 * @return locks to unlock in reverse order
+	 */
+	private Lock[] lockShards(BitSet shardSet) {
+		Lock[] locks = new Lock[shardSet.cardinality()];
+		int count = 0;
+		try {
+			for (int i = shardSet.nextSetBit(0); i >= 0; i = shardSet.nextSetBit(i + 1)) {
+				Lock lock = shardLocks[i].readLock();
+				lock.lock();
+				locks[count++] = lock;
+			}
+		} catch (RuntimeException e) {
+			for (int i = count - 1; i >= 0; i--) {
+				locks[i].unlock();
+			}
+			throw e;
+		}
+		return locks;
+	}
+
+	/**
+	 * Add the shards for the items referenced by a value
+	 * @param shardSet indexes of the shards - updated
+	 * @param value typed value or collection which may reference other items
+	 * @return the updated shard set
+	 */
+	private BitSet addReferencedShards(BitSet shardSet, @Nullable Object value) {
+		if (value instanceof TypedValue) {
+			shardSet.set(shardIndex(((TypedValue)value).getObjectUri().toLowerCase()));
+		} else if (value instanceof StoredCollection) {
+			Iterator<Object> iter = ((StoredCollection)value).iterator();
+			while (iter.hasNext()) {
+				Object member = iter.next();
+				if (member instanceof TypedValue) {
+					shardSet.set(shardIndex(((TypedValue)member).getObjectUri().toLowerCase()));
+				}
+			}
+		}
+		return shardSet;
+	}
+
+	/**
+	 * Update a property which replaces or removes the previous value of the property
+	 * <p>
+	 * The read locks are taken for the shard of the item and the shards of the items referenced by the new
+	 * and previous values.  If the previous value changes to reference an item in a shard which is not
+	 * locked before the item is synchronized, the locks are released and taken again.
+	 * @param objectUri object URI for the item being updated
+	 * @param propertyDescriptor property being updated
+	 * @param value new value for the property - may be null if the property is removed or cleared
+	 * @param update update to apply while holding the locks and synchronized on the item
+	 * @return result of the update
+	 * @throws InvalidSPDXAnalysisException on a missing item or an error from the update
+	 */
+	private <T> T updateReferences(String objectUri, PropertyDescriptor propertyDescriptor, @Nullable Object value,
+			ReferenceUpdate<T> update) throws InvalidSPDXAnalysisException {
+		while (true) {
+			BitSet shardSet = new BitSet(shards.length);
+			shardSet.set(shardIndex(objectUri.toLowerCase()));
+			addReferencedShards(shardSet, value);
+			addReferencedShards(shardSet, getItem(objectUri).getValue(propertyDescriptor));
+			Lock[] locks = lockShards(shardSet);
+			try {
+				StoredTypedItem item = getItem(objectUri);
+				synchronized (item) {
+					Object previousValue = item.getValue(propertyDescriptor);
+					BitSet unlockedShards = addReferencedShards(new BitSet(shards.length), previousValue);
+					unlockedShards.andNot(shardSet);
+					if (unlockedShards.isEmpty()) {
+						return update.apply(item, previousValue);
+					}
+				}
+			} finally {
+				unlock(locks);
+			}
+		}
+	}
+
+	private void unlock(Lock[] locks) {
+		for (int i = locks.length - 1; i >= 0; i--) {
+			locks[i].unlock();
+		}
+	}
+
+	@Override
+	public boolean exists(String objectUri) {
+		String key = objectUri.toLowerCase();
+		return shards[shardIndex(key)].containsKey(key);
+	}
+
+	@Override
+	public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+		StoredTypedItemIndex.IndexedItem value = newItem(typedValue);
+		updateNextIds(typedValue.getObjectUri());
+		String key = typedValue.getObjectUri().toLowerCase();
+		if (Objects.nonNull(shards[shardIndex(key)].putIfAbsent(key, value))) {
+			throw new DuplicateSpdxIdException("Object URI "+typedValue.getObjectUri()+" already exists.");
+		}
+		indexItem(value);
+	}
+
+	@Override
+	List<StoredTypedItem> getStoredItems() {
+		List<StoredTypedItem> retval = new ArrayList<>();
+		for (ConcurrentHashMap<String, StoredTypedItem> shard : shards) {
+			retval.addAll(shard.values());
+		}
+		return retval;
+	}
+
+	@Override
+	protected StoredTypedItem getItem(String objectUri) throws InvalidSPDXAnalysisException {
+		String key = objectUri.toLowerCase();
+		StoredTypedItem item = shards[shardIndex(key)].get(key);
+		if (item == null) {
+			throw new SpdxIdNotFoundException("Object URI "+objectUri+" was not found in the memory store.  The ID must first be created before getting or setting property values.");
+		}
+		return item;
+	}
+
+	@Override
+	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		Object storedValue = internValue(value);
+		updateReferences(objectUri, propertyDescriptor, storedValue, (item, previousValue) -> {
+			StoredTypedItem itemToBeStored = storedValue instanceof TypedValue ? getItem(((TypedValue)storedValue).getObjectUri()) : null;
+			item.setValue(propertyDescriptor, storedValue);
+			if (Objects.nonNull(itemToBeStored)) {
+				itemToBeStored.addIncomingReference(item.getObjectUri(), propertyDescriptor);
+			}
+			removeReferences(item, propertyDescriptor, previousValue);
+			return null;
+		});
+	}
+
+	/**
+	 * Validate and apply a batch of changes - changes are applied one at a time since updates only
+	 * lock the shards for the items changed
+	 */
+	@Override
+	public void applyBatch(SpdxStoreBatch batch) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(batch, "Batch can not be null");
+		batch.validate(this);
+		batch.applyEach(this);
+	}
+
+	@Override
+	public void clearValueCollection(String objectUri, PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		updateReferences(objectUri, propertyDescriptor, null, (item, previousValue) -> {
+			List<StoredTypedItem> removedItems = new ArrayList<>();
+			Iterator<Object> iter = item.getValueList(propertyDescriptor);
+			while (iter.hasNext()) {
+				Object nextItem = iter.next();
+				if (nextItem instanceof TypedValue) {
+					removedItems.add(getItem(((TypedValue)nextItem).getObjectUri()));
+				}
+			}
+			item.clearPropertyValueList(propertyDescriptor);
+			for (StoredTypedItem removedItem:removedItems) {
+				removedItem.removeIncomingReference(item.getObjectUri(), propertyDescriptor);
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public boolean addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		if (value instanceof TypedValue) {
+			Lock[] locks = lockShardsForUpdate(objectUri, ((TypedValue)value).getObjectUri());
+			try {
+				StoredTypedItem itemToBeStored = getItem(((TypedValue)value).getObjectUri());
+				StoredTypedItem item = getItem(objectUri);
+				synchronized (item) {
+					boolean result = item.addValueToList(propertyDescriptor, value);
+					itemToBeStored.addIncomingReference(item.getObjectUri(), propertyDescriptor);
+					return result;
+				}
+			} finally {
+				unlock(locks);
+			}
+		} else {
+			Lock[] locks = lockShardsForUpdate(objectUri, null);
+			try {
+				StoredTypedItem item = getItem(objectUri);
+				synchronized (item) {
+					return item.addValueToList(propertyDescriptor, internValue(value));
+				}
+			} finally {
+				unlock(locks);
+			}
+		}
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		if (value instanceof TypedValue) {
+			Lock[] locks = lockShardsForUpdate(objectUri, ((TypedValue)value).getObjectUri());
+			try {
+				StoredTypedItem itemToBeStored = getItem(((TypedValue)value).getObjectUri());
+				StoredTypedItem item = getItem(objectUri);
+				synchronized (item) {
+					boolean result = item.removeValueFromList(propertyDescriptor, value);
+					if (result) {
+						itemToBeStored.removeIncomingReference(item.getObjectUri(), propertyDescriptor);
+					}
+					return result;
+				}
+			} finally {
+				unlock(locks);
+			}
+		} else {
+			Lock[] locks = lockShardsForUpdate(objectUri, null);
+			try {
+				StoredTypedItem item = getItem(objectUri);
+				synchronized (item) {
+					return item.removeValueFromList(propertyDescriptor, value);
+				}
+			} finally {
+				unlock(locks);
+			}
+		}
+	}
+
+	@Override
+	public void removeProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		updateReferences(objectUri, propertyDescriptor, null, (item, previousValue) -> {
+			item.removeProperty(propertyDescriptor);
+			removeReferences(item, propertyDescriptor, previousValue);
+			return null;
+		});
+	}
+
+	@Override
+	public Optional<String> getCaseSensitiveId(String nameSpace, String caseInsensitiveId) {
+		Objects.requireNonNull(nameSpace, "Namespace can not be null");
+		Objects.requireNonNull(caseInsensitiveId, "CaseInsensitiveId can not be null");
+		String key = (nameSpace + "#" + caseInsensitiveId).toLowerCase();
+		StoredTypedItem item = shards[shardIndex(key)].get(key);
+		if (Objects.isNull(item)) {
+			return Optional.empty();
+		}
+		return Optional.of(item.getObjectUri().substring(nameSpace.length() + 1));
+	}
+
+	@Override
+	public void clear() {
+		for (ConcurrentHashMap<String, StoredTypedItem> shard : shards) {
+			shard.clear();
+		}
+		clearItemIndex();
+	}
+
+	@Override
+	public void delete(String objectUri) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(objectUri, "Missing object URI");
+		String key = objectUri.toLowerCase();
+		int index = shardIndex(key);
+		if (!shards[index].containsKey(key)) {
+			return;
+		}
+		shardLocks[index].writeLock().lock();
+		try {
+			StoredTypedItem item = getItem(objectUri);
+			synchronized (item) {
+				if (item.getReferenceCount() > 0) {
+					logger.error("Can not object URI {}.  It is in use by {}", objectUri, item.getIncomingReferences());
+					throw new SpdxIdInUseException("Can not object URI "+objectUri+".  It is in use by "+item.getIncomingReferences());
+				}
+				for (PropertyDescriptor property:item.getPropertyValueDescriptors()) {
+					removeReferences(item, property, item.getValue(property));
+				}
+				if (Objects.isNull(shards[index].remove(key))) {
+					logger.error("Error deleting - object URI {} does not exist.", objectUri);
+					throw new SpdxIdNotFoundException("Error deleting - object URI "+objectUri+" does not exist.");
+				}
+				unindexItem(item);
+			}
+		} finally {
+			shardLocks[index].writeLock().unlock();
+		}
+	}
+}
@@ -44,11 +44,27 @@ public abstract class ExtendedSpdxStore implements IModelStore {
 	
 	private final IModelStore baseStore;
 	
+	/**
+	 * True if a subclass overrides a method used to apply a batch
+	 */
+	private final boolean batchMethodsOverridden;
+	
 	/**
 	 * @param baseStore store used as the base for this extended SPDX store
 	 */
 	public ExtendedSpdxStore(IModelStore baseStore) {
 		this.baseStore = baseStore;
+		this.batchMethodsOverridden = isOverridden("create", TypedValue.class) ||
+				isOverridden("setValue", String.class, PropertyDescriptor.class, Object.class) ||
+				isOverridden("addValueToCollection", String.class, PropertyDescriptor.class, Object.class);
+	}
+	
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		try {
+			return !ExtendedSpdxStore.class.equals(getClass().getMethod(methodName, parameterTypes).getDeclaringClass());
+		} catch (NoSuchMethodException e) {
+			return true;
+		}
 	}
 
 	/* (non-Javadoc)
@@ -247,6 +263,25 @@ public abstract class ExtendedSpdxStore implements IModelStore {
 		return baseStore.getTypedValue(objectUri);
 	}
 	
+	/**
+	 * Validate and apply a batch of changes
+	 * <p>
+	 * The batch is applied by the base store unless a subclass overrides <code>create</code>,
+	 * <code>setValue</code> or <code>addValueToCollection</code>, in which case the changes are applied one
+	 * at a time through those methods.
+	 *
+	 * @param batch changes to apply
+	 * @throws InvalidSPDXAnalysisException if the batch is not valid for the store or on an error applying a change
+	 */
+	public void applyBatch(SpdxStoreBatch batch) throws InvalidSPDXAnalysisException {
+		if (batchMethodsOverridden) {
+			batch.validate(this);
+			batch.applyEach(this);
+		} else {
+			batch.applyTo(baseStore);
+		}
+	}
+	
 	/**
 	 * Clear all values for the document
 	 * @throws InvalidSPDXAnalysisException on errors accessing the store
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Matcher;
@@ -78,7 +79,24 @@ public class InMemSpdxStore implements IModelStore {
 	/**
 	 * Map of property object URI's to typed value items
 	 */
-	protected Map<String, StoredTypedItem> typedValueMap = Collections.synchronizedMap(new LinkedHashMap<>());
+	protected Map<String, StoredTypedItem> typedValueMap;
+
+	/**
+	 * Type and namespace indexes used by <code>getAllItems</code> - null until <code>getAllItems</code> is
+	 * first called, so that stores which are never searched do not pay for the indexes
+	 */
+	volatile @Nullable StoredTypedItemIndex itemIndex = null;
+	/**
+	 * True once every stored item has been added to <code>itemIndex</code>
+	 */
+	private volatile boolean itemIndexComplete = false;
+	private final Object itemIndexLock = new Object();
+	private final AtomicLong nextItemSequence = new AtomicLong();
+
+	/**
+	 * Optional pool used to share repeated string property values
+	 */
+	private volatile StringInternPool stringInternPool = null;
 
 	private int nextNextLicenseId = 0;
 	private int nextNextDocumentId = 0;
@@ -94,7 +112,15 @@ public class InMemSpdxStore implements IModelStore {
 	
 	
 	public InMemSpdxStore() {
+		this(true);
+	}
 
+	/**
+	 * @param holdsItems if false, the subclass holds the items and overrides the methods which access
+	 * the item map and indexes, so the map is not allocated
+	 */
+	InMemSpdxStore(boolean holdsItems) {
+		typedValueMap = holdsItems ? Collections.synchronizedMap(new LinkedHashMap<>()) : Collections.emptyMap();
 	}
 	
 	@Override
@@ -104,11 +130,87 @@ public class InMemSpdxStore implements IModelStore {
 
 	@Override
 	public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
-		StoredTypedItem value = new StoredTypedItem(typedValue.getObjectUri(), typedValue.getType(), typedValue.getSpecVersion());
+		StoredTypedItemIndex.IndexedItem value = newItem(typedValue);
 		updateNextIds(typedValue.getObjectUri());
 		if (Objects.nonNull(this.typedValueMap.putIfAbsent(typedValue.getObjectUri().toLowerCase(), value))) {
 			throw new DuplicateSpdxIdException("Object URI "+typedValue.getObjectUri()+" already exists.");
 		}
+		indexItem(value);
+	}
+
+	/**
+	 * @param typedValue object URI, type and spec version for the item
+	 * @return a new item with the next creation sequence number
+	 * @throws InvalidSPDXAnalysisException on invalid parameters
+	 */
+	StoredTypedItemIndex.IndexedItem newItem(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+		return new StoredTypedItemIndex.IndexedItem(typedValue.getObjectUri(), typedValue.getType(),
+				typedValue.getSpecVersion(), nextItemSequence.getAndIncrement());
+	}
+
+	/**
+	 * @return a snapshot of all stored items
+	 */
+	List<StoredTypedItem> getStoredItems() {
+		return new ArrayList<>(typedValueMap.values());
+	}
+
+	/**
+	 * @return the type and namespace indexes, built from the stored items when first used
+	 */
+	StoredTypedItemIndex getItemIndex() {
+		// the index is read before the flag since clear drops the index before resetting the flag
+		StoredTypedItemIndex index = itemIndex;
+		if (itemIndexComplete && Objects.nonNull(index)) {
+			return index;
+		}
+		synchronized (itemIndexLock) {
+			if (!itemIndexComplete) {
+				index = new StoredTypedItemIndex();
+				// published before it is filled so that items created or deleted meanwhile are also indexed
+				itemIndex = index;
+				for (StoredTypedItem item : getStoredItems()) {
+					index.add((StoredTypedItemIndex.IndexedItem)item);
+				}
+				itemIndexComplete = true;
+			}
+			return itemIndex;
+		}
+	}
+
+	/**
+	 * Add a newly stored item to the indexes if they have been built
+	 * @param item item which has been stored
+	 */
+	void indexItem(StoredTypedItemIndex.IndexedItem item) {
+		StoredTypedItemIndex index = itemIndex;
+		if (Objects.nonNull(index)) {
+			index.add(item);
+		}
+	}
+
+	/**
+	 * Remove a deleted item from the indexes if they have been built
+	 * @param item item which has been removed from the store
+	 */
+	void unindexItem(StoredTypedItem item) {
+		if (item instanceof StoredTypedItemIndex.IndexedItem) {
+			((StoredTypedItemIndex.IndexedItem)item).markDeleted();
+		}
+		StoredTypedItemIndex index = itemIndex;
+		if (Objects.nonNull(index)) {
+			index.remove(item);
+		}
+	}
+
+	/**
+	 * Drop the indexes after the store is cleared - they are rebuilt when next used
+	 */
+	void clearItemIndex() {
+		synchronized (itemIndexLock) {
+			itemIndex = null;
+			itemIndexComplete = false;
+		}
 	}
 
 	/**
@@ -209,20 +311,45 @@ public class InMemSpdxStore implements IModelStore {
 		return getItem(objectUri).getPropertyValueDescriptors();
 	}
 
+	/**
+	 * Set the pool used to share a single instance of repeated string property values stored after
+	 * this call.  Values already stored are not affected.
+	 * @param stringInternPool pool to use or null to store string values as is
+	 */
+	public void setStringInternPool(@Nullable StringInternPool stringInternPool) {
+		this.stringInternPool = stringInternPool;
+	}
+
+	/**
+	 * @param value value to be stored
+	 * @return the pooled instance of a string value if a string intern pool is set, otherwise the value
+	 */
+	Object internValue(Object value) {
+		StringInternPool pool = stringInternPool;
+		return Objects.nonNull(pool) && value instanceof String ? pool.intern((String)value) : value;
+	}
+
 	@Override
 	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
 			throws InvalidSPDXAnalysisException {
-	    if (value instanceof TypedValue) {
+	    StoredTypedItem item = getItem(objectUri);
+	    value = internValue(value);
+	    Object currentValue = item.getValue(propertyDescriptor);
+	    if (value instanceof TypedValue || currentValue instanceof TypedValue || currentValue instanceof StoredCollection) {
 	        referenceCountLock.writeLock().lock();
             try {
-                StoredTypedItem itemToBeStored = getItem(((TypedValue)value).getObjectUri());
-                getItem(objectUri).setValue(propertyDescriptor, value);
-                itemToBeStored.incReferenceCount();
+                Object previousValue = item.getValue(propertyDescriptor);
+                StoredTypedItem itemToBeStored = value instanceof TypedValue ? getItem(((TypedValue)value).getObjectUri()) : null;
+                item.setValue(propertyDescriptor, value);
+                if (Objects.nonNull(itemToBeStored)) {
+                    itemToBeStored.addIncomingReference(item.getObjectUri(), propertyDescriptor);
+                }
+                removeReferences(item, propertyDescriptor, previousValue);
             } finally {
                 referenceCountLock.writeLock().unlock();
             }
 	    } else {
-	        getItem(objectUri).setValue(propertyDescriptor, value);
+	        item.setValue(propertyDescriptor, value);
 	    }
 	}
 
@@ -239,9 +366,10 @@ public class InMemSpdxStore implements IModelStore {
                     removedItems.add(getItem(((TypedValue)nextItem).getObjectUri()));
                 }
             }
-            getItem(objectUri).clearPropertyValueList(propertyDescriptor);
+            StoredTypedItem referringItem = getItem(objectUri);
+            referringItem.clearPropertyValueList(propertyDescriptor);
             for (StoredTypedItem item:removedItems) {
-                item.decReferenceCount();
+                item.removeIncomingReference(referringItem.getObjectUri(), propertyDescriptor);
             }
         } finally {
             referenceCountLock.writeLock().unlock();
@@ -255,14 +383,15 @@ public class InMemSpdxStore implements IModelStore {
 	        referenceCountLock.writeLock().lock();
 	        try {
 	            StoredTypedItem itemToBeStored = getItem(((TypedValue)value).getObjectUri());
-	            boolean result = getItem(objectUri).addValueToList(propertyDescriptor, value);
-	            itemToBeStored.incReferenceCount();
+	            StoredTypedItem item = getItem(objectUri);
+	            boolean result = item.addValueToList(propertyDescriptor, value);
+	            itemToBeStored.addIncomingReference(item.getObjectUri(), propertyDescriptor);
 	            return result;
 	        } finally {
 	            referenceCountLock.writeLock().unlock();
 	        }
 	    } else {
-	        return getItem(objectUri).addValueToList(propertyDescriptor, value);
+	        return getItem(objectUri).addValueToList(propertyDescriptor, internValue(value));
 	    }
 	}
 
@@ -272,9 +401,11 @@ public class InMemSpdxStore implements IModelStore {
 	    if (value instanceof TypedValue) {
 	        referenceCountLock.writeLock().lock();
             try {
-                StoredTypedItem itemToBeStored = getItem(((TypedValue)value).getObjectUri());
-                boolean result = getItem(objectUri).removeValueFromList(propertyDescriptor, value);
-                itemToBeStored.decReferenceCount();
+                StoredTypedItem item = getItem(objectUri);
+                boolean result = item.removeValueFromList(propertyDescriptor, value);
+                if (result) {
+                    getItem(((TypedValue)value).getObjectUri()).removeIncomingReference(item.getObjectUri(), propertyDescriptor);
+                }
                 return result;
             } finally {
                 referenceCountLock.writeLock().unlock();
@@ -318,28 +449,145 @@ public class InMemSpdxStore implements IModelStore {
 	public void removeProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
 	    referenceCountLock.writeLock().lock();
         try {
-            Object itemToBeRemoved = getItem(objectUri).getValue(propertyDescriptor);
-            getItem(objectUri).removeProperty(propertyDescriptor);
-            if (itemToBeRemoved instanceof TypedValue) {
-                getItem(((TypedValue)itemToBeRemoved).getObjectUri()).decReferenceCount();
-            }
+            StoredTypedItem item = getItem(objectUri);
+            Object itemToBeRemoved = item.getValue(propertyDescriptor);
+            item.removeProperty(propertyDescriptor);
+            removeReferences(item, propertyDescriptor, itemToBeRemoved);
         } finally {
             referenceCountLock.writeLock().unlock();
         }
 	}
 
-	@Override
-	public Stream<TypedValue> getAllItems(@Nullable String nameSpace, @Nullable String typeFilter) {
-		Iterator<StoredTypedItem> valueIter = typedValueMap.values().iterator();
-		List<TypedValue> allItems = new ArrayList<>();
-		while (valueIter.hasNext()) {
-			StoredTypedItem item = valueIter.next();
-			if ((Objects.isNull(typeFilter) || typeFilter.equals(item.getType())) && 
-					(Objects.isNull(nameSpace) || item.getObjectUri().startsWith(nameSpace))) {
-				allItems.add(item);
+	/**
+	 * Remove the references from an item to the items held in a property value
+	 * @param referringItem item holding the value
+	 * @param propertyDescriptor property holding the value
+	 * @param value single value or collection of values for the property
+	 * @throws InvalidSPDXAnalysisException on a missing referenced item or a reference count underflow
+	 */
+	void removeReferences(StoredTypedItem referringItem, PropertyDescriptor propertyDescriptor,
+			@Nullable Object value) throws InvalidSPDXAnalysisException {
+		if (value instanceof TypedValue) {
+			getItem(((TypedValue)value).getObjectUri()).removeIncomingReference(referringItem.getObjectUri(), propertyDescriptor);
+		} else if (value instanceof StoredCollection) {
+			Iterator<Object> iter = ((StoredCollection)value).iterator();
+			while (iter.hasNext()) {
+				Object member = iter.next();
+				if (member instanceof TypedValue) {
+					getItem(((TypedValue)member).getObjectUri()).removeIncomingReference(referringItem.getObjectUri(), propertyDescriptor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Validate and apply a batch of changes while holding the reference count lock once
+	 * <p>
+	 * The incoming references for the typed values in the batch are counted while the values are stored
+	 * and recorded on each referenced item once after the values are stored.  If a change fails after the
+	 * batch is validated, the references for the changes already applied are still recorded so the
+	 * reference counts match the stored values.
+	 *
+	 * @param batch changes to apply
+	 * @throws InvalidSPDXAnalysisException if the batch is not valid for this store or a value can not be stored
+	 */
+	public void applyBatch(SpdxStoreBatch batch) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(batch, "Batch can not be null");
+		referenceCountLock.writeLock().lock();
+		try {
+			batch.validate(this);
+			// referenced object URI to the change in the count for each incoming reference
+			Map<String, Map<IncomingReference, Integer>> referenceChanges = new LinkedHashMap<>();
+			try {
+				applyOperations(batch, referenceChanges);
+			} finally {
+				recordReferenceChanges(referenceChanges);
+			}
+		} finally {
+			referenceCountLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Store the values for the changes in a batch counting the changes to the incoming references
+	 * @param batch validated changes to apply
+	 * @param referenceChanges referenced object URI to the change in the count for each incoming reference - updated
+	 * after each change is applied
+	 * @throws InvalidSPDXAnalysisException if a value can not be stored
+	 */
+	private void applyOperations(SpdxStoreBatch batch, Map<String, Map<IncomingReference, Integer>> referenceChanges) 
+			throws InvalidSPDXAnalysisException {
+		for (SpdxStoreBatch.Operation operation : batch.getOperations()) {
+			if (SpdxStoreBatch.OperationType.CREATE.equals(operation.getType())) {
+				create(operation.getTypedValue());
+				continue;
+			}
+			StoredTypedItem item = getItem(operation.getObjectUri());
+			PropertyDescriptor propertyDescriptor = operation.getPropertyDescriptor();
+			Object value = internValue(operation.getValue());
+			if (SpdxStoreBatch.OperationType.SET_VALUE.equals(operation.getType())) {
+				Object previousValue = item.getValue(propertyDescriptor);
+				item.setValue(propertyDescriptor, value);
+				if (previousValue instanceof StoredCollection) {
+					Iterator<Object> iter = ((StoredCollection)previousValue).iterator();
+					while (iter.hasNext()) {
+						countReference(referenceChanges, item, propertyDescriptor, iter.next(), -1);
+					}
+				} else {
+					countReference(referenceChanges, item, propertyDescriptor, previousValue, -1);
+				}
+			} else {
+				item.addValueToList(propertyDescriptor, value);
+			}
+			countReference(referenceChanges, item, propertyDescriptor, value, 1);
+		}
+	}
+
+	/**
+	 * Record the changes to the incoming references on each referenced item
+	 * @param referenceChanges referenced object URI to the change in the count for each incoming reference
+	 * @throws InvalidSPDXAnalysisException on a missing referenced item or a reference count underflow
+	 */
+	private void recordReferenceChanges(Map<String, Map<IncomingReference, Integer>> referenceChanges) 
+			throws InvalidSPDXAnalysisException {
+		for (Map.Entry<String, Map<IncomingReference, Integer>> entry : referenceChanges.entrySet()) {
+			StoredTypedItem referencedItem = getItem(entry.getKey());
+			for (Map.Entry<IncomingReference, Integer> change : entry.getValue().entrySet()) {
+				IncomingReference reference = change.getKey();
+				if (change.getValue() > 0) {
+					referencedItem.addIncomingReferences(reference.getObjectUri(), reference.getPropertyDescriptor(), change.getValue());
+				}
+				for (int i = change.getValue(); i < 0; i++) {
+					referencedItem.removeIncomingReference(reference.getObjectUri(), reference.getPropertyDescriptor());
+				}
 			}
 		}
-		return Collections.unmodifiableList(allItems).stream();
+	}
+
+	private static void countReference(Map<String, Map<IncomingReference, Integer>> referenceChanges,
+			StoredTypedItem referringItem, PropertyDescriptor propertyDescriptor, @Nullable Object value, int change) {
+		if (value instanceof TypedValue) {
+			referenceChanges.computeIfAbsent(((TypedValue)value).getObjectUri(), uri -> new LinkedHashMap<>())
+					.merge(new IncomingReference(referringItem.getObjectUri(), propertyDescriptor), change, Integer::sum);
+		}
+	}
+
+	/**
+	 * Retrieve the items and properties referencing an item
+	 * <p>
+	 * An item which references the item more than once from the same property is included once.
+	 *
+	 * @param objectUri object URI of the referenced item
+	 * @return the references to the item
+	 * @throws InvalidSPDXAnalysisException if the item does not exist
+	 */
+	public List<IncomingReference> getIncomingReferences(String objectUri) throws InvalidSPDXAnalysisException {
+		return getItem(objectUri).getIncomingReferences();
+	}
+
+	@Override
+	public Stream<TypedValue> getAllItems(@Nullable String nameSpace, @Nullable String typeFilter) {
+		return getItemIndex().getAllItems(nameSpace, typeFilter);
 	}
 
 	@Override
@@ -439,6 +687,7 @@ public class InMemSpdxStore implements IModelStore {
 	 */
 	public void clear() {
 		this.typedValueMap.clear();
+		clearItemIndex();
 	}
 
 	@Override
@@ -449,34 +698,20 @@ public class InMemSpdxStore implements IModelStore {
 		}
 		referenceCountLock.writeLock().lock();
         try {
-            if (getItem(objectUri).getReferenceCount() > 0) {
-                // find the element it is used by
-                logger.error("Can not object URI {}.  It is in use", objectUri);
-                throw new SpdxIdInUseException("Can not object URI "+objectUri+".  It is in use");
+            StoredTypedItem item = getItem(objectUri);
+            if (item.getReferenceCount() > 0) {
+                logger.error("Can not object URI {}.  It is in use by {}", objectUri, item.getIncomingReferences());
+                throw new SpdxIdInUseException("Can not object URI "+objectUri+".  It is in use by "+item.getIncomingReferences());
             }
-            List<PropertyDescriptor> propertyDescriptors = this.getPropertyValueDescriptors(objectUri);
-            for (PropertyDescriptor property:propertyDescriptors) {
-                if (this.isCollectionProperty(objectUri, property)) {
-                    Iterator<Object> iter = this.listValues(objectUri, property);
-                    while (iter.hasNext()) {
-                        Object val = iter.next();
-                        if (val instanceof TypedValue) {
-                            getItem(((TypedValue)val).getObjectUri()).decReferenceCount();
-                        }
-                    }
-                } else {
-                    Optional<Object> val = getValue(objectUri, property);
-                    if (val.isPresent()) {
-                        if (val.get() instanceof TypedValue) {
-                            getItem(((TypedValue)val.get()).getObjectUri()).decReferenceCount();
-                        }
-                    }
-                }
+            for (PropertyDescriptor property:item.getPropertyValueDescriptors()) {
+                removeReferences(item, property, item.getValue(property));
             }
-            if (Objects.isNull(typedValueMap.remove(objectUri.toLowerCase()))) {
+            StoredTypedItem removed = typedValueMap.remove(objectUri.toLowerCase());
+            if (Objects.isNull(removed)) {
                 logger.error("Error deleting - object URI {} does not exist.", objectUri);
                 throw new SpdxIdNotFoundException("Error deleting - object URI "+objectUri+" does not exist.");
             }
+            unindexItem(removed);
         } finally {
             referenceCountLock.writeLock().unlock();
         }
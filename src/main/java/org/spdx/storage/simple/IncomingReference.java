@@ -0,0 +1,77 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.Objects;
+
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * A reference to a stored item from a property of another stored item
+ *
+ * @author Gary O'Neall
+ */
+public final class IncomingReference {
+
+	private final String objectUri;
+	private final PropertyDescriptor propertyDescriptor;
+
+	/**
+	 * @param objectUri object URI of the item holding the reference
+	 * @param propertyDescriptor property holding the reference
+	 */
+	public IncomingReference(String objectUri, PropertyDescriptor propertyDescriptor) {
+		Objects.requireNonNull(objectUri, "Object URI can not be null");
+		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
+		this.objectUri = objectUri;
+		this.propertyDescriptor = propertyDescriptor;
+	}
+
+	/**
+	 * @return object URI of the item holding the reference
+	 */
+	public String getObjectUri() {
+		return objectUri;
+	}
+
+	/**
+	 * @return property holding the reference
+	 */
+	public PropertyDescriptor getPropertyDescriptor() {
+		return propertyDescriptor;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof IncomingReference)) {
+			return false;
+		}
+		IncomingReference compare = (IncomingReference)o;
+		return objectUri.equals(compare.objectUri) && propertyDescriptor.equals(compare.propertyDescriptor);
+	}
+
+	@Override
+	public int hashCode() {
+		return 23 ^ objectUri.hashCode() ^ propertyDescriptor.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return objectUri + ":" + propertyDescriptor;
+	}
+}
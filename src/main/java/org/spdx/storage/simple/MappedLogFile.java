@@ -0,0 +1,281 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+/**
+ * Append only file of records accessed through memory mapped chunks
+ * <p>
+ * Each record is stored as its length, a CRC32 checksum and the record bytes.  Records may span
+ * chunks.  When the file is opened the records are scanned up to the first incomplete or corrupt record,
+ * which is where new records are appended.
+ * <p>
+ * Not thread safe - callers must synchronize access.
+ *
+ * @author Gary O'Neall
+ */
+final class MappedLogFile implements Closeable {
+
+	/**
+	 * Callback for each record found when the file is opened
+	 */
+	interface RecordVisitor {
+		/**
+		 * @param position position of the record in the file
+		 * @param record record bytes
+		 * @throws IOException on an invalid record
+		 */
+		void visit(long position, byte[] record) throws IOException;
+	}
+
+	static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+	private static final int MAGIC = 0x53504458;	// SPDX
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+	private static final int RECORD_HEADER_SIZE = 8;
+
+	private final FileChannel channel;
+	private final int chunkSize;
+	private final List<MappedByteBuffer> chunks = new ArrayList<>();
+	private final long id;
+	private long fileSize;	// size when opened
+	private long end = HEADER_SIZE;
+
+	/**
+	 * Open or create a log file and scan all existing records
+	 * @param path file path
+	 * @param chunkSize size of each mapped chunk
+	 * @param visitor called for each existing record in the order the records were appended
+	 * @throws IOException on an I/O error or if the file is not a log file
+	 */
+	MappedLogFile(Path path, int chunkSize, RecordVisitor visitor) throws IOException {
+		this(path, chunkSize);
+		try {
+			scan(HEADER_SIZE, visitor);
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Open or create a log file without scanning the existing records - <code>scan</code> must be called
+	 * before appending to an existing file
+	 * @param path file path
+	 * @param chunkSize size of each mapped chunk
+	 * @throws IOException on an I/O error or if the file is not a log file
+	 */
+	MappedLogFile(Path path, int chunkSize) throws IOException {
+		if (chunkSize < HEADER_SIZE) {
+			throw new IllegalArgumentException("Chunk size must be at least " + HEADER_SIZE);
+		}
+		this.chunkSize = chunkSize;
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			fileSize = channel.size();
+			mapTo(Math.max(fileSize, HEADER_SIZE));
+			ByteBuffer header = chunks.get(0).duplicate();
+			if (fileSize == 0 || header.getInt(0) == 0) {
+				header.putInt(0, MAGIC);
+				header.putInt(4, VERSION);
+				header.putLong(8, new Random().nextLong());
+				fileSize = 0;
+			} else if (header.getInt(0) != MAGIC) {
+				throw new IOException(path + " is not an SPDX store file");
+			} else if (header.getInt(4) != VERSION) {
+				throw new IOException("Unsupported SPDX store file version " + header.getInt(4));
+			}
+			id = header.getLong(8);
+		} catch (IOException | RuntimeException e) {
+			chunks.clear();
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return identifier generated when the file was created
+	 */
+	long getId() {
+		return id;
+	}
+
+	/**
+	 * @return size of the file when it was opened
+	 */
+	long getOpenedSize() {
+		return fileSize;
+	}
+
+	/**
+	 * @return position of the first record
+	 */
+	long getFirstRecordPosition() {
+		return HEADER_SIZE;
+	}
+
+	/**
+	 * Map chunks up to at least the position
+	 * @param position file position
+	 * @throws IOException on a mapping failure
+	 */
+	private void mapTo(long position) throws IOException {
+		while ((long)chunks.size() * chunkSize < position) {
+			chunks.add(channel.map(MapMode.READ_WRITE, (long)chunks.size() * chunkSize, chunkSize));
+		}
+	}
+
+	private void read(long position, byte[] dst, int offset, int length) {
+		while (length > 0) {
+			int chunkOffset = (int)(position % chunkSize);
+			int count = Math.min(length, chunkSize - chunkOffset);
+			ByteBuffer chunk = chunks.get((int)(position / chunkSize)).duplicate();
+			chunk.position(chunkOffset);
+			chunk.get(dst, offset, count);
+			position += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	private void write(long position, byte[] src, int offset, int length) {
+		while (length > 0) {
+			int chunkOffset = (int)(position % chunkSize);
+			int count = Math.min(length, chunkSize - chunkOffset);
+			ByteBuffer chunk = chunks.get((int)(position / chunkSize)).duplicate();
+			chunk.position(chunkOffset);
+			chunk.put(src, offset, count);
+			position += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	private static int checksum(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length);
+		return (int)crc.getValue();
+	}
+
+	/**
+	 * Scan the existing records from a position and set the position for new records to the end of the
+	 * last valid record
+	 * @param from position of a record to start from
+	 * @param visitor called for each record in the order the records were appended
+	 * @throws IOException on an error from the visitor
+	 */
+	void scan(long from, RecordVisitor visitor) throws IOException {
+		byte[] recordHeader = new byte[RECORD_HEADER_SIZE];
+		long position = Math.max(from, HEADER_SIZE);
+		while (position + RECORD_HEADER_SIZE <= fileSize) {
+			read(position, recordHeader, 0, RECORD_HEADER_SIZE);
+			ByteBuffer header = ByteBuffer.wrap(recordHeader);
+			int length = header.getInt();
+			if (length <= 0 || position + RECORD_HEADER_SIZE + length > fileSize) {
+				break;
+			}
+			byte[] record = new byte[length];
+			read(position + RECORD_HEADER_SIZE, record, 0, length);
+			if (header.getInt() != checksum(record)) {
+				break;
+			}
+			visitor.visit(position, record);
+			position += RECORD_HEADER_SIZE + length;
+		}
+		end = position;
+	}
+
+	/**
+	 * Discard the records from a position to the end of the file
+	 * @param position position of the first record to discard
+	 */
+	void truncate(long position) {
+		// zero the discarded records so that they are not found by a later scan
+		byte[] zeros = new byte[(int)Math.min(end - position, chunkSize)];
+		for (long p = position; p < end; p += zeros.length) {
+			write(p, zeros, 0, (int)Math.min(zeros.length, end - p));
+		}
+		end = position;
+	}
+
+	/**
+	 * Append a record
+	 * @param record record bytes
+	 * @return position of the record
+	 * @throws IOException on an I/O error
+	 */
+	long append(byte[] record) throws IOException {
+		long position = end;
+		mapTo(position + RECORD_HEADER_SIZE + record.length);
+		byte[] header = ByteBuffer.allocate(RECORD_HEADER_SIZE).putInt(record.length).putInt(checksum(record)).array();
+		// write the record before the length so that a partially written record is never valid
+		write(position + RECORD_HEADER_SIZE, record, 0, record.length);
+		write(position + 4, header, 4, 4);
+		write(position, header, 0, 4);
+		end = position + RECORD_HEADER_SIZE + record.length;
+		return position;
+	}
+
+	/**
+	 * @param position position returned by <code>append</code>
+	 * @return the record bytes
+	 */
+	byte[] read(long position) {
+		byte[] length = new byte[4];
+		read(position, length, 0, 4);
+		byte[] record = new byte[ByteBuffer.wrap(length).getInt()];
+		read(position + RECORD_HEADER_SIZE, record, 0, record.length);
+		return record;
+	}
+
+	/**
+	 * @return number of bytes used by the header and records
+	 */
+	long size() {
+		return end;
+	}
+
+	/**
+	 * Write any changes to the storage device
+	 */
+	void force() {
+		for (MappedByteBuffer chunk : chunks) {
+			chunk.force();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		force();
+		chunks.clear();
+		channel.close();
+	}
+}
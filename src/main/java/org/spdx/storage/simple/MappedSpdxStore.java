@@ -0,0 +1,728 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.DuplicateSpdxIdException;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.SpdxIdInUseException;
+import org.spdx.core.SpdxIdNotFoundException;
+import org.spdx.core.SpdxInvalidTypeException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * SPDX store which keeps items and property values in a memory mapped file rather than on the Java heap
+ * <p>
+ * Items are stored as compact binary records appended to the file.  Only an index of object URIs to
+ * record positions, bit set indexes of the item types and namespaces, and a bounded cache of recently used
+ * items are kept on the heap.  Changed items are written when they are evicted from the cache, when
+ * <code>flush</code> is called and when the store is closed.  A store file which was closed can be reopened without reloading the original SPDX document.
+ * <p>
+ * Updated items are appended rather than rewritten, so the file grows with the number of changed items
+ * which are evicted from the cache.  Items which are only read are never rewritten.
+ * <p>
+ * Store operations are serialized.  The store is intended for documents too large to hold on the heap
+ * rather than for concurrent access - see {@link ConcurrentInMemSpdxStore} for the latter.
+ *
+ * @author Gary O'Neall
+ */
+public class MappedSpdxStore extends InMemSpdxStore {
+
+	static final Logger logger = LoggerFactory.getLogger(MappedSpdxStore.class);
+
+	/**
+	 * Default maximum number of items held on the heap
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 10000;
+
+	private static final byte RECORD_DICTIONARY = 1;
+	private static final byte RECORD_ITEM = 2;
+	private static final byte RECORD_DELETE = 3;
+	private static final byte RECORD_CLEAR = 4;
+
+	private static final long NOT_WRITTEN = -1L;
+	private static final long DELETED = -2L;
+
+	@FunctionalInterface
+	private interface StoreOperation<T> {
+		T apply() throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Cached item which marks its slot dirty when it is changed
+	 */
+	private final class MappedItem extends StoredTypedItem {
+		/**
+		 * Slot of the item - changes are not tracked until the slot is set
+		 */
+		private int slot = -1;
+
+		MappedItem(String objectUri, String type, String specVersion) throws InvalidSPDXAnalysisException {
+			super(objectUri, type, specVersion);
+		}
+
+		private void changed() {
+			if (slot >= 0) {
+				dirty.add(slot);
+			}
+		}
+
+		@Override
+		public int incReferenceCount() {
+			changed();
+			return super.incReferenceCount();
+		}
+
+		@Override
+		public int decReferenceCount() throws SpdxInvalidTypeException {
+			int retval = super.decReferenceCount();
+			changed();
+			return retval;
+		}
+
+		@Override
+		int addIncomingReferences(String referringObjectUri, PropertyDescriptor propertyDescriptor, int count) {
+			changed();
+			return super.addIncomingReferences(referringObjectUri, propertyDescriptor, count);
+		}
+
+		@Override
+		public int removeIncomingReference(String referringObjectUri, PropertyDescriptor propertyDescriptor)
+				throws SpdxInvalidTypeException {
+			int retval = super.removeIncomingReference(referringObjectUri, propertyDescriptor);
+			changed();
+			return retval;
+		}
+
+		@Override
+		public void setValue(PropertyDescriptor propertyDescriptor, Object value) throws SpdxInvalidTypeException {
+			super.setValue(propertyDescriptor, value);
+			changed();
+		}
+
+		@Override
+		public void clearPropertyValueList(PropertyDescriptor propertyDescriptor) throws SpdxInvalidTypeException {
+			Object value = getValue(propertyDescriptor);
+			boolean empty = !(value instanceof StoredCollection) || ((StoredCollection)value).size() == 0;
+			super.clearPropertyValueList(propertyDescriptor);
+			if (!empty) {
+				changed();
+			}
+		}
+
+		@Override
+		public boolean addValueToList(PropertyDescriptor propertyDescriptor, Object value)
+				throws SpdxInvalidTypeException {
+			boolean retval = super.addValueToList(propertyDescriptor, value);
+			if (retval) {
+				changed();
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean removeTypedValueFromList(PropertyDescriptor propertyDescriptor, TypedValue value)
+				throws SpdxInvalidTypeException {
+			boolean retval = super.removeTypedValueFromList(propertyDescriptor, value);
+			if (retval) {
+				changed();
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean removeValueFromList(PropertyDescriptor propertyDescriptor, Object value)
+				throws SpdxInvalidTypeException {
+			boolean retval = super.removeValueFromList(propertyDescriptor, value);
+			if (retval) {
+				changed();
+			}
+			return retval;
+		}
+
+		@Override
+		public void removeProperty(PropertyDescriptor propertyDescriptor) {
+			boolean present = Objects.nonNull(getValue(propertyDescriptor));
+			super.removeProperty(propertyDescriptor);
+			if (present) {
+				changed();
+			}
+		}
+
+		@Override
+		public int collectionSize(PropertyDescriptor propertyDescriptor) throws SpdxInvalidTypeException {
+			// an empty collection is created for a missing property
+			boolean present = Objects.nonNull(getValue(propertyDescriptor));
+			int retval = super.collectionSize(propertyDescriptor);
+			if (!present) {
+				changed();
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean collectionContains(PropertyDescriptor propertyDescriptor, Object value)
+				throws SpdxInvalidTypeException {
+			boolean present = Objects.nonNull(getValue(propertyDescriptor));
+			boolean retval = super.collectionContains(propertyDescriptor, value);
+			if (!present) {
+				changed();
+			}
+			return retval;
+		}
+	}
+
+	private final Object storeLock = new Object();
+	private final Path file;
+	private final boolean temporary;
+	private final int cacheSize;
+	private final StoredItemCodec codec = new StoredItemCodec();
+	private final MappedLogFile log;
+
+	/**
+	 * Slot for each lower case object URI - slots are assigned in creation order
+	 */
+	private final Map<String, Integer> slots = new HashMap<>();
+	/**
+	 * Type and namespace indexes of the slots used by <code>getAllItems</code>
+	 */
+	private final StoredItemSlotIndex slotIndex = new StoredItemSlotIndex();
+	/**
+	 * Record position for each slot
+	 */
+	private long[] positions = new long[1024];
+	private int slotCount = 0;
+
+	/**
+	 * Items on the heap by slot in least recently used order
+	 */
+	private final LinkedHashMap<Integer, MappedItem> cache = new LinkedHashMap<>(16, 0.75f, true);
+	/**
+	 * Slots for cached items which have changed since they were last written
+	 */
+	private final Set<Integer> dirty = new HashSet<>();
+	private int operationDepth = 0;
+
+	/**
+	 * Create a store backed by a temporary file which is deleted when the store is closed
+	 * @throws IOException on an error creating the file
+	 */
+	public MappedSpdxStore() throws IOException {
+		this(Files.createTempFile("spdx", ".store"), DEFAULT_CACHE_SIZE, MappedLogFile.DEFAULT_CHUNK_SIZE, true);
+	}
+
+	/**
+	 * Open or create a store backed by a file
+	 * @param file store file - if the file was created by a previous store, the previous store items are available
+	 * @throws IOException on an error opening the file or if the file is not a store file
+	 */
+	public MappedSpdxStore(Path file) throws IOException {
+		this(file, DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Open or create a store backed by a file
+	 * @param file store file - if the file was created by a previous store, the previous store items are available
+	 * @param cacheSize maximum number of items held on the heap
+	 * @throws IOException on an error opening the file or if the file is not a store file
+	 */
+	public MappedSpdxStore(Path file, int cacheSize) throws IOException {
+		this(file, cacheSize, MappedLogFile.DEFAULT_CHUNK_SIZE, false);
+	}
+
+	/**
+	 * @param file store file
+	 * @param cacheSize maximum number of items held on the heap
+	 * @param chunkSize size of each mapped region of the file
+	 * @param temporary if true, delete the file when the store is closed
+	 * @throws IOException on an error opening the file or if the file is not a store file
+	 */
+	MappedSpdxStore(Path file, int cacheSize, int chunkSize, boolean temporary) throws IOException {
+		super(false);
+		Objects.requireNonNull(file, "File can not be null");
+		if (cacheSize < 1) {
+			throw new IllegalArgumentException("Cache size must be at least 1");
+		}
+		this.file = file;
+		this.cacheSize = cacheSize;
+		this.temporary = temporary;
+		this.log = new MappedLogFile(file, chunkSize, this::loadRecord);
+	}
+
+	/**
+	 * Update the index from a record read when the file is opened
+	 * @param position record position
+	 * @param record record bytes
+	 * @throws IOException on an invalid record
+	 */
+	private void loadRecord(long position, byte[] record) throws IOException {
+		StoredItemCodec.Reader reader = new StoredItemCodec.Reader(record, 0);
+		byte recordType = reader.readByte();
+		switch (recordType) {
+			case RECORD_DICTIONARY: {
+				int id = reader.readVarInt();
+				codec.addDictionaryEntry(id, reader.readString());
+				break;
+			}
+			case RECORD_ITEM: {
+				int slot = reader.readVarInt();
+				TypedValue typedValue;
+				try {
+					typedValue = codec.decodeTypedValue(reader);
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new IOException("Invalid item record in " + file, e);
+				}
+				String objectUri = typedValue.getObjectUri();
+				while (slotCount <= slot) {
+					// slots for items deleted before they were written do not have records
+					addSlot(DELETED);
+				}
+				positions[slot] = position;
+				slots.put(objectUri.toLowerCase(), slot);
+				slotIndex.add(slot, objectUri, typedValue.getType());
+				updateNextIds(objectUri);
+				break;
+			}
+			case RECORD_DELETE: {
+				int slot = reader.readVarInt();
+				slots.remove(reader.readString().toLowerCase());
+				if (slot < slotCount) {
+					positions[slot] = DELETED;
+				}
+				break;
+			}
+			case RECORD_CLEAR: {
+				slots.clear();
+				slotIndex.clear();
+				slotCount = 0;
+				break;
+			}
+			default: throw new IOException("Unknown record type " + recordType + " in " + file);
+		}
+	}
+
+	/**
+	 * @param position record position for the new slot
+	 * @return the new slot
+	 */
+	private int addSlot(long position) {
+		if (slotCount == positions.length) {
+			positions = Arrays.copyOf(positions, positions.length * 2);
+		}
+		positions[slotCount] = position;
+		return slotCount++;
+	}
+
+	/**
+	 * Run a store operation - items changed by the operation mark themselves dirty
+	 * @param operation operation to run
+	 * @return result of the operation
+	 * @throws InvalidSPDXAnalysisException on an error from the operation or writing evicted items
+	 */
+	private <T> T run(StoreOperation<T> operation) throws InvalidSPDXAnalysisException {
+		synchronized (storeLock) {
+			operationDepth++;
+			T result;
+			try {
+				result = operation.apply();
+			} finally {
+				operationDepth--;
+			}
+			if (operationDepth == 0) {
+				// items are only evicted between operations so that an item is never evicted while in use
+				try {
+					trimCache();
+				} catch (IOException e) {
+					throw new InvalidSPDXAnalysisException("I/O error writing to " + file, e);
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Write an item to the file
+	 * @param slot item slot
+	 * @param item item to write
+	 * @throws IOException on an I/O error
+	 */
+	private void writeItem(int slot, StoredTypedItem item) throws IOException {
+		List<String> newEntries = new ArrayList<>();
+		StoredItemCodec.Writer writer = new StoredItemCodec.Writer();
+		writer.writeByte(RECORD_ITEM);
+		writer.writeVarInt(slot);
+		codec.encode(writer, item, newEntries);
+		int firstNewId = codec.getDictionarySize() - newEntries.size();
+		for (int i = 0; i < newEntries.size(); i++) {
+			StoredItemCodec.Writer dictionaryWriter = new StoredItemCodec.Writer();
+			dictionaryWriter.writeByte(RECORD_DICTIONARY);
+			dictionaryWriter.writeVarInt(firstNewId + i);
+			dictionaryWriter.writeString(newEntries.get(i));
+			log.append(dictionaryWriter.toByteArray());
+		}
+		positions[slot] = log.append(writer.toByteArray());
+	}
+
+	/**
+	 * Evict the least recently used items until the cache is within its size, writing any changed items
+	 * @throws IOException on an I/O error
+	 */
+	private void trimCache() throws IOException {
+		Iterator<Entry<Integer, MappedItem>> iter = cache.entrySet().iterator();
+		while (cache.size() > cacheSize) {
+			Entry<Integer, MappedItem> eldest = iter.next();
+			if (dirty.remove(eldest.getKey())) {
+				writeItem(eldest.getKey(), eldest.getValue());
+			}
+			// the slot is reloaded from the file if it is used again
+			eldest.getValue().slot = -1;
+			iter.remove();
+		}
+	}
+
+	/**
+	 * Write all changed items to the file
+	 * @throws IOException on an I/O error
+	 */
+	public void flush() throws IOException {
+		synchronized (storeLock) {
+			for (Integer slot : dirty) {
+				writeItem(slot, cache.get(slot));
+			}
+			dirty.clear();
+			log.force();
+		}
+	}
+
+	/**
+	 * @return the number of bytes used in the store file
+	 */
+	public long getFileSize() {
+		synchronized (storeLock) {
+			return log.size();
+		}
+	}
+
+	/**
+	 * @param slot item slot
+	 * @return the item
+	 * @throws InvalidSPDXAnalysisException on an invalid record
+	 */
+	private StoredTypedItem loadItem(int slot) throws InvalidSPDXAnalysisException {
+		MappedItem item = cache.get(slot);
+		if (Objects.isNull(item)) {
+			StoredItemCodec.Reader reader = new StoredItemCodec.Reader(log.read(positions[slot]), 0);
+			reader.readByte();
+			reader.readVarInt();
+			item = (MappedItem)codec.decode(reader, MappedItem::new);
+			item.slot = slot;
+			cache.put(slot, item);
+		}
+		return item;
+	}
+
+	/**
+	 * @param slot item slot
+	 * @return the typed value for the item in the slot or null if the item was deleted
+	 */
+	private @Nullable TypedValue typedValueForSlot(int slot) {
+		synchronized (storeLock) {
+			if (slot >= slotCount || positions[slot] == DELETED) {
+				return null;
+			}
+			StoredTypedItem item = cache.get(slot);
+			if (Objects.nonNull(item)) {
+				return item;
+			}
+			StoredItemCodec.Reader reader = new StoredItemCodec.Reader(log.read(positions[slot]), 0);
+			reader.readByte();
+			reader.readVarInt();
+			try {
+				return codec.decodeTypedValue(reader);
+			} catch (InvalidSPDXAnalysisException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	@Override
+	protected StoredTypedItem getItem(String objectUri) throws InvalidSPDXAnalysisException {
+		return run(() -> {
+			Integer slot = slots.get(objectUri.toLowerCase());
+			if (Objects.isNull(slot)) {
+				throw new SpdxIdNotFoundException("Object URI "+objectUri+" was not found in the memory store.  The ID must first be created before getting or setting property values.");
+			}
+			return loadItem(slot);
+		});
+	}
+
+	@Override
+	public boolean exists(String objectUri) {
+		synchronized (storeLock) {
+			return slots.containsKey(objectUri.toLowerCase());
+		}
+	}
+
+	@Override
+	public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+		run(() -> {
+			String key = typedValue.getObjectUri().toLowerCase();
+			if (slots.containsKey(key)) {
+				throw new DuplicateSpdxIdException("Object URI "+typedValue.getObjectUri()+" already exists.");
+			}
+			MappedItem item = new MappedItem(typedValue.getObjectUri(), typedValue.getType(), typedValue.getSpecVersion());
+			updateNextIds(typedValue.getObjectUri());
+			int slot = addSlot(NOT_WRITTEN);
+			item.slot = slot;
+			slots.put(key, slot);
+			slotIndex.add(slot, item.getObjectUri(), item.getType());
+			cache.put(slot, item);
+			dirty.add(slot);
+			return null;
+		});
+	}
+
+	@Override
+	public List<PropertyDescriptor> getPropertyValueDescriptors(String objectUri) throws InvalidSPDXAnalysisException {
+		return run(() -> super.getPropertyValueDescriptors(objectUri));
+	}
+
+	@Override
+	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		run(() -> {
+			super.setValue(objectUri, propertyDescriptor, value);
+			return null;
+		});
+	}
+
+	@Override
+	public void applyBatch(SpdxStoreBatch batch) throws InvalidSPDXAnalysisException {
+		run(() -> {
+			super.applyBatch(batch);
+			return null;
+		});
+	}
+
+	@Override
+	public void clearValueCollection(String objectUri, PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		run(() -> {
+			super.clearValueCollection(objectUri, propertyDescriptor);
+			return null;
+		});
+	}
+
+	@Override
+	public boolean addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		return run(() -> super.addValueToCollection(objectUri, propertyDescriptor, value));
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		return run(() -> super.removeValueFromCollection(objectUri, propertyDescriptor, value));
+	}
+
+	@Override
+	public Iterator<Object> listValues(String objectUri, PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		return run(() -> super.listValues(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public Optional<Object> getValue(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return run(() -> super.getValue(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public void removeProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		run(() -> {
+			super.removeProperty(objectUri, propertyDescriptor);
+			return null;
+		});
+	}
+
+	@Override
+	public List<IncomingReference> getIncomingReferences(String objectUri) throws InvalidSPDXAnalysisException {
+		return run(() -> super.getIncomingReferences(objectUri));
+	}
+
+	@Override
+	public Stream<TypedValue> getAllItems(@Nullable String nameSpace, @Nullable String typeFilter) {
+		BitSet candidates;
+		synchronized (storeLock) {
+			candidates = slotIndex.candidates(nameSpace, typeFilter, slotCount);
+		}
+		return candidates.stream()
+				.mapToObj(this::typedValueForSlot)
+				.filter(tv -> Objects.nonNull(tv) &&
+						(Objects.isNull(nameSpace) || tv.getObjectUri().startsWith(nameSpace)) &&
+						(Objects.isNull(typeFilter) || typeFilter.equals(tv.getType())));
+	}
+
+	@Override
+	public int collectionSize(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return run(() -> super.collectionSize(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public boolean collectionContains(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		return run(() -> super.collectionContains(objectUri, propertyDescriptor, value));
+	}
+
+	@Override
+	public boolean isCollectionMembersAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor,
+			Class<?> clazz) throws InvalidSPDXAnalysisException {
+		return run(() -> super.isCollectionMembersAssignableTo(objectUri, propertyDescriptor, clazz));
+	}
+
+	@Override
+	public boolean isPropertyValueAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor, Class<?> clazz, String specVersion)
+			throws InvalidSPDXAnalysisException {
+		return run(() -> super.isPropertyValueAssignableTo(objectUri, propertyDescriptor, clazz, specVersion));
+	}
+
+	@Override
+	public boolean isCollectionProperty(String objectUri, PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		return run(() -> super.isCollectionProperty(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public Optional<String> getCaseSensitiveId(String nameSpace, String caseInsensitiveId) {
+		Objects.requireNonNull(nameSpace, "Namespace can not be null");
+		Objects.requireNonNull(caseInsensitiveId, "CaseInsensitiveId can not be null");
+		String objectUri = nameSpace + "#" + caseInsensitiveId;
+		TypedValue tv;
+		synchronized (storeLock) {
+			Integer slot = slots.get(objectUri.toLowerCase());
+			tv = Objects.isNull(slot) ? null : typedValueForSlot(slot);
+		}
+		if (Objects.isNull(tv)) {
+			return Optional.empty();
+		}
+		return Optional.of(tv.getObjectUri().substring(nameSpace.length() + 1));
+	}
+
+	@Override
+	public Optional<TypedValue> getTypedValue(String objectUri) throws InvalidSPDXAnalysisException {
+		return run(() -> super.getTypedValue(objectUri));
+	}
+
+	/**
+	 * Remove all existing elements, properties, and values
+	 */
+	@Override
+	public void clear() {
+		synchronized (storeLock) {
+			StoredItemCodec.Writer writer = new StoredItemCodec.Writer();
+			writer.writeByte(RECORD_CLEAR);
+			try {
+				log.append(writer.toByteArray());
+			} catch (IOException e) {
+				throw new RuntimeException("I/O error writing to " + file, e);
+			}
+			slots.clear();
+			slotIndex.clear();
+			slotCount = 0;
+			cache.clear();
+			dirty.clear();
+		}
+	}
+
+	@Override
+	public void delete(String objectUri) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(objectUri, "Missing object URI");
+		run(() -> {
+			Integer slot = slots.get(objectUri.toLowerCase());
+			if (Objects.isNull(slot)) {
+				return null;
+			}
+			StoredTypedItem item = loadItem(slot);
+			if (item.getReferenceCount() > 0) {
+				logger.error("Can not object URI {}.  It is in use by {}", objectUri, item.getIncomingReferences());
+				throw new SpdxIdInUseException("Can not object URI "+objectUri+".  It is in use by "+item.getIncomingReferences());
+			}
+			for (PropertyDescriptor property:item.getPropertyValueDescriptors()) {
+				removeReferences(item, property, item.getValue(property));
+			}
+			if (positions[slot] != NOT_WRITTEN) {
+				StoredItemCodec.Writer writer = new StoredItemCodec.Writer();
+				writer.writeByte(RECORD_DELETE);
+				writer.writeVarInt(slot);
+				writer.writeString(item.getObjectUri());
+				try {
+					log.append(writer.toByteArray());
+				} catch (IOException e) {
+					throw new InvalidSPDXAnalysisException("I/O error writing to " + file, e);
+				}
+			}
+			positions[slot] = DELETED;
+			slots.remove(objectUri.toLowerCase());
+			cache.remove(slot);
+			dirty.remove(slot);
+			return null;
+		});
+	}
+
+	/**
+	 * Write all changed items and close the file - the file is deleted if the store was created with a
+	 * temporary file
+	 */
+	@Override
+	public void close() throws Exception {
+		synchronized (storeLock) {
+			flush();
+			cache.clear();
+			log.close();
+			if (temporary) {
+				try {
+					Files.deleteIfExists(file);
+				} catch (IOException e) {
+					logger.warn("Unable to delete temporary store file {}", file);
+					file.toFile().deleteOnExit();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,1616 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.DuplicateSpdxIdException;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.SpdxIdInUseException;
+import org.spdx.core.SpdxIdNotFoundException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * Persistent SPDX store backed by a log file with an in memory index
+ * <p>
+ * Each change to an item is appended to the log as a small record, so setting a value or adding a value
+ * to a collection does not rewrite the item.  The records for an item are chained together from its last
+ * snapshot, and items are rebuilt from their chain when they are not in the bounded cache of recently used
+ * items.
+ * <p>
+ * Write critical sections (<code>enterCriticalSection(false)</code>) are transactions - if the process
+ * stops before the critical section is left, none of the changes made in the critical section are
+ * recovered when the store is reopened.  A store operation which fails without changing the store, e.g.
+ * on a duplicate or missing object URI or an invalid value type, does not affect the transaction - the
+ * caller may handle the exception and the other changes made in the critical section are kept.  If a store
+ * operation fails after it has partially changed the store, e.g. on an I/O error, all of the changes made in
+ * the critical section are rolled back when the critical section is left and leaving the critical section
+ * throws an exception.  The log
+ * is forced to storage when a write critical section is left, on <code>flush</code> and on
+ * <code>close</code>.  Changes made outside of a critical section are written to the log immediately and
+ * are recovered unless the operating system fails before they are forced to storage.
+ * <p>
+ * When the store is closed the index is saved to a separate file which is read when the store is
+ * reopened, so only the records appended after the index was saved are read.  Superseded records are
+ * removed by compaction, which runs on a background thread once the log grows to a multiple of its size
+ * after the last compaction.
+ * <p>
+ * Compaction writes a new generation of the log to a file named with the store file name followed by the
+ * generation number, e.g. <code>store.1</code>.  Log files are never renamed or replaced while they are
+ * mapped - the previous generation is deleted once the new generation is complete or, on platforms which
+ * do not allow a mapped file to be deleted, when the store is next opened.
+ * <p>
+ * Store operations are serialized.
+ *
+ * @author Gary O'Neall
+ */
+public class PersistentSpdxStore extends InMemSpdxStore {
+
+	static final Logger logger = LoggerFactory.getLogger(PersistentSpdxStore.class);
+
+	/**
+	 * Default maximum number of items held on the heap
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 10000;
+
+	/**
+	 * Default ratio of the log size to the log size after the last compaction at which a compaction is started
+	 */
+	public static final int DEFAULT_COMPACTION_RATIO = 4;
+
+	/**
+	 * Suffix added to the store file name for the index file
+	 */
+	public static final String INDEX_FILE_SUFFIX = ".index";
+
+	/**
+	 * Logs smaller than this are not compacted automatically
+	 */
+	static final long MIN_COMPACTION_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Number of records after a snapshot at which a new snapshot is written when an item is loaded
+	 */
+	static final int SNAPSHOT_CHAIN_LENGTH = 64;
+
+	private static final int COMPACTION_BATCH_SIZE = 1024;
+
+	private static final byte RECORD_DICTIONARY = 1;
+	private static final byte RECORD_ITEM = 2;
+	private static final byte RECORD_DELETE = 3;
+	private static final byte RECORD_CLEAR = 4;
+	private static final byte RECORD_BEGIN = 5;
+	private static final byte RECORD_COMMIT = 6;
+	private static final byte RECORD_COMPACTED = 7;	// ends the items copied to a new generation of the log
+	// records changing an item - these are chained to the previous record for the item
+	private static final byte RECORD_SET = 10;
+	private static final byte RECORD_REMOVE_PROPERTY = 11;
+	private static final byte RECORD_ADD = 12;
+	private static final byte RECORD_REMOVE = 13;
+	private static final byte RECORD_CLEAR_COLLECTION = 14;
+	private static final byte RECORD_ADD_REFERENCE = 15;
+	private static final byte RECORD_REMOVE_REFERENCE = 16;
+
+	private static final int INDEX_MAGIC = 0x53504449;	// SPDI
+	private static final int INDEX_VERSION = 1;
+
+	private static final long DELETED = -1L;
+	private static final long NOT_WRITTEN = -2L;
+
+	@FunctionalInterface
+	private interface StoreOperation<T> {
+		T apply() throws InvalidSPDXAnalysisException;
+	}
+
+	@FunctionalInterface
+	private interface PayloadWriter {
+		void write(StoredItemCodec.Writer writer, List<String> newEntries);
+	}
+
+	/**
+	 * Record waiting to be appended at the end of the current operation
+	 */
+	private static final class PendingRecord {
+		final byte recordType;
+		final int slot;
+		final byte[] payload;
+
+		PendingRecord(byte recordType, int slot, byte[] payload) {
+			this.recordType = recordType;
+			this.slot = slot;
+			this.payload = payload;
+		}
+	}
+
+	/**
+	 * Rebuilds the index from the log records, discarding any incomplete transaction at the end of the log
+	 */
+	private final class Recovery implements MappedLogFile.RecordVisitor {
+		long transactionStart = -1;
+		final List<Long> pendingPositions = new ArrayList<>();
+		final List<byte[]> pendingRecords = new ArrayList<>();
+		final List<Integer> pendingDictionaryIds = new ArrayList<>();
+
+		@Override
+		public void visit(long position, byte[] record) throws IOException {
+			byte recordType = record[0];
+			if (recordType == RECORD_BEGIN) {
+				transactionStart = position;
+			} else if (recordType == RECORD_COMMIT) {
+				for (int i = 0; i < pendingRecords.size(); i++) {
+					indexRecord(pendingPositions.get(i), pendingRecords.get(i));
+				}
+				pendingPositions.clear();
+				pendingRecords.clear();
+				pendingDictionaryIds.clear();
+				transactionStart = -1;
+			} else if (recordType == RECORD_COMPACTED) {
+				return;
+			} else if (recordType == RECORD_DICTIONARY) {
+				// dictionary entries may be used by later records outside of the transaction
+				int id = indexRecord(position, record);
+				if (transactionStart >= 0) {
+					pendingDictionaryIds.add(id);
+				}
+			} else if (transactionStart >= 0) {
+				pendingPositions.add(position);
+				pendingRecords.add(record);
+			} else {
+				indexRecord(position, record);
+			}
+		}
+
+		void finish() throws IOException {
+			if (transactionStart >= 0) {
+				logger.warn("Discarding {} records from an incomplete transaction in {}", pendingRecords.size(), file);
+				log.truncate(transactionStart);
+				for (Integer id : pendingDictionaryIds) {
+					log.append(dictionaryRecord(id, codec.getDictionaryEntry(id)));
+				}
+			}
+		}
+	}
+
+	private final Object storeLock = new Object();
+	private final Path file;
+	private final Path indexFile;
+	private final int cacheSize;
+	private final int chunkSize;
+	private final StoredItemCodec codec = new StoredItemCodec();
+	private MappedLogFile log;
+	/**
+	 * Generation of the log - 0 for the store file, incremented by each compaction
+	 */
+	private int generation = 0;
+	/**
+	 * Highest generation of the log found or created
+	 */
+	private int lastGeneration = 0;
+
+	/**
+	 * Slot for each lower case object URI - slots are assigned in creation order
+	 */
+	private final Map<String, Integer> slots = new HashMap<>();
+	/**
+	 * Position of the last record for each slot
+	 */
+	private long[] heads = new long[1024];
+	/**
+	 * Position of the last snapshot of the item for each slot
+	 */
+	private long[] snapshots = new long[1024];
+	/**
+	 * Number of records after the last snapshot for each slot
+	 */
+	private int[] chainLengths = new int[1024];
+	private int slotCount = 0;
+	/**
+	 * Type and namespace indexes of the slots used by <code>getAllItems</code> - built when <code>getAllItems</code>
+	 * is first called with a filter and dropped when slots are cleared or rolled back
+	 */
+	private @Nullable StoredItemSlotIndex slotIndex = null;
+
+	/**
+	 * Items on the heap by slot in least recently used order
+	 */
+	private final LinkedHashMap<Integer, StoredTypedItem> cache = new LinkedHashMap<>(16, 0.75f, true);
+	private final List<PendingRecord> pendingRecords = new ArrayList<>();
+	private int operationDepth = 0;
+
+	private @Nullable Thread transactionOwner = null;
+	private int transactionDepth = 0;
+	/**
+	 * Position of the begin record of the open transaction
+	 */
+	private long transactionStart;
+	private int transactionSlotCount;
+	private int transactionDictionarySize;
+	/**
+	 * Head, snapshot and chain length before the open transaction for each slot changed by the transaction
+	 */
+	private final Map<Integer, long[]> transactionUndo = new HashMap<>();
+	private boolean transactionCleared = false;
+	/**
+	 * Failure of a store operation which partially changed the store within the open transaction
+	 */
+	private @Nullable Exception transactionFailure = null;
+
+	private final ExecutorService compactionExecutor;
+	private @Nullable Future<?> compaction = null;
+	private @Nullable MappedLogFile compactionLog = null;
+	private int compactionGeneration;
+	private long[] compactionHeads;
+	private @Nullable Set<Integer> compactionModified = null;
+	private boolean compactionAborted = false;
+	private long compactedSize;
+	private int compactionRatio = DEFAULT_COMPACTION_RATIO;
+	private boolean closed = false;
+
+	/**
+	 * Open or create a store
+	 * @param file store file - if the file or a later generation of the file was created by a previous store,
+	 * the previous store items are available
+	 * @throws IOException on an error opening the file or if the file is not a store file
+	 */
+	public PersistentSpdxStore(Path file) throws IOException {
+		this(file, DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Open or create a store
+	 * @param file store file - if the file or a later generation of the file was created by a previous store,
+	 * the previous store items are available
+	 * @param cacheSize maximum number of items held on the heap
+	 * @throws IOException on an error opening the file or if the file is not a store file
+	 */
+	public PersistentSpdxStore(Path file, int cacheSize) throws IOException {
+		this(file, cacheSize, MappedLogFile.DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param file store file
+	 * @param cacheSize maximum number of items held on the heap
+	 * @param chunkSize size of each mapped region of the file
+	 * @throws IOException on an error opening the file or if the file is not a store file
+	 */
+	PersistentSpdxStore(Path file, int cacheSize, int chunkSize) throws IOException {
+		super(false);
+		Objects.requireNonNull(file, "File can not be null");
+		if (cacheSize < 1) {
+			throw new IllegalArgumentException("Cache size must be at least 1");
+		}
+		this.file = file;
+		this.indexFile = file.resolveSibling(file.getFileName() + INDEX_FILE_SUFFIX);
+		this.cacheSize = cacheSize;
+		this.chunkSize = chunkSize;
+		this.log = openLog();
+		try {
+			Recovery recovery = new Recovery();
+			log.scan(readIndex(), recovery);
+			recovery.finish();
+		} catch (IOException | RuntimeException e) {
+			log.close();
+			throw e;
+		}
+		this.compactedSize = log.size();
+		this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "spdx-store-compaction");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @param file store file
+	 * @param generation generation of the log
+	 * @return the file for the generation of the log - generation 0 is the store file
+	 */
+	static Path generationFile(Path file, int generation) {
+		return generation == 0 ? file : file.resolveSibling(file.getFileName() + "." + generation);
+	}
+
+	/**
+	 * @return the generations of the log with an existing file and generation 0, from the latest generation
+	 * @throws IOException on an error listing the directory
+	 */
+	private List<Integer> findGenerations() throws IOException {
+		List<Integer> retval = new ArrayList<>();
+		String prefix = file.getFileName() + ".";
+		Path directory = file.toAbsolutePath().getParent();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "[0-9]*")) {
+			for (Path path : stream) {
+				String suffix = path.getFileName().toString().substring(prefix.length());
+				if (suffix.chars().allMatch(Character::isDigit) && suffix.length() < 10) {
+					retval.add(Integer.parseInt(suffix));
+				}
+			}
+		}
+		retval.add(0);
+		Collections.sort(retval, Collections.reverseOrder());
+		return retval;
+	}
+
+	/**
+	 * Open the latest complete generation of the log and delete the other generations - a generation is
+	 * complete once the compaction which created it has copied all of the items
+	 * @return the log
+	 * @throws IOException on an error opening the log or if the log file is not a store file
+	 */
+	private MappedLogFile openLog() throws IOException {
+		List<Integer> generations = findGenerations();
+		lastGeneration = generations.get(0);
+		MappedLogFile retval = null;
+		for (int candidate : generations) {
+			Path candidateFile = generationFile(file, candidate);
+			if (Objects.nonNull(retval)) {
+				deleteLogFile(candidateFile);
+				continue;
+			}
+			MappedLogFile candidateLog = new MappedLogFile(candidateFile, chunkSize);
+			if (candidate == 0 || isComplete(candidateLog)) {
+				retval = candidateLog;
+				generation = candidate;
+			} else {
+				logger.warn("Discarding {} from a compaction which did not complete", candidateFile);
+				candidateLog.close();
+				deleteLogFile(candidateFile);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param candidateLog a generation of the log after the first generation
+	 * @return true if the compaction which created the log completed
+	 * @throws IOException on an error reading the log
+	 */
+	private boolean isComplete(MappedLogFile candidateLog) throws IOException {
+		if (readIndexLogId() == candidateLog.getId()) {
+			return true;	// the index is only saved for a complete log
+		}
+		boolean[] compacted = new boolean[] {false};
+		candidateLog.scan(candidateLog.getFirstRecordPosition(), (position, record) -> {
+			if (record[0] == RECORD_COMPACTED) {
+				compacted[0] = true;
+			}
+		});
+		return compacted[0];
+	}
+
+	/**
+	 * Delete a log file which is no longer used - a failure is ignored since the file is deleted again when
+	 * the store is next opened
+	 * @param logFile log file
+	 */
+	private void deleteLogFile(Path logFile) {
+		try {
+			Files.deleteIfExists(logFile);
+		} catch (IOException e) {
+			logger.debug("Unable to delete " + logFile + " - it will be deleted when the store is next opened", e);
+		}
+	}
+
+	/**
+	 * @return the ID of the log file the index was saved for or 0 if there is no valid index
+	 */
+	private long readIndexLogId() {
+		if (!Files.exists(indexFile)) {
+			return 0;
+		}
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(indexFile))) {
+			return in.readInt() == INDEX_MAGIC && in.readInt() == INDEX_VERSION ? in.readLong() : 0;
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Load the index saved when the store was last closed
+	 * @return position in the log of the first record not included in the index
+	 */
+	private long readIndex() {
+		if (!Files.exists(indexFile)) {
+			return log.getFirstRecordPosition();
+		}
+		try {
+			// read rather than mapped so that the index file can be replaced while the store is open
+			ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+			if (index.getInt() != INDEX_MAGIC || index.getInt() != INDEX_VERSION || index.getLong() != log.getId()) {
+				logger.warn("Index {} does not match the store file - reading the entire store file", indexFile);
+				return log.getFirstRecordPosition();
+			}
+			long logPosition = index.getLong();
+			if (logPosition > log.getOpenedSize()) {
+				logger.warn("Index {} is newer than the store file - reading the entire store file", indexFile);
+				return log.getFirstRecordPosition();
+			}
+			int dictionarySize = index.getInt();
+			List<String> dictionary = new ArrayList<>(dictionarySize);
+			for (int i = 0; i < dictionarySize; i++) {
+				dictionary.add(readIndexString(index));
+			}
+			int count = index.getInt();
+			long[] indexHeads = new long[Math.max(count, 1024)];
+			long[] indexSnapshots = new long[indexHeads.length];
+			int[] indexChainLengths = new int[indexHeads.length];
+			for (int slot = 0; slot < count; slot++) {
+				indexHeads[slot] = index.getLong();
+				indexSnapshots[slot] = index.getLong();
+				indexChainLengths[slot] = index.getInt();
+			}
+			int liveCount = index.getInt();
+			Map<Integer, String> objectUris = new HashMap<>();
+			for (int i = 0; i < liveCount; i++) {
+				int slot = index.getInt();
+				objectUris.put(slot, readIndexString(index));
+			}
+			for (int i = 0; i < dictionary.size(); i++) {
+				codec.addDictionaryEntry(i, dictionary.get(i));
+			}
+			heads = indexHeads;
+			snapshots = indexSnapshots;
+			chainLengths = indexChainLengths;
+			slotCount = count;
+			for (Entry<Integer, String> entry : objectUris.entrySet()) {
+				slots.put(entry.getValue().toLowerCase(), entry.getKey());
+				updateNextIds(entry.getValue());
+			}
+			return logPosition;
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Unable to read index " + indexFile + " - reading the entire store file", e);
+			return log.getFirstRecordPosition();
+		}
+	}
+
+	private static String readIndexString(ByteBuffer index) {
+		byte[] bytes = new byte[index.getInt()];
+		index.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeIndexString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Save the index so that the store can be reopened without reading the entire log - must only be
+	 * called when no transaction is open
+	 * @throws IOException on an I/O error
+	 */
+	private void writeIndex() throws IOException {
+		Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+			out.writeInt(INDEX_MAGIC);
+			out.writeInt(INDEX_VERSION);
+			out.writeLong(log.getId());
+			out.writeLong(log.size());
+			out.writeInt(codec.getDictionarySize());
+			for (int i = 0; i < codec.getDictionarySize(); i++) {
+				writeIndexString(out, codec.getDictionaryEntry(i));
+			}
+			out.writeInt(slotCount);
+			for (int slot = 0; slot < slotCount; slot++) {
+				out.writeLong(heads[slot]);
+				out.writeLong(snapshots[slot]);
+				out.writeInt(chainLengths[slot]);
+			}
+			out.writeInt(slots.size());
+			for (Integer slot : slots.values()) {
+				out.writeInt(slot);
+				writeIndexString(out, typedValueForSlot(slot).getObjectUri());
+			}
+		}
+		Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Update the index for a record
+	 * @param position record position
+	 * @param record record bytes
+	 * @return the dictionary ID for a dictionary record
+	 * @throws IOException on an invalid record
+	 */
+	private int indexRecord(long position, byte[] record) throws IOException {
+		StoredItemCodec.Reader reader = new StoredItemCodec.Reader(record, 0);
+		byte recordType = reader.readByte();
+		switch (recordType) {
+			case RECORD_DICTIONARY: {
+				int id = reader.readVarInt();
+				codec.addDictionaryEntry(id, reader.readString());
+				return id;
+			}
+			case RECORD_ITEM: {
+				int slot = reader.readVarInt();
+				String objectUri = codec.decodeObjectUri(reader);
+				while (slotCount <= slot) {
+					addSlot();
+				}
+				heads[slot] = position;
+				snapshots[slot] = position;
+				chainLengths[slot] = 0;
+				slots.put(objectUri.toLowerCase(), slot);
+				updateNextIds(objectUri);
+				return 0;
+			}
+			case RECORD_DELETE: {
+				int slot = reader.readVarInt();
+				slots.remove(reader.readString().toLowerCase());
+				if (slot < slotCount) {
+					heads[slot] = DELETED;
+				}
+				return 0;
+			}
+			case RECORD_CLEAR: {
+				slots.clear();
+				slotCount = 0;
+				return 0;
+			}
+			case RECORD_SET:
+			case RECORD_REMOVE_PROPERTY:
+			case RECORD_ADD:
+			case RECORD_REMOVE:
+			case RECORD_CLEAR_COLLECTION:
+			case RECORD_ADD_REFERENCE:
+			case RECORD_REMOVE_REFERENCE: {
+				int slot = reader.readVarInt();
+				if (slot < slotCount && heads[slot] != DELETED) {
+					heads[slot] = position;
+					chainLengths[slot]++;
+				}
+				return 0;
+			}
+			default: throw new IOException("Unknown record type " + recordType + " in " + file);
+		}
+	}
+
+	/**
+	 * @return a new slot for an item which has not been written
+	 */
+	private int addSlot() {
+		if (slotCount == heads.length) {
+			heads = Arrays.copyOf(heads, heads.length * 2);
+			snapshots = Arrays.copyOf(snapshots, heads.length);
+			chainLengths = Arrays.copyOf(chainLengths, heads.length);
+		}
+		heads[slotCount] = DELETED;
+		snapshots[slotCount] = DELETED;
+		chainLengths[slotCount] = 0;
+		return slotCount++;
+	}
+
+	private static byte[] dictionaryRecord(int id, String value) {
+		StoredItemCodec.Writer writer = new StoredItemCodec.Writer();
+		writer.writeByte(RECORD_DICTIONARY);
+		writer.writeVarInt(id);
+		writer.writeString(value);
+		return writer.toByteArray();
+	}
+
+	private static byte[] markerRecord(byte recordType) {
+		return new byte[] {recordType};
+	}
+
+	/**
+	 * Append dictionary entries added while encoding a record - dictionary entries are appended immediately
+	 * rather than with the record so that they precede any use
+	 * @param newEntries new dictionary entries
+	 * @throws IOException on an I/O error
+	 */
+	private void appendDictionaryEntries(List<String> newEntries) throws IOException {
+		int firstId = codec.getDictionarySize() - newEntries.size();
+		for (int i = 0; i < newEntries.size(); i++) {
+			byte[] record = dictionaryRecord(firstId + i, newEntries.get(i));
+			log.append(record);
+			if (Objects.nonNull(compactionLog)) {
+				compactionLog.append(record);
+			}
+		}
+	}
+
+	/**
+	 * Add a record to be appended at the end of the current operation
+	 * @param recordType record type
+	 * @param slot slot for the item changed by the record
+	 * @param payload writes the record content
+	 * @throws InvalidSPDXAnalysisException on an I/O error
+	 */
+	private void addRecord(byte recordType, int slot, PayloadWriter payload) throws InvalidSPDXAnalysisException {
+		StoredItemCodec.Writer writer = new StoredItemCodec.Writer();
+		List<String> newEntries = new ArrayList<>();
+		payload.write(writer, newEntries);
+		try {
+			appendDictionaryEntries(newEntries);
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("I/O error writing to " + file, e);
+		}
+		pendingRecords.add(new PendingRecord(recordType, slot, writer.toByteArray()));
+		if (Objects.nonNull(compactionModified) && slot >= 0) {
+			compactionModified.add(slot);
+		}
+		if (Objects.nonNull(transactionOwner)) {
+			if (recordType == RECORD_CLEAR) {
+				for (int clearedSlot = 0; clearedSlot < Math.min(slotCount, transactionSlotCount); clearedSlot++) {
+					saveUndo(clearedSlot);
+				}
+				transactionCleared = true;
+			} else {
+				saveUndo(slot);
+			}
+		}
+	}
+
+	/**
+	 * Save the state of a slot before it is first changed by the open transaction
+	 * @param slot item slot
+	 */
+	private void saveUndo(int slot) {
+		if (slot < transactionSlotCount && !transactionUndo.containsKey(slot)) {
+			transactionUndo.put(slot, new long[] {heads[slot], snapshots[slot], chainLengths[slot]});
+		}
+	}
+
+	/**
+	 * Append the records added by the current operation - records for an operation outside of a
+	 * transaction are grouped so that they are recovered together
+	 * @throws IOException on an I/O error
+	 */
+	private void appendPendingRecords() throws IOException {
+		if (pendingRecords.isEmpty()) {
+			return;
+		}
+		boolean group = Objects.isNull(transactionOwner) && pendingRecords.size() > 1;
+		if (group) {
+			log.append(markerRecord(RECORD_BEGIN));
+		}
+		for (PendingRecord pending : pendingRecords) {
+			StoredItemCodec.Writer writer = new StoredItemCodec.Writer();
+			writer.writeByte(pending.recordType);
+			if (pending.recordType == RECORD_CLEAR) {
+				log.append(writer.toByteArray());
+				continue;
+			}
+			writer.writeVarInt(pending.slot);
+			boolean chained = pending.recordType >= RECORD_SET;
+			if (chained) {
+				writer.writeVarLong(heads[pending.slot]);
+			}
+			byte[] prefix = writer.toByteArray();
+			byte[] record = Arrays.copyOf(prefix, prefix.length + pending.payload.length);
+			System.arraycopy(pending.payload, 0, record, prefix.length, pending.payload.length);
+			long position = log.append(record);
+			if (chained) {
+				heads[pending.slot] = position;
+				chainLengths[pending.slot]++;
+			} else if (pending.recordType == RECORD_ITEM) {
+				heads[pending.slot] = position;
+				snapshots[pending.slot] = position;
+				chainLengths[pending.slot] = 0;
+			}
+		}
+		if (group) {
+			log.append(markerRecord(RECORD_COMMIT));
+		}
+		pendingRecords.clear();
+	}
+
+	/**
+	 * Wait until no other thread has an open transaction - must be called while holding the store lock
+	 */
+	private void awaitTransaction() {
+		while (Objects.nonNull(transactionOwner) && transactionOwner != Thread.currentThread()) {
+			try {
+				storeLock.wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted waiting for a store transaction", e);
+			}
+		}
+	}
+
+	private <T> T read(StoreOperation<T> operation) throws InvalidSPDXAnalysisException {
+		return run(operation, false);
+	}
+
+	private <T> T update(StoreOperation<T> operation) throws InvalidSPDXAnalysisException {
+		return run(operation, true);
+	}
+
+	private <T> T run(StoreOperation<T> operation, boolean isUpdate) throws InvalidSPDXAnalysisException {
+		synchronized (storeLock) {
+			if (isUpdate && operationDepth == 0) {
+				awaitTransaction();
+			}
+			operationDepth++;
+			T result;
+			try {
+				result = operation.apply();
+			} catch (InvalidSPDXAnalysisException | RuntimeException e) {
+				if (isUpdate && transactionOwner == Thread.currentThread() && isPartialFailure(e)) {
+					transactionFailure = e;
+				}
+				throw e;
+			} finally {
+				operationDepth--;
+				if (operationDepth == 0) {
+					// changes already made to the items are logged even if the operation failed part way
+					try {
+						appendPendingRecords();
+						trimCache();
+					} catch (IOException e) {
+						if (transactionOwner == Thread.currentThread()) {
+							transactionFailure = e;
+						}
+						throw new InvalidSPDXAnalysisException("I/O error writing to " + file, e);
+					}
+				}
+			}
+			if (operationDepth == 0 && isUpdate) {
+				startCompactionIfNeeded();
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * @param e exception thrown by a store update - must be called while holding the store lock
+	 * @return true if the update may have partially changed the store before it failed
+	 */
+	private boolean isPartialFailure(Exception e) {
+		// updates check for missing items and invalid values before changing the store
+		return !pendingRecords.isEmpty() || !(e instanceof InvalidSPDXAnalysisException) ||
+				e.getCause() instanceof IOException;
+	}
+
+	/**
+	 * Evict the least recently used items until the cache is within its size
+	 */
+	private void trimCache() {
+		Iterator<Integer> iter = cache.keySet().iterator();
+		while (cache.size() > cacheSize) {
+			iter.next();
+			iter.remove();
+		}
+	}
+
+	/**
+	 * Write a snapshot of an item so that loading the item does not need to read its earlier records
+	 * @param slot item slot
+	 * @param item current item
+	 * @throws InvalidSPDXAnalysisException on an I/O error
+	 */
+	private void addSnapshot(int slot, StoredTypedItem item) throws InvalidSPDXAnalysisException {
+		addRecord(RECORD_ITEM, slot, (writer, newEntries) -> codec.encode(writer, item, newEntries));
+	}
+
+	/**
+	 * @param slot item slot
+	 * @return the item rebuilt from its last snapshot and the records following the snapshot
+	 * @throws InvalidSPDXAnalysisException on an invalid record
+	 */
+	private StoredTypedItem loadItem(int slot) throws InvalidSPDXAnalysisException {
+		StoredTypedItem item = cache.get(slot);
+		if (Objects.nonNull(item)) {
+			return item;
+		}
+		List<StoredItemCodec.Reader> chain = new ArrayList<>();
+		long position = heads[slot];
+		while (position != snapshots[slot]) {
+			byte[] record = log.read(position);
+			StoredItemCodec.Reader reader = new StoredItemCodec.Reader(record, 0);
+			reader.readByte();
+			reader.readVarInt();
+			position = reader.readVarLong();
+			chain.add(new StoredItemCodec.Reader(record, 0));
+		}
+		StoredItemCodec.Reader reader = new StoredItemCodec.Reader(log.read(snapshots[slot]), 0);
+		reader.readByte();
+		reader.readVarInt();
+		item = codec.decode(reader);
+		for (int i = chain.size() - 1; i >= 0; i--) {
+			applyRecord(item, chain.get(i));
+		}
+		cache.put(slot, item);
+		if (chain.size() >= SNAPSHOT_CHAIN_LENGTH && Objects.isNull(transactionOwner)) {
+			addSnapshot(slot, item);
+		}
+		return item;
+	}
+
+	/**
+	 * Apply a record changing an item
+	 * @param item item to change
+	 * @param reader reader positioned at the start of the record
+	 * @throws InvalidSPDXAnalysisException on an invalid record
+	 */
+	private void applyRecord(StoredTypedItem item, StoredItemCodec.Reader reader) throws InvalidSPDXAnalysisException {
+		byte recordType = reader.readByte();
+		reader.readVarInt();
+		reader.readVarLong();
+		switch (recordType) {
+			case RECORD_SET: item.setValue(codec.readPropertyDescriptor(reader), codec.readValue(reader)); break;
+			case RECORD_REMOVE_PROPERTY: item.removeProperty(codec.readPropertyDescriptor(reader)); break;
+			case RECORD_ADD: item.addValueToList(codec.readPropertyDescriptor(reader), codec.readValue(reader)); break;
+			case RECORD_REMOVE: item.removeValueFromList(codec.readPropertyDescriptor(reader), codec.readValue(reader)); break;
+			case RECORD_CLEAR_COLLECTION: item.clearPropertyValueList(codec.readPropertyDescriptor(reader)); break;
+			case RECORD_ADD_REFERENCE: {
+				String referringObjectUri = reader.readString();
+				item.addIncomingReference(referringObjectUri, codec.readPropertyDescriptor(reader));
+				break;
+			}
+			case RECORD_REMOVE_REFERENCE: {
+				String referringObjectUri = reader.readString();
+				item.removeIncomingReference(referringObjectUri, codec.readPropertyDescriptor(reader));
+				break;
+			}
+			default: throw new InvalidSPDXAnalysisException("Unexpected record type " + recordType + " in the records for " + item.getObjectUri());
+		}
+	}
+
+	/**
+	 * @param slot item slot
+	 * @return the typed value for the item in the slot or null if the item was deleted
+	 */
+	private @Nullable TypedValue typedValueForSlot(int slot) {
+		synchronized (storeLock) {
+			if (slot >= slotCount) {
+				return null;
+			}
+			StoredTypedItem item = cache.get(slot);
+			if (Objects.nonNull(item)) {
+				return item;
+			}
+			if (heads[slot] == DELETED) {
+				return null;
+			}
+			StoredItemCodec.Reader reader = new StoredItemCodec.Reader(log.read(snapshots[slot]), 0);
+			reader.readByte();
+			reader.readVarInt();
+			try {
+				return codec.decodeTypedValue(reader);
+			} catch (InvalidSPDXAnalysisException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * @return type and namespace indexes of the current slots
+	 */
+	private StoredItemSlotIndex buildSlotIndex() {
+		StoredItemSlotIndex retval = new StoredItemSlotIndex();
+		for (int slot = 0; slot < slotCount; slot++) {
+			TypedValue tv = typedValueForSlot(slot);
+			if (Objects.nonNull(tv)) {
+				retval.add(slot, tv.getObjectUri(), tv.getType());
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param objectUri object URI
+	 * @return slot for the item
+	 * @throws SpdxIdNotFoundException if the item does not exist
+	 */
+	private int getSlot(String objectUri) throws SpdxIdNotFoundException {
+		Integer slot = slots.get(objectUri.toLowerCase());
+		if (Objects.isNull(slot)) {
+			throw new SpdxIdNotFoundException("Object URI "+objectUri+" was not found in the memory store.  The ID must first be created before getting or setting property values.");
+		}
+		return slot;
+	}
+
+	@Override
+	protected StoredTypedItem getItem(String objectUri) throws InvalidSPDXAnalysisException {
+		return read(() -> loadItem(getSlot(objectUri)));
+	}
+
+	/**
+	 * Record the removal of references from an item to the items held in a property value
+	 * @param referringItem item holding the value
+	 * @param propertyDescriptor property holding the value
+	 * @param value single value or collection of values for the property
+	 * @throws InvalidSPDXAnalysisException on a missing referenced item or a reference count underflow
+	 */
+	private void releaseReferences(StoredTypedItem referringItem, PropertyDescriptor propertyDescriptor,
+			@Nullable Object value) throws InvalidSPDXAnalysisException {
+		List<Object> members = new ArrayList<>();
+		if (value instanceof StoredCollection) {
+			((StoredCollection)value).iterator().forEachRemaining(members::add);
+		} else if (Objects.nonNull(value)) {
+			members.add(value);
+		}
+		for (Object member : members) {
+			if (member instanceof TypedValue) {
+				releaseReference(referringItem, propertyDescriptor, ((TypedValue)member).getObjectUri());
+			}
+		}
+	}
+
+	private void addReference(StoredTypedItem referringItem, PropertyDescriptor propertyDescriptor, String objectUri)
+			throws InvalidSPDXAnalysisException {
+		int slot = getSlot(objectUri);
+		loadItem(slot).addIncomingReference(referringItem.getObjectUri(), propertyDescriptor);
+		addRecord(RECORD_ADD_REFERENCE, slot, (writer, newEntries) -> {
+			writer.writeString(referringItem.getObjectUri());
+			codec.writePropertyDescriptor(writer, propertyDescriptor, newEntries);
+		});
+	}
+
+	private void releaseReference(StoredTypedItem referringItem, PropertyDescriptor propertyDescriptor, String objectUri)
+			throws InvalidSPDXAnalysisException {
+		int slot = getSlot(objectUri);
+		loadItem(slot).removeIncomingReference(referringItem.getObjectUri(), propertyDescriptor);
+		addRecord(RECORD_REMOVE_REFERENCE, slot, (writer, newEntries) -> {
+			writer.writeString(referringItem.getObjectUri());
+			codec.writePropertyDescriptor(writer, propertyDescriptor, newEntries);
+		});
+	}
+
+	@Override
+	public boolean exists(String objectUri) {
+		synchronized (storeLock) {
+			return slots.containsKey(objectUri.toLowerCase());
+		}
+	}
+
+	@Override
+	public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+		update(() -> {
+			String key = typedValue.getObjectUri().toLowerCase();
+			if (slots.containsKey(key)) {
+				throw new DuplicateSpdxIdException("Object URI "+typedValue.getObjectUri()+" already exists.");
+			}
+			StoredTypedItem item = new StoredTypedItem(typedValue.getObjectUri(), typedValue.getType(), typedValue.getSpecVersion());
+			updateNextIds(typedValue.getObjectUri());
+			int slot = addSlot();
+			heads[slot] = NOT_WRITTEN;
+			slots.put(key, slot);
+			if (Objects.nonNull(slotIndex)) {
+				slotIndex.add(slot, item.getObjectUri(), item.getType());
+			}
+			cache.put(slot, item);
+			addSnapshot(slot, item);
+			return null;
+		});
+	}
+
+	@Override
+	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		Object storedValue = internValue(value);
+		update(() -> {
+			int slot = getSlot(objectUri);
+			StoredTypedItem item = loadItem(slot);
+			if (storedValue instanceof TypedValue) {
+				// fail before any change if the referenced item does not exist
+				getSlot(((TypedValue)storedValue).getObjectUri());
+			}
+			Object previousValue = item.getValue(propertyDescriptor);
+			item.setValue(propertyDescriptor, storedValue);
+			addRecord(RECORD_SET, slot, (writer, newEntries) -> {
+				codec.writePropertyDescriptor(writer, propertyDescriptor, newEntries);
+				codec.writeValue(writer, storedValue, newEntries);
+			});
+			if (storedValue instanceof TypedValue) {
+				addReference(item, propertyDescriptor, ((TypedValue)storedValue).getObjectUri());
+			}
+			releaseReferences(item, propertyDescriptor, previousValue);
+			return null;
+		});
+	}
+
+	/**
+	 * Validate and apply a batch of changes - the records for the batch are recovered together if the
+	 * process stops
+	 */
+	@Override
+	public void applyBatch(SpdxStoreBatch batch) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(batch, "Batch can not be null");
+		update(() -> {
+			batch.validate(this);
+			batch.applyEach(this);
+			return null;
+		});
+	}
+
+	@Override
+	public void clearValueCollection(String objectUri, PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		update(() -> {
+			int slot = getSlot(objectUri);
+			StoredTypedItem item = loadItem(slot);
+			List<Object> removed = new ArrayList<>();
+			item.getValueList(propertyDescriptor).forEachRemaining(removed::add);
+			item.clearPropertyValueList(propertyDescriptor);
+			addRecord(RECORD_CLEAR_COLLECTION, slot, (writer, newEntries) ->
+					codec.writePropertyDescriptor(writer, propertyDescriptor, newEntries));
+			for (Object member : removed) {
+				if (member instanceof TypedValue) {
+					releaseReference(item, propertyDescriptor, ((TypedValue)member).getObjectUri());
+				}
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public boolean addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		Object storedValue = internValue(value);
+		return update(() -> {
+			int slot = getSlot(objectUri);
+			StoredTypedItem item = loadItem(slot);
+			if (storedValue instanceof TypedValue) {
+				getSlot(((TypedValue)storedValue).getObjectUri());
+			}
+			boolean result = item.addValueToList(propertyDescriptor, storedValue);
+			addRecord(RECORD_ADD, slot, (writer, newEntries) -> {
+				codec.writePropertyDescriptor(writer, propertyDescriptor, newEntries);
+				codec.writeValue(writer, storedValue, newEntries);
+			});
+			if (storedValue instanceof TypedValue) {
+				addReference(item, propertyDescriptor, ((TypedValue)storedValue).getObjectUri());
+			}
+			return result;
+		});
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		return update(() -> {
+			int slot = getSlot(objectUri);
+			StoredTypedItem item = loadItem(slot);
+			boolean result = item.removeValueFromList(propertyDescriptor, value);
+			if (result) {
+				addRecord(RECORD_REMOVE, slot, (writer, newEntries) -> {
+					codec.writePropertyDescriptor(writer, propertyDescriptor, newEntries);
+					codec.writeValue(writer, value, newEntries);
+				});
+				if (value instanceof TypedValue) {
+					releaseReference(item, propertyDescriptor, ((TypedValue)value).getObjectUri());
+				}
+			}
+			return result;
+		});
+	}
+
+	@Override
+	public void removeProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		update(() -> {
+			int slot = getSlot(objectUri);
+			StoredTypedItem item = loadItem(slot);
+			Object previousValue = item.getValue(propertyDescriptor);
+			item.removeProperty(propertyDescriptor);
+			if (Objects.nonNull(previousValue)) {
+				addRecord(RECORD_REMOVE_PROPERTY, slot, (writer, newEntries) ->
+						codec.writePropertyDescriptor(writer, propertyDescriptor, newEntries));
+				releaseReferences(item, propertyDescriptor, previousValue);
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public void delete(String objectUri) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(objectUri, "Missing object URI");
+		update(() -> {
+			Integer slot = slots.get(objectUri.toLowerCase());
+			if (Objects.isNull(slot)) {
+				return null;
+			}
+			StoredTypedItem item = loadItem(slot);
+			if (item.getReferenceCount() > 0) {
+				logger.error("Can not object URI {}.  It is in use by {}", objectUri, item.getIncomingReferences());
+				throw new SpdxIdInUseException("Can not object URI "+objectUri+".  It is in use by "+item.getIncomingReferences());
+			}
+			for (PropertyDescriptor property:item.getPropertyValueDescriptors()) {
+				releaseReferences(item, property, item.getValue(property));
+			}
+			addRecord(RECORD_DELETE, slot, (writer, newEntries) -> writer.writeString(item.getObjectUri()));
+			heads[slot] = DELETED;
+			slots.remove(objectUri.toLowerCase());
+			cache.remove(slot);
+			return null;
+		});
+	}
+
+	/**
+	 * Remove all existing elements, properties, and values
+	 */
+	@Override
+	public void clear() {
+		try {
+			update(() -> {
+				addRecord(RECORD_CLEAR, -1, (writer, newEntries) -> {});
+				slots.clear();
+				slotIndex = null;
+				slotCount = 0;
+				cache.clear();
+				compactionAborted = true;
+				return null;
+			});
+		} catch (InvalidSPDXAnalysisException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public List<PropertyDescriptor> getPropertyValueDescriptors(String objectUri) throws InvalidSPDXAnalysisException {
+		return read(() -> super.getPropertyValueDescriptors(objectUri));
+	}
+
+	@Override
+	public Iterator<Object> listValues(String objectUri, PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		return read(() -> super.listValues(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public Optional<Object> getValue(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return read(() -> super.getValue(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public List<IncomingReference> getIncomingReferences(String objectUri) throws InvalidSPDXAnalysisException {
+		return read(() -> super.getIncomingReferences(objectUri));
+	}
+
+	@Override
+	public Stream<TypedValue> getAllItems(@Nullable String nameSpace, @Nullable String typeFilter) {
+		BitSet candidates;
+		synchronized (storeLock) {
+			if (Objects.isNull(nameSpace) && Objects.isNull(typeFilter)) {
+				candidates = new BitSet(slotCount);
+				candidates.set(0, slotCount);
+			} else {
+				if (Objects.isNull(slotIndex)) {
+					slotIndex = buildSlotIndex();
+				}
+				candidates = slotIndex.candidates(nameSpace, typeFilter, slotCount);
+			}
+		}
+		return candidates.stream()
+				.mapToObj(this::typedValueForSlot)
+				.filter(tv -> Objects.nonNull(tv) &&
+						(Objects.isNull(nameSpace) || tv.getObjectUri().startsWith(nameSpace)) &&
+						(Objects.isNull(typeFilter) || typeFilter.equals(tv.getType())));
+	}
+
+	@Override
+	public int collectionSize(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return read(() -> super.collectionSize(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public boolean collectionContains(String objectUri, PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		return read(() -> super.collectionContains(objectUri, propertyDescriptor, value));
+	}
+
+	@Override
+	public boolean isCollectionMembersAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor,
+			Class<?> clazz) throws InvalidSPDXAnalysisException {
+		return read(() -> super.isCollectionMembersAssignableTo(objectUri, propertyDescriptor, clazz));
+	}
+
+	@Override
+	public boolean isPropertyValueAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor, Class<?> clazz, String specVersion)
+			throws InvalidSPDXAnalysisException {
+		return read(() -> super.isPropertyValueAssignableTo(objectUri, propertyDescriptor, clazz, specVersion));
+	}
+
+	@Override
+	public boolean isCollectionProperty(String objectUri, PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		return read(() -> super.isCollectionProperty(objectUri, propertyDescriptor));
+	}
+
+	@Override
+	public Optional<String> getCaseSensitiveId(String nameSpace, String caseInsensitiveId) {
+		Objects.requireNonNull(nameSpace, "Namespace can not be null");
+		Objects.requireNonNull(caseInsensitiveId, "CaseInsensitiveId can not be null");
+		String objectUri = nameSpace + "#" + caseInsensitiveId;
+		TypedValue tv;
+		synchronized (storeLock) {
+			Integer slot = slots.get(objectUri.toLowerCase());
+			tv = Objects.isNull(slot) ? null : typedValueForSlot(slot);
+		}
+		if (Objects.isNull(tv)) {
+			return Optional.empty();
+		}
+		return Optional.of(tv.getObjectUri().substring(nameSpace.length() + 1));
+	}
+
+	@Override
+	public Optional<TypedValue> getTypedValue(String objectUri) throws InvalidSPDXAnalysisException {
+		return read(() -> super.getTypedValue(objectUri));
+	}
+
+	/**
+	 * Enter a critical section - a write critical section is a transaction which is recovered completely
+	 * or not at all if the process stops and is rolled back if a store operation within it fails after
+	 * partially changing the store
+	 * <p>
+	 * Unlocking a write critical section which was rolled back throws a <code>RuntimeException</code> with
+	 * the failure of the store operation as the cause.
+	 */
+	@Override
+	public IModelStoreLock enterCriticalSection(boolean readLockRequested) {
+		IModelStoreLock lock = super.enterCriticalSection(readLockRequested);
+		if (readLockRequested) {
+			return lock;
+		}
+		synchronized (storeLock) {
+			if (transactionDepth == 0) {
+				// wait for any operation outside the critical section to complete
+				awaitTransaction();
+				try {
+					transactionStart = log.append(markerRecord(RECORD_BEGIN));
+				} catch (IOException e) {
+					lock.unlock();
+					throw new RuntimeException("I/O error writing to " + file, e);
+				}
+				transactionOwner = Thread.currentThread();
+				transactionSlotCount = slotCount;
+				transactionDictionarySize = codec.getDictionarySize();
+			}
+			transactionDepth++;
+		}
+		return () -> {
+			try {
+				commit();
+			} finally {
+				lock.unlock();
+			}
+		};
+	}
+
+	/**
+	 * Commit the transaction if the outermost write critical section is being left or roll it back if a
+	 * store operation partially changed the store before it failed within the transaction
+	 * @throws RuntimeException if the transaction was rolled back or on an I/O error
+	 */
+	private void commit() {
+		synchronized (storeLock) {
+			if (--transactionDepth > 0) {
+				return;
+			}
+			Exception failure = transactionFailure;
+			try {
+				if (Objects.nonNull(failure)) {
+					rollback();
+				} else {
+					log.append(markerRecord(RECORD_COMMIT));
+				}
+				log.force();
+			} catch (IOException e) {
+				throw new RuntimeException("I/O error writing to " + file, e);
+			} finally {
+				transactionOwner = null;
+				transactionUndo.clear();
+				transactionCleared = false;
+				transactionFailure = null;
+				storeLock.notifyAll();
+			}
+			startCompactionIfNeeded();
+			if (Objects.nonNull(failure)) {
+				throw new RuntimeException("Rolled back a transaction in " + file + " after a failed store operation", failure);
+			}
+		}
+	}
+
+	/**
+	 * Discard the records of the open transaction and restore the items changed by the transaction - must be
+	 * called while holding the store lock
+	 * @throws IOException on an I/O error
+	 */
+	private void rollback() throws IOException {
+		logger.warn("Rolling back a transaction in {} after a failed store operation", file);
+		log.truncate(transactionStart);
+		// dictionary entries are kept since they have already been added to the codec
+		for (int id = transactionDictionarySize; id < codec.getDictionarySize(); id++) {
+			log.append(dictionaryRecord(id, codec.getDictionaryEntry(id)));
+		}
+		if (transactionCleared) {
+			slots.clear();
+		} else {
+			slots.values().removeIf(slot -> slot >= transactionSlotCount);
+		}
+		// the failed operation may have changed a cached item without logging the change
+		cache.clear();
+		slotIndex = null;
+		slotCount = transactionSlotCount;
+		for (Entry<Integer, long[]> entry : transactionUndo.entrySet()) {
+			int slot = entry.getKey();
+			heads[slot] = entry.getValue()[0];
+			snapshots[slot] = entry.getValue()[1];
+			chainLengths[slot] = (int)entry.getValue()[2];
+			if (heads[slot] != DELETED) {
+				slots.put(typedValueForSlot(slot).getObjectUri().toLowerCase(), slot);
+			}
+		}
+	}
+
+	/**
+	 * Force all changes to storage
+	 */
+	public void flush() {
+		synchronized (storeLock) {
+			log.force();
+		}
+	}
+
+	/**
+	 * @return the number of bytes used in the store file
+	 */
+	public long getFileSize() {
+		synchronized (storeLock) {
+			return log.size();
+		}
+	}
+
+	/**
+	 * @param compactionRatio ratio of the store file size to its size after the last compaction at which a
+	 * background compaction is started - 0 disables background compaction
+	 */
+	public void setCompactionRatio(int compactionRatio) {
+		if (compactionRatio < 0) {
+			throw new IllegalArgumentException("Compaction ratio can not be negative");
+		}
+		synchronized (storeLock) {
+			this.compactionRatio = compactionRatio;
+		}
+	}
+
+	/**
+	 * Start a background compaction if the log has grown enough since the last compaction - must be called
+	 * while holding the store lock
+	 */
+	private void startCompactionIfNeeded() {
+		long size = log.size();
+		if (compactionRatio > 0 && Objects.isNull(compaction) && !closed && size >= MIN_COMPACTION_SIZE &&
+				size >= compactedSize * compactionRatio) {
+			compactAsync();
+		}
+	}
+
+	/**
+	 * Start compacting the store file on a background thread unless a compaction is already running
+	 * @return future completed when the compaction completes
+	 */
+	public Future<?> compactAsync() {
+		synchronized (storeLock) {
+			if (Objects.isNull(compaction)) {
+				compaction = compactionExecutor.submit(() -> {
+					try {
+						compact();
+					} catch (IOException | InvalidSPDXAnalysisException e) {
+						logger.error("Error compacting " + file, e);
+					} finally {
+						synchronized (storeLock) {
+							compaction = null;
+						}
+					}
+				});
+			}
+			return compaction;
+		}
+	}
+
+	/**
+	 * Rewrite the store file with a single snapshot for each item, removing deleted items and superseded
+	 * records.  Store operations may continue while the store is compacted.
+	 * @throws IOException on an I/O error
+	 * @throws InvalidSPDXAnalysisException on an invalid record
+	 */
+	public void compact() throws IOException, InvalidSPDXAnalysisException {
+		int count;
+		synchronized (storeLock) {
+			if (transactionOwner == Thread.currentThread()) {
+				throw new IllegalStateException("The store can not be compacted within a write critical section");
+			}
+			awaitTransaction();
+			if (closed || Objects.nonNull(compactionLog)) {
+				return;
+			}
+			compactionGeneration = ++lastGeneration;
+			compactionLog = new MappedLogFile(generationFile(file, compactionGeneration), chunkSize);
+			for (int id = 0; id < codec.getDictionarySize(); id++) {
+				compactionLog.append(dictionaryRecord(id, codec.getDictionaryEntry(id)));
+			}
+			count = slotCount;
+			compactionHeads = new long[heads.length];
+			Arrays.fill(compactionHeads, DELETED);
+			compactionModified = new HashSet<>();
+			compactionAborted = false;
+		}
+		boolean completed = false;
+		try {
+			for (int start = 0; start < count; start += COMPACTION_BATCH_SIZE) {
+				synchronized (storeLock) {
+					// changes in an open transaction must not be copied
+					awaitTransaction();
+					if (compactionAborted || closed) {
+						return;
+					}
+					for (int slot = start; slot < Math.min(start + COMPACTION_BATCH_SIZE, count); slot++) {
+						copySnapshot(slot);
+					}
+					appendPendingRecords();
+					trimCache();
+				}
+			}
+			synchronized (storeLock) {
+				awaitTransaction();
+				if (compactionAborted || closed) {
+					return;
+				}
+				Set<Integer> recopy = new HashSet<>(compactionModified);
+				for (int slot = count; slot < slotCount; slot++) {
+					recopy.add(slot);
+				}
+				for (Integer slot : recopy) {
+					copySnapshot(slot);
+				}
+				appendPendingRecords();
+				compactionLog.append(markerRecord(RECORD_COMPACTED));
+				compactionLog.force();
+				// the new generation is used from here on when the store is opened
+				MappedLogFile previousLog = log;
+				Path previousFile = generationFile(file, generation);
+				log = compactionLog;
+				generation = compactionGeneration;
+				compactionLog = null;
+				previousLog.close();
+				long[] copiedHeads = Arrays.copyOf(compactionHeads, heads.length);
+				Arrays.fill(copiedHeads, Math.min(compactionHeads.length, copiedHeads.length), copiedHeads.length, DELETED);
+				heads = copiedHeads;
+				snapshots = Arrays.copyOf(copiedHeads, heads.length);
+				Arrays.fill(chainLengths, 0);
+				compactedSize = log.size();
+				writeIndex();
+				completed = true;
+				deleteLogFile(previousFile);
+			}
+		} finally {
+			synchronized (storeLock) {
+				compactionModified = null;
+				if (!completed && Objects.nonNull(compactionLog)) {
+					compactionLog.close();
+					compactionLog = null;
+					deleteLogFile(generationFile(file, compactionGeneration));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copy the current snapshot of an item to the compaction log - must be called while holding the store lock
+	 * @param slot item slot
+	 * @throws IOException on an I/O error
+	 * @throws InvalidSPDXAnalysisException on an invalid record
+	 */
+	private void copySnapshot(int slot) throws IOException, InvalidSPDXAnalysisException {
+		if (slot >= compactionHeads.length) {
+			compactionHeads = Arrays.copyOf(compactionHeads, heads.length);
+			Arrays.fill(compactionHeads, slot, compactionHeads.length, DELETED);
+		}
+		StoredItemCodec.Writer writer = new StoredItemCodec.Writer();
+		if (slot >= slotCount || heads[slot] == DELETED) {
+			if (compactionHeads[slot] != DELETED) {
+				// deleted after it was copied
+				StoredItemCodec.Reader reader = new StoredItemCodec.Reader(compactionLog.read(compactionHeads[slot]), 0);
+				reader.readByte();
+				reader.readVarInt();
+				writer.writeByte(RECORD_DELETE);
+				writer.writeVarInt(slot);
+				writer.writeString(codec.decodeObjectUri(reader));
+				compactionLog.append(writer.toByteArray());
+				compactionHeads[slot] = DELETED;
+			}
+			return;
+		}
+		StoredTypedItem item = loadItem(slot);
+		List<String> newEntries = new ArrayList<>();
+		writer.writeByte(RECORD_ITEM);
+		writer.writeVarInt(slot);
+		codec.encode(writer, item, newEntries);
+		appendDictionaryEntries(newEntries);
+		compactionHeads[slot] = compactionLog.append(writer.toByteArray());
+	}
+
+	/**
+	 * Save the index and close the store file - items are not deleted
+	 */
+	@Override
+	public void close() throws Exception {
+		Future<?> runningCompaction;
+		synchronized (storeLock) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			compactionAborted = true;
+			runningCompaction = compaction;
+		}
+		if (Objects.nonNull(runningCompaction)) {
+			try {
+				runningCompaction.get();
+			} catch (ExecutionException e) {
+				logger.warn("Error compacting " + file, e);
+			}
+		}
+		compactionExecutor.shutdown();
+		synchronized (storeLock) {
+			try {
+				if (Objects.isNull(transactionOwner)) {
+					// snapshot items with long record chains so that they load quickly when the store is reopened
+					for (Entry<Integer, StoredTypedItem> entry : new ArrayList<>(cache.entrySet())) {
+						if (chainLengths[entry.getKey()] >= SNAPSHOT_CHAIN_LENGTH) {
+							addSnapshot(entry.getKey(), entry.getValue());
+						}
+					}
+					appendPendingRecords();
+					writeIndex();
+				} else {
+					logger.warn("Closing {} with an open transaction - the transaction will not be recovered", file);
+				}
+			} finally {
+				cache.clear();
+				log.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * Property descriptor to slot index mapping shared by all {@link StoredTypedItem}s of the same type
+ * <p>
+ * Slots are assigned the first time a property is set on any item of the type and are never reassigned, so
+ * each item only needs an array of values indexed by slot.
+ *
+ * @author Gary O'Neall
+ */
+final class PropertySchema {
+
+	private static final ConcurrentHashMap<String, PropertySchema> SCHEMAS = new ConcurrentHashMap<>();
+
+	private final String type;
+	private final ConcurrentHashMap<PropertyDescriptor, Integer> slotIndexes = new ConcurrentHashMap<>();
+	private volatile PropertyDescriptor[] descriptors = new PropertyDescriptor[0];
+
+	private PropertySchema(String type) {
+		this.type = type;
+	}
+
+	/**
+	 * @param type item type
+	 * @return the schema shared by all items of the type
+	 */
+	static PropertySchema forType(String type) {
+		Objects.requireNonNull(type, "Type can not be null");
+		PropertySchema schema = SCHEMAS.get(type);
+		return Objects.nonNull(schema) ? schema : SCHEMAS.computeIfAbsent(type, PropertySchema::new);
+	}
+
+	/**
+	 * @param type item type
+	 * @return the type instance held by an existing schema for the type, or the type if there is no schema
+	 */
+	static String getExistingType(String type) {
+		if (Objects.isNull(type)) {
+			return null;
+		}
+		PropertySchema schema = SCHEMAS.get(type);
+		return Objects.nonNull(schema) ? schema.type : type;
+	}
+
+	/**
+	 * @return the type for the schema - the same instance is returned for all items of the type
+	 */
+	String getType() {
+		return type;
+	}
+
+	/**
+	 * @param propertyDescriptor property descriptor
+	 * @return the slot for the property, or -1 if no item of the type has had the property set
+	 */
+	int getSlot(PropertyDescriptor propertyDescriptor) {
+		Integer slot = slotIndexes.get(propertyDescriptor);
+		return Objects.isNull(slot) ? -1 : slot;
+	}
+
+	/**
+	 * @param propertyDescriptor property descriptor
+	 * @return the slot for the property, assigning a new slot if needed
+	 */
+	int getOrAddSlot(PropertyDescriptor propertyDescriptor) {
+		Integer slot = slotIndexes.get(propertyDescriptor);
+		if (Objects.nonNull(slot)) {
+			return slot;
+		}
+		synchronized (this) {
+			slot = slotIndexes.get(propertyDescriptor);
+			if (Objects.isNull(slot)) {
+				PropertyDescriptor[] updated = Arrays.copyOf(descriptors, descriptors.length + 1);
+				updated[descriptors.length] = propertyDescriptor;
+				descriptors = updated;
+				slot = descriptors.length - 1;
+				slotIndexes.put(propertyDescriptor, slot);
+			}
+			return slot;
+		}
+	}
+
+	/**
+	 * @param slot slot index
+	 * @return property descriptor for the slot
+	 */
+	PropertyDescriptor getPropertyDescriptor(int slot) {
+		return descriptors[slot];
+	}
+}
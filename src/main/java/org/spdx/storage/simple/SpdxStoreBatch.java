@@ -0,0 +1,254 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.DuplicateSpdxIdException;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.SpdxIdNotFoundException;
+import org.spdx.core.SpdxInvalidTypeException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * Collects item creations, property values and collection values to be applied to a store together
+ * <p>
+ * The batch is validated before any change is made - items must not already exist when created,
+ * items changed or referenced must exist or be created earlier in the batch, values must be of a
+ * type which can be stored and values may only be added to collection properties.  Stores in this package
+ * apply a batch while taking their locks once and update the reference counts for all values in a
+ * single pass.  Other stores apply the changes one at a time.
+ * <p>
+ * Not thread safe.
+ *
+ * @author Gary O'Neall
+ */
+public class SpdxStoreBatch {
+
+	enum OperationType {
+		CREATE,
+		SET_VALUE,
+		ADD_VALUE_TO_COLLECTION
+	}
+
+	/**
+	 * Single change in a batch
+	 */
+	static final class Operation {
+		private final OperationType type;
+		private final @Nullable TypedValue typedValue;
+		private final @Nullable String objectUri;
+		private final @Nullable PropertyDescriptor propertyDescriptor;
+		private final @Nullable Object value;
+
+		private Operation(OperationType type, @Nullable TypedValue typedValue, @Nullable String objectUri,
+				@Nullable PropertyDescriptor propertyDescriptor, @Nullable Object value) {
+			this.type = type;
+			this.typedValue = typedValue;
+			this.objectUri = objectUri;
+			this.propertyDescriptor = propertyDescriptor;
+			this.value = value;
+		}
+
+		OperationType getType() {
+			return type;
+		}
+
+		/**
+		 * @return the item to create for a create operation
+		 */
+		@Nullable TypedValue getTypedValue() {
+			return typedValue;
+		}
+
+		/**
+		 * @return the object URI of the item changed
+		 */
+		@Nullable String getObjectUri() {
+			return objectUri;
+		}
+
+		@Nullable PropertyDescriptor getPropertyDescriptor() {
+			return propertyDescriptor;
+		}
+
+		@Nullable Object getValue() {
+			return value;
+		}
+	}
+
+	private final List<Operation> operations = new ArrayList<>();
+
+	/**
+	 * Create an empty batch
+	 */
+	public SpdxStoreBatch() {
+		// Required empty constructor
+	}
+
+	/**
+	 * Add the creation of an item
+	 * @param typedValue item to create
+	 */
+	public void create(TypedValue typedValue) {
+		Objects.requireNonNull(typedValue, "Typed value can not be null");
+		operations.add(new Operation(OperationType.CREATE, typedValue, null, null, null));
+	}
+
+	/**
+	 * Add setting a property value
+	 * @param objectUri object URI of the item to change
+	 * @param propertyDescriptor descriptor for the property
+	 * @param value value to set
+	 */
+	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value) {
+		Objects.requireNonNull(objectUri, "Object URI can not be null");
+		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
+		Objects.requireNonNull(value, "Value can not be null");
+		operations.add(new Operation(OperationType.SET_VALUE, null, objectUri, propertyDescriptor, value));
+	}
+
+	/**
+	 * Add adding a value to a collection property
+	 * @param objectUri object URI of the item to change
+	 * @param propertyDescriptor descriptor for the property
+	 * @param value value to add
+	 */
+	public void addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) {
+		Objects.requireNonNull(objectUri, "Object URI can not be null");
+		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
+		Objects.requireNonNull(value, "Value can not be null");
+		operations.add(new Operation(OperationType.ADD_VALUE_TO_COLLECTION, null, objectUri, propertyDescriptor, value));
+	}
+
+	/**
+	 * @return the number of changes in the batch
+	 */
+	public int size() {
+		return operations.size();
+	}
+
+	/**
+	 * @return true if the batch has no changes
+	 */
+	public boolean isEmpty() {
+		return operations.isEmpty();
+	}
+
+	/**
+	 * @return the changes in the order they were added
+	 */
+	List<Operation> getOperations() {
+		return Collections.unmodifiableList(operations);
+	}
+
+	/**
+	 * Check that every item changed or referenced exists in the store or is created earlier in the batch,
+	 * that no created item already exists, that every value can be stored and that values are only added
+	 * to properties which are collections or have no value
+	 * @param store store the batch is to be applied to
+	 * @throws InvalidSPDXAnalysisException if the batch can not be applied to the store
+	 */
+	public void validate(IModelStore store) throws InvalidSPDXAnalysisException {
+		Set<String> created = new HashSet<>();
+		// object URI and property name to whether the property is a collection after the earlier changes in the batch
+		Map<String, Boolean> collectionProperties = new HashMap<>();
+		for (Operation operation : operations) {
+			if (OperationType.CREATE.equals(operation.getType())) {
+				String objectUri = operation.getTypedValue().getObjectUri();
+				if (!created.add(objectUri.toLowerCase()) || store.exists(objectUri)) {
+					throw new DuplicateSpdxIdException("Object URI "+objectUri+" already exists.");
+				}
+			} else {
+				String objectUri = operation.getObjectUri();
+				checkExists(store, created, objectUri);
+				if (operation.getValue() instanceof TypedValue) {
+					checkExists(store, created, ((TypedValue)operation.getValue()).getObjectUri());
+				}
+				PropertyDescriptor propertyDescriptor = operation.getPropertyDescriptor();
+				String propertyKey = objectUri.toLowerCase() + "#" + propertyDescriptor.getNameSpace() + propertyDescriptor.getName();
+				if (OperationType.SET_VALUE.equals(operation.getType())) {
+					StoredTypedItem.checkValueType(operation.getValue());
+					collectionProperties.put(propertyKey, false);
+				} else {
+					StoredTypedItem.checkListValueType(operation.getValue());
+					Boolean collection = collectionProperties.get(propertyKey);
+					if (Objects.isNull(collection)) {
+						collection = created.contains(objectUri.toLowerCase()) || 
+								store.isCollectionProperty(objectUri, propertyDescriptor) ||
+								!store.getValue(objectUri, propertyDescriptor).isPresent();
+					}
+					if (!collection) {
+						throw new SpdxInvalidTypeException("Trying to add a list for non list type for property "+propertyDescriptor);
+					}
+					collectionProperties.put(propertyKey, true);
+				}
+			}
+		}
+	}
+
+	private static void checkExists(IModelStore store, Set<String> created, String objectUri) throws SpdxIdNotFoundException {
+		if (!created.contains(objectUri.toLowerCase()) && !store.exists(objectUri)) {
+			throw new SpdxIdNotFoundException("Object URI "+objectUri+" was not found in the store or created earlier in the batch.");
+		}
+	}
+
+	/**
+	 * Validate and apply the batch to a store
+	 * @param store store to apply the changes to
+	 * @throws InvalidSPDXAnalysisException if the batch is not valid for the store or on an error applying a change
+	 */
+	public void applyTo(IModelStore store) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(store, "Store can not be null");
+		if (store instanceof InMemSpdxStore) {
+			((InMemSpdxStore)store).applyBatch(this);
+		} else if (store instanceof ExtendedSpdxStore) {
+			((ExtendedSpdxStore)store).applyBatch(this);
+		} else {
+			validate(store);
+			applyEach(store);
+		}
+	}
+
+	/**
+	 * Apply the changes to a store one at a time without validating the batch
+	 * @param store store to apply the changes to
+	 * @throws InvalidSPDXAnalysisException on an error applying a change
+	 */
+	void applyEach(IModelStore store) throws InvalidSPDXAnalysisException {
+		for (Operation operation : operations) {
+			switch (operation.getType()) {
+				case CREATE: store.create(operation.getTypedValue()); break;
+				case SET_VALUE: store.setValue(operation.getObjectUri(), operation.getPropertyDescriptor(), operation.getValue()); break;
+				case ADD_VALUE_TO_COLLECTION: store.addValueToCollection(operation.getObjectUri(), operation.getPropertyDescriptor(), operation.getValue()); break;
+				default: throw new InvalidSPDXAnalysisException("Unknown batch operation type " + operation.getType());
+			}
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.spdx.core.IndividualUriValue;
+import org.spdx.core.TypedValue;
+
+/**
+ * Values of a collection property stored in a {@link StoredTypedItem}
+ * <p>
+ * Members are kept in the order they were added and iterated without copying - iterators are weakly
+ * consistent and never throw a <code>ConcurrentModificationException</code>.  Members are also indexed
+ * by their case insensitive object URI (for typed values), individual URI or value so that size and
+ * membership checks do not walk the collection.  Duplicate values are retained.
+ * <p>
+ * Updates are synchronized on the collection; reads do not lock.
+ *
+ * @author Gary O'Neall
+ */
+final class StoredCollection {
+
+	/**
+	 * A value in the collection along with the order it was added
+	 */
+	private static final class Member {
+		final long sequence;
+		final Object value;
+
+		Member(long sequence, Object value) {
+			this.sequence = sequence;
+			this.value = value;
+		}
+	}
+
+	private final ConcurrentSkipListMap<Long, Object> members = new ConcurrentSkipListMap<>();
+	/**
+	 * Map of member key to either a single <code>Member</code> or an immutable <code>Member[]</code>
+	 */
+	private final ConcurrentHashMap<Object, Object> membersByKey = new ConcurrentHashMap<>();
+	private long nextSequence = 0;
+	private volatile int size = 0;
+
+	/**
+	 * @param value collection value
+	 * @return key used to index the value - values which are equal always have the same key
+	 */
+	private static Object memberKey(Object value) {
+		if (value instanceof TypedValue) {
+			// object URIs are case insensitive in the store
+			return ((TypedValue)value).getObjectUri().toLowerCase();
+		} else if (value instanceof IndividualUriValue) {
+			return ((IndividualUriValue)value).getIndividualURI();
+		} else {
+			return value;
+		}
+	}
+
+	/**
+	 * @param indexed single member or array of members
+	 * @return the members as an array
+	 */
+	private static Member[] toArray(Object indexed) {
+		return indexed instanceof Member ? new Member[] {(Member)indexed} : (Member[])indexed;
+	}
+
+	/**
+	 * Add a value to the end of the collection
+	 * @param value value to add
+	 * @return true
+	 */
+	synchronized boolean add(Object value) {
+		Objects.requireNonNull(value, "Value can not be null");
+		Member member = new Member(nextSequence++, value);
+		Object key = memberKey(value);
+		Object existing = membersByKey.get(key);
+		if (existing == null) {
+			membersByKey.put(key, member);
+		} else {
+			Member[] existingMembers = toArray(existing);
+			Member[] updated = Arrays.copyOf(existingMembers, existingMembers.length + 1);
+			updated[existingMembers.length] = member;
+			membersByKey.put(key, updated);
+		}
+		members.put(member.sequence, value);
+		size++;
+		return true;
+	}
+
+	/**
+	 * Remove the first occurrence of a value from the collection
+	 * @param value value to remove
+	 * @return true if the value was present
+	 */
+	synchronized boolean remove(Object value) {
+		Object key = memberKey(value);
+		Object existing = membersByKey.get(key);
+		if (existing == null) {
+			return false;
+		}
+		Member[] existingMembers = toArray(existing);
+		for (int i = 0; i < existingMembers.length; i++) {
+			if (value.equals(existingMembers[i].value)) {
+				if (existingMembers.length == 1) {
+					membersByKey.remove(key);
+				} else if (existingMembers.length == 2) {
+					membersByKey.put(key, existingMembers[1 - i]);
+				} else {
+					Member[] updated = new Member[existingMembers.length - 1];
+					System.arraycopy(existingMembers, 0, updated, 0, i);
+					System.arraycopy(existingMembers, i + 1, updated, i, existingMembers.length - i - 1);
+					membersByKey.put(key, updated);
+				}
+				members.remove(existingMembers[i].sequence);
+				size--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Remove all values from the collection
+	 */
+	synchronized void clear() {
+		members.clear();
+		membersByKey.clear();
+		size = 0;
+	}
+
+	/**
+	 * @return number of values in the collection
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param value value to check
+	 * @return true if the collection contains the value
+	 */
+	boolean contains(Object value) {
+		Object existing = membersByKey.get(memberKey(value));
+		if (existing == null) {
+			return false;
+		}
+		for (Member member : toArray(existing)) {
+			if (value.equals(member.value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param objectUri object URI - case insensitive
+	 * @return true if the collection contains a typed value with the object URI
+	 */
+	boolean containsObjectUri(String objectUri) {
+		Object existing = membersByKey.get(objectUri.toLowerCase());
+		if (existing == null) {
+			return false;
+		}
+		for (Member member : toArray(existing)) {
+			if (member.value instanceof TypedValue) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return weakly consistent iterator over the values in the order they were added
+	 */
+	Iterator<Object> iterator() {
+		return Collections.unmodifiableCollection(members.values()).iterator();
+	}
+}
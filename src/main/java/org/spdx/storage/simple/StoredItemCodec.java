@@ -0,0 +1,404 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.IndividualUriValue;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.SimpleUriValue;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * Compact binary encoding of {@link StoredTypedItem}s
+ * <p>
+ * Integers are variable length encoded and strings are UTF-8.  Types, spec versions and property
+ * descriptor names and namespaces are replaced by an ID from a dictionary of repeated strings.  New
+ * dictionary entries are reported to the caller when an item is encoded so that they can be stored ahead
+ * of the item.
+ * <p>
+ * Not thread safe - callers must synchronize access.
+ *
+ * @author Gary O'Neall
+ */
+final class StoredItemCodec {
+
+	private static final byte TAG_STRING = 1;
+	private static final byte TAG_TRUE = 2;
+	private static final byte TAG_FALSE = 3;
+	private static final byte TAG_INTEGER = 4;
+	private static final byte TAG_DOUBLE = 5;
+	private static final byte TAG_FLOAT = 6;
+	private static final byte TAG_TYPED_VALUE = 7;
+	private static final byte TAG_INDIVIDUAL_URI = 8;
+	private static final byte TAG_COLLECTION = 9;
+
+	/**
+	 * Creates the item for a decoded item record
+	 */
+	@FunctionalInterface
+	interface ItemFactory {
+		StoredTypedItem create(String objectUri, String type, String specVersion) throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Growable output buffer
+	 */
+	static final class Writer {
+		private byte[] bytes = new byte[256];
+		private int length = 0;
+
+		private void ensureCapacity(int additional) {
+			if (length + additional > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+			}
+		}
+
+		void writeByte(int value) {
+			ensureCapacity(1);
+			bytes[length++] = (byte)value;
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				bytes[length++] = (byte)((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			bytes[length++] = (byte)value;
+		}
+
+		void writeVarInt(int value) {
+			writeVarLong(value & 0xFFFFFFFFL);
+		}
+
+		void writeString(String value) {
+			byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(encoded.length);
+			ensureCapacity(encoded.length);
+			System.arraycopy(encoded, 0, bytes, length, encoded.length);
+			length += encoded.length;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(bytes, length);
+		}
+	}
+
+	/**
+	 * Input over an encoded record
+	 */
+	static final class Reader {
+		private final byte[] bytes;
+		private int position;
+
+		Reader(byte[] bytes, int position) {
+			this.bytes = bytes;
+			this.position = position;
+		}
+
+		byte readByte() {
+			return bytes[position++];
+		}
+
+		long readVarLong() {
+			long result = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = bytes[position++];
+				result |= (long)(b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return result;
+		}
+
+		int readVarInt() {
+			return (int)readVarLong();
+		}
+
+		String readString() {
+			int length = readVarInt();
+			String result = new String(bytes, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return result;
+		}
+	}
+
+	private final Map<String, Integer> dictionaryIds = new HashMap<>();
+	private final List<String> dictionary = new ArrayList<>();
+	private final Map<Long, PropertyDescriptor> propertyDescriptors = new HashMap<>();
+
+	/**
+	 * Add an entry previously reported by <code>encode</code>
+	 * @param id dictionary ID
+	 * @param value dictionary string
+	 */
+	void addDictionaryEntry(int id, String value) {
+		while (dictionary.size() <= id) {
+			dictionary.add(null);
+		}
+		dictionary.set(id, value);
+		dictionaryIds.put(value, id);
+	}
+
+	/**
+	 * @return number of dictionary entries
+	 */
+	int getDictionarySize() {
+		return dictionary.size();
+	}
+
+	/**
+	 * @param id dictionary ID
+	 * @return the dictionary string for the ID
+	 */
+	String getDictionaryEntry(int id) {
+		return dictionary.get(id);
+	}
+
+	private void writeDictionaryString(Writer writer, @Nullable String value, List<String> newEntries) {
+		if (Objects.isNull(value)) {
+			writer.writeVarInt(0);
+			return;
+		}
+		Integer id = dictionaryIds.get(value);
+		if (Objects.isNull(id)) {
+			id = dictionary.size();
+			addDictionaryEntry(id, value);
+			newEntries.add(value);
+		}
+		writer.writeVarInt(id + 1);
+	}
+
+	private @Nullable String readDictionaryString(Reader reader) {
+		int id = reader.readVarInt();
+		return id == 0 ? null : dictionary.get(id - 1);
+	}
+
+	/**
+	 * @param writer writer for the encoded property descriptor
+	 * @param propertyDescriptor property descriptor to encode
+	 * @param newEntries strings added to the dictionary while encoding
+	 */
+	void writePropertyDescriptor(Writer writer, PropertyDescriptor propertyDescriptor, List<String> newEntries) {
+		writeDictionaryString(writer, propertyDescriptor.getName(), newEntries);
+		writeDictionaryString(writer, propertyDescriptor.getNameSpace(), newEntries);
+	}
+
+	/**
+	 * @param reader reader positioned at an encoded property descriptor
+	 * @return the decoded property descriptor
+	 */
+	PropertyDescriptor readPropertyDescriptor(Reader reader) {
+		int nameId = reader.readVarInt();
+		int nameSpaceId = reader.readVarInt();
+		// share one descriptor instance per name and namespace
+		return propertyDescriptors.computeIfAbsent(((long)nameId << 32) | nameSpaceId,
+				key -> new PropertyDescriptor(dictionary.get(nameId - 1), dictionary.get(nameSpaceId - 1)));
+	}
+
+	/**
+	 * @param writer writer for the encoded value
+	 * @param value single value or stored collection to encode
+	 * @param newEntries strings added to the dictionary while encoding
+	 */
+	void writeValue(Writer writer, Object value, List<String> newEntries) {
+		if (value instanceof String) {
+			writer.writeByte(TAG_STRING);
+			writer.writeString((String)value);
+		} else if (value instanceof Boolean) {
+			writer.writeByte((Boolean)value ? TAG_TRUE : TAG_FALSE);
+		} else if (value instanceof Integer) {
+			writer.writeByte(TAG_INTEGER);
+			int i = (Integer)value;
+			writer.writeVarInt((i << 1) ^ (i >> 31));
+		} else if (value instanceof Double) {
+			writer.writeByte(TAG_DOUBLE);
+			writer.writeVarLong(Double.doubleToRawLongBits((Double)value));
+		} else if (value instanceof Float) {
+			writer.writeByte(TAG_FLOAT);
+			writer.writeVarInt(Float.floatToRawIntBits((Float)value));
+		} else if (value instanceof TypedValue) {
+			TypedValue tv = (TypedValue)value;
+			writer.writeByte(TAG_TYPED_VALUE);
+			writer.writeString(tv.getObjectUri());
+			writeDictionaryString(writer, tv.getType(), newEntries);
+			writeDictionaryString(writer, tv.getSpecVersion(), newEntries);
+		} else if (value instanceof IndividualUriValue) {
+			writer.writeByte(TAG_INDIVIDUAL_URI);
+			writer.writeString(((IndividualUriValue)value).getIndividualURI());
+		} else if (value instanceof StoredCollection) {
+			StoredCollection collection = (StoredCollection)value;
+			List<Object> members = new ArrayList<>(collection.size());
+			Iterator<Object> iter = collection.iterator();
+			while (iter.hasNext()) {
+				members.add(iter.next());
+			}
+			writer.writeByte(TAG_COLLECTION);
+			writer.writeVarInt(members.size());
+			for (Object member : members) {
+				writeValue(writer, member, newEntries);
+			}
+		} else {
+			throw new IllegalArgumentException(value.getClass() + " is not a supported class to be stored.");
+		}
+	}
+
+	/**
+	 * @param reader reader positioned at an encoded single value
+	 * @return the decoded value
+	 * @throws InvalidSPDXAnalysisException on an invalid value
+	 */
+	Object readValue(Reader reader) throws InvalidSPDXAnalysisException {
+		return readValue(reader, reader.readByte());
+	}
+
+	private Object readValue(Reader reader, byte tag) throws InvalidSPDXAnalysisException {
+		switch (tag) {
+			case TAG_STRING: return reader.readString();
+			case TAG_TRUE: return Boolean.TRUE;
+			case TAG_FALSE: return Boolean.FALSE;
+			case TAG_INTEGER: {
+				int i = reader.readVarInt();
+				return (i >>> 1) ^ -(i & 1);
+			}
+			case TAG_DOUBLE: return Double.longBitsToDouble(reader.readVarLong());
+			case TAG_FLOAT: return Float.intBitsToFloat(reader.readVarInt());
+			case TAG_TYPED_VALUE: {
+				String objectUri = reader.readString();
+				String type = readDictionaryString(reader);
+				return new TypedValue(objectUri, type, readDictionaryString(reader));
+			}
+			case TAG_INDIVIDUAL_URI: return new SimpleUriValue(reader.readString());
+			default: throw new InvalidSPDXAnalysisException("Unknown value tag " + tag + " in stored item record");
+		}
+	}
+
+	/**
+	 * Encode an item
+	 * @param writer writer for the encoded item
+	 * @param item item to encode
+	 * @param newEntries strings added to the dictionary while encoding the item
+	 */
+	void encode(Writer writer, StoredTypedItem item, List<String> newEntries) {
+		writer.writeString(item.getObjectUri());
+		writeDictionaryString(writer, item.getType(), newEntries);
+		writeDictionaryString(writer, item.getSpecVersion(), newEntries);
+		Map<IncomingReference, Integer> incomingReferences = item.getIncomingReferenceCounts();
+		int untrackedReferences = item.getReferenceCount();
+		writer.writeVarInt(incomingReferences.size());
+		for (Entry<IncomingReference, Integer> entry : incomingReferences.entrySet()) {
+			writer.writeString(entry.getKey().getObjectUri());
+			writePropertyDescriptor(writer, entry.getKey().getPropertyDescriptor(), newEntries);
+			writer.writeVarInt(entry.getValue());
+			untrackedReferences -= entry.getValue();
+		}
+		writer.writeVarInt(Math.max(untrackedReferences, 0));
+		List<PropertyDescriptor> properties = item.getPropertyValueDescriptors();
+		writer.writeVarInt(properties.size());
+		for (PropertyDescriptor propertyDescriptor : properties) {
+			writePropertyDescriptor(writer, propertyDescriptor, newEntries);
+			writeValue(writer, item.getValue(propertyDescriptor), newEntries);
+		}
+	}
+
+	/**
+	 * Decode only the object URI, type and spec version of an item
+	 * @param reader reader positioned at the start of the encoded item
+	 * @return typed value for the item
+	 * @throws InvalidSPDXAnalysisException on an invalid type
+	 */
+	TypedValue decodeTypedValue(Reader reader) throws InvalidSPDXAnalysisException {
+		String objectUri = reader.readString();
+		String type = readDictionaryString(reader);
+		return new TypedValue(objectUri, type, readDictionaryString(reader));
+	}
+
+	/**
+	 * Decode only the object URI of an item
+	 * @param reader reader positioned at the start of the encoded item
+	 * @return object URI of the item
+	 */
+	String decodeObjectUri(Reader reader) {
+		return reader.readString();
+	}
+
+	/**
+	 * Decode an item
+	 * @param reader reader positioned at the start of the encoded item
+	 * @return the decoded item
+	 * @throws InvalidSPDXAnalysisException on an invalid item record
+	 */
+	StoredTypedItem decode(Reader reader) throws InvalidSPDXAnalysisException {
+		return decode(reader, StoredTypedItem::new);
+	}
+
+	/**
+	 * Decode an item
+	 * @param reader reader positioned at the start of the encoded item
+	 * @param factory creates the item which is filled with the decoded values
+	 * @return the decoded item
+	 * @throws InvalidSPDXAnalysisException on an invalid item record
+	 */
+	StoredTypedItem decode(Reader reader, ItemFactory factory) throws InvalidSPDXAnalysisException {
+		String objectUri = reader.readString();
+		String type = readDictionaryString(reader);
+		StoredTypedItem item = factory.create(objectUri, type, readDictionaryString(reader));
+		int incomingReferenceCount = reader.readVarInt();
+		for (int i = 0; i < incomingReferenceCount; i++) {
+			String referringObjectUri = reader.readString();
+			PropertyDescriptor propertyDescriptor = readPropertyDescriptor(reader);
+			int count = reader.readVarInt();
+			for (int j = 0; j < count; j++) {
+				item.addIncomingReference(referringObjectUri, propertyDescriptor);
+			}
+		}
+		int untrackedReferences = reader.readVarInt();
+		for (int i = 0; i < untrackedReferences; i++) {
+			item.incReferenceCount();
+		}
+		int propertyCount = reader.readVarInt();
+		for (int i = 0; i < propertyCount; i++) {
+			PropertyDescriptor propertyDescriptor = readPropertyDescriptor(reader);
+			byte tag = reader.readByte();
+			if (tag == TAG_COLLECTION) {
+				int size = reader.readVarInt();
+				// collectionSize creates an empty collection for the property
+				item.collectionSize(propertyDescriptor);
+				for (int j = 0; j < size; j++) {
+					item.addValueToList(propertyDescriptor, readValue(reader, reader.readByte()));
+				}
+			} else {
+				item.setValue(propertyDescriptor, readValue(reader, tag));
+			}
+		}
+		return item;
+	}
+}
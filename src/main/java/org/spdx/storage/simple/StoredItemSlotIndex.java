@@ -0,0 +1,95 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Type and namespace indexes of the item slots in a store which keeps its items off the heap
+ * <p>
+ * Each index is a bit set of slots, so the indexes cost a few bits per item.  Slots are not removed when
+ * an item is deleted - the store skips deleted slots.  Namespace keys are the same as for
+ * {@link StoredTypedItemIndex}.  Not thread safe - the store synchronizes access.
+ *
+ * @author Gary O'Neall
+ */
+class StoredItemSlotIndex {
+
+	private final Map<String, BitSet> typeSlots = new HashMap<>();
+	private final TreeMap<String, BitSet> namespaceSlots = new TreeMap<>();
+
+	/**
+	 * @param slot item slot
+	 * @param objectUri object URI of the item
+	 * @param type type of the item
+	 */
+	void add(int slot, String objectUri, String type) {
+		typeSlots.computeIfAbsent(type, k -> new BitSet()).set(slot);
+		namespaceSlots.computeIfAbsent(StoredTypedItemIndex.namespaceKey(objectUri), k -> new BitSet()).set(slot);
+	}
+
+	/**
+	 * Remove all slots from the indexes
+	 */
+	void clear() {
+		typeSlots.clear();
+		namespaceSlots.clear();
+	}
+
+	/**
+	 * @param nameSpace optional prefix the object URI must start with
+	 * @param typeFilter optional type the item must match
+	 * @param slotCount number of slots in the store
+	 * @return a new set of the slots which may hold matching items - the object URI of items in the slots
+	 * must still be checked against the namespace
+	 */
+	BitSet candidates(@Nullable String nameSpace, @Nullable String typeFilter, int slotCount) {
+		BitSet retval = new BitSet(slotCount);
+		if (Objects.isNull(nameSpace)) {
+			retval.set(0, slotCount);
+		} else {
+			for (Map.Entry<String, BitSet> entry : namespaceSlots.tailMap(nameSpace, true).entrySet()) {
+				if (!entry.getKey().startsWith(nameSpace)) {
+					break;
+				}
+				retval.or(entry.getValue());
+			}
+			for (String key : StoredTypedItemIndex.prefixNamespaceKeys(nameSpace)) {
+				BitSet slots = namespaceSlots.get(key);
+				if (Objects.nonNull(slots)) {
+					retval.or(slots);
+				}
+			}
+		}
+		if (Objects.nonNull(typeFilter)) {
+			BitSet slots = typeSlots.get(typeFilter);
+			if (Objects.isNull(slots)) {
+				retval.clear();
+			} else {
+				retval.and(slots);
+			}
+		}
+		return retval;
+	}
+}
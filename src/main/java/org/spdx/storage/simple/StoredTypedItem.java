@@ -18,16 +18,18 @@
 package org.spdx.storage.simple;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,13 +53,40 @@ public class StoredTypedItem extends TypedValue {
 
 	static final Logger logger = LoggerFactory.getLogger(StoredTypedItem.class);
 
-	private static final String NO_ID_ID = "__NO_ID__";  // ID to use in list has map for non-typed values
-	
-	private final ConcurrentHashMap<PropertyDescriptor, Object> properties = new ConcurrentHashMap<>();
-	
-	private int referenceCount = 0;
+	private static final Object[] NO_VALUES = new Object[0];
+
+	/**
+	 * Spec versions seen so far - used to share one instance of each spec version string
+	 */
+	private static final ConcurrentHashMap<String, String> SPEC_VERSIONS = new ConcurrentHashMap<>();
+
+	private static final AtomicReferenceFieldUpdater<StoredTypedItem, Object[]> VALUES_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(StoredTypedItem.class, Object[].class, "values");
+
+	private static final AtomicIntegerFieldUpdater<StoredTypedItem> REFERENCE_COUNT_UPDATER =
+			AtomicIntegerFieldUpdater.newUpdater(StoredTypedItem.class, "referenceCount");
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<StoredTypedItem, ConcurrentHashMap> INCOMING_REFERENCES_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(StoredTypedItem.class, ConcurrentHashMap.class, "incomingReferences");
+
+	/**
+	 * Property slots shared by all items of this type
+	 */
+	private final PropertySchema schema;
+
+	/**
+	 * Property values indexed by the schema slot - replaced rather than modified on update so that
+	 * reads do not need to lock
+	 */
+	private volatile Object[] values = NO_VALUES;
 	
-	private final ReadWriteLock countLock = new ReentrantReadWriteLock();
+	private volatile int referenceCount = 0;
+
+	/**
+	 * Number of references to this item by referring item and property - created on the first reference
+	 */
+	private volatile ConcurrentHashMap<IncomingReference, Integer> incomingReferences = null;
 
 	/**
 	 * Construct a new {@link StoredTypedItem} with the specified object URI, type, and
@@ -73,7 +102,46 @@ public class StoredTypedItem extends TypedValue {
 	 *         constraints.
 	 */
 	public StoredTypedItem(String objectUri, String type, String specVersion) throws InvalidSPDXAnalysisException {
-		super(objectUri, type, specVersion);
+		super(objectUri, PropertySchema.getExistingType(type), 
+				Objects.isNull(specVersion) ? null : SPEC_VERSIONS.getOrDefault(specVersion, specVersion));
+		this.schema = PropertySchema.forType(getType());
+		SPEC_VERSIONS.putIfAbsent(getSpecVersion(), getSpecVersion());
+	}
+
+	/**
+	 * @param propertyDescriptor property descriptor
+	 * @return value for the property or null if not set
+	 */
+	private Object getProperty(PropertyDescriptor propertyDescriptor) {
+		int slot = schema.getSlot(propertyDescriptor);
+		Object[] current = values;
+		return slot >= 0 && slot < current.length ? current[slot] : null;
+	}
+
+	/**
+	 * Set or remove the value for a property
+	 * @param propertyDescriptor property descriptor
+	 * @param value new value - null to remove the property
+	 * @param onlyIfAbsent only set the value if the property does not have a value
+	 * @return the previous value or null if the property was not set
+	 */
+	private Object putProperty(PropertyDescriptor propertyDescriptor, Object value, boolean onlyIfAbsent) {
+		int slot = Objects.isNull(value) ? schema.getSlot(propertyDescriptor) : schema.getOrAddSlot(propertyDescriptor);
+		if (slot < 0) {
+			return null;
+		}
+		while (true) {
+			Object[] current = values;
+			Object previous = slot < current.length ? current[slot] : null;
+			if (previous == value || (onlyIfAbsent && Objects.nonNull(previous))) {
+				return previous;
+			}
+			Object[] updated = Arrays.copyOf(current, Math.max(current.length, slot + 1));
+			updated[slot] = value;
+			if (VALUES_UPDATER.compareAndSet(this, current, updated)) {
+				return previous;
+			}
+		}
 	}
 
 	/**
@@ -86,11 +154,12 @@ public class StoredTypedItem extends TypedValue {
 	 *         the properties that have values.
 	 */
 	public List<PropertyDescriptor> getPropertyValueDescriptors() {
-		Iterator<Entry<PropertyDescriptor, Object>> iter = this.properties.entrySet().iterator();
+		Object[] current = values;
 		List<PropertyDescriptor> retval = new ArrayList<>();
-		while (iter.hasNext()) {
-			Entry<PropertyDescriptor, Object> entry = iter.next();
-			retval.add(entry.getKey());
+		for (int slot = 0; slot < current.length; slot++) {
+			if (Objects.nonNull(current[slot])) {
+				retval.add(schema.getPropertyDescriptor(slot));
+			}
 		}
 		return Collections.unmodifiableList(retval);
 	}
@@ -103,13 +172,7 @@ public class StoredTypedItem extends TypedValue {
 	 */
 	@SuppressWarnings("UnusedReturnValue")
     public int incReferenceCount() {
-	    countLock.writeLock().lock();
-	    try {
-	        this.referenceCount++;
-	        return this.referenceCount;
-	    } finally {
-	        countLock.writeLock().unlock();
-	    }
+		return REFERENCE_COUNT_UPDATER.incrementAndGet(this);
 	}
 	
 	/**
@@ -119,16 +182,15 @@ public class StoredTypedItem extends TypedValue {
 	 * @throws SpdxInvalidTypeException on invalid type
 	 */
 	public int decReferenceCount() throws SpdxInvalidTypeException {
-	       countLock.writeLock().lock();
-           try {
-               if (this.referenceCount < 1) {
-                   throw new SpdxInvalidTypeException("Usage count underflow - usage count decremented more than incremented");
-               }
-               this.referenceCount--;
-               return this.referenceCount;
-           } finally {
-               countLock.writeLock().unlock();
-           }
+		while (true) {
+			int current = referenceCount;
+			if (current < 1) {
+				throw new SpdxInvalidTypeException("Usage count underflow - usage count decremented more than incremented");
+			}
+			if (REFERENCE_COUNT_UPDATER.compareAndSet(this, current, current - 1)) {
+				return current - 1;
+			}
+		}
 	}
 
 	/**
@@ -137,14 +199,95 @@ public class StoredTypedItem extends TypedValue {
      * @return The current number of times this item is referenced.
      */
     public int getReferenceCount() {
-           countLock.readLock().lock();
-           try {
-               return this.referenceCount;
-           } finally {
-               countLock.readLock().unlock();
-           }
+		return referenceCount;
     }
 
+	/**
+	 * Record a reference to this item and increment the reference count
+	 *
+	 * @param referringObjectUri object URI of the item holding the reference
+	 * @param propertyDescriptor property holding the reference
+	 * @return The new number of times this item is referenced.
+	 */
+	@SuppressWarnings("unchecked")
+	public int addIncomingReference(String referringObjectUri, PropertyDescriptor propertyDescriptor) {
+		IncomingReference reference = new IncomingReference(referringObjectUri, propertyDescriptor);
+		ConcurrentHashMap<IncomingReference, Integer> references = incomingReferences;
+		if (Objects.isNull(references)) {
+			INCOMING_REFERENCES_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+			references = incomingReferences;
+		}
+		references.merge(reference, 1, Integer::sum);
+		return incReferenceCount();
+	}
+
+	/**
+	 * Record a number of references to this item from the same property and add the number to the
+	 * reference count
+	 *
+	 * @param referringObjectUri object URI of the item holding the references
+	 * @param propertyDescriptor property holding the references
+	 * @param count number of references
+	 * @return The new number of times this item is referenced.
+	 */
+	@SuppressWarnings("unchecked")
+	int addIncomingReferences(String referringObjectUri, PropertyDescriptor propertyDescriptor, int count) {
+		ConcurrentHashMap<IncomingReference, Integer> references = incomingReferences;
+		if (Objects.isNull(references)) {
+			INCOMING_REFERENCES_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+			references = incomingReferences;
+		}
+		references.merge(new IncomingReference(referringObjectUri, propertyDescriptor), count, Integer::sum);
+		return REFERENCE_COUNT_UPDATER.addAndGet(this, count);
+	}
+
+	/**
+	 * Remove a reference to this item recorded by <code>addIncomingReference</code> and decrement the
+	 * reference count
+	 *
+	 * @param referringObjectUri object URI of the item holding the reference
+	 * @param propertyDescriptor property holding the reference
+	 * @return The new number of times this item is referenced.
+	 * @throws SpdxInvalidTypeException if the reference count underflows
+	 */
+	public int removeIncomingReference(String referringObjectUri, PropertyDescriptor propertyDescriptor)
+			throws SpdxInvalidTypeException {
+		int retval = decReferenceCount();
+		ConcurrentHashMap<IncomingReference, Integer> references = incomingReferences;
+		if (Objects.nonNull(references)) {
+			references.computeIfPresent(new IncomingReference(referringObjectUri, propertyDescriptor),
+					(k, count) -> count > 1 ? count - 1 : null);
+		}
+		return retval;
+	}
+
+	/**
+	 * Retrieve the items and properties referencing this item
+	 * <p>
+	 * Only references recorded by <code>addIncomingReference</code> are included.  An item which
+	 * references this item more than once from the same property is included once.
+	 *
+	 * @return An unmodifiable {@link List} of the references to this item.
+	 */
+	public List<IncomingReference> getIncomingReferences() {
+		ConcurrentHashMap<IncomingReference, Integer> references = incomingReferences;
+		if (Objects.isNull(references)) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(new ArrayList<>(references.keySet()));
+	}
+
+	/**
+	 * @return the number of times each incoming reference was recorded
+	 */
+	Map<IncomingReference, Integer> getIncomingReferenceCounts() {
+		ConcurrentHashMap<IncomingReference, Integer> references = incomingReferences;
+		if (Objects.isNull(references)) {
+			return Collections.emptyMap();
+		}
+		return Collections.unmodifiableMap(new LinkedHashMap<>(references));
+	}
+
 	/**
 	 * Set the value for the specified property descriptor
 	 *
@@ -156,6 +299,15 @@ public class StoredTypedItem extends TypedValue {
 			throws SpdxInvalidTypeException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
 		Objects.requireNonNull(value, "Value can not be null");
+		checkValueType(value);
+		putProperty(propertyDescriptor, value, false);
+	}
+
+	/**
+	 * @param value value to be set for a property
+	 * @throws SpdxInvalidTypeException if the value can not be stored by <code>setValue</code>
+	 */
+	static void checkValueType(Object value) throws SpdxInvalidTypeException {
 		if (value instanceof CoreModelObject) {
 			throw new SpdxInvalidTypeException("Can not store Model Object in store.  Convert to TypedValue first");
 		} else if (value instanceof Collection) {
@@ -170,7 +322,23 @@ public class StoredTypedItem extends TypedValue {
 				!(value instanceof IndividualUriValue)) {
 			throw new SpdxInvalidTypeException(value.getClass() +" is not a supported class to be stored.");
 		}
-		properties.put(propertyDescriptor, value);
+	}
+
+	/**
+	 * @param value value to be added to a property list
+	 * @throws SpdxInvalidTypeException if the value can not be stored by <code>addValueToList</code>
+	 */
+	static void checkListValueType(Object value) throws SpdxInvalidTypeException {
+		if (value instanceof CoreModelObject) {
+			throw new SpdxInvalidTypeException("Can not store Model Object in store.  Convert to TypedValue first");
+		} else if (!value.getClass().isPrimitive() &&
+				!String.class.isAssignableFrom(value.getClass()) &&
+				!Boolean.class.isAssignableFrom(value.getClass()) &&
+				!Integer.class.isAssignableFrom(value.getClass()) &&
+				!TypedValue.class.isAssignableFrom(value.getClass()) &&
+				!(value instanceof IndividualUriValue)) {
+			throw new SpdxInvalidTypeException(value.getClass() +" is not a supported class to be stored.");
+		}
 	}
 
 	/**
@@ -183,12 +351,12 @@ public class StoredTypedItem extends TypedValue {
 	public void clearPropertyValueList(PropertyDescriptor propertyDescriptor)
 			throws SpdxInvalidTypeException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
-		Object value = properties.get(propertyDescriptor);
+		Object value = getProperty(propertyDescriptor);
 		if (value == null) {
 			return;
 		}
-		if (value instanceof ConcurrentHashMap<?, ?>) {
-			((ConcurrentHashMap<?, ?>)value).clear();
+		if (value instanceof StoredCollection) {
+			((StoredCollection)value).clear();
 		} else {
 			throw new SpdxInvalidTypeException("Trying to clear a list for non list type for property "+propertyDescriptor);
 		}
@@ -207,48 +375,20 @@ public class StoredTypedItem extends TypedValue {
 			throws SpdxInvalidTypeException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
 		Objects.requireNonNull(value, "Value can not be null");
-		if (value instanceof CoreModelObject) {
-			throw new SpdxInvalidTypeException("Can not store Model Object in store.  Convert to TypedValue first");
-		} else if (!value.getClass().isPrimitive() &&
-				!String.class.isAssignableFrom(value.getClass()) &&
-				!Boolean.class.isAssignableFrom(value.getClass()) &&
-				!Integer.class.isAssignableFrom(value.getClass()) &&
-				!TypedValue.class.isAssignableFrom(value.getClass()) &&
-				!(value instanceof IndividualUriValue)) {
-			throw new SpdxInvalidTypeException(value.getClass() +" is not a supported class to be stored.");
-		}
-		Object map = properties.get(propertyDescriptor);
-		if (map == null) {
-			properties.putIfAbsent(propertyDescriptor,  new ConcurrentHashMap<String, List<Object>>());
-			map = properties.get(propertyDescriptor);	
+		checkListValueType(value);
+		Object collection = getProperty(propertyDescriptor);
+		if (collection == null) {
+			putProperty(propertyDescriptor, new StoredCollection(), true);
+			collection = getProperty(propertyDescriptor);	
 			//Note: there is a small timing window where the property could be removed
-			if (map == null) {
+			if (collection == null) {
 				return true;
 			}
 		}
-		if (!(map instanceof ConcurrentHashMap<?, ?>)) {
+		if (!(collection instanceof StoredCollection)) {
 			throw new SpdxInvalidTypeException("Trying to add a list for non list type for property "+propertyDescriptor);
 		}
-		try {
-			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<String, List<Object>> idValueMap = (ConcurrentHashMap<String, List<Object>>)map;
-			String id;
-			if (value instanceof TypedValue) {
-				id = ((TypedValue)value).getObjectUri();
-			} else {
-				id = NO_ID_ID;
-			}
-			idValueMap.putIfAbsent(id, new ArrayList<>());
-			List<Object> list = idValueMap.get(id);
-			if (list == null) {
-				// handle the very small window where this may have gotten removed
-				list = new ArrayList<>();
-				idValueMap.putIfAbsent(id, list);
-			}
-			return list.add(value);
-		} catch (Exception ex) {
-			throw new SpdxInvalidTypeException("Invalid list type for "+propertyDescriptor);
-		}
+		return ((StoredCollection)collection).add(value);
 	}
 
 	/**
@@ -261,24 +401,14 @@ public class StoredTypedItem extends TypedValue {
 	 */
 	public boolean removeTypedValueFromList(PropertyDescriptor propertyDescriptor, TypedValue value)
 			throws SpdxInvalidTypeException {
-		Object map = properties.get(propertyDescriptor);
-		if (map == null) {
+		Object collection = getProperty(propertyDescriptor);
+		if (collection == null) {
 			return false;
 		}
-		if (!(map instanceof ConcurrentHashMap<?, ?>)) {
+		if (!(collection instanceof StoredCollection)) {
 			throw new SpdxInvalidTypeException("Trying to remove from a list for non typed value list type for property "+propertyDescriptor);
 		}
-		try {
-			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<String, List<TypedValue>> typedValueMap = (ConcurrentHashMap<String, List<TypedValue>>)map;
-			List<TypedValue> list = typedValueMap.get(value.getObjectUri());
-			if (list == null) {
-				return false;
-			}
-			return list.remove(value);
-		} catch (Exception ex) {
-			throw new SpdxInvalidTypeException("Invalid list type for "+propertyDescriptor);
-		}
+		return ((StoredCollection)collection).remove(value);
 	}
 
 	/**
@@ -293,30 +423,14 @@ public class StoredTypedItem extends TypedValue {
 			throws SpdxInvalidTypeException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
 		Objects.requireNonNull(value, "Value can not be null");
-		Object map = properties.get(propertyDescriptor);
-		if (map == null) {
+		Object collection = getProperty(propertyDescriptor);
+		if (collection == null) {
 			return false;
 		}
-		if (!(map instanceof ConcurrentHashMap<?, ?>)) {
+		if (!(collection instanceof StoredCollection)) {
 			throw new SpdxInvalidTypeException("Trying to remove from a list for non list type for property "+propertyDescriptor);
 		}
-		try {
-			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<String, List<Object>> idValueMap = (ConcurrentHashMap<String, List<Object>>)map;
-			String id;
-			if (value instanceof TypedValue) {
-				id = ((TypedValue)value).getObjectUri();
-			} else {
-				id = NO_ID_ID;
-			}
-			List<Object> list = idValueMap.get(id);
-			if (list == null) {
-				return false;
-			}
-			return list.remove(value);
-		} catch (Exception ex) {
-			throw new SpdxInvalidTypeException("Invalid list type for "+propertyDescriptor);
-		}
+		return ((StoredCollection)collection).remove(value);
 	}
 
 	/**
@@ -324,28 +438,21 @@ public class StoredTypedItem extends TypedValue {
 	 * descriptor
 	 *
 	 * @param propertyDescriptor The descriptor for the property. Must not be {@code null}.
-	 * @return An {@link Iterator} over the list of values associated with the property descriptor.
-	 *         If no values exist, an empty iterator is returned.
+	 * @return An {@link Iterator} over the list of values associated with the property descriptor
+	 *         in the order they were added.  The iterator does not copy the values and is weakly
+	 *         consistent with concurrent updates.  If no values exist, an empty iterator is returned.
 	 * @throws SpdxInvalidTypeException If the property is not associated with a list or if the type
 	 *         is invalid.
 	 */
 	public Iterator<Object> getValueList(PropertyDescriptor propertyDescriptor)
 			throws SpdxInvalidTypeException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
-		Object list = properties.get(propertyDescriptor);
+		Object list = getProperty(propertyDescriptor);
 		if (list == null) {
 			return Collections.emptyIterator();
 		}
-		if (list instanceof ConcurrentHashMap<?, ?>) {
-			List<Object> valueList = new ArrayList<>();
-			for (Object value : ((ConcurrentHashMap<?, ?>) list).values() ) {
-				if (value instanceof Collection) {
-					valueList.addAll((Collection<?>)value);
-				} else {
-					valueList.add(value);
-				}
-			}
-			return valueList.iterator();
+		if (list instanceof StoredCollection) {
+			return ((StoredCollection)list).iterator();
 		} else {
 			throw new SpdxInvalidTypeException("Trying to get a list for non list type for property "+propertyDescriptor);
 		}
@@ -360,7 +467,7 @@ public class StoredTypedItem extends TypedValue {
 	 */
 	public Object getValue(PropertyDescriptor propertyDescriptor) {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
-		return properties.get(propertyDescriptor);
+		return getProperty(propertyDescriptor);
 	}
 	
 	/**
@@ -372,7 +479,7 @@ public class StoredTypedItem extends TypedValue {
 	 */
 	public void removeProperty(PropertyDescriptor propertyDescriptor) {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
-		properties.remove(propertyDescriptor);
+		putProperty(propertyDescriptor, null, false);
 	}
 
 	/**
@@ -405,28 +512,19 @@ public class StoredTypedItem extends TypedValue {
 	 * @throws SpdxInvalidTypeException If the type is invalid or if the property is not associated
 	 *         with a collection.
 	 */
-	@SuppressWarnings("rawtypes")
 	public int collectionSize(PropertyDescriptor propertyDescriptor) throws SpdxInvalidTypeException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
-		Object map = properties.get(propertyDescriptor);
-		if (map == null) {
-			properties.putIfAbsent(propertyDescriptor,  new ConcurrentHashMap<String, List<Object>>());
-			map = properties.get(propertyDescriptor);	
+		Object collection = getProperty(propertyDescriptor);
+		if (collection == null) {
+			putProperty(propertyDescriptor, new StoredCollection(), true);
+			collection = getProperty(propertyDescriptor);	
 			//Note: there is a small timing window where the property could be removed
-			if (map == null) {
+			if (collection == null) {
 				return 0;
 			}
 		}
-		if (map instanceof ConcurrentHashMap<?, ?>) {
-			int count = 0;
-			for (Object value : ((ConcurrentHashMap<?, ?>) map).values()) {
-				if (value instanceof Collection) {
-					count = count + ((Collection)value).size();
-				} else {
-					count++;
-				}
-			}
-			return count;
+		if (collection instanceof StoredCollection) {
+			return ((StoredCollection)collection).size();
 		} else {
 			throw new SpdxInvalidTypeException("Trying to get size for a non list type for property "+propertyDescriptor);
 		}
@@ -449,29 +547,17 @@ public class StoredTypedItem extends TypedValue {
 			throws SpdxInvalidTypeException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
 		Objects.requireNonNull(value, "Value can not be null");
-		Object map = properties.get(propertyDescriptor);
-		if (map == null) {
-			properties.putIfAbsent(propertyDescriptor,  new ConcurrentHashMap<String, List<Object>>());
-			map = properties.get(propertyDescriptor);	
+		Object collection = getProperty(propertyDescriptor);
+		if (collection == null) {
+			putProperty(propertyDescriptor, new StoredCollection(), true);
+			collection = getProperty(propertyDescriptor);	
 			//Note: there is a small timing window where the property could be removed
-			if (map == null) {
+			if (collection == null) {
 				return false;
 			}
 		}
-		if (map instanceof ConcurrentHashMap<?, ?>) {
-			String id;
-			if (value instanceof TypedValue) {
-				id = ((TypedValue)value).getObjectUri();
-			} else {
-				id = NO_ID_ID;
-			}
-			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<String, List<Object>> typedValueMap = (ConcurrentHashMap<String, List<Object>>)map;
-			List<Object> valueList = typedValueMap.get(id);
-			if (valueList == null) {
-				return false;
-			}
-			return valueList.contains(value);
+		if (collection instanceof StoredCollection) {
+			return ((StoredCollection)collection).contains(value);
 		} else {
 			throw new SpdxInvalidTypeException("Trying to find contains for non list type for property "+propertyDescriptor);
 		}
@@ -491,21 +577,18 @@ public class StoredTypedItem extends TypedValue {
 			Class<?> clazz) throws ModelRegistryException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
 		Objects.requireNonNull(clazz, "Class can not be null");
-		Object map = properties.get(propertyDescriptor);
-		if (map == null) {
+		Object collection = getProperty(propertyDescriptor);
+		if (collection == null) {
 			return true; // It is still assignable to since it is unassigned
 		}
-		if (!(map instanceof ConcurrentHashMap<?,?>)) {
+		if (!(collection instanceof StoredCollection)) {
 			logger.warn("Checking collection properties on a non-collection stored item");
 			return false;
 		}
-		@SuppressWarnings("unchecked")
-		ConcurrentHashMap<String, List<Object>> idValueMap = (ConcurrentHashMap<String, List<Object>>)map;
-		for (List<Object> valueList : idValueMap.values()) {
-			for (Object value : valueList) {
-				if (!isAssignableTo(value, clazz, getSpecVersion())) {
-					return false;
-				}
+		Iterator<Object> iter = ((StoredCollection)collection).iterator();
+		while (iter.hasNext()) {
+			if (!isAssignableTo(iter.next(), clazz, getSpecVersion())) {
+				return false;
 			}
 		}
 		return true;
@@ -570,7 +653,7 @@ public class StoredTypedItem extends TypedValue {
 			Class<?> clazz, String specVersion) throws ModelRegistryException {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
 		Objects.requireNonNull(clazz, "Class can not be null");
-		Object value = properties.get(propertyDescriptor);
+		Object value = getProperty(propertyDescriptor);
 		if (value == null) {
 			return false;
 		}
@@ -586,8 +669,8 @@ public class StoredTypedItem extends TypedValue {
 	 */
 	public boolean isCollectionProperty(PropertyDescriptor propertyDescriptor) {
 		Objects.requireNonNull(propertyDescriptor, "Property descriptor can not be null");
-		Object value = properties.get(propertyDescriptor);
-		return value instanceof ConcurrentHashMap;
+		Object value = getProperty(propertyDescriptor);
+		return value instanceof StoredCollection;
 	}
 
 	/**
@@ -601,12 +684,10 @@ public class StoredTypedItem extends TypedValue {
 		if (Objects.isNull(elementId)) {
 			return false;
 		}
-        for (Object value : this.properties.values()) {
-            if (value instanceof List && !((List<?>) value).isEmpty() && ((List<?>) value).get(0) instanceof TypedValue) {
-                for (Object listValue : (List<?>) value) {
-                    if (listValue instanceof TypedValue && ((TypedValue) listValue).getObjectUri().equalsIgnoreCase(elementId)) {
-                        return true;
-                    }
+        for (Object value : values) {
+            if (value instanceof StoredCollection) {
+                if (((StoredCollection) value).containsObjectUri(elementId)) {
+                    return true;
                 }
             } else if (value instanceof TypedValue) {
                 if (((TypedValue) value).getObjectUri().equalsIgnoreCase(elementId)) {
@@ -0,0 +1,248 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+
+/**
+ * Secondary indexes by type and namespace for the items in an in memory store
+ * <p>
+ * Each item is assigned a creation sequence number by the store and every index bucket is ordered by the
+ * sequence, so items are always returned in creation order.  Buckets are concurrent maps - streams over a bucket are
+ * lazy and weakly consistent, reflecting items created or deleted while the stream is consumed.
+ * <p>
+ * The namespace key for an object URI is the URI up to and including the first <code>#</code>; if there is
+ * no <code>#</code>, the URI up to and including the last <code>/</code>; otherwise the URI without any
+ * trailing digits (e.g. for generated anonymous IDs).  Since the key is always a prefix of the object URI,
+ * only the buckets whose keys start with the requested namespace or are a prefix of the requested namespace
+ * can contain matching items.
+ *
+ * @author Gary O'Neall
+ */
+class StoredTypedItemIndex {
+
+	/**
+	 * Stored item which records the order in which it was created
+	 */
+	static class IndexedItem extends StoredTypedItem {
+		private final long sequence;
+		private volatile boolean deleted = false;
+
+		IndexedItem(String objectUri, String type, String specVersion, long sequence)
+				throws InvalidSPDXAnalysisException {
+			super(objectUri, type, specVersion);
+			this.sequence = sequence;
+		}
+
+		long getSequence() {
+			return sequence;
+		}
+
+		/**
+		 * Mark the item as deleted - must be called before the item is removed from the index
+		 */
+		void markDeleted() {
+			deleted = true;
+		}
+
+		boolean isDeleted() {
+			return deleted;
+		}
+	}
+
+	/**
+	 * Items for a single namespace key
+	 */
+	private static class NamespaceBucket {
+		final ConcurrentSkipListMap<Long, IndexedItem> items = new ConcurrentSkipListMap<>();
+		final ConcurrentHashMap<String, ConcurrentSkipListMap<Long, IndexedItem>> itemsByType = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Bucket which may contain items in the requested namespace
+	 */
+	private static class MatchingBucket {
+		final ConcurrentSkipListMap<Long, IndexedItem> items;
+		/**
+		 * true if some items in the bucket may not be in the requested namespace
+		 */
+		final boolean filter;
+
+		MatchingBucket(ConcurrentSkipListMap<Long, IndexedItem> items, boolean filter) {
+			this.items = items;
+			this.filter = filter;
+		}
+	}
+
+	private final ConcurrentSkipListMap<Long, IndexedItem> allItems = new ConcurrentSkipListMap<>();
+	private final ConcurrentHashMap<String, ConcurrentSkipListMap<Long, IndexedItem>> typeIndex = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<String, NamespaceBucket> namespaceIndex = new ConcurrentSkipListMap<>();
+
+	/**
+	 * @param objectUri object URI
+	 * @return the namespace key for the object URI
+	 */
+	static String namespaceKey(String objectUri) {
+		int hashIndex = objectUri.indexOf('#');
+		if (hashIndex >= 0) {
+			return objectUri.substring(0, hashIndex + 1);
+		}
+		int slashIndex = objectUri.lastIndexOf('/');
+		if (slashIndex >= 0) {
+			return objectUri.substring(0, slashIndex + 1);
+		}
+		int end = objectUri.length();
+		while (end > 0 && Character.isDigit(objectUri.charAt(end - 1))) {
+			end--;
+		}
+		return objectUri.substring(0, end);
+	}
+
+	/**
+	 * @param nameSpace requested namespace
+	 * @return the possible namespace keys which are a proper prefix of the namespace - only some of the items
+	 * with these keys may be in the namespace
+	 */
+	static List<String> prefixNamespaceKeys(String nameSpace) {
+		List<String> retval = new ArrayList<>();
+		for (int i = 0; i < nameSpace.length(); i++) {
+			if (i > 0 && (nameSpace.charAt(i - 1) == '#' || nameSpace.charAt(i - 1) == '/') ||
+					Character.isDigit(nameSpace.charAt(i))) {
+				retval.add(nameSpace.substring(0, i));
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Add an item to the indexes - adding an item which is already in the indexes has no effect
+	 * @param item item to add to the indexes
+	 */
+	void add(IndexedItem item) {
+		Long sequence = item.getSequence();
+		allItems.put(sequence, item);
+		typeIndex.computeIfAbsent(item.getType(), k -> new ConcurrentSkipListMap<>()).put(sequence, item);
+		NamespaceBucket bucket = namespaceIndex.computeIfAbsent(namespaceKey(item.getObjectUri()), k -> new NamespaceBucket());
+		bucket.items.put(sequence, item);
+		bucket.itemsByType.computeIfAbsent(item.getType(), k -> new ConcurrentSkipListMap<>()).put(sequence, item);
+		if (item.isDeleted()) {
+			// the item was deleted while it was added
+			remove(item);
+		}
+	}
+
+	/**
+	 * Remove an item from the indexes - empty buckets are retained
+	 * @param item item to remove
+	 */
+	void remove(StoredTypedItem item) {
+		if (!(item instanceof IndexedItem)) {
+			return;
+		}
+		Long sequence = ((IndexedItem)item).getSequence();
+		allItems.remove(sequence);
+		ConcurrentSkipListMap<Long, IndexedItem> typeBucket = typeIndex.get(item.getType());
+		if (Objects.nonNull(typeBucket)) {
+			typeBucket.remove(sequence);
+		}
+		NamespaceBucket bucket = namespaceIndex.get(namespaceKey(item.getObjectUri()));
+		if (Objects.nonNull(bucket)) {
+			bucket.items.remove(sequence);
+			ConcurrentSkipListMap<Long, IndexedItem> namespaceTypeBucket = bucket.itemsByType.get(item.getType());
+			if (Objects.nonNull(namespaceTypeBucket)) {
+				namespaceTypeBucket.remove(sequence);
+			}
+		}
+	}
+
+	/**
+	 * Remove all items from the indexes
+	 */
+	void clear() {
+		allItems.clear();
+		typeIndex.clear();
+		namespaceIndex.clear();
+	}
+
+	/**
+	 * @param nameSpace optional prefix the object URI must start with
+	 * @param typeFilter optional type the item must match
+	 * @return stream of the matching items in creation order
+	 */
+	Stream<TypedValue> getAllItems(@Nullable String nameSpace, @Nullable String typeFilter) {
+		if (Objects.isNull(nameSpace)) {
+			ConcurrentSkipListMap<Long, IndexedItem> bucket = Objects.isNull(typeFilter) ? allItems : typeIndex.get(typeFilter);
+			return Objects.isNull(bucket) ? Stream.empty() : bucket.values().stream().map(item -> item);
+		}
+		List<MatchingBucket> matchingBuckets = new ArrayList<>();
+		// buckets where every item is in the namespace
+		for (Map.Entry<String, NamespaceBucket> entry : namespaceIndex.tailMap(nameSpace, true).entrySet()) {
+			if (!entry.getKey().startsWith(nameSpace)) {
+				break;
+			}
+			addMatchingBucket(matchingBuckets, entry.getValue(), typeFilter, false);
+		}
+		// buckets whose keys are a prefix of the namespace - only some items may be in the namespace
+		for (String key : prefixNamespaceKeys(nameSpace)) {
+			NamespaceBucket bucket = namespaceIndex.get(key);
+			if (Objects.nonNull(bucket)) {
+				addMatchingBucket(matchingBuckets, bucket, typeFilter, true);
+			}
+		}
+		if (matchingBuckets.isEmpty()) {
+			return Stream.empty();
+		}
+		if (matchingBuckets.size() == 1) {
+			return bucketStream(matchingBuckets.get(0), nameSpace);
+		}
+		List<IndexedItem> items = new ArrayList<>();
+		for (MatchingBucket bucket : matchingBuckets) {
+			bucketStream(bucket, nameSpace).forEach(item -> items.add((IndexedItem)item));
+		}
+		items.sort(Comparator.comparingLong(IndexedItem::getSequence));
+		return items.stream().map(item -> item);
+	}
+
+	private void addMatchingBucket(List<MatchingBucket> matchingBuckets, NamespaceBucket bucket,
+			@Nullable String typeFilter, boolean filter) {
+		ConcurrentSkipListMap<Long, IndexedItem> items = Objects.isNull(typeFilter) ? bucket.items : bucket.itemsByType.get(typeFilter);
+		if (Objects.nonNull(items)) {
+			matchingBuckets.add(new MatchingBucket(items, filter));
+		}
+	}
+
+	private Stream<TypedValue> bucketStream(MatchingBucket bucket, String nameSpace) {
+		Stream<IndexedItem> retval = bucket.items.values().stream();
+		if (bucket.filter) {
+			retval = retval.filter(item -> item.getObjectUri().startsWith(nameSpace));
+		}
+		return retval.map(item -> item);
+	}
+}
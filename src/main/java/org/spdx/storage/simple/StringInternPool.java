@@ -0,0 +1,100 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded pool used to share a single instance of repeated string property values
+ * (e.g. <code>NOASSERTION</code>, license IDs or contributor names) across stored items
+ * <p>
+ * Only strings up to a maximum length are pooled, and once the pool holds the maximum number of
+ * strings new strings are returned as is.  The pool is intended to live as long as the store using it.
+ *
+ * @author Gary O'Neall
+ */
+public class StringInternPool {
+
+	/**
+	 * Default maximum length of a pooled string
+	 */
+	public static final int DEFAULT_MAX_STRING_LENGTH = 128;
+
+	/**
+	 * Default maximum number of pooled strings
+	 */
+	public static final int DEFAULT_MAX_SIZE = 100000;
+
+	private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+	private final int maxStringLength;
+	private final int maxSize;
+
+	/**
+	 * Create a pool with the default limits
+	 */
+	public StringInternPool() {
+		this(DEFAULT_MAX_STRING_LENGTH, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxStringLength maximum length of a pooled string
+	 * @param maxSize maximum number of pooled strings
+	 */
+	public StringInternPool(int maxStringLength, int maxSize) {
+		if (maxStringLength < 0 || maxSize < 0) {
+			throw new IllegalArgumentException("Intern pool limits must not be negative");
+		}
+		this.maxStringLength = maxStringLength;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @param value string to intern
+	 * @return the pooled instance equal to the value, or the value if it is not pooled
+	 */
+	public String intern(String value) {
+		Objects.requireNonNull(value, "Value can not be null");
+		if (value.length() > maxStringLength) {
+			return value;
+		}
+		String pooled = pool.get(value);
+		if (Objects.nonNull(pooled)) {
+			return pooled;
+		}
+		if (pool.size() >= maxSize) {
+			return value;
+		}
+		pooled = pool.putIfAbsent(value, value);
+		return Objects.isNull(pooled) ? value : pooled;
+	}
+
+	/**
+	 * @return number of pooled strings
+	 */
+	public int size() {
+		return pool.size();
+	}
+
+	/**
+	 * Remove all pooled strings
+	 */
+	public void clear() {
+		pool.clear();
+	}
+}
@@ -20,6 +20,7 @@ package org.spdx.utility.compare;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,7 @@ public class CompareTemplateOutputHandler implements
 		ILicenseTemplateOutputHandler {
 	private static final int MAX_NEXT_NORMAL_TEXT_SEARCH_LENGTH = 15;	// Maximum number of tokens to compare when searching for a normal text match
 	private static final int MIN_TOKENS_NORMAL_TEXT_SEARCH = 3;	// Minimum number of tokens to match of normal text to match after a variable block to bound greedy regex var text
+	static final int VARIABLE_RULE_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;	// flags used to compile variable rule matches
 	
 	class ParseInstruction {
 		LicenseTemplateRule rule;
@@ -54,6 +56,8 @@ public class CompareTemplateOutputHandler implements
 		private boolean skip = false;	// skip this instruction in matching
 		private boolean skipFirstTextToken = false;	// skip the first text token
 		private DifferenceDescription lastOptionalDifference = null;
+		private String[] textTokens = null;	// lazily tokenized text - never modified once set
+		private Pattern matchPattern = null;	// compiled variable rule match - recompiled if the rule match changes
 
 		/**
 		 * Construct a new {@link ParseInstruction} with the specified rule, text, and parent
@@ -151,6 +155,31 @@ public class CompareTemplateOutputHandler implements
 		 */
 		public void setText(String text) {
 			this.text = text;
+			this.textTokens = null;
+		}
+
+		/**
+		 * Retrieve the tokens for the text associated with this parse instruction
+		 * <p>
+		 * The tokens are computed once and cached.  The returned array must not be modified.
+		 *
+		 * @return the tokens for the text, or an empty array if no text is set
+		 */
+		String[] getTextTokens() {
+			if (this.textTokens == null) {
+				this.textTokens = this.text == null ? new String[0] :
+					LicenseTextHelper.tokenizeLicenseText(this.text, new HashMap<>());
+			}
+			return this.textTokens;
+		}
+
+		/**
+		 * Set pre-computed tokens for the text associated with this parse instruction
+		 *
+		 * @param textTokens tokens for the text - must match the tokenization of the text and must not be modified
+		 */
+		void setTextTokens(String[] textTokens) {
+			this.textTokens = textTokens;
 		}
 
 		/**
@@ -277,14 +306,14 @@ public class CompareTemplateOutputHandler implements
 		 */
 		public int match(String[] matchTokens, int startToken, int endToken, String originalText,
 				DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation, boolean ignoreOptionalDifferences) throws LicenseParserException {
+			matchAbort.check();
 			if (this.skip) {
 				return startToken;
 			}
 			int nextToken = startToken;
 			if (this.rule == null) {
 				if (this.text != null) {
-					Map<Integer, LineColumn> textLocations = new HashMap<>();
-					String[] textTokens = LicenseTextHelper.tokenizeLicenseText(text, textLocations);
+					String[] textTokens = getTextTokens();
 					if (this.skipFirstTextToken) {
 						textTokens = Arrays.copyOfRange(textTokens, 1, textTokens.length);
 					}
@@ -448,8 +477,7 @@ public class CompareTemplateOutputHandler implements
 				return retval;
 			}
 			
-			Map<Integer, LineColumn> normalTextLocations = new HashMap<>();
-			String[] textTokens = LicenseTextHelper.tokenizeLicenseText(subInstructions.get(firstNormalTextIndex).getText(), normalTextLocations);
+			String[] textTokens = subInstructions.get(firstNormalTextIndex).getTextTokens();
 			if (textTokens.length > MAX_NEXT_NORMAL_TEXT_SEARCH_LENGTH) {
 				textTokens = Arrays.copyOf(textTokens, MAX_NEXT_NORMAL_TEXT_SEARCH_LENGTH);
 			}
@@ -537,10 +565,10 @@ public class CompareTemplateOutputHandler implements
 			if (differences.isDifferenceFound()) {
 				return -1;
 			}
+			Pattern pattern = getMatchPattern();
 			for (int matchingStartToken:matchingStartTokens) {
 				String compareText = LicenseCompareHelper.locateOriginalText(originalText, startToken, matchingStartToken-1, tokenToLocation, matchTokens);
-				Pattern matchPattern = Pattern.compile(rule.getMatch(), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
-				Matcher matcher = matchPattern.matcher(compareText);
+				Matcher matcher = pattern.matcher(matchAbort.wrap(compareText));
                 if (matcher.find() && matcher.start() <= 0) {
                     int numMatched = numTokensMatched(compareText, matcher.end());
                     return startToken + numMatched;
@@ -552,6 +580,26 @@ public class CompareTemplateOutputHandler implements
 			return -1;
 		}
 
+		/**
+		 * @return the compiled match for the variable rule - compiled only if the rule match has changed
+		 */
+		private Pattern getMatchPattern() {
+			if (this.matchPattern == null || !this.matchPattern.pattern().equals(rule.getMatch())) {
+				this.matchPattern = Pattern.compile(rule.getMatch(), VARIABLE_RULE_FLAGS);
+			}
+			return this.matchPattern;
+		}
+
+		/**
+		 * @param matchPattern compiled match for the variable rule - ignored if it was not compiled from the
+		 *        rule match using <code>VARIABLE_RULE_FLAGS</code>
+		 */
+		void setMatchPattern(Pattern matchPattern) {
+			if (matchPattern.flags() == VARIABLE_RULE_FLAGS) {
+				this.matchPattern = matchPattern;
+			}
+		}
+
 		/**
 		 * Retrieve the difference description for the last optional rule that did not match
 		 *
@@ -899,13 +947,59 @@ public class CompareTemplateOutputHandler implements
 		}
 	}
 
+	/**
+	 * Normalized and tokenized compare text
+	 * <p>
+	 * Instances are immutable once constructed and may be shared across threads and across
+	 * multiple {@link CompareTemplateOutputHandler}s so that the same text is only tokenized once
+	 * when it is compared to many templates.
+	 */
+	static class TokenizedText {
+		private final String text;
+		private final String[] tokens;
+		private final Map<Integer, LineColumn> tokenToLocation;
+		
+		/**
+		 * @param compareText text to normalize and tokenize
+		 */
+		TokenizedText(String compareText) {
+			this.text = LicenseTextHelper.normalizeText(
+					LicenseTextHelper.replaceMultWord(LicenseTextHelper.replaceSpaceComma(compareText)));
+			Map<Integer, LineColumn> locations = new HashMap<>();
+			this.tokens = LicenseTextHelper.tokenizeLicenseText(this.text, locations);
+			this.tokenToLocation = Collections.unmodifiableMap(locations);
+		}
+
+		/**
+		 * @return the normalized text
+		 */
+		String getText() {
+			return text;
+		}
+
+		/**
+		 * @return the tokens for the normalized text - must not be modified
+		 */
+		String[] getTokens() {
+			return tokens;
+		}
+
+		/**
+		 * @return map of token index to the location of the token in the normalized text
+		 */
+		Map<Integer, LineColumn> getTokenToLocation() {
+			return tokenToLocation;
+		}
+	}
+
 	String[] compareTokens;
 	String compareText;
-	Map<Integer, LineColumn> tokenToLocation = new HashMap<>();
+	Map<Integer, LineColumn> tokenToLocation;
 	ParseInstruction topLevelInstruction = new ParseInstruction(null, null, null);
 	DifferenceDescription differences = new DifferenceDescription();
 	ParseInstruction currentOptionalInstruction = null;
 	boolean parsingComplete = false;
+	private final MatchAbort matchAbort;
 
 	/**
 	 * Construct a new {@link CompareTemplateOutputHandler} with the specified text to compare
@@ -918,9 +1012,30 @@ public class CompareTemplateOutputHandler implements
 	 * @throws IOException This is not to be expected since we are using StringReaders
 	 */
 	public CompareTemplateOutputHandler(String compareText) throws IOException {
-		this.compareText = LicenseTextHelper.normalizeText(
-				LicenseTextHelper.replaceMultWord(LicenseTextHelper.replaceSpaceComma(compareText)));
-		this.compareTokens = LicenseTextHelper.tokenizeLicenseText(this.compareText, tokenToLocation);
+		this(new TokenizedText(compareText));
+	}
+
+	/**
+	 * Construct a new {@link CompareTemplateOutputHandler} with text that has already been tokenized
+	 *
+	 * @param tokenizedText normalized and tokenized text to compare the parsed SPDX license template to
+	 */
+	CompareTemplateOutputHandler(TokenizedText tokenizedText) {
+		this(tokenizedText, MatchAbort.NEVER);
+	}
+
+	/**
+	 * Construct a new {@link CompareTemplateOutputHandler} with text that has already been tokenized
+	 * and a match which can be aborted
+	 *
+	 * @param tokenizedText normalized and tokenized text to compare the parsed SPDX license template to
+	 * @param matchAbort checked throughout the match - aborts the match by throwing a <code>MatchAbortedException</code>
+	 */
+	CompareTemplateOutputHandler(TokenizedText tokenizedText, MatchAbort matchAbort) {
+		this.compareText = tokenizedText.getText();
+		this.compareTokens = tokenizedText.getTokens();
+		this.tokenToLocation = tokenizedText.getTokenToLocation();
+		this.matchAbort = matchAbort;
 	}
 	
 	/**
@@ -935,6 +1050,7 @@ public class CompareTemplateOutputHandler implements
 	 */
 	private int compareText(String[] textTokens, String[] matchTokens, int startToken,
 							ParseInstruction instruction) {
+		matchAbort.check();
 		if (textTokens.length == 0) {
 			return startToken;
 		}
@@ -1010,10 +1126,22 @@ public class CompareTemplateOutputHandler implements
 	 */
 	@Override
 	public void text(String text) {
+		text(text, null);
+	}
+
+	/**
+	 * Add text where the tokens for the text have already been computed
+	 *
+	 * @param text template text
+	 * @param textTokens tokens for the text as produced by <code>LicenseTextHelper.tokenizeLicenseText</code> or null if not yet tokenized
+	 */
+	void text(String text, String[] textTokens) {
+		ParseInstruction textInstruction = new ParseInstruction(null, text, currentOptionalInstruction);
+		textInstruction.setTextTokens(textTokens);
 		if (currentOptionalInstruction != null) {
-			currentOptionalInstruction.addSubInstruction(new ParseInstruction(null, text, currentOptionalInstruction));
+			currentOptionalInstruction.addSubInstruction(textInstruction);
 		} else {
-			this.topLevelInstruction.addSubInstruction(new ParseInstruction(null, text, null));
+			this.topLevelInstruction.addSubInstruction(textInstruction);
 		}
 	}
 
@@ -1022,10 +1150,24 @@ public class CompareTemplateOutputHandler implements
 	 */
 	@Override
 	public void variableRule(LicenseTemplateRule rule) {
+		variableRule(rule, null);
+	}
+
+	/**
+	 * Add a variable rule where the rule match has already been compiled
+	 *
+	 * @param rule variable rule
+	 * @param matchPattern rule match compiled with <code>VARIABLE_RULE_FLAGS</code> or null if not yet compiled
+	 */
+	void variableRule(LicenseTemplateRule rule, Pattern matchPattern) {
+		ParseInstruction variableInstruction = new ParseInstruction(rule, null, currentOptionalInstruction);
+		if (matchPattern != null) {
+			variableInstruction.setMatchPattern(matchPattern);
+		}
 		if (currentOptionalInstruction != null) {
-			currentOptionalInstruction.addSubInstruction(new ParseInstruction(rule, null, currentOptionalInstruction));
+			currentOptionalInstruction.addSubInstruction(variableInstruction);
 		} else {
-			this.topLevelInstruction.addSubInstruction(new ParseInstruction(rule, null, null));
+			this.topLevelInstruction.addSubInstruction(variableInstruction);
 		}
 	}
 
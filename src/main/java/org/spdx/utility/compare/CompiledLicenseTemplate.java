@@ -0,0 +1,250 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.spdx.licenseTemplate.ILicenseTemplateOutputHandler;
+import org.spdx.licenseTemplate.LicenseParserException;
+import org.spdx.licenseTemplate.LicenseTemplateRule;
+import org.spdx.licenseTemplate.LicenseTemplateRule.RuleType;
+import org.spdx.licenseTemplate.LicenseTemplateRuleException;
+import org.spdx.licenseTemplate.LicenseTextHelper;
+import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
+import org.spdx.utility.compare.CompareTemplateOutputHandler.DifferenceDescription;
+import org.spdx.utility.compare.CompareTemplateOutputHandler.TokenizedText;
+
+/**
+ * A license or exception template which has been parsed once and can be matched against
+ * any number of texts without re-parsing the template
+ * <p>
+ * The template rules and the tokenized template text are stored when the template is compiled.
+ * Each call to <code>match</code> replays the stored template into a new
+ * {@link CompareTemplateOutputHandler}, so the results are identical to
+ * {@link LicenseCompareHelper#isTextMatchingTemplate(String, String)}.
+ * <p>
+ * Instances are immutable and may be shared across threads.
+ *
+ * @author Gary O'Neall
+ */
+public class CompiledLicenseTemplate {
+
+	/**
+	 * A single output event produced by parsing the template
+	 */
+	private static class TemplateEvent {
+		final RuleType ruleType;	// null for text
+		final LicenseTemplateRule rule;
+		final String text;
+		final String[] textTokens;
+		final Pattern matchPattern;	// compiled match for variable rules - null if not compiled
+
+		TemplateEvent(String text) {
+			this.ruleType = null;
+			this.rule = null;
+			this.text = text;
+			this.textTokens = LicenseTextHelper.tokenizeLicenseText(text, new HashMap<>());
+			this.matchPattern = null;
+		}
+
+		TemplateEvent(LicenseTemplateRule rule) {
+			this(rule, null);
+		}
+
+		TemplateEvent(LicenseTemplateRule rule, Pattern matchPattern) {
+			this.ruleType = rule.getType();
+			this.rule = rule;
+			this.text = null;
+			this.textTokens = null;
+			this.matchPattern = matchPattern;
+		}
+	}
+
+	/**
+	 * Records the output of the template parser
+	 */
+	private static class TemplateRecorder implements ILicenseTemplateOutputHandler {
+
+		List<TemplateEvent> events = new ArrayList<>();
+
+		@Override
+		public void text(String text) {
+			events.add(new TemplateEvent(text));
+		}
+
+		@Override
+		public void variableRule(LicenseTemplateRule rule) {
+			TemplateEvent lastEvent = events.isEmpty() ? null : events.get(events.size()-1);
+			if (lastEvent != null && RuleType.VARIABLE.equals(lastEvent.ruleType)) {
+				// Merge consecutive variable rules the same way ParseInstruction.addSubInstruction does
+				// so that the stored rules are never modified while matching
+				LicenseTemplateRule lastRule = lastEvent.rule;
+				lastRule.setMatch("("+lastRule.getMatch()+")\\s*("+rule.getMatch()+")");
+				lastRule.setName("combined-"+lastRule.getName()+"-"+rule.getName());
+				lastRule.setOriginal(lastRule.getOriginal() + " " + lastRule.getOriginal());
+			} else {
+				events.add(new TemplateEvent(rule));
+			}
+		}
+
+		@Override
+		public void beginOptional(LicenseTemplateRule rule) {
+			events.add(new TemplateEvent(rule));
+		}
+
+		@Override
+		public void endOptional(LicenseTemplateRule rule) {
+			events.add(new TemplateEvent(rule));
+		}
+
+		@Override
+		public void completeParsing() {
+			// Nothing to do - the events are replayed on match
+		}
+	}
+
+	private final String template;
+	private final List<TemplateEvent> events;
+
+	/**
+	 * Parse a license or exception template
+	 * @param template license template in the standard template format
+	 * @throws SpdxCompareException on invalid templates
+	 */
+	public CompiledLicenseTemplate(String template) throws SpdxCompareException {
+		this.template = template;
+		TemplateRecorder recorder = new TemplateRecorder();
+		try {
+			//TODO: The remove comment chars will not be removed for lines beginning with a template << or ending with >>
+			SpdxLicenseTemplateHelper.parseTemplate(LicenseCompareHelper.removeCommentChars(template), recorder);
+		} catch (LicenseTemplateRuleException e) {
+			throw new SpdxCompareException("Invalid template rule found during compare: "+e.getMessage(),e);
+		} catch (LicenseParserException e) {
+			throw new SpdxCompareException("Invalid template found during compare: "+e.getMessage(),e);
+		}
+		this.events = Collections.unmodifiableList(compileVariableRules(recorder.events));
+	}
+
+	/**
+	 * Compile the variable rule matches once rather than on every match - the rules are complete once
+	 * the template has been parsed since consecutive variable rules are merged while parsing
+	 * @param events events recorded from the template
+	 * @return events with the variable rule matches compiled
+	 */
+	private static List<TemplateEvent> compileVariableRules(List<TemplateEvent> events) {
+		List<TemplateEvent> retval = new ArrayList<>(events.size());
+		for (TemplateEvent event:events) {
+			if (RuleType.VARIABLE.equals(event.ruleType)) {
+				Pattern matchPattern;
+				try {
+					matchPattern = Pattern.compile(event.rule.getMatch(), CompareTemplateOutputHandler.VARIABLE_RULE_FLAGS);
+				} catch (PatternSyntaxException e) {
+					matchPattern = null;	// reported when the rule is matched, as for an uncompiled template
+				}
+				retval.add(new TemplateEvent(event.rule, matchPattern));
+			} else {
+				retval.add(event);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @return the template used to compile this template
+	 */
+	public String getTemplate() {
+		return template;
+	}
+
+	/**
+	 * Compare the provided text against this template using SPDX matching guidelines
+	 * @param compareText text to compare
+	 * @return any differences found
+	 * @throws SpdxCompareException on comparison errors
+	 */
+	public DifferenceDescription match(String compareText) throws SpdxCompareException {
+		return match(tokenize(compareText));
+	}
+
+	/**
+	 * Compare the provided text against this template, aborting the match if requested
+	 * @param compareText text to compare
+	 * @param matchAbort checked throughout the match
+	 * @return any differences found
+	 * @throws SpdxCompareException on comparison errors
+	 * @throws MatchAbort.MatchAbortedException if the match is aborted
+	 */
+	DifferenceDescription match(String compareText, MatchAbort matchAbort) throws SpdxCompareException {
+		matchAbort.check();
+		return match(tokenize(compareText), matchAbort);
+	}
+
+	/**
+	 * Normalize and tokenize text so that it can be compared to many templates
+	 * @param compareText text to compare
+	 * @return the tokenized text
+	 */
+	static TokenizedText tokenize(String compareText) {
+		return new TokenizedText(LicenseTextHelper.removeLineSeparators(
+				LicenseCompareHelper.removeCommentChars(compareText)));
+	}
+
+	/**
+	 * Compare already tokenized text against this template using SPDX matching guidelines
+	 * @param tokenizedText text tokenized by <code>tokenize(String)</code>
+	 * @return any differences found
+	 * @throws SpdxCompareException on comparison errors
+	 */
+	DifferenceDescription match(TokenizedText tokenizedText) throws SpdxCompareException {
+		return match(tokenizedText, MatchAbort.NEVER);
+	}
+
+	/**
+	 * Compare already tokenized text against this template, aborting the match if requested
+	 * @param tokenizedText text tokenized by <code>tokenize(String)</code>
+	 * @param matchAbort checked throughout the match
+	 * @return any differences found
+	 * @throws SpdxCompareException on comparison errors
+	 * @throws MatchAbort.MatchAbortedException if the match is aborted
+	 */
+	DifferenceDescription match(TokenizedText tokenizedText, MatchAbort matchAbort) throws SpdxCompareException {
+		CompareTemplateOutputHandler compareTemplateOutputHandler = new CompareTemplateOutputHandler(tokenizedText, matchAbort);
+		for (TemplateEvent event:events) {
+			if (event.ruleType == null) {
+				compareTemplateOutputHandler.text(event.text, event.textTokens);
+			} else if (RuleType.VARIABLE.equals(event.ruleType)) {
+				compareTemplateOutputHandler.variableRule(event.rule, event.matchPattern);
+			} else if (RuleType.BEGIN_OPTIONAL.equals(event.ruleType)) {
+				compareTemplateOutputHandler.beginOptional(event.rule);
+			} else {
+				compareTemplateOutputHandler.endOptional(event.rule);
+			}
+		}
+		try {
+			compareTemplateOutputHandler.completeParsing();
+		} catch (LicenseParserException e) {
+			throw new SpdxCompareException("Invalid template found during compare: "+e.getMessage(),e);
+		}
+		return compareTemplateOutputHandler.getDifferences();
+	}
+}
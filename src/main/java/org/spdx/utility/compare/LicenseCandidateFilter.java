@@ -0,0 +1,338 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.licenseTemplate.LicenseTextHelper;
+
+/**
+ * Inverted index from normalized token n-grams (shingles) of the non-optional license text to
+ * license IDs used to prune the candidate licenses before running the full template match
+ * <p>
+ * A license is only pruned if one of its indexed shingles does not occur in the text.  The indexed
+ * shingles are taken from the interior of the non-optional, non-variable text of the template
+ * and skippable tokens are ignored, so any text which matches the template will contain all of
+ * the indexed shingles.  Shingles are stored as 64-bit hashes - a hash collision can only cause a
+ * license to be retained, never pruned, so the filter does not produce false negatives.
+ * <p>
+ * Instances are immutable other than the statistics counters and may be shared across threads.
+ *
+ * @author Gary O'Neall
+ */
+public class LicenseCandidateFilter {
+
+	static final Logger logger = LoggerFactory.getLogger(LicenseCandidateFilter.class);
+
+	/**
+	 * Number of tokens in each shingle
+	 */
+	static final int SHINGLE_SIZE = 3;
+
+	/**
+	 * Maximum number of shingles indexed per license - the rarest shingles are kept
+	 */
+	static final int MAX_SHINGLES_PER_LICENSE = 32;
+
+	/**
+	 * Same as the dash pattern used by <code>LicenseTextHelper.tokensEquivalent</code>
+	 */
+	static final Pattern DASHES_PATTERN = Pattern.compile("[\\u2010\\u2011\\u2012\\u2013\\u2014\\u2015\\uFE58\\uFF0D\\-]{1,2}");
+
+	/**
+	 * Result of filtering the candidate licenses for a text
+	 */
+	public static class CandidateResult {
+		private final List<String> candidateIds;
+		private final List<String> rankedCandidateIds;
+		private final int numEvaluated;
+
+		/**
+		 * @param candidateIds license IDs which may match in the order they were provided
+		 * @param rankedCandidateIds license IDs which may match with the licenses with the most matching shingles first
+		 * @param numEvaluated number of license IDs evaluated by the filter
+		 */
+		CandidateResult(List<String> candidateIds, List<String> rankedCandidateIds, int numEvaluated) {
+			this.candidateIds = Collections.unmodifiableList(candidateIds);
+			this.rankedCandidateIds = Collections.unmodifiableList(rankedCandidateIds);
+			this.numEvaluated = numEvaluated;
+		}
+
+		/**
+		 * @return license IDs which may match the text in the order they were provided to the filter
+		 */
+		public List<String> getCandidateIds() {
+			return candidateIds;
+		}
+
+		/**
+		 * @return license IDs which may match the text ordered by the number of matching shingles (highest first)
+		 */
+		public List<String> getRankedCandidateIds() {
+			return rankedCandidateIds;
+		}
+
+		/**
+		 * @return number of license IDs evaluated by the filter
+		 */
+		public int getNumEvaluated() {
+			return numEvaluated;
+		}
+
+		/**
+		 * @return number of license IDs which were pruned and do not need to be compared
+		 */
+		public int getNumPruned() {
+			return numEvaluated - candidateIds.size();
+		}
+	}
+
+	private final Map<String, Integer> licenseIdToOrdinal = new HashMap<>();
+
+	/**
+	 * Number of distinct shingles indexed for each license ordinal
+	 */
+	private final int[] requiredShingleCounts;
+
+	/**
+	 * Map of shingle hash to the ordinals of licenses containing the shingle
+	 */
+	private final Map<Long, int[]> shingleToLicenses;
+
+	private final AtomicLong totalEvaluated = new AtomicLong();
+	private final AtomicLong totalPruned = new AtomicLong();
+
+	/**
+	 * @param licenseIdToTemplate map of license ID to the license template.  A license with a null or blank template
+	 * is never pruned
+	 * @throws SpdxCompareException on invalid templates
+	 */
+	public LicenseCandidateFilter(Map<String, String> licenseIdToTemplate) throws SpdxCompareException {
+		List<long[]> licenseShingles = new ArrayList<>();
+		Map<Long, Integer> documentFrequency = new HashMap<>();
+		for (Entry<String, String> entry : licenseIdToTemplate.entrySet()) {
+			long[] shingles = (Objects.isNull(entry.getValue()) || entry.getValue().trim().isEmpty()) ?
+					new long[0] : requiredShingles(entry.getValue());
+			for (long shingle : shingles) {
+				documentFrequency.merge(shingle, 1, Integer::sum);
+			}
+			licenseIdToOrdinal.put(entry.getKey(), licenseShingles.size());
+			licenseShingles.add(shingles);
+		}
+		requiredShingleCounts = new int[licenseShingles.size()];
+		Map<Long, List<Integer>> postings = new HashMap<>();
+		for (int ordinal = 0; ordinal < licenseShingles.size(); ordinal++) {
+			long[] selected = selectRarest(licenseShingles.get(ordinal), documentFrequency);
+			requiredShingleCounts[ordinal] = selected.length;
+			for (long shingle : selected) {
+				postings.computeIfAbsent(shingle, k -> new ArrayList<>()).add(ordinal);
+			}
+		}
+		shingleToLicenses = new HashMap<>();
+		for (Entry<Long, List<Integer>> posting : postings.entrySet()) {
+			int[] ordinals = new int[posting.getValue().size()];
+			for (int i = 0; i < ordinals.length; i++) {
+				ordinals[i] = posting.getValue().get(i);
+			}
+			shingleToLicenses.put(posting.getKey(), ordinals);
+		}
+	}
+
+	/**
+	 * @param shingles distinct shingles for a license
+	 * @param documentFrequency number of licenses containing each shingle
+	 * @return up to <code>MAX_SHINGLES_PER_LICENSE</code> shingles which occur in the fewest licenses
+	 */
+	private static long[] selectRarest(long[] shingles, Map<Long, Integer> documentFrequency) {
+		if (shingles.length <= MAX_SHINGLES_PER_LICENSE) {
+			return shingles;
+		}
+		Long[] sorted = new Long[shingles.length];
+		for (int i = 0; i < shingles.length; i++) {
+			sorted[i] = shingles[i];
+		}
+		Arrays.sort(sorted, (a, b) -> {
+			int retval = Integer.compare(documentFrequency.get(a), documentFrequency.get(b));
+			return retval != 0 ? retval : Long.compare(a, b);
+		});
+		long[] retval = new long[MAX_SHINGLES_PER_LICENSE];
+		for (int i = 0; i < retval.length; i++) {
+			retval[i] = sorted[i];
+		}
+		return retval;
+	}
+
+	/**
+	 * Compute the shingles which must be present in any text matching the template
+	 * @param template license template
+	 * @return distinct shingle hashes for the interior of each non-optional text segment of the template
+	 * @throws SpdxCompareException on invalid templates
+	 */
+	@SuppressWarnings("deprecation")	// the filtered template text is only available through the deprecated VarTextHandling
+	static long[] requiredShingles(String template) throws SpdxCompareException {
+		Set<Long> shingles = new HashSet<>();
+		for (String nonOptionalText : LicenseCompareHelper.getNonOptionalLicenseText(
+				LicenseCompareHelper.removeCommentChars(template),
+				org.spdx.utility.compare.FilterTemplateOutputHandler.VarTextHandling.OMIT)) {
+			List<String> tokens = normalizeTokens(LicenseTextHelper.tokenizeLicenseText(nonOptionalText, new HashMap<>()));
+			// The first and last tokens of a segment may be merged with adjacent optional or variable text during the match
+			if (tokens.size() > 2) {
+				addShingles(tokens.subList(1, tokens.size() - 1), shingles);
+			}
+		}
+		long[] retval = new long[shingles.size()];
+		int i = 0;
+		for (Long shingle : shingles) {
+			retval[i++] = shingle;
+		}
+		return retval;
+	}
+
+	/**
+	 * @param tokens tokens produced by <code>LicenseTextHelper.tokenizeLicenseText</code>
+	 * @return tokens normalized such that equivalent tokens are equal, excluding any skippable tokens
+	 */
+	static List<String> normalizeTokens(String[] tokens) {
+		List<String> retval = new ArrayList<>(tokens.length);
+		for (String token : tokens) {
+			if (!LicenseTextHelper.canSkip(token)) {
+				String normalized = DASHES_PATTERN.matcher(token.trim().toLowerCase()).replaceAll("-");
+				retval.add(LicenseTextHelper.NORMALIZE_TOKENS.getOrDefault(normalized, normalized));
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Add the hashes of all shingles for the tokens
+	 * @param tokens normalized tokens
+	 * @param shingles set to add the shingle hashes to
+	 */
+	private static void addShingles(List<String> tokens, Set<Long> shingles) {
+		for (int i = 0; i + SHINGLE_SIZE <= tokens.size(); i++) {
+			long hash = 1125899906842597L;
+			for (int j = i; j < i + SHINGLE_SIZE; j++) {
+				hash = 31 * hash + tokens.get(j).hashCode();
+				hash ^= (hash >>> 29);
+			}
+			shingles.add(hash);
+		}
+	}
+
+	/**
+	 * Tokenize text the same way <code>TemplateRegexMatcher</code> normalizes text before searching for a template
+	 * @param text text to tokenize
+	 * @return tokens for the text
+	 */
+	static String[] tokenizeForWithinText(String text) {
+		return LicenseTextHelper.tokenizeLicenseText(LicenseTextHelper.removeLineSeparators(
+				LicenseCompareHelper.removeCommentChars(text)), new HashMap<>());
+	}
+
+	/**
+	 * Filter all indexed licenses for the text
+	 * @param textTokens tokens for the text as produced by <code>LicenseTextHelper.tokenizeLicenseText</code>
+	 * @return the licenses which may match the text
+	 */
+	public CandidateResult filterCandidates(String[] textTokens) {
+		return filterCandidates(textTokens, licenseIdToOrdinal.keySet());
+	}
+
+	/**
+	 * Filter the license IDs for the text
+	 * @param textTokens tokens for the text as produced by <code>LicenseTextHelper.tokenizeLicenseText</code>
+	 * @param licenseIds candidate license IDs - any license IDs which are not indexed are always retained
+	 * @return the licenses which may match the text
+	 */
+	public CandidateResult filterCandidates(String[] textTokens, Iterable<String> licenseIds) {
+		Set<Long> textShingles = new HashSet<>();
+		addShingles(normalizeTokens(textTokens), textShingles);
+		int[] matchCounts = new int[requiredShingleCounts.length];
+		for (Long shingle : textShingles) {
+			int[] ordinals = shingleToLicenses.get(shingle);
+			if (Objects.nonNull(ordinals)) {
+				for (int ordinal : ordinals) {
+					matchCounts[ordinal]++;
+				}
+			}
+		}
+		List<String> candidateIds = new ArrayList<>();
+		List<Integer> candidateMatchCounts = new ArrayList<>();
+		int numEvaluated = 0;
+		for (String licenseId : licenseIds) {
+			numEvaluated++;
+			Integer ordinal = licenseIdToOrdinal.get(licenseId);
+			if (Objects.isNull(ordinal)) {
+				candidateIds.add(licenseId);
+				candidateMatchCounts.add(0);
+			} else if (matchCounts[ordinal] == requiredShingleCounts[ordinal]) {
+				candidateIds.add(licenseId);
+				candidateMatchCounts.add(matchCounts[ordinal]);
+			}
+		}
+		List<Integer> rankedIndexes = new ArrayList<>();
+		for (int i = 0; i < candidateIds.size(); i++) {
+			rankedIndexes.add(i);
+		}
+		// stable sort - ties retain the order provided
+		rankedIndexes.sort((a, b) -> Integer.compare(candidateMatchCounts.get(b), candidateMatchCounts.get(a)));
+		List<String> ranked = new ArrayList<>();
+		for (int i : rankedIndexes) {
+			ranked.add(candidateIds.get(i));
+		}
+		CandidateResult retval = new CandidateResult(candidateIds, ranked, numEvaluated);
+		totalEvaluated.addAndGet(retval.getNumEvaluated());
+		totalPruned.addAndGet(retval.getNumPruned());
+		logger.debug("License candidate filter pruned {} of {} licenses", retval.getNumPruned(), retval.getNumEvaluated());
+		return retval;
+	}
+
+	/**
+	 * @return the number of licenses indexed
+	 */
+	public int size() {
+		return requiredShingleCounts.length;
+	}
+
+	/**
+	 * @return total number of license IDs evaluated by the filter since it was created
+	 */
+	public long getTotalEvaluated() {
+		return totalEvaluated.get();
+	}
+
+	/**
+	 * @return total number of license IDs pruned by the filter since it was created
+	 */
+	public long getTotalPruned() {
+		return totalPruned.get();
+	}
+}
@@ -379,21 +379,7 @@ public class LicenseCompareHelper {
 	 * @throws SpdxCompareException on comparison errors
 	 */
 	public static DifferenceDescription isTextMatchingTemplate(String template, String compareText) throws SpdxCompareException {
-		CompareTemplateOutputHandler compareTemplateOutputHandler;
-		try {
-			compareTemplateOutputHandler = new CompareTemplateOutputHandler(LicenseTextHelper.removeLineSeparators(removeCommentChars(compareText)));
-		} catch (IOException e1) {
-			throw new SpdxCompareException("IO Error reading the compare text: "+e1.getMessage(),e1);
-		}
-		try {
-		    //TODO: The remove comment chars will not be removed for lines beginning with a template << or ending with >>
-			SpdxLicenseTemplateHelper.parseTemplate(removeCommentChars(template), compareTemplateOutputHandler);
-		} catch (LicenseTemplateRuleException e) {
-			throw new SpdxCompareException("Invalid template rule found during compare: "+e.getMessage(),e);
-		} catch (LicenseParserException e) {
-			throw new SpdxCompareException("Invalid template found during compare: "+e.getMessage(),e);
-		}
-		return compareTemplateOutputHandler.getDifferences();
+		return new CompiledLicenseTemplate(template).match(compareText);
 	}
 
 	/**
@@ -428,6 +414,16 @@ public class LicenseCompareHelper {
 		return isTextMatchingTemplate(exceptionTemplate, compareText);
 	}
 
+	/**
+	 * @param template license or exception template
+	 * @return a cached matcher for the template so that the regular expressions are only compiled once
+	 * @throws SpdxCompareException on invalid templates
+	 */
+	private static TemplateRegexMatcher getTemplateRegexMatcher(String template) throws SpdxCompareException {
+		return TemplateRegexMatcherCache.getInstance().getMatcher(
+				ListedLicenses.getListedLicenses().getLicenseListVersion(), template);
+	}
+
 	/**
 	 * Detect if a text contains the standard license (perhaps along with other text before and/or after)
 	 * @param text    The text to search within (should not be null)
@@ -436,7 +432,7 @@ public class LicenseCompareHelper {
 	 */
 	public static boolean isStandardLicenseWithinText(String text, ListedLicense license) {
 		try {
-			return new TemplateRegexMatcher(license.getStandardLicenseTemplate().orElse(license.getLicenseText())).isTemplateMatchWithinText(text);
+			return getTemplateRegexMatcher(license.getStandardLicenseTemplate().orElse(license.getLicenseText())).isTemplateMatchWithinText(text);
 		} catch (SpdxCompareException e) {
             logger.warn("Compare error getting optional text for license {}", license.getObjectUri(), e);
 			return false;
@@ -459,7 +455,7 @@ public class LicenseCompareHelper {
 		}
 		boolean result = false;
 		try {
-			return new TemplateRegexMatcher(exception.getStandardAdditionTemplate().orElse(exception.getAdditionText())).isTemplateMatchWithinText(text);
+			return getTemplateRegexMatcher(exception.getStandardAdditionTemplate().orElse(exception.getAdditionText())).isTemplateMatchWithinText(text);
 		} catch (SpdxCompareException e) {
             logger.warn("Compare error getting optional text for license exception ID {}", exception.getObjectUri(), e);
 		} catch (InvalidSPDXAnalysisException e) {
@@ -472,37 +468,58 @@ public class LicenseCompareHelper {
 	/**
 	 * Returns a list of SPDX Standard License ID's that match the text provided using
 	 * the SPDX matching guidelines.
+	 * <p>
+	 * The license templates are compiled once per license list version - see {@link LicenseTemplateIndex}
 	 * @param licenseText Text to compare to the standard license texts
 	 * @return Array of SPDX standard license IDs that match
 	 * @throws InvalidSPDXAnalysisException If an error occurs accessing the standard licenses
 	 * @throws SpdxCompareException If an error occurs in the comparison
 	 */
 	public static String[] matchingStandardLicenseIds(String licenseText) throws InvalidSPDXAnalysisException, SpdxCompareException {
-		List<String> stdLicenseIds = ListedLicenses.getListedLicenses().getSpdxListedLicenseIds();
-		List<String> matchingIds  = new ArrayList<>();
-		for (String stdLicId : stdLicenseIds) {
-			ListedLicense license = ListedLicenses.getListedLicenses().getListedLicenseById(stdLicId);
-			if (!isTextStandardLicense(license, licenseText).isDifferenceFound()) {
-				matchingIds.add(licenseUriToLicenseId(license.getObjectUri()));
-			}
-		}
-		return matchingIds.toArray(new String[0]);
+		return LicenseTemplateIndex.getListedLicenseIndex().matchingLicenseIds(licenseText).toArray(new String[0]);
 	}
 
 
 	/**
 	 * Returns a list of SPDX Standard License ID's from the provided list that were found within the text, using
 	 * the SPDX matching guidelines.
+	 * <p>
+	 * Licenses which can not be in the text are first pruned using the {@link LicenseCandidateFilter} of the
+	 * {@link LicenseTemplateIndex} - for a few license IDs, only if the index has already been built
 	 * @param text Text to compare to
 	 * @param licenseIds License ids to compare against
 	 * @return List of SPDX standard license IDs from licenseIds that match
 	 * @throws InvalidSPDXAnalysisException If an error occurs accessing the standard licenses
+	 * @see LicenseWithinTextSearcher for a parallel search with match limits and timeouts
      */
 	public static List<String> matchingStandardLicenseIdsWithinText(String text, List<String> licenseIds) throws InvalidSPDXAnalysisException {
+		if (text == null || text.isEmpty() || licenseIds == null || licenseIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return matchingStandardLicenseIdsWithinText(text, licenseIds,
+				LicenseTemplateIndex.getListedLicenseIndexForSearch(licenseIds.size()));
+	}
+
+	/**
+	 * Returns a list of SPDX Standard License ID's from the provided list that were found within the text, using
+	 * the SPDX matching guidelines.
+	 * @param text Text to compare to
+	 * @param licenseIds License ids to compare against
+	 * @param index if not null, the candidate filter from the index is used to prune the license IDs before searching
+	 * @return List of SPDX standard license IDs from licenseIds that match
+	 * @throws InvalidSPDXAnalysisException If an error occurs accessing the standard licenses
+	 */
+	private static List<String> matchingStandardLicenseIdsWithinText(String text, List<String> licenseIds,
+			@Nullable LicenseTemplateIndex index) throws InvalidSPDXAnalysisException {
 		List<String> result = new ArrayList<>();
 
 		if (text != null && !text.isEmpty() && licenseIds != null && !licenseIds.isEmpty()) {
-			for (String stdLicId : licenseIds) {
+			List<String> candidateIds = licenseIds;
+			if (Objects.nonNull(index)) {
+				candidateIds = index.getCandidateFilter().filterCandidates(
+						LicenseCandidateFilter.tokenizeForWithinText(text), licenseIds).getCandidateIds();
+			}
+			for (String stdLicId : candidateIds) {
 				ListedLicense license = ListedLicenses.getListedLicenses().getListedLicenseById(stdLicId);
 				if (isStandardLicenseWithinText(text, license)) {
 					result.add(licenseUriToLicenseId(license.getObjectUri()));
@@ -517,12 +534,19 @@ public class LicenseCompareHelper {
 	/**
 	 * Returns a list of SPDX Standard License ID's that were found within the text, using
 	 * the SPDX matching guidelines.
+	 * <p>
+	 * Licenses which can not be in the text are first pruned using the {@link LicenseCandidateFilter}
 	 * @param text Text to compare to all the standard licenses
 	 * @return List of SPDX standard license IDs that match
 	 * @throws InvalidSPDXAnalysisException If an error occurs accessing the standard licenses
      */
 	public static List<String> matchingStandardLicenseIdsWithinText(String text) throws InvalidSPDXAnalysisException {
-		return matchingStandardLicenseIdsWithinText(text, ListedLicenses.getListedLicenses().getSpdxListedLicenseIds());
+		if (text == null || text.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<String> licenseIds = ListedLicenses.getListedLicenses().getSpdxListedLicenseIds();
+		return matchingStandardLicenseIdsWithinText(text, licenseIds,
+				LicenseTemplateIndex.getListedLicenseIndexForSearch(licenseIds.size()));
 	}
 
 
@@ -797,7 +821,7 @@ public class LicenseCompareHelper {
 	 */
 	public static boolean isStandardLicenseWithinText(String text, org.spdx.library.model.v2.license.SpdxListedLicense license) {
 		try {
-			return new TemplateRegexMatcher(license.getStandardLicenseTemplate()).isTemplateMatchWithinText(text);
+			return getTemplateRegexMatcher(license.getStandardLicenseTemplate()).isTemplateMatchWithinText(text);
 		} catch (SpdxCompareException e) {
             logger.warn("Compare error getting optional text for license {}", license.getObjectUri(), e);
 			return false;
@@ -820,7 +844,7 @@ public class LicenseCompareHelper {
 		}
 		boolean result = false;
 		try {
-			return new TemplateRegexMatcher(exception.getLicenseExceptionTemplate()).isTemplateMatchWithinText(text);
+			return getTemplateRegexMatcher(exception.getLicenseExceptionTemplate()).isTemplateMatchWithinText(text);
 		} catch (SpdxCompareException e) {
             logger.warn("Compare error getting optional text for license exception ID {}", exception.getObjectUri(), e);
 		} catch (InvalidSPDXAnalysisException e) {
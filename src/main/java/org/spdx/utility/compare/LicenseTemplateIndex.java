@@ -0,0 +1,259 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.ListedLicenses;
+import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicense;
+import org.spdx.utility.compare.CompareTemplateOutputHandler.DifferenceDescription;
+import org.spdx.utility.compare.CompareTemplateOutputHandler.TokenizedText;
+
+/**
+ * Index of compiled templates for all SPDX listed licenses
+ * <p>
+ * The index is built once per license list version.  Matching a text against the index
+ * tokenizes the text once and compares it to each of the pre-compiled templates.
+ * <p>
+ * Instances are immutable and may be shared across threads.
+ *
+ * @author Gary O'Neall
+ */
+public class LicenseTemplateIndex {
+
+	static final Logger logger = LoggerFactory.getLogger(LicenseTemplateIndex.class);
+
+	/**
+	 * Minimum number of license IDs searched for which the listed license index is built to prune the
+	 * license IDs - building the index compiles the templates of all of the listed licenses
+	 */
+	static final int MIN_LICENSE_IDS_TO_BUILD_INDEX = 32;
+
+	private static final Object INDEX_LOCK = new Object();
+	private static volatile LicenseTemplateIndex listedLicenseIndex = null;
+
+	private final String licenseListVersion;
+
+	/**
+	 * Map of license ID to the compiled template - ordered in the same order as the listed license IDs
+	 */
+	private final Map<String, CompiledLicenseTemplate> compiledTemplates;
+
+	/**
+	 * Filter used to prune the candidate licenses prior to matching the compiled templates
+	 */
+	private final LicenseCandidateFilter candidateFilter;
+
+	/**
+	 * @param licenseListVersion version of the license list the templates were taken from
+	 * @param compiledTemplates map of license ID to compiled template - iteration order is preserved in match results
+	 * @throws SpdxCompareException on invalid templates
+	 */
+	public LicenseTemplateIndex(String licenseListVersion, Map<String, CompiledLicenseTemplate> compiledTemplates) throws SpdxCompareException {
+		this(licenseListVersion, compiledTemplates, new LicenseCandidateFilter(templatesOf(compiledTemplates)));
+	}
+
+	/**
+	 * @param licenseListVersion version of the license list the templates were taken from
+	 * @param compiledTemplates map of license ID to compiled template - iteration order is preserved in match results
+	 * @param candidateFilter filter used to prune candidates prior to matching
+	 */
+	public LicenseTemplateIndex(String licenseListVersion, Map<String, CompiledLicenseTemplate> compiledTemplates,
+			LicenseCandidateFilter candidateFilter) {
+		this.licenseListVersion = licenseListVersion;
+		this.compiledTemplates = Collections.unmodifiableMap(new LinkedHashMap<>(compiledTemplates));
+		this.candidateFilter = candidateFilter;
+	}
+
+	/**
+	 * @param compiledTemplates map of license ID to compiled template
+	 * @return map of license ID to the template text
+	 */
+	private static Map<String, String> templatesOf(Map<String, CompiledLicenseTemplate> compiledTemplates) {
+		Map<String, String> retval = new LinkedHashMap<>();
+		for (Map.Entry<String, CompiledLicenseTemplate> entry : compiledTemplates.entrySet()) {
+			retval.put(entry.getKey(), entry.getValue().getTemplate());
+		}
+		return retval;
+	}
+
+	/**
+	 * Retrieve the index for the current SPDX listed licenses, building the index if it has not
+	 * already been built for the current license list version
+	 * @return the index for the current SPDX listed licenses
+	 * @throws InvalidSPDXAnalysisException on errors accessing the listed licenses
+	 * @throws SpdxCompareException on invalid license templates
+	 */
+	public static LicenseTemplateIndex getListedLicenseIndex() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		String currentVersion = ListedLicenses.getListedLicenses().getLicenseListVersion();
+		LicenseTemplateIndex retval = listedLicenseIndex;
+		if (Objects.nonNull(retval) && Objects.equals(currentVersion, retval.getLicenseListVersion())) {
+			return retval;
+		}
+		synchronized (INDEX_LOCK) {
+			retval = listedLicenseIndex;
+			if (Objects.isNull(retval) || !Objects.equals(currentVersion, retval.getLicenseListVersion())) {
+				retval = buildListedLicenseIndex(ListedLicenses.getListedLicenses());
+				listedLicenseIndex = retval;
+			}
+			return retval;
+		}
+	}
+
+	/**
+	 * @return the index for the current SPDX listed licenses if it has already been built, otherwise null
+	 */
+	public static @Nullable LicenseTemplateIndex getListedLicenseIndexIfBuilt() {
+		return listedLicenseIndex;
+	}
+
+	/**
+	 * Retrieve the index used to prune the listed license IDs searched for within a text
+	 * <p>
+	 * The index is only built for searches of at least <code>MIN_LICENSE_IDS_TO_BUILD_INDEX</code> license
+	 * IDs.  Fewer license IDs are pruned only if the index has already been built for the current license
+	 * list version.
+	 * @param licenseIdCount number of license IDs searched for
+	 * @return the index for the current SPDX listed licenses or null if the license IDs are not to be pruned
+	 * @throws InvalidSPDXAnalysisException on errors accessing the listed licenses
+	 */
+	static @Nullable LicenseTemplateIndex getListedLicenseIndexForSearch(int licenseIdCount) throws InvalidSPDXAnalysisException {
+		if (licenseIdCount < MIN_LICENSE_IDS_TO_BUILD_INDEX) {
+			LicenseTemplateIndex retval = listedLicenseIndex;
+			return Objects.nonNull(retval) && Objects.equals(ListedLicenses.getListedLicenses().getLicenseListVersion(),
+					retval.getLicenseListVersion()) ? retval : null;
+		}
+		try {
+			return getListedLicenseIndex();
+		} catch (SpdxCompareException e) {
+			logger.warn("Unable to build the license template index - searching all licenses", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Build a new index from the listed licenses
+	 * @param listedLicenses listed licenses to index
+	 * @return an index containing compiled templates for all of the listed licenses
+	 * @throws InvalidSPDXAnalysisException on errors accessing the listed licenses
+	 * @throws SpdxCompareException on invalid license templates
+	 */
+	public static LicenseTemplateIndex buildListedLicenseIndex(ListedLicenses listedLicenses) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		Map<String, CompiledLicenseTemplate> compiledTemplates = new LinkedHashMap<>();
+		Map<String, String> standardTemplates = new LinkedHashMap<>();
+		for (String licenseId : listedLicenses.getSpdxListedLicenseIds()) {
+			ListedLicense license = listedLicenses.getListedLicenseById(licenseId);
+			if (Objects.isNull(license)) {
+				continue;
+			}
+			String id = LicenseCompareHelper.licenseUriToLicenseId(license.getObjectUri());
+			String licenseTemplate = license.getStandardLicenseTemplate().orElse("");
+			// Only the standard template is used for the candidate filter since it is also
+			// used for the within text search - a blank template is never pruned
+			standardTemplates.put(id, licenseTemplate);
+			if (licenseTemplate.trim().isEmpty()) {
+				licenseTemplate = license.getLicenseText();
+			}
+			compiledTemplates.put(id, new CompiledLicenseTemplate(licenseTemplate));
+		}
+		return new LicenseTemplateIndex(listedLicenses.getLicenseListVersion(), compiledTemplates,
+				new LicenseCandidateFilter(standardTemplates));
+	}
+
+	/**
+	 * @return the version of the license list used to build the index
+	 */
+	public String getLicenseListVersion() {
+		return licenseListVersion;
+	}
+
+	/**
+	 * @return the license IDs contained in the index
+	 */
+	public Set<String> getLicenseIds() {
+		return compiledTemplates.keySet();
+	}
+
+	/**
+	 * @return the filter used to prune candidate licenses prior to matching
+	 */
+	public LicenseCandidateFilter getCandidateFilter() {
+		return candidateFilter;
+	}
+
+	/**
+	 * @param licenseId license ID
+	 * @return the compiled template for the license ID or null if the license ID is not in the index
+	 */
+	public @Nullable CompiledLicenseTemplate getCompiledTemplate(String licenseId) {
+		return compiledTemplates.get(licenseId);
+	}
+
+	/**
+	 * Returns the license IDs whose templates match the text provided using the SPDX matching guidelines
+	 * @param licenseText text to compare to all the templates in the index
+	 * @return license IDs that match in index order
+	 * @throws SpdxCompareException on comparison errors
+	 */
+	public List<String> matchingLicenseIds(String licenseText) throws SpdxCompareException {
+		return matchingLicenseIds(licenseText, compiledTemplates.keySet());
+	}
+
+	/**
+	 * Returns the license IDs from the candidate IDs whose templates match the text provided
+	 * using the SPDX matching guidelines
+	 * <p>
+	 * The candidate IDs are first pruned using the candidate filter
+	 * @param licenseText text to compare to the templates
+	 * @param candidateIds license IDs to compare - IDs not in the index are ignored
+	 * @return license IDs that match in the order of the candidate IDs
+	 * @throws SpdxCompareException on comparison errors
+	 */
+	public List<String> matchingLicenseIds(String licenseText, Iterable<String> candidateIds) throws SpdxCompareException {
+		TokenizedText tokenizedText = CompiledLicenseTemplate.tokenize(licenseText);
+		List<String> retval = new ArrayList<>();
+		for (String licenseId : candidateFilter.filterCandidates(tokenizedText.getTokens(), candidateIds).getCandidateIds()) {
+			CompiledLicenseTemplate compiledTemplate = compiledTemplates.get(licenseId);
+			if (Objects.nonNull(compiledTemplate)) {
+				DifferenceDescription differences = compiledTemplate.match(tokenizedText);
+				if (!differences.isDifferenceFound()) {
+					retval.add(licenseId);
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @return the number of templates in the index
+	 */
+	public int size() {
+		return compiledTemplates.size();
+	}
+}
@@ -0,0 +1,325 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.ListedLicenses;
+import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicense;
+import org.spdx.utility.compare.MatchAbort.MatchAbortedException;
+
+/**
+ * Searches a text for many SPDX listed licenses in parallel
+ * <p>
+ * Each license is searched for in a separate task submitted to the executor, defaulting to the
+ * ForkJoin common pool.  The results are always returned in the order of the license IDs provided,
+ * so the results are the same as <code>LicenseCompareHelper.matchingStandardLicenseIdsWithinText</code>
+ * regardless of the number of threads.
+ * <p>
+ * If a match limit is specified, only the first matches (in the order of the license IDs) up to the limit
+ * are returned and any remaining searches are cancelled once the limit is reached.
+ * <p>
+ * If a license timeout is specified, the search for a single license is aborted once the timeout is exceeded
+ * and the license is reported in the timed out license IDs rather than the matching license IDs.  The timeout
+ * covers both the regular expression search for the license within the text and the full template match of
+ * the text found.
+ * <p>
+ * Instances are immutable and may be shared across threads.
+ *
+ * @author Gary O'Neall
+ */
+public class LicenseWithinTextSearcher {
+
+	static final Logger logger = LoggerFactory.getLogger(LicenseWithinTextSearcher.class);
+
+	/**
+	 * Result of searching for one license
+	 */
+	private enum LicenseResult {
+		MATCH,
+		NO_MATCH,
+		TIMED_OUT,
+		CANCELLED
+	}
+
+	/**
+	 * License ID and the result of searching for the license
+	 */
+	private static class LicenseSearch {
+		final String licenseId;
+		final LicenseResult result;
+
+		LicenseSearch(String licenseId, LicenseResult result) {
+			this.licenseId = licenseId;
+			this.result = result;
+		}
+	}
+
+	/**
+	 * Result of a search
+	 */
+	public static class SearchResult {
+		private final List<String> matchingLicenseIds;
+		private final List<String> timedOutLicenseIds;
+		private final boolean matchLimitReached;
+
+		SearchResult(List<String> matchingLicenseIds, List<String> timedOutLicenseIds, boolean matchLimitReached) {
+			this.matchingLicenseIds = Collections.unmodifiableList(matchingLicenseIds);
+			this.timedOutLicenseIds = Collections.unmodifiableList(timedOutLicenseIds);
+			this.matchLimitReached = matchLimitReached;
+		}
+
+		/**
+		 * @return the license IDs found within the text in the order the license IDs were provided
+		 */
+		public List<String> getMatchingLicenseIds() {
+			return matchingLicenseIds;
+		}
+
+		/**
+		 * @return the license IDs whose search exceeded the license timeout
+		 */
+		public List<String> getTimedOutLicenseIds() {
+			return timedOutLicenseIds;
+		}
+
+		/**
+		 * @return true if the search stopped early since the match limit was reached
+		 */
+		public boolean isMatchLimitReached() {
+			return matchLimitReached;
+		}
+	}
+
+	private final ExecutorService executor;
+	private final int matchLimit;
+	private final long licenseTimeoutMillis;
+	private final LongSupplier clock;
+
+	/**
+	 * Create a searcher using the ForkJoin common pool with no match limit and no license timeout
+	 */
+	public LicenseWithinTextSearcher() {
+		this(ForkJoinPool.commonPool(), 0, 0);
+	}
+
+	/**
+	 * @param executor executor used to search for each license - the executor is not shut down by this class
+	 * @param matchLimit maximum number of matching licenses to return - 0 for no limit
+	 * @param licenseTimeoutMillis maximum time in milliseconds to search for a single license - 0 for no timeout
+	 */
+	public LicenseWithinTextSearcher(ExecutorService executor, int matchLimit, long licenseTimeoutMillis) {
+		this(executor, matchLimit, licenseTimeoutMillis, System::nanoTime);
+	}
+
+	/**
+	 * @param executor executor used to search for each license - the executor is not shut down by this class
+	 * @param matchLimit maximum number of matching licenses to return - 0 for no limit
+	 * @param licenseTimeoutMillis maximum time in milliseconds to search for a single license - 0 for no timeout
+	 * @param clock clock in nanoseconds used for the license timeout
+	 */
+	LicenseWithinTextSearcher(ExecutorService executor, int matchLimit, long licenseTimeoutMillis, LongSupplier clock) {
+		Objects.requireNonNull(executor, "Executor can not be null");
+		Objects.requireNonNull(clock, "Clock can not be null");
+		if (matchLimit < 0) {
+			throw new IllegalArgumentException("Match limit must not be negative");
+		}
+		if (licenseTimeoutMillis < 0) {
+			throw new IllegalArgumentException("License timeout must not be negative");
+		}
+		this.executor = executor;
+		this.matchLimit = matchLimit;
+		this.licenseTimeoutMillis = licenseTimeoutMillis;
+		this.clock = clock;
+	}
+
+	/**
+	 * Search the text for all SPDX listed licenses
+	 * @param text text to search
+	 * @return the result of the search
+	 * @throws InvalidSPDXAnalysisException on errors accessing the listed licenses
+	 */
+	public SearchResult search(String text) throws InvalidSPDXAnalysisException {
+		if (text == null || text.isEmpty()) {
+			return new SearchResult(new ArrayList<>(), new ArrayList<>(), false);
+		}
+		List<String> licenseIds = ListedLicenses.getListedLicenses().getSpdxListedLicenseIds();
+		return search(text, licenseIds, LicenseTemplateIndex.getListedLicenseIndexForSearch(licenseIds.size()));
+	}
+
+	/**
+	 * Search the text for the SPDX listed licenses
+	 * <p>
+	 * For a few license IDs, the license IDs are pruned using the {@link LicenseTemplateIndex} only if the index
+	 * has already been built
+	 * @param text text to search
+	 * @param licenseIds IDs of the SPDX listed licenses to search for
+	 * @return the result of the search
+	 * @throws InvalidSPDXAnalysisException on errors accessing the listed licenses
+	 */
+	public SearchResult search(String text, List<String> licenseIds) throws InvalidSPDXAnalysisException {
+		if (text == null || text.isEmpty() || licenseIds == null || licenseIds.isEmpty()) {
+			return new SearchResult(new ArrayList<>(), new ArrayList<>(), false);
+		}
+		return search(text, licenseIds, LicenseTemplateIndex.getListedLicenseIndexForSearch(licenseIds.size()));
+	}
+
+	/**
+	 * @param text text to search
+	 * @param licenseIds IDs of the SPDX listed licenses to search for
+	 * @param index if not null, the candidate filter from the index is used to prune the license IDs before searching
+	 * @return the result of the search
+	 * @throws InvalidSPDXAnalysisException on errors accessing the listed licenses
+	 */
+	private SearchResult search(String text, List<String> licenseIds, @Nullable LicenseTemplateIndex index) throws InvalidSPDXAnalysisException {
+		List<String> matchingLicenseIds = new ArrayList<>();
+		List<String> timedOutLicenseIds = new ArrayList<>();
+		if (text == null || text.isEmpty() || licenseIds == null || licenseIds.isEmpty()) {
+			return new SearchResult(matchingLicenseIds, timedOutLicenseIds, false);
+		}
+		List<String> candidateIds = licenseIds;
+		if (Objects.nonNull(index)) {
+			candidateIds = index.getCandidateFilter().filterCandidates(
+					LicenseCandidateFilter.tokenizeForWithinText(text), licenseIds).getCandidateIds();
+		}
+		String normalizedText = TemplateRegexMatcher.normalize(text);
+		String licenseListVersion = ListedLicenses.getListedLicenses().getLicenseListVersion();
+		AtomicBoolean cancelled = new AtomicBoolean(false);
+		List<Future<LicenseSearch>> futures = new ArrayList<>(candidateIds.size());
+		try {
+			for (String licenseId : candidateIds) {
+				futures.add(executor.submit(() -> {
+					if (cancelled.get()) {
+						return new LicenseSearch(licenseId, LicenseResult.CANCELLED);
+					}
+					ListedLicense license = ListedLicenses.getListedLicenses().getListedLicenseById(licenseId);
+					if (Objects.isNull(license)) {
+						return new LicenseSearch(licenseId, LicenseResult.NO_MATCH);
+					}
+					return new LicenseSearch(LicenseCompareHelper.licenseUriToLicenseId(license.getObjectUri()),
+							searchLicense(normalizedText, license, licenseListVersion, cancelled));
+				}));
+			}
+			boolean matchLimitReached = false;
+			for (int i = 0; i < futures.size(); i++) {
+				LicenseSearch search = getResult(futures.get(i), candidateIds.get(i));
+				if (LicenseResult.MATCH.equals(search.result)) {
+					matchingLicenseIds.add(search.licenseId);
+					if (matchLimit > 0 && matchingLicenseIds.size() >= matchLimit) {
+						matchLimitReached = i < futures.size() - 1;
+						break;
+					}
+				} else if (LicenseResult.TIMED_OUT.equals(search.result)) {
+					timedOutLicenseIds.add(search.licenseId);
+				}
+			}
+			return new SearchResult(matchingLicenseIds, timedOutLicenseIds, matchLimitReached);
+		} finally {
+			// stop any remaining searches
+			cancelled.set(true);
+			for (Future<LicenseSearch> future : futures) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Search the normalized text for a single license
+	 * @param normalizedText text normalized by the <code>TemplateRegexMatcher</code>
+	 * @param license license to search for
+	 * @param licenseListVersion license list version used for the matcher cache
+	 * @param cancelled set to true if the search is to be cancelled
+	 * @return the result of the search
+	 * @throws InvalidSPDXAnalysisException on errors accessing the license
+	 */
+	private LicenseResult searchLicense(String normalizedText, ListedLicense license, String licenseListVersion,
+			AtomicBoolean cancelled) throws InvalidSPDXAnalysisException {
+		try {
+			TemplateRegexMatcher matcher = TemplateRegexMatcherCache.getInstance().getMatcher(licenseListVersion,
+					license.getStandardLicenseTemplate().orElse(license.getLicenseText()));
+			return matcher.isTemplateMatchWithinNormalizedText(normalizedText, new MatchAbort(
+					TimeUnit.MILLISECONDS.toNanos(licenseTimeoutMillis), cancelled, clock)) ?
+					LicenseResult.MATCH : LicenseResult.NO_MATCH;
+		} catch (MatchAbortedException e) {
+			if (e.isTimedOut()) {
+				logger.warn("Search for license {} exceeded the timeout of {} milliseconds", license.getObjectUri(), licenseTimeoutMillis);
+				return LicenseResult.TIMED_OUT;
+			} else {
+				return LicenseResult.CANCELLED;
+			}
+		} catch (SpdxCompareException e) {
+			logger.warn("Compare error getting optional text for license {}", license.getObjectUri(), e);
+			return LicenseResult.NO_MATCH;
+		}
+	}
+
+	/**
+	 * @param future future for the license search
+	 * @param licenseId license ID searched
+	 * @return the result of the search
+	 * @throws InvalidSPDXAnalysisException on errors accessing the license or if interrupted
+	 */
+	private LicenseSearch getResult(Future<LicenseSearch> future, String licenseId) throws InvalidSPDXAnalysisException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InvalidSPDXAnalysisException("Interrupted searching for license "+licenseId, e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof InvalidSPDXAnalysisException) {
+				throw (InvalidSPDXAnalysisException)cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			} else if (cause instanceof Error) {
+				throw (Error)cause;
+			} else {
+				throw new InvalidSPDXAnalysisException("Error searching for license "+licenseId, cause);
+			}
+		}
+	}
+
+	/**
+	 * @return the maximum number of matching licenses returned - 0 for no limit
+	 */
+	public int getMatchLimit() {
+		return matchLimit;
+	}
+
+	/**
+	 * @return maximum time in milliseconds to search for a single license - 0 for no timeout
+	 */
+	public long getLicenseTimeoutMillis() {
+		return licenseTimeoutMillis;
+	}
+}
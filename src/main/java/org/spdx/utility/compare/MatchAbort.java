@@ -0,0 +1,151 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Aborts a license match once a deadline has passed or the match is cancelled
+ * <p>
+ * A match is aborted by throwing a {@link MatchAbortedException} from {@link #check()}.  The check is
+ * called between the steps of a template match and, for regular expressions, from <code>charAt</code>
+ * of the text returned by {@link #wrap(CharSequence)} so that a long running regular expression search
+ * is aborted from within the regular expression engine.  The clock and cancellation are only read
+ * once every <code>CHECK_INTERVAL</code> checks, starting with the first check.
+ * <p>
+ * An instance is used by a single thread for a single license match.
+ *
+ * @author Gary O'Neall
+ */
+final class MatchAbort {
+
+	/**
+	 * Number of checks between reads of the clock and cancellation
+	 */
+	static final int CHECK_INTERVAL = 1024;
+
+	/**
+	 * Never aborts
+	 */
+	static final MatchAbort NEVER = new MatchAbort(0, new AtomicBoolean(false), System::nanoTime);
+
+	/**
+	 * Thrown from a match to abort the match
+	 */
+	static class MatchAbortedException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		private final boolean timedOut;
+
+		MatchAbortedException(boolean timedOut) {
+			super(timedOut ? "License match timed out" : "License match cancelled", null, false, false);
+			this.timedOut = timedOut;
+		}
+
+		/**
+		 * @return true if the match exceeded the timeout, false if the match was cancelled
+		 */
+		boolean isTimedOut() {
+			return timedOut;
+		}
+	}
+
+	/**
+	 * Text which checks for an abort on every character read
+	 */
+	private class AbortableCharSequence implements CharSequence {
+		private final CharSequence text;
+
+		AbortableCharSequence(CharSequence text) {
+			this.text = text;
+		}
+
+		@Override
+		public char charAt(int index) {
+			check();
+			return text.charAt(index);
+		}
+
+		@Override
+		public int length() {
+			return text.length();
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return text.subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return text.toString();
+		}
+	}
+
+	private final LongSupplier clock;
+	private final long startNanos;
+	private final long timeoutNanos;	// 0 for no timeout
+	private final AtomicBoolean cancelled;
+	private int checkCount = 0;
+
+	/**
+	 * @param timeoutNanos time in nanoseconds after which the match is aborted - 0 for no timeout
+	 * @param cancelled set to true to abort the match
+	 */
+	MatchAbort(long timeoutNanos, AtomicBoolean cancelled) {
+		this(timeoutNanos, cancelled, System::nanoTime);
+	}
+
+	/**
+	 * @param timeoutNanos time in nanoseconds after which the match is aborted - 0 for no timeout
+	 * @param cancelled set to true to abort the match
+	 * @param clock clock in nanoseconds used for the timeout - the timeout starts at construction
+	 */
+	MatchAbort(long timeoutNanos, AtomicBoolean cancelled, LongSupplier clock) {
+		Objects.requireNonNull(cancelled, "Cancelled can not be null");
+		Objects.requireNonNull(clock, "Clock can not be null");
+		this.clock = clock;
+		this.startNanos = clock.getAsLong();
+		this.timeoutNanos = timeoutNanos;
+		this.cancelled = cancelled;
+	}
+
+	/**
+	 * @throws MatchAbortedException if the match has been cancelled or the timeout has passed
+	 */
+	void check() {
+		if (this == NEVER || checkCount++ % CHECK_INTERVAL != 0) {
+			return;
+		}
+		if (cancelled.get()) {
+			throw new MatchAbortedException(false);
+		}
+		if (timeoutNanos > 0 && clock.getAsLong() - startNanos > timeoutNanos) {
+			throw new MatchAbortedException(true);
+		}
+	}
+
+	/**
+	 * @param text text to be searched by a regular expression
+	 * @return text which calls <code>check()</code> on every character read
+	 */
+	CharSequence wrap(CharSequence text) {
+		return this == NEVER ? text : new AbortableCharSequence(text);
+	}
+}
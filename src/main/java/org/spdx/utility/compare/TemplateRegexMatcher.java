@@ -47,6 +47,10 @@ import org.spdx.licenseTemplate.SpdxLicenseTemplateHelper;
  * <code>getCompleteRegex()</code> will return a regular expression for the entire license where
  * <code>getStartRegex(int wordLimit)</code> will return a regular expression to match the beginning of a license
  * and <code>getEndRegex(int wordLimit)</code> will return a regular expression to match the end of a license
+ * <p>
+ * The patterns used by <code>isTemplateMatchWithinText(String text)</code> are compiled on first use and retained,
+ * so a matcher can be reused for any number of texts and may be shared across threads.
+ * See {@link TemplateRegexMatcherCache} for a cache of matchers.
  * 
  * @author Gary O'Neall
  */
@@ -136,8 +140,33 @@ public class TemplateRegexMatcher implements ILicenseTemplateOutputHandler {
 		}
 	}
 
+	/**
+	 * Compiled patterns used to search for the template within text
+	 */
+	private static class CompiledPatterns {
+		final Pattern quickPattern;
+		final Pattern startPattern;
+		final Pattern endPattern;
+		
+		CompiledPatterns(Pattern quickPattern, Pattern startPattern, Pattern endPattern) {
+			this.quickPattern = quickPattern;
+			this.startPattern = startPattern;
+			this.endPattern = endPattern;
+		}
+	}
+
 	private final String template;
 	
+	/**
+	 * Patterns compiled on first use - patterns are immutable and can be shared across threads
+	 */
+	private volatile CompiledPatterns compiledPatterns = null;
+	
+	/**
+	 * Template compiled on first use for the full match of the text found by the patterns
+	 */
+	private volatile CompiledLicenseTemplate compiledTemplate = null;
+	
 	/**
 	 * Top level regex
 	 */
@@ -278,7 +307,30 @@ public class TemplateRegexMatcher implements ILicenseTemplateOutputHandler {
 		}
 		String completeText = findTemplateWithinText(text);
 		if (completeText != null) {
-			return !LicenseCompareHelper.isTextMatchingTemplate(template, completeText).isDifferenceFound();
+			return !getCompiledTemplate().match(completeText).isDifferenceFound();
+		} else {
+			return false;
+		}
+	}
+	
+	/**
+	 * Same as <code>isTemplateMatchWithinText(String text)</code> for text which has already been normalized
+	 * <p>
+	 * The match can be aborted both while searching for the template within the text and while matching
+	 * the text found against the full template.
+	 * @param normalizedText text normalized by <code>normalizeText(String text)</code>
+	 * @param matchAbort checked throughout the search and match
+	 * @return true if a match is found, otherwise false
+	 * @throws SpdxCompareException on compare errors
+	 * @throws MatchAbort.MatchAbortedException if the match is aborted
+	 */
+	boolean isTemplateMatchWithinNormalizedText(String normalizedText, MatchAbort matchAbort) throws SpdxCompareException {
+		if (normalizedText == null || normalizedText.isEmpty() || template == null) {
+			return false;
+		}
+		String completeText = findTemplateWithinNormalizedText(matchAbort.wrap(normalizedText));
+		if (completeText != null) {
+			return !getCompiledTemplate().match(completeText, matchAbort).isDifferenceFound();
 		} else {
 			return false;
 		}
@@ -290,6 +342,15 @@ public class TemplateRegexMatcher implements ILicenseTemplateOutputHandler {
 	 * @return text that is normalized for license comparison
 	 */
 	public String normalizeText(String text) {
+		return normalize(text);
+	}
+	
+	/**
+	 * Normalizes text for use in any template matcher
+	 * @param text text to normalize
+	 * @return text that is normalized for license comparison
+	 */
+	static String normalize(String text) {
 		StringBuilder normalizedText = new StringBuilder();
 
 		for (String token:LicenseTextHelper.tokenizeLicenseText(LicenseTextHelper.removeLineSeparators(
@@ -305,38 +366,82 @@ public class TemplateRegexMatcher implements ILicenseTemplateOutputHandler {
 	 * @param text text to search for
 	 * @return the text matching the beginning and end regular expressions for the template.  Null if there is no match.
      */
-	@SuppressWarnings("UnusedAssignment")
     private @Nullable String findTemplateWithinText(String text) {
+		if (text == null || text.isEmpty() || template == null) {
+			return null;
+		}
+		return findTemplateWithinNormalizedText(normalizeText(text));
+	}
+	
+	/**
+	 * @param compareText normalized text to search
+	 * @return the text matching the beginning and end regular expressions for the template.  Null if there is no match.
+	 */
+	@SuppressWarnings("UnusedAssignment")
+	private @Nullable String findTemplateWithinNormalizedText(CharSequence compareText) {
 		// Get match status
 		String result = null;
 		@SuppressWarnings("UnusedAssignment") int startIndex = -1;
 		int endIndex = -1;
 
-		if (text == null || text.isEmpty() || template == null) {
-			return null;
-		}
-
-		String compareText = normalizeText(text);
-
-		Pattern quickPattern = Pattern.compile(getQuickMatchRegex(WORD_LIMIT));
-		if (quickPattern.matcher(compareText).find()) {
-			Pattern startPattern = Pattern.compile(getStartRegex(WORD_LIMIT));
-			Matcher startMatcher = startPattern.matcher(compareText);
+		CompiledPatterns patterns = getCompiledPatterns();
+		if (patterns.quickPattern.matcher(compareText).find()) {
+			Matcher startMatcher = patterns.startPattern.matcher(compareText);
 			if(startMatcher.find()) {
 				startIndex = startMatcher.start();
-				Pattern endPattern = Pattern.compile(getEndRegex(WORD_LIMIT));
-				Matcher endMatcher = endPattern.matcher(compareText);
+				Matcher endMatcher = patterns.endPattern.matcher(compareText);
 				while (endMatcher.find() && endMatcher.start() >= startIndex) {
 					endIndex = endMatcher.end();
 				}
 				if (endIndex > 0) {
-					result = compareText.substring(startIndex, endIndex);
+					result = compareText.subSequence(startIndex, endIndex).toString();
 				}
 			}
 		}
 		return result;
 	}
 	
+	/**
+	 * @return the quick match, start and end patterns - compiling the patterns if they have not already been compiled
+	 */
+	private CompiledPatterns getCompiledPatterns() {
+		CompiledPatterns retval = compiledPatterns;
+		if (retval == null) {
+			synchronized (this) {
+				retval = compiledPatterns;
+				if (retval == null) {
+					// Note: the order is significant since getStartRegex may modify the first pattern element
+					Pattern quickPattern = Pattern.compile(getQuickMatchRegex(WORD_LIMIT));
+					Pattern startPattern = Pattern.compile(getStartRegex(WORD_LIMIT));
+					Pattern endPattern = Pattern.compile(getEndRegex(WORD_LIMIT));
+					retval = new CompiledPatterns(quickPattern, startPattern, endPattern);
+					compiledPatterns = retval;
+				}
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * @return the compiled template - compiling the template if it has not already been compiled
+	 * @throws SpdxCompareException on invalid templates
+	 */
+	private CompiledLicenseTemplate getCompiledTemplate() throws SpdxCompareException {
+		CompiledLicenseTemplate retval = compiledTemplate;
+		if (retval == null) {
+			retval = new CompiledLicenseTemplate(template);
+			compiledTemplate = retval;
+		}
+		return retval;
+	}
+	
+	/**
+	 * @return the template used to generate the regular expressions
+	 */
+	public String getTemplate() {
+		return template;
+	}
+	
 	private RegexList getCurrentList() {
 		return optionalNestLevel == 0 ? regexPatternList : optionalGroups.get(optionalNestLevel - 1);
 	}
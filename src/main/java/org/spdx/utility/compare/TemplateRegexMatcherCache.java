@@ -0,0 +1,213 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.Configuration;
+
+/**
+ * Bounded least recently used cache of {@link TemplateRegexMatcher}s keyed by the license list version and template
+ * <p>
+ * Each cached matcher retains its compiled regular expressions, so searching many texts for the same
+ * template only compiles the regular expressions once.  Matchers are thread safe and are shared by all callers.
+ * <p>
+ * The maximum number of cached matchers for the singleton instance is configured with the
+ * <code>org.spdx.templateMatcherCacheSize</code> configuration property and defaults to
+ * <code>DEFAULT_MAX_SIZE</code>.  A size of 0 disables the cache.
+ *
+ * @author Gary O'Neall
+ */
+public class TemplateRegexMatcherCache {
+
+	static final Logger logger = LoggerFactory.getLogger(TemplateRegexMatcherCache.class);
+
+	/**
+	 * Large enough to hold all listed licenses and exceptions
+	 */
+	public static final int DEFAULT_MAX_SIZE = 1500;
+
+	static final String CONFIG_PROPERTY_CACHE_SIZE = "org.spdx.templateMatcherCacheSize";
+
+	private static final Object INSTANCE_LOCK = new Object();
+	private static volatile TemplateRegexMatcherCache instance = null;
+
+	/**
+	 * Key for the cache - the template hash is cached by the String class
+	 */
+	private static class CacheKey {
+		private final String licenseListVersion;
+		private final String template;
+
+		CacheKey(String licenseListVersion, String template) {
+			this.licenseListVersion = licenseListVersion;
+			this.template = template;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey)o;
+			return Objects.equals(licenseListVersion, other.licenseListVersion) &&
+					template.equals(other.template);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Objects.hashCode(licenseListVersion) + template.hashCode();
+		}
+	}
+
+	private final int maxSize;
+
+	/**
+	 * Access ordered map used for the LRU eviction - all access must be synchronized on the map
+	 */
+	private final LinkedHashMap<CacheKey, TemplateRegexMatcher> matchers;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * @param maxSize maximum number of matchers to retain - 0 disables caching
+	 */
+	public TemplateRegexMatcherCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Cache size must not be negative");
+		}
+		this.maxSize = maxSize;
+		this.matchers = new LinkedHashMap<CacheKey, TemplateRegexMatcher>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, TemplateRegexMatcher> eldest) {
+				return size() > TemplateRegexMatcherCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @return the cache shared by the <code>LicenseCompareHelper</code> within text methods
+	 */
+	public static TemplateRegexMatcherCache getInstance() {
+		TemplateRegexMatcherCache retval = instance;
+		if (retval == null) {
+			synchronized (INSTANCE_LOCK) {
+				retval = instance;
+				if (retval == null) {
+					int maxSize = DEFAULT_MAX_SIZE;
+					String configSize = Configuration.getInstance().getProperty(CONFIG_PROPERTY_CACHE_SIZE);
+					if (Objects.nonNull(configSize)) {
+						try {
+							maxSize = Math.max(0, Integer.parseInt(configSize.trim()));
+						} catch (NumberFormatException e) {
+							logger.warn("Invalid template matcher cache size {} - using the default", configSize);
+						}
+					}
+					retval = new TemplateRegexMatcherCache(maxSize);
+					instance = retval;
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Get a matcher for the template, creating and caching the matcher if it is not already cached
+	 * @param licenseListVersion version of the license list the template was taken from
+	 * @param template license or exception template
+	 * @return a matcher for the template
+	 * @throws SpdxCompareException on invalid templates
+	 */
+	public TemplateRegexMatcher getMatcher(String licenseListVersion, String template) throws SpdxCompareException {
+		if (maxSize == 0 || Objects.isNull(template)) {
+			return new TemplateRegexMatcher(template);
+		}
+		CacheKey key = new CacheKey(licenseListVersion, template);
+		synchronized (matchers) {
+			TemplateRegexMatcher retval = matchers.get(key);
+			if (Objects.nonNull(retval)) {
+				hits++;
+				return retval;
+			}
+			misses++;
+		}
+		// parse outside of the lock - if two threads parse the same template, the first one stored is retained
+		TemplateRegexMatcher matcher = new TemplateRegexMatcher(template);
+		synchronized (matchers) {
+			TemplateRegexMatcher existing = matchers.get(key);
+			if (Objects.nonNull(existing)) {
+				return existing;
+			}
+			matchers.put(key, matcher);
+		}
+		return matcher;
+	}
+
+	/**
+	 * Remove all cached matchers
+	 */
+	public void clear() {
+		synchronized (matchers) {
+			matchers.clear();
+		}
+	}
+
+	/**
+	 * @return number of cached matchers
+	 */
+	public int size() {
+		synchronized (matchers) {
+			return matchers.size();
+		}
+	}
+
+	/**
+	 * @return maximum number of cached matchers
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return number of requests satisfied from the cache
+	 */
+	public long getHits() {
+		synchronized (matchers) {
+			return hits;
+		}
+	}
+
+	/**
+	 * @return number of requests which required a new matcher
+	 */
+	public long getMisses() {
+		synchronized (matchers) {
+			return misses;
+		}
+	}
+}
@@ -17,18 +17,19 @@
  */
 package org.spdx.utility.license;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.EmptyStackException;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 
 import javax.annotation.Nullable;
 
+import org.spdx.core.CoreModelObject;
 import org.spdx.core.DefaultModelStore;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
@@ -64,6 +65,7 @@ import org.spdx.library.model.v3_0_1.expandedlicensing.WithAdditionOperator;
 import org.spdx.library.model.v3_0_1.simplelicensing.AnyLicenseInfo;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
+import org.spdx.utility.license.ParsedLicenseExpression.Kind;
 
 /**
  * A parser for the SPDX License Expressions as documented in the SPDX appendix
@@ -81,11 +83,56 @@ public class LicenseExpressionParser {
 
     static final String LEFT_PAREN = "(";
 	static final String RIGHT_PAREN = ")";
+	static final String OR_LATER = "+";
 	static final Map<String, Operator> OPERATOR_MAP = new HashMap<>();
 	public static final String UNINITIALIZED_LICENSE_TEXT = "[Initialized with license Parser.  The actual license text is not available]";
 	
+	/**
+	 * Operand on the operand stack while parsing - AND and OR sets are collected in a mutable list of
+	 * members and only made into a parsed license expression once all of the members have been parsed
+	 */
+	private static final class Operand {
+		private final @Nullable ParsedLicenseExpression parsed;	// null for a set which is still collecting members
+		private final @Nullable Kind setKind;
+		private final @Nullable List<ParsedLicenseExpression> setMembers;
+
+		/**
+		 * @param parsed parsed expression for the operand
+		 */
+		Operand(ParsedLicenseExpression parsed) {
+			this.parsed = parsed;
+			this.setKind = null;
+			this.setMembers = null;
+		}
+
+		/**
+		 * @param setKind AND or OR
+		 * @param setMembers members of the set collected so far
+		 */
+		Operand(Kind setKind, List<ParsedLicenseExpression> setMembers) {
+			this.parsed = null;
+			this.setKind = setKind;
+			this.setMembers = setMembers;
+		}
+
+		/**
+		 * @return the kind of the operand
+		 */
+		Kind getKind() {
+			return Objects.nonNull(parsed) ? parsed.getKind() : setKind;
+		}
+
+		/**
+		 * @param compatV2 true if parsing for the SPDX Version 2.X model
+		 * @return the parsed license expression for the operand
+		 */
+		ParsedLicenseExpression toParsed(boolean compatV2) {
+			return Objects.nonNull(parsed) ? parsed : ParsedLicenseExpression.operator(setKind, compatV2, setMembers);
+		}
+	}
+
 	static {
-		OPERATOR_MAP.put("+", Operator.OR_LATER);
+		OPERATOR_MAP.put(OR_LATER, Operator.OR_LATER);
 		OPERATOR_MAP.put("AND", Operator.AND);
 		OPERATOR_MAP.put("OR", Operator.OR);
 		OPERATOR_MAP.put("WITH", Operator.WITH);
@@ -111,28 +158,16 @@ public class LicenseExpressionParser {
 														String customLicenseUriPrefix, CreationInfo creationInfo,
 														@Nullable IModelCopyManager copyManager,
 			@Nullable List<DictionaryEntry> customIdToUri) throws InvalidSPDXAnalysisException {
-		if (expression == null || expression.trim().isEmpty()) {
-			throw new LicenseParserException("Empty license expression");
-		}
+		ParsedLicenseExpression parsed = parseExpression(expression);
 		Objects.requireNonNull(store, "Model store can not be null");
 		if (Objects.isNull(customLicenseUriPrefix)) {
 			customLicenseUriPrefix = DefaultModelStore.getDefaultDocumentUri() + "#";
 		}
-		String[] tokens  = tokenizeExpression(expression);
-		if (tokens.length == 1 && tokens[0].equals(SpdxConstantsCompatV2.NOASSERTION_VALUE)) {
-			return new NoAssertionLicense();
-		} else if (tokens.length == 1 && tokens[0].equals(SpdxConstantsCompatV2.NONE_VALUE)) {
-			return new NoneLicense();
-		} else {
-			try {
-				return parseLicenseExpression(tokens, store, customLicenseUriPrefix, creationInfo,
-						copyManager, customIdToUri);
-			} catch (LicenseParserException ex) {
-				// Add the expression to the error message to provide additional information to the user
-				throw new LicenseParserException(ex.getMessage()+" License expression: '"+expression+"'", ex);
-			} catch (EmptyStackException ex) {
-				throw new LicenseParserException("Invalid license expression: '"+expression+"' - check that every operator (e.g. AND and OR) has operators and that parenthesis are matched");
-			}
+		try {
+			return toLicenseInfo(parsed, store, customLicenseUriPrefix, creationInfo, copyManager, customIdToUri);
+		} catch (LicenseParserException ex) {
+			// Add the expression to the error message to provide additional information to the user
+			throw new LicenseParserException(ex.getMessage()+" License expression: '"+expression+"'", ex);
 		}
 	}
 	
@@ -149,239 +184,277 @@ public class LicenseExpressionParser {
 	 */
 	public static org.spdx.library.model.v2.license.AnyLicenseInfo parseLicenseExpressionCompatV2(String expression, IModelStore store, 
 			String documentUri, IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		ParsedLicenseExpression parsed = parseExpressionCompatV2(expression);
+		Objects.requireNonNull(store, "Model store can not be null");
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		try {
+			return toLicenseInfoCompatV2(parsed, store, documentUri, copyManager);
+		} catch (LicenseParserException ex) {
+			// Add the expression to the error message to provide additional information to the user
+			throw new LicenseParserException(ex.getMessage()+" License expression: '"+expression+"'", ex);
+		}
+	}
+
+	/**
+	 * Parses a license expression for the SPDX Version 3.X model without creating any licenses
+	 * <p>
+	 * The <code>ParsedLicenseExpressionCache</code> is used if it is enabled.
+	 * @param expression Expression to be parsed
+	 * @return the parsed license expression which can be converted to licenses in any model store by <code>toLicenseInfo</code>
+	 * @throws LicenseParserException if the expression is not a valid license expression
+	 */
+	public static ParsedLicenseExpression parseExpression(String expression) throws LicenseParserException {
+		return ParsedLicenseExpressionCache.getInstance().parse(expression);
+	}
+
+	/**
+	 * Parses a license expression for the SPDX Version 2.X model without creating any licenses
+	 * <p>
+	 * The <code>ParsedLicenseExpressionCache</code> is used if it is enabled.
+	 * @param expression Expression to be parsed
+	 * @return the parsed license expression which can be converted to licenses in any model store by <code>toLicenseInfoCompatV2</code>
+	 * @throws LicenseParserException if the expression is not a valid license expression
+	 */
+	public static ParsedLicenseExpression parseExpressionCompatV2(String expression) throws LicenseParserException {
+		return ParsedLicenseExpressionCache.getInstance().parseCompatV2(expression);
+	}
+
+	/**
+	 * Parses an expression without using the <code>ParsedLicenseExpressionCache</code>
+	 * @param expression Expression to be parsed
+	 * @param compatV2 true if parsing for the SPDX Version 2.X model
+	 * @return the parsed license expression
+	 * @throws LicenseParserException if the expression is not a valid license expression
+	 */
+	static ParsedLicenseExpression parseExpressionUncached(String expression, boolean compatV2) throws LicenseParserException {
 		if (expression == null || expression.trim().isEmpty()) {
 			throw new LicenseParserException("Empty license expression");
 		}
-		Objects.requireNonNull(store, "Model store can not be null");
-		Objects.requireNonNull(documentUri, "Document URI can not be null");
 		String[] tokens  = tokenizeExpression(expression);
 		if (tokens.length == 1 && tokens[0].equals(SpdxConstantsCompatV2.NOASSERTION_VALUE)) {
-			return new SpdxNoAssertionLicense(store, documentUri);
+			return ParsedLicenseExpression.term(Kind.NOASSERTION, null, compatV2);
 		} else if (tokens.length == 1 && tokens[0].equals(SpdxConstantsCompatV2.NONE_VALUE)) {
-			return new SpdxNoneLicense(store, documentUri);
+			return ParsedLicenseExpression.term(Kind.NONE, null, compatV2);
 		} else {
 			try {
-				return parseLicenseExpressionCompatV2(tokens, store, documentUri, copyManager);
+				return parseTokens(tokens, 0, tokens.length, compatV2);
 			} catch (LicenseParserException ex) {
 				// Add the expression to the error message to provide additional information to the user
 				throw new LicenseParserException(ex.getMessage()+" License expression: '"+expression+"'", ex);
-			} catch (EmptyStackException ex) {
+			} catch (NoSuchElementException ex) {
 				throw new LicenseParserException("Invalid license expression: '"+expression+"' - check that every operator (e.g. AND and OR) has operators and that parenthesis are matched");
 			}
 		}
 	}
 
 	/**
-	 * A custom tokenizer since there is not a white space between parents and pluses
-	 * @param expression license expression string
-	 * @return array of string tokens
+	 * Creates the licenses for a parsed license expression using the SPDX Version 3.X model
+	 * @param parsed license expression returned by <code>parseExpression</code>
+	 * @param store Store for the licenses - if any custom licenses or additions already exist, they will be used.  If none exist for an ID, they will be added.
+	 * @param customLicenseUriPrefix Prefix for Object URI's created when appending custom license ID's or custom license additions
+	 * @param creationInfo Creation information to use for newly created elements
+	 * @param copyManager if non-null, allows for copying of any properties set which use other model stores or document URI's
+	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID
+	 * @return license equivalent to the parsed license expression
+	 * @throws InvalidSPDXAnalysisException on errors creating the licenses
 	 */
-	private static String[] tokenizeExpression(String expression) {
-		String[] startTokens = expression.split("\\s");
-		List<String> endTokens = new ArrayList<>();
-		for (String token : startTokens) {
-			processPreToken(token, endTokens);
-		}
-		return endTokens.toArray(new String[0]);
+	public static AnyLicenseInfo toLicenseInfo(ParsedLicenseExpression parsed, IModelStore store,
+			String customLicenseUriPrefix, CreationInfo creationInfo, @Nullable IModelCopyManager copyManager,
+			@Nullable List<DictionaryEntry> customIdToUri) throws InvalidSPDXAnalysisException {
+		return toLicenseInfo(parsed, store, customLicenseUriPrefix, creationInfo, copyManager, customIdToUri, new HashMap<>());
 	}
 
 	/**
-	 * @param preToken previous token
-	 * @param tokenList resultant list of tokens - modified by this methods
+	 * Creates the licenses for a parsed license expression using the SPDX Version 3.X model reusing licenses and additions
+	 * already created for the same terms
+	 * <p>
+	 * The same <code>resolvedTerms</code> may be passed when creating the licenses for many expressions so that each
+	 * distinct license and addition is looked up or created in the store only once.  It must only be shared between
+	 * calls for the same store, prefix, creation information and copy manager.
+	 * @param parsed license expression returned by <code>parseExpression</code>
+	 * @param store Store for the licenses - if any custom licenses or additions already exist, they will be used.  If none exist for an ID, they will be added.
+	 * @param customLicenseUriPrefix Prefix for Object URI's created when appending custom license ID's or custom license additions
+	 * @param creationInfo Creation information to use for newly created elements
+	 * @param copyManager if non-null, allows for copying of any properties set which use other model stores or document URI's
+	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID
+	 * @param resolvedTerms licenses and additions already created for license and addition terms - updated with any created terms
+	 * @return license equivalent to the parsed license expression
+	 * @throws InvalidSPDXAnalysisException on errors creating the licenses
 	 */
-	private static void processPreToken(String preToken,
-			List<String> tokenList) {
-		if (preToken.isEmpty()) {
-            //noinspection UnnecessaryReturnStatement
-            return;
-		} else if (preToken.startsWith("(")) {
-			tokenList.add("(");
-			processPreToken(preToken.substring(1), tokenList);
-		} else if (preToken.endsWith(")")) {
-			processPreToken(preToken.substring(0, preToken.length()-1), tokenList);
-			tokenList.add(")");
-		} else if (preToken.endsWith("+")) {
-			processPreToken(preToken.substring(0, preToken.length()-1), tokenList);
-			tokenList.add("+");
-		} else {
-			tokenList.add(preToken);
+	public static AnyLicenseInfo toLicenseInfo(ParsedLicenseExpression parsed, IModelStore store,
+			String customLicenseUriPrefix, CreationInfo creationInfo, @Nullable IModelCopyManager copyManager,
+			@Nullable List<DictionaryEntry> customIdToUri,
+			Map<ParsedLicenseExpression, CoreModelObject> resolvedTerms) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(resolvedTerms, "Resolved terms can not be null");
+		Objects.requireNonNull(parsed, "Parsed license expression can not be null");
+		Objects.requireNonNull(store, "Model store can not be null");
+		Objects.requireNonNull(customLicenseUriPrefix, "URI Prefix can not be null");
+		if (parsed.isCompatV2()) {
+			throw new IllegalArgumentException("License expression was parsed for the SPDX Version 2.X model");
+		}
+		switch (parsed.getKind()) {
+			case NONE: return new NoneLicense();
+			case NOASSERTION: return new NoAssertionLicense();
+			default: return createLicenseInfo(parsed, store, customLicenseUriPrefix, creationInfo, copyManager, 
+					customIdToUri, resolvedTerms);
 		}
 	}
 
 	/**
-	 * Parses a tokenized license expression into a license for use in the RDF Parser
-	 * @param tokens array of tokens
-	 * @param store model store for non-listed licenses
-	 * @param customLicenseUriPrefix Prefix for Object URI's created when creating any new IDs. If any custom licenses or additions already exist, they will be used.
-	 * If none exist for an ID, they will be added.  If null, the default model document URI will be used.
-	 * @param creationInfo Creation information to use for newly created elements
+	 * Creates the licenses for a parsed license expression using the SPDX Version 2.X model
+	 * @param parsed license expression returned by <code>parseExpressionCompatV2</code>
+	 * @param store Store for the licenses - if any extractedLicenseInfos by ID already exist, they will be used.  If none exist for an ID, they will be added.
+	 * @param documentUri Document URI for the document containing any extractedLicenseInfos
 	 * @param copyManager if non-null, allows for copying of any properties set which use other model stores or document URI's
-	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID - required for any external additions or licenses
-	 * @return a license info representing the fully parsed list of tokens
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * @return license equivalent to the parsed license expression
+	 * @throws InvalidSPDXAnalysisException on errors creating the licenses
 	 */
-	private static AnyLicenseInfo parseLicenseExpression(String[] tokens, IModelStore store,
-														 String customLicenseUriPrefix, CreationInfo creationInfo,
-														 @Nullable IModelCopyManager copyManager,
-														 @Nullable List<DictionaryEntry> customIdToUri) throws InvalidSPDXAnalysisException {
-		if (tokens == null || tokens.length == 0) {
-			throw new LicenseParserException("Expected license expression");
+	public static org.spdx.library.model.v2.license.AnyLicenseInfo toLicenseInfoCompatV2(ParsedLicenseExpression parsed, 
+			IModelStore store, String documentUri, @Nullable IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		return toLicenseInfoCompatV2(parsed, store, documentUri, copyManager, new HashMap<>());
+	}
+
+	/**
+	 * Creates the licenses for a parsed license expression using the SPDX Version 2.X model reusing licenses and exceptions
+	 * already created for the same terms
+	 * <p>
+	 * The same <code>resolvedTerms</code> may be passed when creating the licenses for many expressions so that each
+	 * distinct license and exception is looked up or created in the store only once.  It must only be shared between
+	 * calls for the same store, document URI and copy manager.
+	 * @param parsed license expression returned by <code>parseExpressionCompatV2</code>
+	 * @param store Store for the licenses - if any extractedLicenseInfos by ID already exist, they will be used.  If none exist for an ID, they will be added.
+	 * @param documentUri Document URI for the document containing any extractedLicenseInfos
+	 * @param copyManager if non-null, allows for copying of any properties set which use other model stores or document URI's
+	 * @param resolvedTerms licenses and exceptions already created for license and exception terms - updated with any created terms
+	 * @return license equivalent to the parsed license expression
+	 * @throws InvalidSPDXAnalysisException on errors creating the licenses
+	 */
+	public static org.spdx.library.model.v2.license.AnyLicenseInfo toLicenseInfoCompatV2(ParsedLicenseExpression parsed, 
+			IModelStore store, String documentUri, @Nullable IModelCopyManager copyManager,
+			Map<ParsedLicenseExpression, CoreModelObject> resolvedTerms) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(resolvedTerms, "Resolved terms can not be null");
+		Objects.requireNonNull(parsed, "Parsed license expression can not be null");
+		Objects.requireNonNull(store, "Model store can not be null");
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		if (!parsed.isCompatV2()) {
+			throw new IllegalArgumentException("License expression was parsed for the SPDX Version 3.X model");
 		}
-		Stack<AnyLicenseInfo> operandStack = new Stack<>();
-		Stack<Operator> operatorStack = new Stack<>();
-		int tokenIndex = 0;
-		String token;
-		while (tokenIndex < tokens.length) {
-			token = tokens[tokenIndex++];
-			// left operand
-			if (LEFT_PAREN.equals(token)) {
-				int rightParenIndex = findMatchingParen(tokens, tokenIndex);
-				if (rightParenIndex < 0) {
-					throw new LicenseParserException("Missing right parenthesis");
-				}
-				String[] nestedTokens = Arrays.copyOfRange(tokens, tokenIndex, rightParenIndex);
-				operandStack.push(parseLicenseExpression(nestedTokens, store, customLicenseUriPrefix, 
-						creationInfo, copyManager, customIdToUri));
-				tokenIndex = rightParenIndex + 1;		
-			} else if (OPERATOR_MAP.get(token) == null) {	// assumed to be a simple licensing type
-				operandStack.push(parseSimpleLicenseToken(token, store, customLicenseUriPrefix,
-						creationInfo, copyManager, customIdToUri));
-			} else {
-				Operator operator = OPERATOR_MAP.get(token);
-				if (operator == Operator.WITH) {
-					// special processing here since With must be with an exception, not a licenseInfo
-					if (!operatorStack.isEmpty() && Operator.OR_LATER.equals(operatorStack.peek())) {
-						Operator tosOperator = operatorStack.pop();
-						evaluateExpression(tosOperator, operandStack, store, customLicenseUriPrefix,
-								creationInfo, copyManager);
-					}
-					if (tokenIndex >= tokens.length) {
-						throw new LicenseParserException("Missing exception clause");
-					}
-					token = tokens[tokenIndex++];
-					LicenseAddition licenseAddition = parseSimpleLicenseAdditionToken(token, 
-							store, customLicenseUriPrefix, creationInfo, copyManager, customIdToUri);
-					AnyLicenseInfo operand = operandStack.pop();
-					if (operand == null) {
-						throw new LicenseParserException("Missing license for with clause");
-					}
-					if (!(operand instanceof ExtendableLicense)) {
-						throw new LicenseParserException("License with exception is not of type License or OrLaterOperator");
-					}
-					WithAdditionOperator weo = new WithAdditionOperator(store,
-							customLicenseUriPrefix + store.getNextId(IdType.SpdxId), copyManager, true, customLicenseUriPrefix);
-					weo.setCreationInfo(creationInfo);
-					weo.setSubjectExtendableLicense((ExtendableLicense)operand);
-					weo.setSubjectAddition(licenseAddition);
-					operandStack.push(weo);			
-				} else {
-					// process in order of precedence using the shunting yard algorithm
-					while (!operatorStack.isEmpty() && 
-							operatorStack.peek().ordinal() <= operator.ordinal()) {
-						Operator tosOperator = operatorStack.pop();
-						evaluateExpression(tosOperator, operandStack, store, customLicenseUriPrefix,
-								creationInfo, copyManager);
-					}
-					operatorStack.push(operator);
-				}
-			}
+		switch (parsed.getKind()) {
+			case NONE: return new SpdxNoneLicense(store, documentUri);
+			case NOASSERTION: return new SpdxNoAssertionLicense(store, documentUri);
+			default: return createLicenseInfoCompatV2(parsed, store, documentUri, copyManager, resolvedTerms);
 		}
-		// go through the rest of the stack
-		while (!operatorStack.isEmpty()) {
-			Operator tosOperator = operatorStack.pop();
-			evaluateExpression(tosOperator, operandStack, store, customLicenseUriPrefix, creationInfo, copyManager);
-		}
-		AnyLicenseInfo retval = operandStack.pop();
-		if (!operandStack.isEmpty()) {
-			throw new LicenseParserException("Invalid license expression.  Expecting more operands.");
+	}
+
+	/**
+	 * A custom tokenizer since there is not a white space between parens and pluses
+	 * <p>
+	 * The expression is scanned once - tokens are separated by white space and any left parenthesis at the
+	 * start of a white space separated word or any right parenthesis or plus at the end of the word are
+	 * separate tokens.
+	 * @param expression license expression string
+	 * @return array of string tokens
+	 */
+	static String[] tokenizeExpression(String expression) {
+		List<String> tokens = new ArrayList<>();
+		int length = expression.length();
+		int wordStart = 0;
+		while (wordStart < length) {
+			if (isWhiteSpace(expression.charAt(wordStart))) {
+				wordStart++;
+				continue;
+			}
+			int wordEnd = wordStart + 1;
+			while (wordEnd < length && !isWhiteSpace(expression.charAt(wordEnd))) {
+				wordEnd++;
+			}
+			while (wordStart < wordEnd && expression.charAt(wordStart) == '(') {
+				tokens.add(LEFT_PAREN);
+				wordStart++;
+			}
+			int idEnd = wordEnd;
+			while (idEnd > wordStart && (expression.charAt(idEnd - 1) == ')' || expression.charAt(idEnd - 1) == '+')) {
+				idEnd--;
+			}
+			if (idEnd > wordStart) {
+				tokens.add(expression.substring(wordStart, idEnd));
+			}
+			for (int i = idEnd; i < wordEnd; i++) {
+				tokens.add(expression.charAt(i) == ')' ? RIGHT_PAREN : OR_LATER);
+			}
+			wordStart = wordEnd;
 		}
-		return retval;
+		return tokens.toArray(new String[0]);
 	}
-	
+
+	/**
+	 * @param ch character
+	 * @return true if the character is one of the white space characters matched by the regular expression <code>\s</code>
+	 */
+	private static boolean isWhiteSpace(char ch) {
+		return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+	}
+
+
 	/**
-	 * Parses a tokenized license expression into a license
+	 * Parses a tokenized license expression
 	 * @param tokens array of tokens
-	 * @param store model store for non-listed licenses
-	 * @param documentUri document URI for non-listed licenses
-	 * @param copyManager if non-null, allows for copying of any properties set which use other model stores or document URI's
-	 * @return a license represented by the license expression
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * @param start index of the first token of the expression
+	 * @param end index following the last token of the expression
+	 * @param compatV2 true if parsing for the SPDX Version 2.X model
+	 * @return the parsed license expression
+	 * @throws LicenseParserException on SPDX parsing errors
 	 */
-	private static org.spdx.library.model.v2.license.AnyLicenseInfo parseLicenseExpressionCompatV2(String[] tokens, IModelStore store, 
-			String documentUri, IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
-		if (tokens == null || tokens.length == 0) {
+	private static ParsedLicenseExpression parseTokens(String[] tokens, int start, int end, boolean compatV2) throws LicenseParserException {
+		if (tokens == null || start >= end) {
 			throw new LicenseParserException("Expected license expression");
 		}
-		Stack<org.spdx.library.model.v2.license.AnyLicenseInfo> operandStack = new Stack<>();
-		Stack<Operator> operatorStack = new Stack<>();
-		int tokenIndex = 0;
+		Deque<Operand> operandStack = new ArrayDeque<>();
+		Deque<Operator> operatorStack = new ArrayDeque<>();
+		int tokenIndex = start;
 		String token;
-		while (tokenIndex < tokens.length) {
+		while (tokenIndex < end) {
 			token = tokens[tokenIndex++];
+			Operator operator = OPERATOR_MAP.get(token);
 			// left operand
 			if (LEFT_PAREN.equals(token)) {
-				int rightParenIndex = findMatchingParen(tokens, tokenIndex);
+				int rightParenIndex = findMatchingParen(tokens, tokenIndex, end);
 				if (rightParenIndex < 0) {
 					throw new LicenseParserException("Missing right parenthesis");
 				}
-				String[] nestedTokens = Arrays.copyOfRange(tokens, tokenIndex, rightParenIndex);
-				operandStack.push(parseLicenseExpressionCompatV2(nestedTokens, store, documentUri, copyManager));
+				operandStack.push(new Operand(parseTokens(tokens, tokenIndex, rightParenIndex, compatV2)));
 				tokenIndex = rightParenIndex + 1;		
-			} else if (OPERATOR_MAP.get(token) == null) {	// assumed to be a simple licensing type
-				operandStack.push(parseSimpleLicenseTokenCompatV2(token, store, documentUri, copyManager));
+			} else if (operator == null) {	// assumed to be a simple licensing type
+				operandStack.push(new Operand(parseLicenseToken(token, compatV2)));
+			} else if (operator == Operator.WITH) {
+				// special processing here since With must be with an exception, not a licenseInfo
+				if (!operatorStack.isEmpty() && Operator.OR_LATER.equals(operatorStack.peek())) {
+					evaluateExpression(operatorStack.pop(), operandStack, compatV2);
+				}
+				if (tokenIndex >= end) {
+					throw new LicenseParserException("Missing exception clause");
+				}
+				ParsedLicenseExpression addition = parseAdditionToken(tokens[tokenIndex++], compatV2);
+				ParsedLicenseExpression operand = operandStack.pop().toParsed(compatV2);
+				if (!operand.isLicense() && !Kind.OR_LATER.equals(operand.getKind())) {
+					throw new LicenseParserException(compatV2 ? "License with exception is not of type SimpleLicensingInfo or OrLaterOperator" :
+						"License with exception is not of type License or OrLaterOperator");
+				}
+				operandStack.push(new Operand(ParsedLicenseExpression.operator(Kind.WITH, compatV2, operand, addition)));
 			} else {
-				Operator operator = OPERATOR_MAP.get(token);
-				if (operator == Operator.WITH) {
-					// special processing here since With must be with an exception, not a licenseInfo
-					if (!operatorStack.isEmpty() && Operator.OR_LATER.equals(operatorStack.peek())) {
-						Operator tosOperator = operatorStack.pop();
-						evaluateExpressionCompatV2(tosOperator, operandStack, store, documentUri, copyManager);
-					}
-					if (tokenIndex >= tokens.length) {
-						throw new LicenseParserException("Missing exception clause");
-					}
-					token = tokens[tokenIndex++];
-					org.spdx.library.model.v2.license.ListedLicenseException licenseException;
-					Optional<String> exceptionId = Optional.empty();
-					if (LicenseInfoFactory.isSpdxListedExceptionId(token)) {
-						exceptionId = LicenseInfoFactory.listedExceptionIdCaseSensitive(token);
-					}
-					if (exceptionId.isPresent()) {
-						licenseException = LicenseInfoFactory.getListedExceptionV2ById(exceptionId.get());
-					} else if (token.startsWith(SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM)) {
-						throw new LicenseParserException("WITH must be followed by a license exception. "+token+" is a Listed License type.");
-					} else {
-						licenseException = (org.spdx.library.model.v2.license.ListedLicenseException) org.spdx.library.model.v2.SpdxModelFactoryCompatV2.createModelObjectV2(store, 
-								documentUri, token, SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE_EXCEPTION, copyManager);
-					}
-					org.spdx.library.model.v2.license.AnyLicenseInfo operand = operandStack.pop();
-					if (operand == null) {
-						throw new LicenseParserException("Missing license for with clause");
-					}
-					if (!((operand instanceof SimpleLicensingInfo) || (operand instanceof org.spdx.library.model.v2.license.OrLaterOperator))) {
-						throw new LicenseParserException("License with exception is not of type SimpleLicensingInfo or OrLaterOperator");
-					}
-					WithExceptionOperator weo = new WithExceptionOperator(store, documentUri, store.getNextId(IdType.Anonymous), copyManager, true);
-					weo.setLicense(operand);
-					weo.setException(licenseException);
-					operandStack.push(weo);			
-				} else {
-					// process in order of precedence using the shunting yard algorithm
-					while (!operatorStack.isEmpty() && 
-							operatorStack.peek().ordinal() <= operator.ordinal()) {
-						Operator tosOperator = operatorStack.pop();
-						evaluateExpressionCompatV2(tosOperator, operandStack, store, documentUri, copyManager);
-					}
-					operatorStack.push(operator);
+				// process in order of precedence using the shunting yard algorithm
+				while (!operatorStack.isEmpty() && 
+						operatorStack.peek().ordinal() <= operator.ordinal()) {
+					evaluateExpression(operatorStack.pop(), operandStack, compatV2);
 				}
+				operatorStack.push(operator);
 			}
 		}
 		// go through the rest of the stack
 		while (!operatorStack.isEmpty()) {
-			Operator tosOperator = operatorStack.pop();
-			evaluateExpressionCompatV2(tosOperator, operandStack, store, documentUri, copyManager);
+			evaluateExpression(operatorStack.pop(), operandStack, compatV2);
 		}
-		org.spdx.library.model.v2.license.AnyLicenseInfo retval = operandStack.pop();
+		ParsedLicenseExpression retval = operandStack.pop().toParsed(compatV2);
 		if (!operandStack.isEmpty()) {
 			throw new LicenseParserException("Invalid license expression.  Expecting more operands.");
 		}
@@ -392,14 +465,15 @@ public class LicenseExpressionParser {
 	 * Returns the index of the rightmost parenthesis or -1 if not found
 	 * @param tokens array of tokens
 	 * @param startToken index of the token to start the search
+	 * @param endToken index following the last token to search
 	 * @return index of the matching end parenthesis
 	 */
-	private static int findMatchingParen(String[] tokens, int startToken) {
+	private static int findMatchingParen(String[] tokens, int startToken, int endToken) {
 		if (tokens == null) {
 			return -1;
 		}
 		int nestCount = 0;
-		for (int i = startToken; i < tokens.length; i++) {
+		for (int i = startToken; i < endToken; i++) {
 			if (LEFT_PAREN.equals(tokens[i])) {
 				nestCount++;
 			} else if (RIGHT_PAREN.equals(tokens[i])) {
@@ -414,28 +488,48 @@ public class LicenseExpressionParser {
 	}
 	
 	/**
-	 * Converts a string token into its equivalent license addition
-	 * checking for a listed license
-	 * @param token Token to translate to the equivalent license addition
-	 * @param store Store for the licenses
-	 * @param customLicenseUriPrefix Prefix to use for any created local licenses or additions
-	 * @param creationInfo Creation information to use for newly created elements
-	 * @param copyManager to use when copying from the listed license store
-	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID - required for any external additions or licenses
-	 * @return a CustomLicenseAddition, ListedLicense, ListedLicenseException or CustomLicense depending on what is in the store
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * Converts a string token into its equivalent license - either a listed license or a LicenseRef
+	 * @param token license ID token
+	 * @param compatV2 true if parsing for the SPDX Version 2.X model
+	 * @return parsed license
+	 * @throws LicenseParserException if the token is not a listed license or a LicenseRef
 	 */
-	private static LicenseAddition parseSimpleLicenseAdditionToken(String token, IModelStore store,
-																   String customLicenseUriPrefix,
-																   CreationInfo creationInfo,
-																   @Nullable IModelCopyManager copyManager,
-																   @Nullable List<DictionaryEntry> customIdToUri) throws InvalidSPDXAnalysisException {
-		Objects.requireNonNull(token, "Token can not be null");
-		Objects.requireNonNull(store, "Model store can not be null");
-		Objects.requireNonNull(customLicenseUriPrefix, "URI Prefix can not be null");
+	private static ParsedLicenseExpression parseLicenseToken(String token, boolean compatV2) throws LicenseParserException {
 		if (token.contains(":")) {
 			// External License Ref
-			return new ExternalCustomLicenseAddition(convertToExternalObjectUri(token, customIdToUri));
+			return ParsedLicenseExpression.term(Kind.EXTERNAL_LICENSE_REF, token, compatV2);
+		}
+		Optional<String> licenseId = Optional.empty();
+		if (LicenseInfoFactory.isSpdxListedLicenseId(token)) {	
+			// listed license
+			licenseId = LicenseInfoFactory.listedLicenseIdCaseSensitive(token);
+		}
+		if (licenseId.isPresent()) {
+			return ParsedLicenseExpression.term(Kind.LISTED_LICENSE, licenseId.get(), compatV2);
+		} else if (token.toLowerCase().startsWith("licenseref-")) {
+			return ParsedLicenseExpression.term(Kind.LICENSE_REF, token, compatV2);
+		} else if (LicenseInfoFactory.isSpdxListedExceptionId(token)) {
+			throw new LicenseParserException(String.format("Unexpected listed license exception %s.  Must be a listed license or a LicenseRef", token));
+		} else if (SpdxConstantsCompatV2.NOASSERTION_VALUE.equals(token)) {
+			throw new LicenseParserException("NOASSERTION is currently not allowed in a complex license expression");
+		} else if (SpdxConstantsCompatV2.NONE_VALUE.equals(token)) {
+			throw new LicenseParserException("NONE is currently not allowed in a complex license expression");
+		} else {
+			throw new LicenseParserException(String.format("Unknown license %s.  Must be a listed license or have the syntax %s", token, SpdxConstantsCompatV2.LICENSE_ID_PATTERN));
+		}
+	}
+
+	/**
+	 * Converts a string token following WITH into its equivalent license addition or exception
+	 * @param token addition or exception ID token
+	 * @param compatV2 true if parsing for the SPDX Version 2.X model
+	 * @return parsed addition or exception
+	 * @throws LicenseParserException if the token is not a valid addition or exception
+	 */
+	private static ParsedLicenseExpression parseAdditionToken(String token, boolean compatV2) throws LicenseParserException {
+		if (!compatV2 && token.contains(":")) {
+			// External License Ref
+			return ParsedLicenseExpression.term(Kind.EXTERNAL_ADDITION_REF, token, compatV2);
 		}
 		Optional<String> exceptionId = Optional.empty();
 		if (LicenseInfoFactory.isSpdxListedExceptionId(token)) {	
@@ -443,342 +537,343 @@ public class LicenseExpressionParser {
 			exceptionId = LicenseInfoFactory.listedExceptionIdCaseSensitive(token);
 		}
 		if (exceptionId.isPresent()) {
-			ListedLicenseException listedException = LicenseInfoFactory.getListedExceptionById(exceptionId.get());
-			if (!store.exists(SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + exceptionId.get())) {
-				if (Objects.nonNull(copyManager)) {
-					// copy to the local store
-					copyManager.copy(store, listedException.getObjectUri(), listedException.getModelStore(), 
-							listedException.getObjectUri(), SpdxModelFactory.getLatestSpecVersion(), null);
-					// copy to the local store
-				}
+			return ParsedLicenseExpression.term(Kind.LISTED_EXCEPTION, exceptionId.get(), compatV2);
+		} else if (compatV2) {
+			if (token.startsWith(SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM)) {
+				throw new LicenseParserException("WITH must be followed by a license exception. "+token+" is a Listed License type.");
 			}
-			return new ListedLicenseException(store, listedException.getObjectUri(), copyManager,
-					true, customLicenseUriPrefix);
+			return ParsedLicenseExpression.term(Kind.UNLISTED_EXCEPTION, token, compatV2);
 		} else if (token.toLowerCase().startsWith("additionref-")) {
 			// custom addition
-			String objectUri = customLicenseUriPrefix + token;
-			CustomLicenseAddition localAddition;
-			if (store.exists(objectUri)) {
-				localAddition = new CustomLicenseAddition(store, objectUri, copyManager, false, customLicenseUriPrefix);
-			} else {
-				localAddition = new CustomLicenseAddition(store, objectUri, copyManager, true, customLicenseUriPrefix);
-				localAddition.setAdditionText(UNINITIALIZED_LICENSE_TEXT);
-				localAddition.setCreationInfo(creationInfo);
-			}
-			return localAddition;
+			return ParsedLicenseExpression.term(Kind.ADDITION_REF, token, compatV2);
 		} else {
 			throw new LicenseParserException(String.format("Invalid license addition %s.  Must be either a listed license exception or be prefixed with 'AdditionRef-'", token));
 		}
 	}
 
 	/**
-	 * Converts a string token into its equivalent license - either a listed license or a LicenseRef
-	 * @param token Token to translate to the equivalent license
+	 * Evaluate the given operator using parameters in the parameter stack
+	 * @param operator operator
+	 * @param operandStack operands for the operator
+	 * @param compatV2 true if parsing for the SPDX Version 2.X model
+	 * @throws LicenseParserException on SPDX parsing errors
+	 */
+	private static void evaluateExpression(Operator operator, Deque<Operand> operandStack,
+			boolean compatV2) throws LicenseParserException {
+		if (operator == Operator.OR_LATER) {
+			// unary operator
+			ParsedLicenseExpression license = operandStack.pop().toParsed(compatV2);
+			if (!license.isLicense()) {
+				throw new LicenseParserException("Missing license for the '+' or later operator");
+			}
+			operandStack.push(new Operand(ParsedLicenseExpression.operator(Kind.OR_LATER, compatV2, license)));
+		} else {
+			// binary operator
+			ParsedLicenseExpression operand2 = operandStack.pop().toParsed(compatV2);
+			Operand operand1 = operandStack.pop();
+			Kind setKind;
+			if (operator == Operator.AND) {
+				setKind = Kind.AND;
+			} else if (operator == Operator.OR) {
+				setKind = Kind.OR;
+			} else {
+				throw new LicenseParserException("Unknown operator "+operator.toString());
+			}
+			if (setKind.equals(operand1.getKind()) && Objects.nonNull(operand1.setMembers)) {
+				// just merge into operand1
+				operand1.setMembers.add(operand2);
+				operandStack.push(operand1);
+			} else {
+				List<ParsedLicenseExpression> members = new ArrayList<>();
+				if (setKind.equals(operand1.getKind())) {
+					// merge the members of a parenthesized set of the same kind
+					members.addAll(operand1.toParsed(compatV2).getMembers());
+				} else {
+					members.add(operand1.toParsed(compatV2));
+				}
+				members.add(operand2);
+				operandStack.push(new Operand(setKind, members));
+			}
+		}		
+	}
+
+	/**
+	 * Creates the licenses for a parsed license expression other than NONE or NOASSERTION
+	 * @param parsed parsed license expression
 	 * @param store Store for the licenses
 	 * @param customLicenseUriPrefix Prefix to use for any created local licenses or additions
 	 * @param creationInfo Creation information to use for newly created elements
 	 * @param copyManager to use when copying from the listed license store
 	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID
-	 * @return a CustomLicenseAddition, ListedLicense, ListedLicenseException or CustomLicense depending on what is in the store
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * @param resolvedTerms licenses and additions already created for license and addition terms
+	 * @return license equivalent to the parsed license expression
+	 * @throws InvalidSPDXAnalysisException on errors creating the licenses
 	 */
-	private static AnyLicenseInfo parseSimpleLicenseToken(String token, IModelStore store,
-														  String customLicenseUriPrefix,
-														  CreationInfo creationInfo,
-														  @Nullable IModelCopyManager copyManager,
-														  @Nullable List<DictionaryEntry> customIdToUri) throws InvalidSPDXAnalysisException {
-		Objects.requireNonNull(token, "Token can not be null");
-		Objects.requireNonNull(store, "Model store can not be null");
-		Objects.requireNonNull(customLicenseUriPrefix, "URI Prefix can not be null");
-		if (token.contains(":")) {
-			// External Custom License
-			return new ExternalCustomLicense(convertToExternalObjectUri(token, customIdToUri));
-		}
-		Optional<String> licenseId = Optional.empty();
-		if (LicenseInfoFactory.isSpdxListedLicenseId(token)) {	
-			// listed license
-			licenseId = LicenseInfoFactory.listedLicenseIdCaseSensitive(token);
-		}
-		if (licenseId.isPresent()) {
-			ListedLicense listedLicense = LicenseInfoFactory.getListedLicenseById(licenseId.get());
-			if (!store.exists(SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + licenseId.get())) {
-				if (Objects.nonNull(copyManager)) {
+	private static AnyLicenseInfo createLicenseInfo(ParsedLicenseExpression parsed, IModelStore store,
+			String customLicenseUriPrefix, CreationInfo creationInfo, @Nullable IModelCopyManager copyManager,
+			@Nullable List<DictionaryEntry> customIdToUri,
+			Map<ParsedLicenseExpression, CoreModelObject> resolvedTerms) throws InvalidSPDXAnalysisException {
+		List<ParsedLicenseExpression> members = parsed.getMembers();
+		switch (parsed.getKind()) {
+			case LISTED_LICENSE: return resolveTerm(parsed, resolvedTerms, () -> {
+				String objectUri = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + parsed.getId().get();
+				if (!store.exists(objectUri) && Objects.nonNull(copyManager)) {
 					// copy to the local store
+					ListedLicense listedLicense = LicenseInfoFactory.getListedLicenseById(parsed.getId().get());
 					copyManager.copy(store, listedLicense.getObjectUri(), listedLicense.getModelStore(), 
 							listedLicense.getObjectUri(), SpdxModelFactory.getLatestSpecVersion(), null);
-					// copy to the local store
 				}
+				return new ListedLicense(store, objectUri, copyManager, true, SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE);
+			});
+			case LICENSE_REF: return resolveTerm(parsed, resolvedTerms, () -> {
+				String objectUri = customLicenseUriPrefix + parsed.getId().get();
+				CustomLicense localLicense;
+				if (store.exists(objectUri)) {
+					localLicense = new CustomLicense(store, objectUri, copyManager, false, customLicenseUriPrefix);
+				} else {
+					localLicense = new CustomLicense(store, objectUri, copyManager, true, customLicenseUriPrefix);
+					localLicense.setLicenseText(UNINITIALIZED_LICENSE_TEXT);
+					localLicense.setCreationInfo(creationInfo);
+				}
+				return localLicense;
+			});
+			case EXTERNAL_LICENSE_REF: return new ExternalCustomLicense(convertToExternalObjectUri(parsed.getId().get(), customIdToUri));
+			case OR_LATER: {
+				License license = (License)createLicenseInfo(members.get(0), store, customLicenseUriPrefix,
+						creationInfo, copyManager, customIdToUri, resolvedTerms);
+				OrLaterOperator olo = new OrLaterOperator(store, customLicenseUriPrefix + store.getNextId(IdType.SpdxId), copyManager, true, customLicenseUriPrefix);
+				olo.setSubjectLicense(license);
+				olo.setCreationInfo(creationInfo);
+				return olo;
 			}
-			return new ListedLicense(store, listedLicense.getObjectUri(), copyManager, true, SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE);
-		} else if (token.toLowerCase().startsWith("licenseref-")) {
-			// LicenseRef
-			String objectUri = customLicenseUriPrefix + token;
-			CustomLicense localLicense;
-			if (store.exists(objectUri)) {
-				localLicense = new CustomLicense(store, objectUri, copyManager, false, customLicenseUriPrefix);
-			} else {
-				localLicense = new CustomLicense(store, objectUri, copyManager, true, customLicenseUriPrefix);
-				localLicense.setLicenseText(UNINITIALIZED_LICENSE_TEXT);
-				localLicense.setCreationInfo(creationInfo);
+			case WITH: {
+				ExtendableLicense license = (ExtendableLicense)createLicenseInfo(members.get(0), store, 
+						customLicenseUriPrefix, creationInfo, copyManager, customIdToUri, resolvedTerms);
+				LicenseAddition licenseAddition = createLicenseAddition(members.get(1), store, customLicenseUriPrefix, 
+						creationInfo, copyManager, customIdToUri, resolvedTerms);
+				WithAdditionOperator weo = new WithAdditionOperator(store,
+						customLicenseUriPrefix + store.getNextId(IdType.SpdxId), copyManager, true, customLicenseUriPrefix);
+				weo.setCreationInfo(creationInfo);
+				weo.setSubjectExtendableLicense(license);
+				weo.setSubjectAddition(licenseAddition);
+				return weo;
 			}
-			return localLicense;
-		} else if (LicenseInfoFactory.isSpdxListedExceptionId(token)) {
-			throw new LicenseParserException(String.format("Unexpected listed license exception %s.  Must be a listed license or a LicenseRef", token));
-		} else if (SpdxConstantsCompatV2.NOASSERTION_VALUE.equals(token)) {
-			throw new LicenseParserException("NOASSERTION is currently not allowed in a complex license expression");
-		} else if (SpdxConstantsCompatV2.NONE_VALUE.equals(token)) {
-			throw new LicenseParserException("NONE is currently not allowed in a complex license expression");
-		} else {
-			throw new LicenseParserException(String.format("Unknown license %s.  Must be a listed license or have the syntax %s", token, SpdxConstantsCompatV2.LICENSE_ID_PATTERN));
+			case AND:
+			case OR: {
+				List<AnyLicenseInfo> licenses = new ArrayList<>(members.size());
+				for (ParsedLicenseExpression member : members) {
+					licenses.add(createLicenseInfo(member, store, customLicenseUriPrefix, creationInfo, 
+							copyManager, customIdToUri, resolvedTerms));
+				}
+				String objectUri = customLicenseUriPrefix + store.getNextId(IdType.SpdxId);
+				if (Kind.AND.equals(parsed.getKind())) {
+					ConjunctiveLicenseSet retval = new ConjunctiveLicenseSet(store, objectUri, copyManager, true, customLicenseUriPrefix);
+					retval.getMembers().addAll(licenses);
+					retval.setCreationInfo(creationInfo);
+					return retval;
+				} else {
+					DisjunctiveLicenseSet retval = new DisjunctiveLicenseSet(store, objectUri, copyManager, true, customLicenseUriPrefix);
+					retval.getMembers().addAll(licenses);
+					retval.setCreationInfo(creationInfo);
+					return retval;
+				}
+			}
+			default: throw new LicenseParserException("Unexpected "+parsed.getKind()+" "+parsed+" in a license expression");
 		}
 	}
-	
+
 	/**
-	 * Converts an external reference to a full object URI
-	 * @param externalReference String of the form [prefix]:[id] where [prefix] is a prefix in the customIdToUri and ID is the suffix of the object URI
-	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID
-	 * @return the full object URI with the [prefix] replaced by the associated namespace
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * Creates the license addition for a parsed addition
+	 * @param parsed parsed addition
+	 * @param store Store for the licenses
+	 * @param customLicenseUriPrefix Prefix to use for any created local licenses or additions
+	 * @param creationInfo Creation information to use for newly created elements
+	 * @param copyManager to use when copying from the listed license store
+	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID - required for any external additions or licenses
+	 * @param resolvedTerms licenses and additions already created for license and addition terms
+	 * @return a CustomLicenseAddition, ListedLicenseException or ExternalCustomLicenseAddition
+	 * @throws InvalidSPDXAnalysisException on errors creating the addition
 	 */
-	private static String convertToExternalObjectUri(String externalReference, @Nullable List<DictionaryEntry> customIdToUri) throws InvalidSPDXAnalysisException {
-		if (Objects.isNull(customIdToUri)) {
-			throw new LicenseParserException("References to external custom additions or external custom licenses must include the customIdToUri parameter");
-		}
-		String[] refParts = externalReference.split(":");
-		if (refParts.length != 2 || refParts[0].isEmpty() || refParts[1].isEmpty()) {
-			throw new LicenseParserException("Invalid external ID: "+externalReference);
-		}
-		String namespace = null;
-        for (DictionaryEntry entry : customIdToUri) {
-            if (refParts[0].equals(entry.getIdPrefix())) {
-                Optional<String> entryValue = entry.getValue();
-                if (!entryValue.isPresent()) {
-                    throw new LicenseParserException("No associated namespace for license ID prefix " + entry.getIdPrefix());
-                }
-                namespace = entryValue.get();
-            }
-        }
-        if (Objects.isNull(namespace)) {
-			throw new LicenseParserException("No ID Prefix "+refParts[0]+" found in the customIdToUri map");
+	private static LicenseAddition createLicenseAddition(ParsedLicenseExpression parsed, IModelStore store,
+			String customLicenseUriPrefix, CreationInfo creationInfo, @Nullable IModelCopyManager copyManager,
+			@Nullable List<DictionaryEntry> customIdToUri,
+			Map<ParsedLicenseExpression, CoreModelObject> resolvedTerms) throws InvalidSPDXAnalysisException {
+		switch (parsed.getKind()) {
+			case EXTERNAL_ADDITION_REF: return new ExternalCustomLicenseAddition(convertToExternalObjectUri(parsed.getId().get(), customIdToUri));
+			case LISTED_EXCEPTION: return resolveTerm(parsed, resolvedTerms, () -> {
+				String objectUri = SpdxConstantsV3.SPDX_LISTED_LICENSE_NAMESPACE + parsed.getId().get();
+				if (!store.exists(objectUri) && Objects.nonNull(copyManager)) {
+					// copy to the local store
+					ListedLicenseException listedException = LicenseInfoFactory.getListedExceptionById(parsed.getId().get());
+					copyManager.copy(store, listedException.getObjectUri(), listedException.getModelStore(), 
+							listedException.getObjectUri(), SpdxModelFactory.getLatestSpecVersion(), null);
+				}
+				return new ListedLicenseException(store, objectUri, copyManager, true, customLicenseUriPrefix);
+			});
+			case ADDITION_REF: return resolveTerm(parsed, resolvedTerms, () -> {
+				String objectUri = customLicenseUriPrefix + parsed.getId().get();
+				CustomLicenseAddition localAddition;
+				if (store.exists(objectUri)) {
+					localAddition = new CustomLicenseAddition(store, objectUri, copyManager, false, customLicenseUriPrefix);
+				} else {
+					localAddition = new CustomLicenseAddition(store, objectUri, copyManager, true, customLicenseUriPrefix);
+					localAddition.setAdditionText(UNINITIALIZED_LICENSE_TEXT);
+					localAddition.setCreationInfo(creationInfo);
+				}
+				return localAddition;
+			});
+			default: throw new LicenseParserException("Unexpected "+parsed.getKind()+" "+parsed+" following WITH in a license expression");
 		}
-		return namespace + refParts[1];
 	}
 
 	/**
-	 * Converts a string token into its equivalent license - either a listed license or a LicenseRef
-	 * @param token license ID token
+	 * Creates the licenses for a parsed license expression other than NONE or NOASSERTION using the SPDX Version 2.X model
+	 * @param parsed parsed license expression
 	 * @param store model store for non-listed licenses
 	 * @param documentUri document URI for non-listed licenses
 	 * @param copyManager copy manager to copy listed licenses to local store
-	 * @return license equivalent to the token
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * @param resolvedTerms licenses and exceptions already created for license and exception terms
+	 * @return license equivalent to the parsed license expression
+	 * @throws InvalidSPDXAnalysisException on errors creating the licenses
 	 */
-	private static org.spdx.library.model.v2.license.AnyLicenseInfo parseSimpleLicenseTokenCompatV2(String token,
-																									IModelStore store,
-																									String documentUri,
-																									IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
-		Objects.requireNonNull(token, "Token can not be null");
-		Objects.requireNonNull(store, "Model store can not be null");
-		Objects.requireNonNull(documentUri, "URI prefix can not be null");
-		if (token.contains(":")) {
-			// External License Ref
-			return new ExternalExtractedLicenseInfo(store, documentUri, token, copyManager);
-		} 
-		Optional<String> licenseId = Optional.empty();
-		if (LicenseInfoFactory.isSpdxListedLicenseId(token)) {	
-			// listed license
-			licenseId = LicenseInfoFactory.listedLicenseIdCaseSensitive(token);
-		}
-		if (licenseId.isPresent()) {
-			if (!store.exists(SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + licenseId.get())) {
-				SpdxListedLicense listedLicense = LicenseInfoFactory.getListedLicenseByIdCompatV2(licenseId.get());
-				if (Objects.nonNull(copyManager)) {
+	private static org.spdx.library.model.v2.license.AnyLicenseInfo createLicenseInfoCompatV2(ParsedLicenseExpression parsed,
+			IModelStore store, String documentUri, @Nullable IModelCopyManager copyManager,
+			Map<ParsedLicenseExpression, CoreModelObject> resolvedTerms) throws InvalidSPDXAnalysisException {
+		List<ParsedLicenseExpression> members = parsed.getMembers();
+		switch (parsed.getKind()) {
+			case LISTED_LICENSE: return resolveTerm(parsed, resolvedTerms, () -> {
+				String licenseId = parsed.getId().get();
+				if (!store.exists(SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX + licenseId) && Objects.nonNull(copyManager)) {
 					// copy to the local store
+					SpdxListedLicense listedLicense = LicenseInfoFactory.getListedLicenseByIdCompatV2(licenseId);
 					copyManager.copy(store, listedLicense.getObjectUri(), listedLicense.getModelStore(),
 							listedLicense.getObjectUri(), ModelObjectV2.LATEST_SPDX_2_VERSION, listedLicense.getDocumentUri());
 				}
+				return (org.spdx.library.model.v2.license.AnyLicenseInfo) org.spdx.library.model.v2.SpdxModelFactoryCompatV2.getModelObjectV2(store, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX,
+						licenseId, SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE, copyManager, true);
+			});
+			case LICENSE_REF: return resolveTerm(parsed, resolvedTerms, () -> {
+				String token = parsed.getId().get();
+				Optional<String> caseSensitiveId = store.getCaseSensitiveId(documentUri, token);
+				ExtractedLicenseInfo localLicense;
+				if (caseSensitiveId.isPresent()) {
+					localLicense = new ExtractedLicenseInfo(store, documentUri, caseSensitiveId.get(), copyManager, false);
+				} else {
+					localLicense = (ExtractedLicenseInfo) org.spdx.library.model.v2.SpdxModelFactoryCompatV2.createModelObjectV2(
+							store, documentUri, token, SpdxConstantsCompatV2.CLASS_SPDX_EXTRACTED_LICENSING_INFO, copyManager);
+					localLicense.setExtractedText(UNINITIALIZED_LICENSE_TEXT);
+				}
+				return localLicense;
+			});
+			case EXTERNAL_LICENSE_REF: return new ExternalExtractedLicenseInfo(store, documentUri, parsed.getId().get(), copyManager);
+			case OR_LATER: {
+				SimpleLicensingInfo license = (SimpleLicensingInfo)createLicenseInfoCompatV2(members.get(0), store, documentUri, 
+						copyManager, resolvedTerms);
+				org.spdx.library.model.v2.license.OrLaterOperator olo = new org.spdx.library.model.v2.license.OrLaterOperator(store, documentUri, store.getNextId(IdType.Anonymous), copyManager, true);
+				olo.setLicense(license);
+				return olo;
 			}
-			return (org.spdx.library.model.v2.license.AnyLicenseInfo) org.spdx.library.model.v2.SpdxModelFactoryCompatV2.getModelObjectV2(store, SpdxConstantsCompatV2.LISTED_LICENSE_NAMESPACE_PREFIX,
-					licenseId.get(), SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE, copyManager, true);
-		} else if (token.toLowerCase().startsWith("licenseref-")) {
-			Optional<String> caseSensitiveId = store.getCaseSensitiveId(documentUri, token);
-			ExtractedLicenseInfo localLicense;
-			if (caseSensitiveId.isPresent()) {
-				localLicense = new ExtractedLicenseInfo(store, documentUri, caseSensitiveId.get(), copyManager, false);
-				
-			} else {
-				localLicense = (ExtractedLicenseInfo) org.spdx.library.model.v2.SpdxModelFactoryCompatV2.createModelObjectV2(
-						store, documentUri, token, SpdxConstantsCompatV2.CLASS_SPDX_EXTRACTED_LICENSING_INFO, copyManager);
-				localLicense.setExtractedText(UNINITIALIZED_LICENSE_TEXT);
+			case WITH: {
+				org.spdx.library.model.v2.license.AnyLicenseInfo license = createLicenseInfoCompatV2(members.get(0), store, 
+						documentUri, copyManager, resolvedTerms);
+				ParsedLicenseExpression exception = members.get(1);
+				org.spdx.library.model.v2.license.ListedLicenseException licenseException;
+				if (Kind.LISTED_EXCEPTION.equals(exception.getKind())) {
+					licenseException = resolveTerm(exception, resolvedTerms, 
+							() -> LicenseInfoFactory.getListedExceptionV2ById(exception.getId().get()));
+				} else if (Kind.UNLISTED_EXCEPTION.equals(exception.getKind())) {
+					licenseException = resolveTerm(exception, resolvedTerms, 
+							() -> (org.spdx.library.model.v2.license.ListedLicenseException) org.spdx.library.model.v2.SpdxModelFactoryCompatV2.createModelObjectV2(store, 
+							documentUri, exception.getId().get(), SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE_EXCEPTION, copyManager));
+				} else {
+					throw new LicenseParserException("Unexpected "+exception.getKind()+" "+exception+" following WITH in a license expression");
+				}
+				WithExceptionOperator weo = new WithExceptionOperator(store, documentUri, store.getNextId(IdType.Anonymous), copyManager, true);
+				weo.setLicense(license);
+				weo.setException(licenseException);
+				return weo;
 			}
-			return localLicense;
-		} else if (LicenseInfoFactory.isSpdxListedExceptionId(token)) {
-			throw new LicenseParserException(String.format("Unexpected listed license exception %s.  Must be a listed license or a LicenseRef", token));
-		} else if (SpdxConstantsCompatV2.NOASSERTION_VALUE.equals(token)) {
-			throw new LicenseParserException("NOASSERTION is currently not allowed in a complex license expression");
-		} else if (SpdxConstantsCompatV2.NONE_VALUE.equals(token)) {
-			throw new LicenseParserException("NONE is currently not allowed in a complex license expression");
-		} else {
-			throw new LicenseParserException(String.format("Unknown license %s.  Must be a listed license or have the syntax %s", token, SpdxConstantsCompatV2.LICENSE_ID_PATTERN));
+			case AND:
+			case OR: {
+				List<org.spdx.library.model.v2.license.AnyLicenseInfo> licenses = new ArrayList<>(members.size());
+				for (ParsedLicenseExpression member : members) {
+					licenses.add(createLicenseInfoCompatV2(member, store, documentUri, copyManager, resolvedTerms));
+				}
+				if (Kind.AND.equals(parsed.getKind())) {
+					org.spdx.library.model.v2.license.ConjunctiveLicenseSet retval = new org.spdx.library.model.v2.license.ConjunctiveLicenseSet(store, documentUri, 
+							store.getNextId(IdType.Anonymous), copyManager, true);
+					for (org.spdx.library.model.v2.license.AnyLicenseInfo license : licenses) {
+						retval.addMember(license);
+					}
+					return retval;
+				} else {
+					org.spdx.library.model.v2.license.DisjunctiveLicenseSet retval = new org.spdx.library.model.v2.license.DisjunctiveLicenseSet(store, documentUri, 
+							store.getNextId(IdType.Anonymous), copyManager, true);
+					for (org.spdx.library.model.v2.license.AnyLicenseInfo license : licenses) {
+						retval.addMember(license);
+					}
+					return retval;
+				}
+			}
+			default: throw new LicenseParserException("Unexpected "+parsed.getKind()+" "+parsed+" in a license expression");
 		}
 	}
 	
 	/**
-	 * Evaluate the given operator using parameters in the parameter stack
-	 * @param operator operator
-	 * @param operandStack operands for the operator
-	 * @param copyManager copy manager to use when copying listed licenses to local store
-	 * @param store model store to store non-listed licenses
-	 * @param customLicenseUriPrefix prefix to use for non-listed licenses
-	 * @param creationInfo Creation information to use for newly created elements
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * Creates a license, addition or exception for a term in the store
 	 */
-	private static void evaluateExpression(Operator operator,
-										   Stack<AnyLicenseInfo> operandStack, IModelStore store,
-										   String customLicenseUriPrefix, CreationInfo creationInfo,
-										   IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
-		if (operator == Operator.OR_LATER) {
-			// unary operator
-			AnyLicenseInfo license = operandStack.pop();
-			if (!(license instanceof License)) {
-				throw new LicenseParserException("Missing license for the '+' or later operator");
-			}
-			OrLaterOperator olo = new OrLaterOperator(store, customLicenseUriPrefix + store.getNextId(IdType.SpdxId), copyManager, true, customLicenseUriPrefix);
-			olo.setSubjectLicense((License)license);
-			olo.setCreationInfo(creationInfo);
-			operandStack.push(olo);
-		} else {
-			// binary operator
-			AnyLicenseInfo operand2 = operandStack.pop();
-			AnyLicenseInfo operand1 = operandStack.pop();
-			if (operand1 == null || operand2 == null) {
-				throw new LicenseParserException("Missing operands for the "+operator.toString()+" operator");
-			}
-			operandStack.push(evaluateBinary(operator, operand1, operand2, store, customLicenseUriPrefix,
-					creationInfo, copyManager));
-		}		
+	@FunctionalInterface
+	private interface TermCreation<T extends CoreModelObject> {
+		T create() throws InvalidSPDXAnalysisException;
 	}
 
 	/**
-	 * Evaluate the given operator using parameters in the parameter stack
-	 * @param operator operator
-	 * @param operandStack operands for the operator
-	 * @param copyManager copy manager to use when copying listed licenses to local store
-	 * @param store model store to store non-listed licenses
-	 * @param documentUri prefix to use for non-listed licenses
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
+	 * @param term license, addition or exception term
+	 * @param resolvedTerms licenses, additions and exceptions already created for terms
+	 * @param creation creates the model object for the term if it has not already been created
+	 * @return the model object for the term
+	 * @throws InvalidSPDXAnalysisException on errors creating the model object
 	 */
-	private static void evaluateExpressionCompatV2(Operator operator,
-			Stack<org.spdx.library.model.v2.license.AnyLicenseInfo> operandStack, IModelStore store, 
-			String documentUri, IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
-		if (operator == Operator.OR_LATER) {
-			// unary operator
-			org.spdx.library.model.v2.license.AnyLicenseInfo license = operandStack.pop();
-			if (!(license instanceof SimpleLicensingInfo)) {
-				throw new LicenseParserException("Missing license for the '+' or later operator");
-			}
-			org.spdx.library.model.v2.license.OrLaterOperator olo = new org.spdx.library.model.v2.license.OrLaterOperator(store, documentUri, store.getNextId(IdType.Anonymous), copyManager, true);
-			olo.setLicense((SimpleLicensingInfo)license);
-			operandStack.push(olo);
-		} else {
-			// binary operator
-			org.spdx.library.model.v2.license.AnyLicenseInfo operand2 = operandStack.pop();
-			org.spdx.library.model.v2.license.AnyLicenseInfo operand1 = operandStack.pop();
-			if (operand1 == null || operand2 == null) {
-				throw new LicenseParserException("Missing operands for the "+operator.toString()+" operator");
-			}
-			operandStack.push(evaluateBinaryCompatV2(operator, operand1, operand2, store, documentUri, copyManager));
-		}		
+	@SuppressWarnings("unchecked")
+	private static <T extends CoreModelObject> T resolveTerm(ParsedLicenseExpression term,
+			Map<ParsedLicenseExpression, CoreModelObject> resolvedTerms, TermCreation<T> creation) throws InvalidSPDXAnalysisException {
+		T retval = (T)resolvedTerms.get(term);
+		if (Objects.isNull(retval)) {
+			retval = creation.create();
+			resolvedTerms.put(term, retval);
+		}
+		return retval;
 	}
 
 	/**
-	 * Evaluates a binary expression and merges conjunctive and disjunctive licenses
-	 * @param tosOperator binary operator
-	 * @param operand1 first operand
-	 * @param operand2 second operand
-	 * @param copyManager copy manager to use when copying listed licenses to local store
-	 * @param store model store to store non-listed licenses
-	 * @param customLicenseUriPrefix prefix to use for non-listed licenses
-	 * @param creationInfo Creation information to use for newly created elements
-	 * @return resultant license representing the binary operation
+	 * Converts an external reference to a full object URI
+	 * @param externalReference String of the form [prefix]:[id] where [prefix] is a prefix in the customIdToUri and ID is the suffix of the object URI
+	 * @param customIdToUri Mapping of the id prefixes used in the license expression to the namespace preceding the external ID
+	 * @return the full object URI with the [prefix] replaced by the associated namespace
 	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
 	 */
-	private static AnyLicenseInfo evaluateBinary(Operator tosOperator,
-												 AnyLicenseInfo operand1, AnyLicenseInfo operand2,
-												 IModelStore store, String customLicenseUriPrefix,
-												 CreationInfo creationInfo,
-												 IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
-		if (tosOperator == Operator.AND) {
-			if (operand1 instanceof ConjunctiveLicenseSet) {
-				// just merge into operand1
-				((ConjunctiveLicenseSet) operand1).getMembers().add(operand2);
-				return operand1;
-			} else {
-				ConjunctiveLicenseSet retval = new ConjunctiveLicenseSet(store,
-						customLicenseUriPrefix + store.getNextId(IdType.SpdxId), copyManager, true, customLicenseUriPrefix);
-				retval.getMembers().add(operand1);
-				retval.getMembers().add(operand2);
-				retval.setCreationInfo(creationInfo);
-				return retval;
-			}
-		} else if (tosOperator == Operator.OR) {
-			if (operand1 instanceof DisjunctiveLicenseSet) {
-				// just merge into operand1
-				((DisjunctiveLicenseSet) operand1).getMembers().add(operand2);
-				return operand1;
-			} else {
-				DisjunctiveLicenseSet retval = new DisjunctiveLicenseSet(store,
-						customLicenseUriPrefix + store.getNextId(IdType.SpdxId), copyManager, true, customLicenseUriPrefix);
-				retval.getMembers().add(operand1);
-				retval.getMembers().add(operand2);
-				retval.setCreationInfo(creationInfo);
-				return retval;
-			}
-		} else {
-			throw new LicenseParserException("Unknown operator "+tosOperator.toString());
+	private static String convertToExternalObjectUri(String externalReference, @Nullable List<DictionaryEntry> customIdToUri) throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(customIdToUri)) {
+			throw new LicenseParserException("References to external custom additions or external custom licenses must include the customIdToUri parameter");
 		}
-	}
-	
-	/**
-	 * Evaluates a binary expression and merges conjunctive and disjunctive licenses
-	 * @param tosOperator binary operator
-	 * @param operand1 first operand
-	 * @param operand2 second operand
-	 * @param copyManager copy manager to use when copying listed licenses to local store
-	 * @param store model store to store non-listed licenses
-	 * @param documentUri prefix to use for non-listed licenses
-	 * @return resultant license representing the binary operation
-	 * @throws InvalidSPDXAnalysisException on SPDX parsing errors
-	 */
-	private static org.spdx.library.model.v2.license.AnyLicenseInfo evaluateBinaryCompatV2(Operator tosOperator,
-			org.spdx.library.model.v2.license.AnyLicenseInfo operand1, org.spdx.library.model.v2.license.AnyLicenseInfo operand2, IModelStore store, 
-			String documentUri, IModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
-		if (tosOperator == Operator.AND) {
-			if (operand1 instanceof org.spdx.library.model.v2.license.ConjunctiveLicenseSet) {
-				// just merge into operand1
-				((org.spdx.library.model.v2.license.ConjunctiveLicenseSet) operand1).addMember(operand2);
-				return operand1;
-			} else {
-				org.spdx.library.model.v2.license.ConjunctiveLicenseSet retval = new org.spdx.library.model.v2.license.ConjunctiveLicenseSet(store, documentUri, 
-						store.getNextId(IdType.Anonymous), copyManager, true);
-				retval.addMember(operand1);
-				retval.addMember(operand2);
-				return retval;
-			}
-		} else if (tosOperator == Operator.OR) {
-			if (operand1 instanceof org.spdx.library.model.v2.license.DisjunctiveLicenseSet) {
-				// just merge into operand1
-				((org.spdx.library.model.v2.license.DisjunctiveLicenseSet) operand1).addMember(operand2);
-				return operand1;
-			} else {
-				org.spdx.library.model.v2.license.DisjunctiveLicenseSet retval = new org.spdx.library.model.v2.license.DisjunctiveLicenseSet(store, documentUri, 
-						store.getNextId(IdType.Anonymous), copyManager, true);
-				retval.addMember(operand1);
-				retval.addMember(operand2);
-				return retval;
-			}
-		} else {
-			throw new LicenseParserException("Unknown operator "+tosOperator.toString());
+		String[] refParts = externalReference.split(":");
+		if (refParts.length != 2 || refParts[0].isEmpty() || refParts[1].isEmpty()) {
+			throw new LicenseParserException("Invalid external ID: "+externalReference);
 		}
+		String namespace = null;
+        for (DictionaryEntry entry : customIdToUri) {
+            if (refParts[0].equals(entry.getIdPrefix())) {
+                Optional<String> entryValue = entry.getValue();
+                if (!entryValue.isPresent()) {
+                    throw new LicenseParserException("No associated namespace for license ID prefix " + entry.getIdPrefix());
+                }
+                namespace = entryValue.get();
+            }
+        }
+        if (Objects.isNull(namespace)) {
+			throw new LicenseParserException("No ID Prefix "+refParts[0]+" found in the customIdToUri map");
+		}
+		return namespace + refParts[1];
 	}
+
 }
@@ -0,0 +1,239 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.license;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Immutable result of parsing a license expression before any licenses are created in a model store
+ * <p>
+ * Listed license and listed exception IDs are resolved to their case sensitive IDs when parsed, so the
+ * same parsed expression can be turned into licenses in any number of model stores using
+ * <code>LicenseExpressionParser.toLicenseInfo</code> or <code>LicenseExpressionParser.toLicenseInfoCompatV2</code>
+ * without parsing the expression or looking up the listed licenses again.
+ *
+ * @author Gary O'Neall
+ */
+public final class ParsedLicenseExpression {
+
+	/**
+	 * Kind of term in a parsed license expression
+	 */
+	public enum Kind {
+		/**
+		 * NONE - only for a complete expression
+		 */
+		NONE,
+		/**
+		 * NOASSERTION - only for a complete expression
+		 */
+		NOASSERTION,
+		/**
+		 * SPDX listed license - the ID is the case sensitive license ID
+		 */
+		LISTED_LICENSE,
+		/**
+		 * LicenseRef - the ID is the license ID from the expression
+		 */
+		LICENSE_REF,
+		/**
+		 * Reference to a license in another document - the ID is the reference from the expression
+		 */
+		EXTERNAL_LICENSE_REF,
+		/**
+		 * SPDX listed exception - the ID is the case sensitive exception ID
+		 */
+		LISTED_EXCEPTION,
+		/**
+		 * AdditionRef - the ID is the addition ID from the expression
+		 */
+		ADDITION_REF,
+		/**
+		 * Reference to an addition in another document - the ID is the reference from the expression
+		 */
+		EXTERNAL_ADDITION_REF,
+		/**
+		 * Exception which is not an SPDX listed exception - SPDX spec version 2 only
+		 */
+		UNLISTED_EXCEPTION,
+		/**
+		 * The single member followed by a <code>+</code>
+		 */
+		OR_LATER,
+		/**
+		 * The first member with the addition or exception in the second member
+		 */
+		WITH,
+		/**
+		 * Conjunctive set of the members
+		 */
+		AND,
+		/**
+		 * Disjunctive set of the members
+		 */
+		OR
+	}
+
+	private final Kind kind;
+	private final @Nullable String id;
+	private final List<ParsedLicenseExpression> members;
+	private final boolean compatV2;
+
+	private ParsedLicenseExpression(Kind kind, @Nullable String id, List<ParsedLicenseExpression> members,
+			boolean compatV2) {
+		this.kind = kind;
+		this.id = id;
+		this.members = members;
+		this.compatV2 = compatV2;
+	}
+
+	/**
+	 * @param kind kind of term
+	 * @param id ID for the term
+	 * @param compatV2 true if parsed for the SPDX spec version 2 model
+	 * @return a term with no members
+	 */
+	static ParsedLicenseExpression term(Kind kind, @Nullable String id, boolean compatV2) {
+		return new ParsedLicenseExpression(kind, id, Collections.emptyList(), compatV2);
+	}
+
+	/**
+	 * @param kind kind of operator
+	 * @param compatV2 true if parsed for the SPDX spec version 2 model
+	 * @param members operands
+	 * @return an operator applied to the members
+	 */
+	static ParsedLicenseExpression operator(Kind kind, boolean compatV2, ParsedLicenseExpression... members) {
+		return operator(kind, compatV2, Arrays.asList(members));
+	}
+
+	/**
+	 * @param kind kind of operator
+	 * @param compatV2 true if parsed for the SPDX spec version 2 model
+	 * @param members operands - copied so that the caller may continue to modify the list
+	 * @return an operator applied to the members
+	 */
+	static ParsedLicenseExpression operator(Kind kind, boolean compatV2, List<ParsedLicenseExpression> members) {
+		return new ParsedLicenseExpression(kind, null,
+				Collections.unmodifiableList(new ArrayList<>(members)), compatV2);
+	}
+
+	/**
+	 * @return the kind of term
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return the ID of a license, addition or exception term
+	 */
+	public Optional<String> getId() {
+		return Optional.ofNullable(id);
+	}
+
+	/**
+	 * @return the operands of an operator in the order they occur in the expression
+	 */
+	public List<ParsedLicenseExpression> getMembers() {
+		return members;
+	}
+
+	/**
+	 * @param idKind kind of term to collect the IDs for (e.g. <code>LISTED_LICENSE</code> or <code>LISTED_EXCEPTION</code>)
+	 * @return the IDs of all terms of the kind in this expression in the order they first occur
+	 */
+	public Set<String> getIds(Kind idKind) {
+		Set<String> retval = new LinkedHashSet<>();
+		collectIds(idKind, retval);
+		return Collections.unmodifiableSet(retval);
+	}
+
+	private void collectIds(Kind idKind, Set<String> ids) {
+		if (kind == idKind && Objects.nonNull(id)) {
+			ids.add(id);
+		}
+		for (ParsedLicenseExpression member : members) {
+			member.collectIds(idKind, ids);
+		}
+	}
+
+	/**
+	 * @return true if the expression was parsed for the SPDX spec version 2 model
+	 */
+	public boolean isCompatV2() {
+		return compatV2;
+	}
+
+	/**
+	 * @return true if the term is a license which may be followed by <code>+</code>
+	 */
+	boolean isLicense() {
+		return Kind.LISTED_LICENSE.equals(kind) || Kind.LICENSE_REF.equals(kind) ||
+				Kind.EXTERNAL_LICENSE_REF.equals(kind);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ParsedLicenseExpression)) {
+			return false;
+		}
+		ParsedLicenseExpression other = (ParsedLicenseExpression)o;
+		return kind == other.kind && compatV2 == other.compatV2 && Objects.equals(id, other.id) &&
+				members.equals(other.members);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(kind, id, members, compatV2);
+	}
+
+	@Override
+	public String toString() {
+		switch (kind) {
+			case OR_LATER: return members.get(0).toString() + "+";
+			case WITH: return members.get(0).toString() + " WITH " + members.get(1).toString();
+			case AND:
+			case OR: {
+				StringBuilder sb = new StringBuilder("(");
+				for (int i = 0; i < members.size(); i++) {
+					if (i > 0) {
+						sb.append(' ').append(kind.name()).append(' ');
+					}
+					sb.append(members.get(i).toString());
+				}
+				return sb.append(')').toString();
+			}
+			case NONE:
+			case NOASSERTION: return kind.name();
+			default: return id;
+		}
+	}
+}
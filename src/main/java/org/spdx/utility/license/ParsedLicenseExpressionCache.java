@@ -0,0 +1,269 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.license;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.Configuration;
+import org.spdx.library.ListedLicenses;
+
+/**
+ * Bounded least recently used cache of {@link ParsedLicenseExpression}s keyed by the expression, the SPDX spec
+ * version parsed for and the license list version
+ * <p>
+ * Parsed expressions do not depend on the model store, so a cached expression is used for parsing the same
+ * expression into any store.  Only the licenses are created for a cached expression - the expression is not
+ * tokenized again and the listed licenses and exceptions are not looked up again.
+ * <p>
+ * The cache is disabled unless a maximum size is set with <code>setMaxSize</code> or the
+ * <code>org.spdx.parsedLicenseExpressionCacheSize</code> configuration property.  Expressions which fail
+ * to parse are not cached.
+ *
+ * @author Gary O'Neall
+ */
+public class ParsedLicenseExpressionCache {
+
+	static final Logger logger = LoggerFactory.getLogger(ParsedLicenseExpressionCache.class);
+
+	static final String CONFIG_PROPERTY_CACHE_SIZE = "org.spdx.parsedLicenseExpressionCacheSize";
+
+	private static final Object INSTANCE_LOCK = new Object();
+	private static volatile ParsedLicenseExpressionCache instance = null;
+
+	/**
+	 * Key for the cache - the expression hash is cached by the String class
+	 */
+	private static class CacheKey {
+		private final String expression;
+		private final boolean compatV2;
+		private final String licenseListVersion;
+
+		CacheKey(String expression, boolean compatV2, String licenseListVersion) {
+			this.expression = expression;
+			this.compatV2 = compatV2;
+			this.licenseListVersion = licenseListVersion;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey)o;
+			return compatV2 == other.compatV2 && expression.equals(other.expression) &&
+					Objects.equals(licenseListVersion, other.licenseListVersion);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * Objects.hashCode(licenseListVersion) + Boolean.hashCode(compatV2)) + expression.hashCode();
+		}
+	}
+
+	private volatile int maxSize;
+
+	/**
+	 * Access ordered map used for the LRU eviction - all access must be synchronized on the map
+	 */
+	private final LinkedHashMap<CacheKey, ParsedLicenseExpression> expressions;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/**
+	 * @param maxSize maximum number of parsed expressions to retain - 0 disables caching
+	 */
+	public ParsedLicenseExpressionCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Cache size must not be negative");
+		}
+		this.maxSize = maxSize;
+		this.expressions = new LinkedHashMap<CacheKey, ParsedLicenseExpression>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, ParsedLicenseExpression> eldest) {
+				if (size() > ParsedLicenseExpressionCache.this.maxSize) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @return the cache used by <code>LicenseExpressionParser</code> and <code>LicenseInfoFactory</code>
+	 */
+	public static ParsedLicenseExpressionCache getInstance() {
+		ParsedLicenseExpressionCache retval = instance;
+		if (retval == null) {
+			synchronized (INSTANCE_LOCK) {
+				retval = instance;
+				if (retval == null) {
+					int maxSize = 0;
+					String configSize = Configuration.getInstance().getProperty(CONFIG_PROPERTY_CACHE_SIZE);
+					if (Objects.nonNull(configSize)) {
+						try {
+							maxSize = Math.max(0, Integer.parseInt(configSize.trim()));
+						} catch (NumberFormatException e) {
+							logger.warn("Invalid parsed license expression cache size {} - the cache is disabled", configSize);
+						}
+					}
+					retval = new ParsedLicenseExpressionCache(maxSize);
+					instance = retval;
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Parse an expression for the SPDX Version 3.X model, using and caching the parsed expression if the cache is enabled
+	 * @param expression license expression
+	 * @return the parsed license expression
+	 * @throws LicenseParserException if the expression is not a valid license expression
+	 */
+	public ParsedLicenseExpression parse(String expression) throws LicenseParserException {
+		return parse(expression, false);
+	}
+
+	/**
+	 * Parse an expression for the SPDX Version 2.X model, using and caching the parsed expression if the cache is enabled
+	 * @param expression license expression
+	 * @return the parsed license expression
+	 * @throws LicenseParserException if the expression is not a valid license expression
+	 */
+	public ParsedLicenseExpression parseCompatV2(String expression) throws LicenseParserException {
+		return parse(expression, true);
+	}
+
+	private ParsedLicenseExpression parse(String expression, boolean compatV2) throws LicenseParserException {
+		if (maxSize == 0 || Objects.isNull(expression)) {
+			return LicenseExpressionParser.parseExpressionUncached(expression, compatV2);
+		}
+		CacheKey key = new CacheKey(expression, compatV2, ListedLicenses.getListedLicenses().getLicenseListVersion());
+		synchronized (expressions) {
+			ParsedLicenseExpression retval = expressions.get(key);
+			if (Objects.nonNull(retval)) {
+				hits++;
+				return retval;
+			}
+			misses++;
+		}
+		// parse outside of the lock - if two threads parse the same expression, the results are equal
+		ParsedLicenseExpression parsed = LicenseExpressionParser.parseExpressionUncached(expression, compatV2);
+		synchronized (expressions) {
+			expressions.put(key, parsed);
+		}
+		return parsed;
+	}
+
+	/**
+	 * Set the maximum number of cached expressions removing the least recently used expressions if needed
+	 * @param maxSize maximum number of parsed expressions to retain - 0 disables caching
+	 */
+	public void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Cache size must not be negative");
+		}
+		synchronized (expressions) {
+			this.maxSize = maxSize;
+			Iterator<CacheKey> iter = expressions.keySet().iterator();
+			while (expressions.size() > maxSize && iter.hasNext()) {
+				iter.next();
+				iter.remove();
+				evictions++;
+			}
+		}
+	}
+
+	/**
+	 * @return maximum number of cached expressions - 0 if the cache is disabled
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Remove all cached expressions and reset the statistics
+	 */
+	public void clear() {
+		synchronized (expressions) {
+			expressions.clear();
+			hits = 0;
+			misses = 0;
+			evictions = 0;
+		}
+	}
+
+	/**
+	 * @return number of cached expressions
+	 */
+	public int size() {
+		synchronized (expressions) {
+			return expressions.size();
+		}
+	}
+
+	/**
+	 * @return number of parses satisfied from the cache
+	 */
+	public long getHits() {
+		synchronized (expressions) {
+			return hits;
+		}
+	}
+
+	/**
+	 * @return number of parses of expressions which were not cached
+	 */
+	public long getMisses() {
+		synchronized (expressions) {
+			return misses;
+		}
+	}
+
+	/**
+	 * @return number of least recently used expressions removed to keep the cache within the maximum size
+	 */
+	public long getEvictions() {
+		synchronized (expressions) {
+			return evictions;
+		}
+	}
+
+	/**
+	 * @return fraction of the cached parses satisfied from the cache or 0 if there have been none
+	 */
+	public double getHitRate() {
+		synchronized (expressions) {
+			long total = hits + misses;
+			return total == 0 ? 0.0 : (double)hits / total;
+		}
+	}
+}
@@ -22,6 +22,8 @@ import java.io.IOException;
 
 /**
  * Interface for implementations of generators of file checksums
+ * <p>
+ * Implementations used by <code>VerificationCodeGenerator</code> with more than one thread must be thread safe.
  *
  * @author Gary O'Neall
  */
@@ -25,13 +25,15 @@ import java.security.NoSuchAlgorithmException;
 
 /**
  * Java SHA1 checksum generator using MessageDigest
+ * <p>
+ * Each thread uses its own MessageDigest so a single generator may be used to calculate checksums concurrently.
  *
  * @author Gary O'Neall
  */
 public class JavaSha1ChecksumGenerator implements IFileChecksumGenerator {
 	static final String SHA1_ALGORITHM = "SHA-1";
 	static final String PACKAGE_VERIFICATION_CHARSET = "UTF-8";
-	private final MessageDigest digest;
+	private final ThreadLocal<MessageDigest> digest;
 
 	/**
 	 * Create a SHA1 based checksum generator
@@ -39,7 +41,14 @@ public class JavaSha1ChecksumGenerator implements IFileChecksumGenerator {
 	 * @throws NoSuchAlgorithmException if the SHA1 algorithm does not exist
 	 */
 	public JavaSha1ChecksumGenerator() throws NoSuchAlgorithmException {
-		this.digest = MessageDigest.getInstance(SHA1_ALGORITHM);
+		MessageDigest.getInstance(SHA1_ALGORITHM);	// fail at construction if the algorithm does not exist
+		this.digest = ThreadLocal.withInitial(() -> {
+			try {
+				return MessageDigest.getInstance(SHA1_ALGORITHM);
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException("SHA1 algorithm is no longer available", e);
+			}
+		});
 	}
 
 	/**
@@ -51,6 +60,7 @@ public class JavaSha1ChecksumGenerator implements IFileChecksumGenerator {
 	 */
 	@Override
 	public String getFileChecksum(File file) throws IOException {
+		MessageDigest digest = this.digest.get();
 		digest.reset();
         try (FileInputStream in = new FileInputStream(file)) {
             byte[] buffer = new byte[2048];
@@ -20,15 +20,27 @@ package org.spdx.utility.verificationcode;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.SpdxFile;
@@ -44,6 +56,9 @@ import org.spdx.storage.IModelStore.IdType;
  * The method <code>getFileChecksum</code> is called for each file in the directory.  This can
  * be used as a hook to capture all files in the directory and capture the checksum values at
  * a file level.
+ * <p>
+ * The checksums for a directory may be calculated by several threads - the file checksum generator must be thread
+ * safe if more than one thread is used.
  *
  * @author Gary O'Neall
  */
@@ -114,6 +129,32 @@ public class VerificationCodeGenerator {
 	 */
 	public SpdxPackageVerificationCode generatePackageVerificationCode(File sourceDirectory, 
 			File[] skippedFiles, IModelStore modelStore, String documentUri) throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+		return generatePackageVerificationCode(sourceDirectory, skippedFiles, modelStore, documentUri, 1);
+	}
+
+	/**
+	 * Generate the SPDX Package Verification Code from a directory of files included in the archive calculating the
+	 * file checksums concurrently
+	 * <p>
+	 * The directory is walked on the calling thread while the file checksums are calculated by <code>threadCount</code>
+	 * threads.  The checksums are sorted before being combined, so the verification code is the same as the code
+	 * generated using a single thread.
+	 *
+	 * @param sourceDirectory source directory for the package verification code
+	 * @param skippedFiles files to exclude from the package verification code
+	 * @param modelStore where the resultant VerificationCode is store
+	 * @param documentUri document URI where the VerificationCode is stored
+	 * @param threadCount number of threads calculating file checksums - if 1, the checksums are calculated on the calling thread
+	 * @return PackageVerificationCode based on the files in the sourceDirectory
+	 * @throws NoSuchAlgorithmException unexpected error creating checksums
+	 * @throws IOException on file or directory read errors
+	 * @throws InvalidSPDXAnalysisException on SPDX parsing error or if interrupted
+	 */
+	public SpdxPackageVerificationCode generatePackageVerificationCode(File sourceDirectory, 
+			File[] skippedFiles, IModelStore modelStore, String documentUri, int threadCount) throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be at least 1");
+		}
 		// create a sorted list of file paths
 		Set<String> skippedFilesPath = new TreeSet<>();
 		String rootOfDirectory = sourceDirectory.getAbsolutePath();
@@ -123,7 +164,11 @@ public class VerificationCodeGenerator {
             skippedFilesPath.add(skippedPath);
         }
 		List<String> fileChecksums = new ArrayList<>();
-		collectFileData(rootOfDirectory, sourceDirectory, fileChecksums, skippedFilesPath);
+		if (threadCount == 1) {
+			collectFileData(rootOfDirectory, sourceDirectory, fileChecksums, skippedFilesPath);
+		} else {
+			collectFileData(sourceDirectory, fileChecksums, skippedFilesPath, threadCount);
+		}
 		String[] skippedFileNames = new String[skippedFilesPath.size()];
 		Iterator<String> iter = skippedFilesPath.iterator();
 		int i = 0;
@@ -193,6 +238,71 @@ public class VerificationCodeGenerator {
         }
 	}
 
+	/**
+	 * Collect the file level checksums walking the directory on the calling thread while calculating the checksums
+	 * on a pool of threads
+	 *
+	 * @param sourceDirectory directory to collect the file data from
+	 * @param fileChecksums resultant list of file checksums - added to in this method in no particular order
+	 * @param skippedFiles files to be ignored in the package verification result
+	 * @param threadCount number of threads calculating file checksums
+	 * @throws IOException on IO error reading the directory or a file
+	 * @throws InvalidSPDXAnalysisException if interrupted
+	 */
+	private void collectFileData(File sourceDirectory, List<String> fileChecksums, Set<String> skippedFiles,
+			int threadCount) throws IOException, InvalidSPDXAnalysisException {
+		if (!sourceDirectory.isDirectory()) {
+			return;
+		}
+		Path root = sourceDirectory.getAbsoluteFile().toPath();
+		List<Future<String>> futures = new ArrayList<>();
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+			Thread thread = new Thread(runnable, "spdx-verification-code-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			// links are followed to match the directories listed by File.isDirectory
+			Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					String filePath = normalizeFilePath(root.relativize(file).toString());
+					if (!skippedFiles.contains(filePath)) {
+						File toChecksum = file.toFile();
+						futures.add(executor.submit(() -> fileChecksumGenerator.getFileChecksum(toChecksum).toLowerCase()));
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+					if (Files.isDirectory(file)) {
+						// unreadable directories are ignored as they are when listing the files
+						return FileVisitResult.SKIP_SUBTREE;
+					}
+					throw exc;
+				}
+			});
+			for (Future<String> future : futures) {
+				fileChecksums.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InvalidSPDXAnalysisException("Interrupted calculating file checksums", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException)e.getCause();
+			} else if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			} else {
+				throw new IOException("Error calculating file checksums", e.getCause());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	/**
 	 * Normalizes a file path per the SPDX spec
 	 *
@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.spdx.core.DefaultModelStore;
 import org.spdx.core.DefaultStoreNotInitializedException;
 import org.spdx.core.InvalidSPDXAnalysisException;
@@ -36,6 +38,9 @@ import org.spdx.library.model.v3_0_1.simplelicensing.InvalidLicenseExpression;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
 import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.utility.compare.UnitTestHelper;
+import org.spdx.utility.license.ParsedLicenseExpression;
+import org.spdx.utility.license.ParsedLicenseExpression.Kind;
 
 import junit.framework.TestCase;
 
@@ -44,6 +49,8 @@ import junit.framework.TestCase;
  */
 public class LicenseInfoFactoryTest extends TestCase {
 	
+	static final Logger logger = LoggerFactory.getLogger(LicenseInfoFactoryTest.class);
+	
 	static final String[] NONSTD_IDS = new String[] {SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM+"1",
 			SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM+"2", SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM+"3",
 			SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM+"4"};
@@ -182,4 +189,173 @@ public class LicenseInfoFactoryTest extends TestCase {
 		assertTrue(verify.get(0).contains("Unknown license"));
 	}
 
+	public void testParseSPDXLicenseExpression() throws InvalidSPDXAnalysisException {
+		IModelStore defaultStore = DefaultModelStore.getDefaultModelStore();
+		int numObjects = defaultStore.getAllItems(null, null).toArray().length;
+		ParsedLicenseExpression parsed = LicenseInfoFactory.parseSPDXLicenseExpression(
+				"(mit OR LicenseRef-1) AND GPL-2.0-or-later WITH classpath-exception-2.0 AND MIT AND Apache-2.0+");
+		assertEquals(Kind.AND, parsed.getKind());
+		assertEquals(Arrays.asList("MIT", "GPL-2.0-or-later", "Apache-2.0"),
+				new ArrayList<>(parsed.getIds(Kind.LISTED_LICENSE)));
+		assertEquals(Arrays.asList("Classpath-exception-2.0"), new ArrayList<>(parsed.getIds(Kind.LISTED_EXCEPTION)));
+		assertEquals(Arrays.asList("LicenseRef-1"), new ArrayList<>(parsed.getIds(Kind.LICENSE_REF)));
+		assertTrue(parsed.getIds(Kind.ADDITION_REF).isEmpty());
+		// nothing is created in any store
+		assertEquals(numObjects, defaultStore.getAllItems(null, null).toArray().length);
+		assertEquals(Kind.NONE, LicenseInfoFactory.parseSPDXLicenseExpression("NONE").getKind());
+		try {
+			LicenseInfoFactory.parseSPDXLicenseExpression("MIT AND NOT Apache-2.0");
+			fail("Invalid license string should fail");
+		} catch (InvalidLicenseStringException e) {
+			assertTrue(e.getMessage().contains("Unknown license"));
+		}
+		ParsedLicenseExpression parsedV2 = LicenseInfoFactory.parseSPDXLicenseExpressionCompatV2(
+				"GPL-2.0 WITH Unlisted-exception");
+		assertEquals(Arrays.asList("Unlisted-exception"), new ArrayList<>(parsedV2.getIds(Kind.UNLISTED_EXCEPTION)));
+	}
+
+	public void testIsValidLicenseString() {
+		assertTrue(LicenseInfoFactory.isValidLicenseString("MIT OR (Apache-2.0 AND LicenseRef-x)"));
+		assertTrue(LicenseInfoFactory.isValidLicenseString("GPL-2.0-or-later WITH AdditionRef-x"));
+		assertFalse(LicenseInfoFactory.isValidLicenseString("MIT AND NOT Apache-2.0"));
+		assertFalse(LicenseInfoFactory.isValidLicenseString("MIT AND"));
+		assertFalse(LicenseInfoFactory.isValidLicenseString("(MIT"));
+		assertFalse(LicenseInfoFactory.isValidLicenseString(""));
+		assertFalse(LicenseInfoFactory.isValidLicenseString("GPL-2.0 WITH Unlisted-exception"));
+		assertTrue(LicenseInfoFactory.isValidLicenseStringCompatV2("GPL-2.0 WITH Unlisted-exception"));
+		assertFalse(LicenseInfoFactory.isValidLicenseStringCompatV2("MIT OR"));
+	}
+
+	public void testParseSPDXLicenseStrings() throws InvalidSPDXAnalysisException {
+		List<String> licenseStrings = Arrays.asList(COMPLEX_LICENSE.toString(), "MIT AND NOT Apache-2.0", 
+				"GPL-2.0-or-later WITH Classpath-exception-2.0 OR LicenseRef-1", "NONE", "", COMPLEX_LICENSE.toString(),
+				"MIT OR LicenseRef-1");
+		for (int threadCount : new int[] {1, 4}) {
+			IModelStore store = new InMemSpdxStore();
+			List<AnyLicenseInfo> result = LicenseInfoFactory.parseSPDXLicenseStrings(licenseStrings, store, 
+					TEST_DOCUMENT_URI + "#", null, copyManager, null, threadCount);
+			assertEquals(licenseStrings.size(), result.size());
+			assertEquals(COMPLEX_LICENSE, result.get(0));
+			assertSame(result.get(0), result.get(5));
+			assertTrue(result.get(1) instanceof InvalidLicenseExpression);
+			assertTrue(((InvalidLicenseExpression)result.get(1)).getMessage().contains("Unknown license"));
+			assertTrue(result.get(2) instanceof DisjunctiveLicenseSet);
+			assertTrue(result.get(2).verify().isEmpty());
+			assertEquals(new NoneLicense(), result.get(3));
+			assertTrue(result.get(4) instanceof InvalidLicenseExpression);
+			assertEquals(LicenseInfoFactory.parseSPDXLicenseString(licenseStrings.get(6), new InMemSpdxStore(),
+					TEST_DOCUMENT_URI + "#", null, copyManager, null).toString(), result.get(6).toString());
+			// the custom license is resolved once for the batch
+			CustomLicense ref1 = null;
+			for (AnyLicenseInfo license : ((DisjunctiveLicenseSet)result.get(6)).getMembers()) {
+				if (license instanceof CustomLicense) {
+					ref1 = (CustomLicense)license;
+				}
+			}
+			assertNotNull(ref1);
+			assertEquals(TEST_DOCUMENT_URI + "#LicenseRef-1", ref1.getObjectUri());
+			assertTrue(((DisjunctiveLicenseSet)result.get(2)).getMembers().contains(ref1));
+		}
+		try {
+			LicenseInfoFactory.parseSPDXLicenseStrings(licenseStrings, null, null, null, null, null, 0);
+			fail("Thread count of 0 should fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Compares parsing license strings one at a time against parsing them as a batch
+	 */
+	public void testParseSPDXLicenseStringsBenchmark() throws InvalidSPDXAnalysisException {
+		if (!UnitTestHelper.runSlowTests()) {
+			return;
+		}
+		String[] templates = new String[] {
+				"MIT",
+				"Apache-2.0 OR MIT",
+				"(LicenseRef-%d AND LGPL-2.1+ AND GPL-2.0+ AND BSD-3-Clause-Clear)",
+				"GPL-2.0-or-later WITH Classpath-exception-2.0 OR (EPL-2.0 AND LicenseRef-%d)",
+				"MIT AND NOT Apache-2.0"
+		};
+		List<String> licenseStrings = new ArrayList<>();
+		for (int i = 0; i < 20000; i++) {
+			licenseStrings.add(String.format(templates[i % templates.length], i % 100));
+		}
+		IModelStore oneAtATimeStore = new InMemSpdxStore();
+		long start = System.nanoTime();
+		List<AnyLicenseInfo> oneAtATime = new ArrayList<>();
+		for (String licenseString : licenseStrings) {
+			oneAtATime.add(LicenseInfoFactory.parseSPDXLicenseString(licenseString, oneAtATimeStore, 
+					TEST_DOCUMENT_URI + "#", null, copyManager, null));
+		}
+		long oneAtATimeNanos = System.nanoTime() - start;
+		IModelStore batchStore = new InMemSpdxStore();
+		start = System.nanoTime();
+		List<AnyLicenseInfo> batch = LicenseInfoFactory.parseSPDXLicenseStrings(licenseStrings, batchStore, 
+				TEST_DOCUMENT_URI + "#", null, copyManager, null, ModelCopyManager.DEFAULT_COPY_THREADS);
+		long batchNanos = System.nanoTime() - start;
+		assertEquals(oneAtATime.size(), batch.size());
+		for (int i = 0; i < batch.size(); i++) {
+			assertEquals(oneAtATime.get(i).getClass(), batch.get(i).getClass());
+		}
+		logger.info(String.format("Parsed %d license strings one at a time in %d ms and as a batch in %d ms (%.1fx)",
+				licenseStrings.size(), oneAtATimeNanos / 1000000, batchNanos / 1000000, 
+				(double)oneAtATimeNanos / batchNanos));
+	}
+
+	/**
+	 * Compares validating license strings by creating the licenses against validating them without creating licenses
+	 */
+	public void testValidationBenchmark() throws InvalidSPDXAnalysisException {
+		if (!UnitTestHelper.runSlowTests()) {
+			return;
+		}
+		String[] licenseStrings = new String[] {
+				"MIT",
+				"Apache-2.0 OR MIT",
+				"(LicenseRef-14 AND LicenseRef-5 AND LGPL-2.1+ AND GPL-2.0+ AND BSD-3-Clause-Clear)",
+				"GPL-2.0-or-later WITH Classpath-exception-2.0 OR (EPL-2.0 AND LicenseRef-other)",
+				"MIT AND NOT Apache-2.0"
+		};
+		int iterations = 2000;
+		// warm up
+		for (int i = 0; i < 200; i++) {
+			for (String licenseString : licenseStrings) {
+				validateByCreating(licenseString);
+				LicenseInfoFactory.isValidLicenseString(licenseString);
+			}
+		}
+		long start = System.nanoTime();
+		int validCreated = 0;
+		for (int i = 0; i < iterations; i++) {
+			for (String licenseString : licenseStrings) {
+				if (validateByCreating(licenseString)) {
+					validCreated++;
+				}
+			}
+		}
+		long creatingNanos = System.nanoTime() - start;
+		start = System.nanoTime();
+		int validParsed = 0;
+		for (int i = 0; i < iterations; i++) {
+			for (String licenseString : licenseStrings) {
+				if (LicenseInfoFactory.isValidLicenseString(licenseString)) {
+					validParsed++;
+				}
+			}
+		}
+		long parsingNanos = System.nanoTime() - start;
+		assertEquals(validCreated, validParsed);
+		logger.info(String.format("Validated %d license strings creating licenses in %d ms and without creating licenses in %d ms (%.1fx)",
+				iterations * licenseStrings.length, creatingNanos / 1000000, parsingNanos / 1000000,
+				(double)creatingNanos / parsingNanos));
+	}
+
+	private boolean validateByCreating(String licenseString) throws InvalidSPDXAnalysisException {
+		IModelStore store = new InMemSpdxStore();
+		return !(LicenseInfoFactory.parseSPDXLicenseString(licenseString, store, TEST_DOCUMENT_URI + "#",
+				null, copyManager, null) instanceof InvalidLicenseExpression);
+	}
+
 }
@@ -168,4 +168,24 @@ public class LicenseInfoFactoryTestV2 extends TestCase {
 		assertTrue(verify.get(0).contains("NOT"));
 		assertTrue(verify.get(0).contains("Unknown license"));
 	}
+
+	public void testParseSPDXLicenseStrings() throws InvalidSPDXAnalysisException {
+		List<String> licenseStrings = Arrays.asList(COMPLEX_LICENSE.toString(), "GPL-2.0 WITH Unlisted-exception",
+				"MIT AND NOT Apache-2.0", "GPL-2.0 WITH Unlisted-exception OR MIT", COMPLEX_LICENSE.toString());
+		for (int threadCount : new int[] {1, 3}) {
+			List<AnyLicenseInfo> result = LicenseInfoFactory.parseSPDXLicenseStringsCompatV2(licenseStrings, null, 
+					null, null, threadCount);
+			assertEquals(licenseStrings.size(), result.size());
+			assertTrue(result.get(0).equals(COMPLEX_LICENSE));
+			assertSame(result.get(0), result.get(4));
+			assertEquals(LicenseInfoFactory.parseSPDXLicenseStringCompatV2(licenseStrings.get(1)), result.get(1));
+			assertTrue(result.get(2) instanceof org.spdx.library.model.v2.license.InvalidLicenseExpression);
+			assertTrue(result.get(2).verify().get(0).contains("Unknown license"));
+			assertTrue(result.get(3) instanceof DisjunctiveLicenseSet);
+			assertEquals(LicenseInfoFactory.parseSPDXLicenseStringCompatV2(licenseStrings.get(3)), result.get(3));
+			for (AnyLicenseInfo license : result) {
+				assertSame(DefaultModelStore.getDefaultModelStore(), license.getModelStore());
+			}
+		}
+	}
 }
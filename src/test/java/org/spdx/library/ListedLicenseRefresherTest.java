@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.ListedLicenseRefreshEvent.Status;
+import org.spdx.storage.listedlicense.SpdxListedLicenseLocalStore;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ */
+public class ListedLicenseRefresherTest extends TestCase {
+
+	ListedLicenses original;
+
+	/**
+	 * Local store reporting a different license list version
+	 */
+	static class VersionedLocalStore extends SpdxListedLicenseLocalStore {
+		final String version;
+
+		VersionedLocalStore(String version) throws InvalidSPDXAnalysisException {
+			super();
+			this.version = version;
+		}
+
+		@Override
+		public String getLicenseListVersion() {
+			// called from the superclass constructor before the version is set
+			return version == null ? super.getLicenseListVersion() : version;
+		}
+	}
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		SpdxModelFactory.init();
+		original = ListedLicenses.getListedLicenses();
+	}
+
+	protected void tearDown() throws Exception {
+		ListedLicenses current = ListedLicenses.getListedLicenses();
+		if (current != original) {
+			assertTrue(ListedLicenses.replaceListedLicenses(current, original));
+		}
+		super.tearDown();
+	}
+
+	public void testCompareLicenseListVersions() {
+		assertEquals(0, ListedLicenseRefresher.compareLicenseListVersions("3.26", "3.26"));
+		assertTrue(ListedLicenseRefresher.compareLicenseListVersions("3.9", "3.26") < 0);
+		assertTrue(ListedLicenseRefresher.compareLicenseListVersions("3.26", "3.9") > 0);
+		assertTrue(ListedLicenseRefresher.compareLicenseListVersions("4.0", "3.26") > 0);
+		assertEquals(0, ListedLicenseRefresher.compareLicenseListVersions("3.0", "3"));
+		assertTrue(ListedLicenseRefresher.compareLicenseListVersions(null, "3.26") < 0);
+	}
+
+	public void testRefreshUnchanged() throws Exception {
+		ListedLicenseRefresher refresher = new ListedLicenseRefresher(
+				() -> new ListedLicenses(new SpdxListedLicenseLocalStore()));
+		ListedLicenseRefreshEvent event = refresher.refreshAsync().get(60, TimeUnit.SECONDS);
+		if (original.getLicenseListVersion().equals(event.getRefreshedVersion().get())) {
+			assertEquals(Status.UNCHANGED, event.getStatus());
+			assertSame(original, ListedLicenses.getListedLicenses());
+		}
+		assertEquals(1, refresher.getRefreshCount());
+	}
+
+	public void testRefreshUpdated() throws Exception {
+		List<ListedLicenseRefreshEvent> events = new CopyOnWriteArrayList<>();
+		ListedLicenseRefresher refresher = new ListedLicenseRefresher(
+				() -> new ListedLicenses(new VersionedLocalStore("999.0")));
+		refresher.addRefreshListener(events::add);
+		ListedLicenseRefreshEvent event = refresher.refreshAsync().get(60, TimeUnit.SECONDS);
+		assertEquals(Status.UPDATED, event.getStatus());
+		assertEquals("999.0", event.getRefreshedVersion().get());
+		assertEquals(original.getLicenseListVersion(), event.getPreviousVersion());
+		assertEquals("999.0", ListedLicenses.getListedLicenses().getLicenseListVersion());
+		assertEquals("Apache License 2.0", ListedLicenses.getListedLicenses().getListedLicenseById("Apache-2.0").getName().get());
+		// The previous instance remains usable
+		assertEquals("Apache License 2.0", original.getListedLicenseById("Apache-2.0").getName().get());
+		assertEquals(1, events.size());
+		assertSame(event, events.get(0));
+		assertSame(event, refresher.getLastEvent().get());
+		assertEquals(1, refresher.getUpdateCount());
+	}
+
+	public void testRefreshRejectedOlderVersion() throws Exception {
+		ListedLicenseRefresher refresher = new ListedLicenseRefresher(
+				() -> new ListedLicenses(new VersionedLocalStore("1.0")));
+		ListedLicenseRefreshEvent event = refresher.refreshAsync().get(60, TimeUnit.SECONDS);
+		assertEquals(Status.REJECTED, event.getStatus());
+		assertTrue(event.getMessage().isPresent());
+		assertSame(original, ListedLicenses.getListedLicenses());
+		assertEquals(1, refresher.getRejectedCount());
+	}
+
+	public void testRefreshFailed() throws Exception {
+		ListedLicenseRefresher refresher = new ListedLicenseRefresher(() -> {
+			throw new InvalidSPDXAnalysisException("Simulated failure");
+		});
+		ListedLicenseRefreshEvent event = refresher.refreshAsync().get(60, TimeUnit.SECONDS);
+		assertEquals(Status.FAILED, event.getStatus());
+		assertTrue(event.getError().isPresent());
+		assertFalse(event.getRefreshedVersion().isPresent());
+		assertSame(original, ListedLicenses.getListedLicenses());
+		assertEquals(1, refresher.getFailureCount());
+	}
+
+	public void testScheduledRefresh() throws Exception {
+		CountDownLatch refreshes = new CountDownLatch(2);
+		ListedLicenseRefresher refresher = new ListedLicenseRefresher(() -> {
+			throw new InvalidSPDXAnalysisException("Simulated failure");
+		});
+		refresher.addRefreshListener(event -> refreshes.countDown());
+		assertFalse(refresher.isStarted());
+		refresher.start(10, TimeUnit.MILLISECONDS);
+		try {
+			assertTrue(refresher.isStarted());
+			assertTrue(refreshes.await(30, TimeUnit.SECONDS));
+		} finally {
+			refresher.stop();
+		}
+		assertFalse(refresher.isStarted());
+		assertTrue(refresher.getRefreshCount() >= 2);
+	}
+}
@@ -29,6 +29,7 @@ import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicense;
 import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicenseException;
 import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
+import org.spdx.storage.listedlicense.ListedLicensePreloadResult;
 
 import junit.framework.TestCase;
 
@@ -219,4 +220,21 @@ public class ListedLicensesTest extends TestCase {
 			assertEquals(id, retval.get(id).getId());
 		}
 	}
+
+	public void testPreload() throws InvalidSPDXAnalysisException {
+		ListedLicenses listedLicenses = ListedLicenses.getListedLicenses();
+		ListedLicensePreloadResult result = listedLicenses.preload();
+		assertTrue(result.getFailedIds().isEmpty());
+		assertEquals(listedLicenses.getSpdxListedLicenseIds().size(),
+				result.getLicensesDecoded() + result.getLicensesAlreadyCached());
+		assertEquals(listedLicenses.getSpdxListedExceptionIds().size(),
+				result.getExceptionsDecoded() + result.getExceptionsAlreadyCached());
+		assertTrue(result.getElapsedMillis() >= 0);
+		assertEquals("Apache License 2.0", listedLicenses.getListedLicenseById("Apache-2.0").getName().get());
+		// A second preload finds everything cached
+		result = listedLicenses.preload();
+		assertEquals(0, result.getLicensesDecoded());
+		assertEquals(0, result.getExceptionsDecoded());
+		assertEquals(listedLicenses.getSpdxListedLicenseIds().size(), result.getLicensesAlreadyCached());
+	}
 }
@@ -21,12 +21,19 @@ import static org.junit.Assert.*;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.TypedValue;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
@@ -39,14 +46,20 @@ import org.spdx.library.model.v3_0_1.core.RelationshipType;
 import org.spdx.library.model.v3_0_1.core.SpdxDocument;
 import org.spdx.library.model.v3_0_1.software.SpdxFile;
 import org.spdx.library.model.v3_0_1.software.SpdxPackage;
+import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.PropertyDescriptor;
+import org.spdx.storage.simple.ConcurrentInMemSpdxStore;
 import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.utility.compare.UnitTestHelper;
 
 /**
  * @author Gary O'Neall
  */
 public class ModelCopyManagerTest {
 	
+	static final Logger logger = LoggerFactory.getLogger(ModelCopyManagerTest.class);
+	
 	private static final String HASH_OBJECT_URI = "http://something#SPDXRef-15";
 	private static final String OBJECT_URI2 = "urn:object.uri.two";
 	private static final String HASH_TYPE = "Core.Hash";
@@ -198,4 +211,152 @@ public class ModelCopyManagerTest {
 				modelCopyManager, "3.0.1", true, null);
 		assertTrue(differentHash.equivalent(differentCopiedHash));
 	}
+	
+	@Test
+	public void testCopyGraph() throws InvalidSPDXAnalysisException {
+		CreationInfo creationInfo = hash.createCreationInfo(fromStore.getNextId(IdType.Anonymous))
+				.setCreated(date)
+				.setSpecVersion("3.0.1")
+				.build();
+		Agent agent = hash.createAgent(fromStore.getNextId(IdType.SpdxId))
+				.setCreationInfo(creationInfo)
+				.setName("Name")
+				.build();
+		creationInfo.getCreatedBys().add(agent);
+		SpdxFile spdxFile = agent.createSpdxFile(fromStore.getNextId(IdType.SpdxId))
+				.setName("fileName")
+				.addVerifiedUsing(hash)
+				.build();
+		SpdxPackage pkg = spdxFile.createSpdxPackage(fromStore.getNextId(IdType.SpdxId))
+				.setName("packageName")
+				.build();
+		Relationship rel = pkg.createRelationship(fromStore.getNextId(IdType.SpdxId))
+				.setFrom(pkg)
+				.addTo(spdxFile)
+				.setRelationshipType(RelationshipType.CONTAINS)
+				.build();
+		SpdxDocument doc = pkg.createSpdxDocument(fromStore.getNextId(IdType.SpdxId))
+				.setName("SPDX Document")
+				.addElement(agent)
+				.addElement(spdxFile)
+				.addElement(pkg)
+				.addElement(rel)
+				.build();
+		for (int threads : new int[] {1, 4}) {
+			InMemSpdxStore graphStore = new InMemSpdxStore();
+			ModelCopyManager copyManager = new ModelCopyManager();
+			AtomicInteger lastCopied = new AtomicInteger();
+			List<TypedValue> result = copyManager.copyGraph(graphStore, fromStore,
+					Arrays.asList(doc.getObjectUri(), pkg.getObjectUri()), "3.0.1", NAMESPACE, threads,
+					(copied, discovered) -> {
+						assertTrue(copied <= discovered);
+						lastCopied.accumulateAndGet(copied, Math::max);
+					});
+			assertEquals(2, result.size());
+			assertEquals(doc.getObjectUri(), result.get(0).getObjectUri());
+			assertEquals(pkg.getObjectUri(), result.get(1).getObjectUri());
+			assertEquals(graphStore.getAllItems(null, null).count(), lastCopied.get());
+			assertEquals(fromStore.getAllItems(null, null).count(), graphStore.getAllItems(null, null).count());
+			SpdxDocument copiedDoc = (SpdxDocument)SpdxModelFactory.inflateModelObject(graphStore, result.get(0).getObjectUri(),
+					result.get(0).getType(), copyManager, "3.0.1", false, null);
+			assertTrue(copiedDoc.equivalent(doc));
+			// already copied items are not copied again
+			assertEquals(result.get(1), copyManager.copyGraph(graphStore, fromStore,
+					Collections.singletonList(pkg.getObjectUri()), "3.0.1", NAMESPACE).get(0));
+			assertEquals(fromStore.getAllItems(null, null).count(), graphStore.getAllItems(null, null).count());
+		}
+	}
+	
+	@Test
+	public void testCopyGraphSpecVersions() throws InvalidSPDXAnalysisException {
+		String v2Uri = "http://v2.document#SPDXRef-1";
+		fromStore.create(new TypedValue(v2Uri, SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE, "SPDX-2.3"));
+		String copyMessage = null;
+		try {
+			modelCopyManager.copy(toStore, fromStore, v2Uri, "3.0.1", NAMESPACE);
+			fail("Conversion is not implemented");
+		} catch (InvalidSPDXAnalysisException e) {
+			copyMessage = e.getMessage();
+		}
+		try {
+			new ModelCopyManager().copyGraph(new InMemSpdxStore(), fromStore, Collections.singletonList(v2Uri),
+					"3.0.1", NAMESPACE);
+			fail("Conversion is not implemented");
+		} catch (InvalidSPDXAnalysisException e) {
+			assertEquals(copyMessage, e.getMessage());
+		}
+	}
+	
+	/**
+	 * Creates a chain of items each referencing the next item
+	 * @param store store to create the items in
+	 * @param length number of items
+	 * @return object URI for the first item
+	 */
+	private static String createChain(IModelStore store, String prefix, int length) throws InvalidSPDXAnalysisException {
+		PropertyDescriptor nextProperty = new PropertyDescriptor("next", NAMESPACE);
+		PropertyDescriptor nameProperty = new PropertyDescriptor("name", NAMESPACE);
+		TypedValue next = null;
+		for (int i = length - 1; i >= 0; i--) {
+			TypedValue item = new TypedValue(prefix + i, HASH_TYPE, "3.0.1");
+			store.create(item);
+			store.setValue(item.getObjectUri(), nameProperty, "item " + i);
+			if (Objects.nonNull(next)) {
+				store.setValue(item.getObjectUri(), nextProperty, next);
+				store.addValueToCollection(item.getObjectUri(), new PropertyDescriptor("list", NAMESPACE), next);
+			}
+			next = item;
+		}
+		return prefix + "0";
+	}
+	
+	@Test
+	public void testCopyGraphDeepChain() throws InvalidSPDXAnalysisException {
+		int length = 50000;
+		String first = createChain(fromStore, NAMESPACE + "chain#Item", length);
+		List<TypedValue> result = modelCopyManager.copyGraph(toStore, fromStore, Collections.singletonList(first),
+				"3.0.1", null, 2, null);
+		assertEquals(first, result.get(0).getObjectUri());
+		PropertyDescriptor nextProperty = new PropertyDescriptor("next", NAMESPACE);
+		String objectUri = first;
+		for (int i = 0; i < length - 1; i++) {
+			assertEquals("item " + i, toStore.getValue(objectUri, new PropertyDescriptor("name", NAMESPACE)).get());
+			objectUri = ((TypedValue)toStore.getValue(objectUri, nextProperty).get()).getObjectUri();
+		}
+		assertEquals(NAMESPACE + "chain#Item" + (length - 1), objectUri);
+		assertEquals(2, toStore.getIncomingReferences(objectUri).size());
+	}
+	
+	/**
+	 * Throughput of copying many independent chains with <code>copy</code> and <code>copyGraph</code>
+	 * <p>
+	 * Only runs if slow tests are enabled - results are logged
+	 */
+	@Test
+	public void testCopyGraphThroughputBenchmark() throws InvalidSPDXAnalysisException {
+		if (!UnitTestHelper.runSlowTests()) {
+			return;
+		}
+		int chains = 1000;
+		int length = 100;
+		InMemSpdxStore source = new InMemSpdxStore();
+		List<String> firstUris = new ArrayList<>();
+		for (int i = 0; i < chains; i++) {
+			firstUris.add(createChain(source, NAMESPACE + "chain" + i + "#Item", length));
+		}
+		long start = System.nanoTime();
+		ModelCopyManager copyManager = new ModelCopyManager();
+		IModelStore target = new ConcurrentInMemSpdxStore();
+		for (String firstUri : firstUris) {
+			copyManager.copy(target, source, firstUri, "3.0.1", null);
+		}
+		double recursive = chains * length / ((System.nanoTime() - start) / 1e9);
+		logger.info(String.format("copy: %,.0f items/s", recursive));
+		for (int threads : new int[] {1, 2, 4, 8}) {
+			start = System.nanoTime();
+			new ModelCopyManager().copyGraph(new ConcurrentInMemSpdxStore(), source, firstUris, "3.0.1", null, threads, null);
+			double graph = chains * length / ((System.nanoTime() - start) / 1e9);
+			logger.info(String.format("copyGraph %d threads: %,.0f items/s (%.2fx)", threads, graph, graph / recursive));
+		}
+	}
 }
@@ -23,10 +23,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -1979,4 +1981,247 @@ public class Spdx2to3ConverterTest {
 		assertEquals("John Doe", resultPerson.getName().get());
 	}
 
+	/**
+	 * Create a SPDX spec version 2 document with a package containing the files, a snippet and an extracted license
+	 * @param numFiles number of files to create
+	 * @return SPDX spec version 2 document
+	 * @throws InvalidSPDXAnalysisException on error creating the document
+	 */
+	private org.spdx.library.model.v2.SpdxDocument createStreamingDocument(int numFiles) throws InvalidSPDXAnalysisException {
+		org.spdx.library.model.v2.SpdxDocument doc = new org.spdx.library.model.v2.SpdxDocument(fromModelStore, DOCUMENT_URI, copyManager, true);
+		doc.setCreationInfo(doc.createCreationInfo(Arrays.asList(new String[] {SpdxConstantsCompatV2.CREATOR_PREFIX_PERSON + "Gary O'Neall"}), 
+				"2010-01-29T18:30:22Z"));
+		doc.setDataLicense(LicenseInfoFactory.parseSPDXLicenseStringCompatV2("CC0-1.0", fromModelStore, DOCUMENT_URI, copyManager));
+		doc.setName("Streaming document");
+		org.spdx.library.model.v2.license.ExtractedLicenseInfo extractedLicense = 
+				new org.spdx.library.model.v2.license.ExtractedLicenseInfo(fromModelStore, DOCUMENT_URI, "LicenseRef-streaming",
+						copyManager, true);
+		extractedLicense.setExtractedText("Extracted text");
+		doc.setExtractedLicenseInfos(Arrays.asList(new org.spdx.library.model.v2.license.ExtractedLicenseInfo[] {extractedLicense}));
+		org.spdx.library.model.v2.SpdxPackage pkg = doc.createPackage(fromModelStore.getNextId(IdType.SpdxId), "package", 
+				LicenseInfoFactory.parseSPDXLicenseStringCompatV2("Apache-2.0", fromModelStore, DOCUMENT_URI, copyManager), 
+				"Package copyright", 
+				LicenseInfoFactory.parseSPDXLicenseStringCompatV2("NOASSERTION", fromModelStore, DOCUMENT_URI, copyManager))
+				.setFilesAnalyzed(true)
+				.setPackageVerificationCode(doc.createPackageVerificationCode("a94a8fe5ccb19ba61c4c0873d391e987982fbbd3", 
+						new ArrayList<>()))
+				.setDownloadLocation("https://github.com/spdx/tools-java/releases/tag/v1.1.8")
+				.build();
+		doc.setDocumentDescribes(Arrays.asList(new org.spdx.library.model.v2.SpdxItem[] {pkg}));
+		org.spdx.library.model.v2.SpdxFile firstFile = null;
+		for (int i = 0; i < numFiles; i++) {
+			org.spdx.library.model.v2.SpdxFile spdxFile = doc.createSpdxFile(fromModelStore.getNextId(IdType.SpdxId), "file" + i, 
+					LicenseInfoFactory.parseSPDXLicenseStringCompatV2("LicenseRef-streaming OR MIT", fromModelStore, DOCUMENT_URI, copyManager), 
+					Arrays.asList(new org.spdx.library.model.v2.license.AnyLicenseInfo[] {
+							LicenseInfoFactory.parseSPDXLicenseStringCompatV2("NONE", fromModelStore, DOCUMENT_URI, copyManager)}), 
+					"Copyright " + i, doc.createChecksum(org.spdx.library.model.v2.enumerations.ChecksumAlgorithm.SHA1, 
+							String.format("%040x", i)))
+					.build();
+			pkg.addRelationship(pkg.createRelationship(spdxFile, 
+					org.spdx.library.model.v2.enumerations.RelationshipType.CONTAINS, null));
+			// every file is annotated by the same annotator on one of two dates
+			spdxFile.addAnnotation(spdxFile.createAnnotation(SpdxConstantsCompatV2.CREATOR_PREFIX_PERSON + "Annotator (annotator@example.com)",
+					org.spdx.library.model.v2.enumerations.AnnotationType.REVIEW, 
+					i % 2 == 0 ? "2010-01-29T18:30:22Z" : "2011-01-29T18:30:22Z", "Reviewed file " + i));
+			if (Objects.isNull(firstFile)) {
+				firstFile = spdxFile;
+				// the package is referenced before it is streamed
+				spdxFile.addRelationship(spdxFile.createRelationship(pkg, 
+						org.spdx.library.model.v2.enumerations.RelationshipType.GENERATED_FROM, null));
+			}
+		}
+		org.spdx.library.model.v2.SpdxSnippet snippet = new org.spdx.library.model.v2.SpdxSnippet(fromModelStore, DOCUMENT_URI,
+						fromModelStore.getNextId(IdType.SpdxId), copyManager, true);
+		snippet.setSnippetFromFile(firstFile);
+		snippet.setByteRange(10, 20);
+		snippet.setName("snippet");
+		snippet.setLicenseConcluded(LicenseInfoFactory.parseSPDXLicenseStringCompatV2("MIT", fromModelStore, DOCUMENT_URI, copyManager));
+		snippet.addRelationship(snippet.createRelationship(firstFile, 
+				org.spdx.library.model.v2.enumerations.RelationshipType.DEPENDS_ON, null));
+		doc.addRelationship(doc.createRelationship(snippet, 
+				org.spdx.library.model.v2.enumerations.RelationshipType.CONTAINS, null));
+		assertTrue(doc.verify().isEmpty());
+		return doc;
+	}
+	
+	@Test
+	public void testConvertStreaming() throws InvalidSPDXAnalysisException {
+		int numFiles = 7;
+		int windowSize = 2;
+		org.spdx.library.model.v2.SpdxDocument doc = createStreamingDocument(numFiles);
+		
+		Spdx2to3Converter converter = new Spdx2to3Converter(toModelStore, copyManager, defaultCreationInfo, 
+				SpdxModelFactory.getLatestSpecVersion(), DEFAULT_PREFIX, true);
+		List<List<Element>> windows = new ArrayList<>();
+		SpdxDocument result = converter.convertStreaming(doc, windowSize, windows::add);
+		
+		// the files are streamed in windows before the document which is emitted last
+		assertTrue(windows.size() >= (numFiles + windowSize - 1) / windowSize + 1);
+		List<Element> lastWindow = windows.get(windows.size() - 1);
+		assertEquals(result.getObjectUri(), lastWindow.get(lastWindow.size() - 1).getObjectUri());
+		Map<String, Element> emitted = new HashMap<>();
+		for (List<Element> window:windows) {
+			assertFalse(window.isEmpty());
+			for (Element element:window) {
+				assertNull("Element emitted more than once", emitted.put(element.getObjectUri(), element));
+			}
+		}
+		// every element created is emitted
+		for (String type:Arrays.asList(SpdxConstantsV3.SOFTWARE_SPDX_FILE, SpdxConstantsV3.SOFTWARE_SPDX_PACKAGE,
+				SpdxConstantsV3.SOFTWARE_SNIPPET, SpdxConstantsV3.CORE_RELATIONSHIP, SpdxConstantsV3.CORE_SPDX_DOCUMENT,
+				SpdxConstantsV3.EXPANDED_LICENSING_CUSTOM_LICENSE, SpdxConstantsV3.CORE_PERSON)) {
+			toModelStore.getAllItems(DEFAULT_PREFIX, type).forEach(tv -> 
+				assertTrue(tv.getObjectUri() + " not emitted", emitted.containsKey(tv.getObjectUri())));
+		}
+		assertEquals(numFiles, toModelStore.getAllItems(DEFAULT_PREFIX, SpdxConstantsV3.SOFTWARE_SPDX_FILE).count());
+		// the package referenced by the first file before the package is streamed is fully converted
+		List<SpdxPackage> packages = new ArrayList<>();
+		for (Element element:emitted.values()) {
+			if (element instanceof SpdxPackage) {
+				packages.add((SpdxPackage)element);
+			}
+		}
+		assertEquals(1, packages.size());
+		assertEquals("package", packages.get(0).getName().get());
+		// annotations share the agent and the creation information for each date
+		assertEquals(numFiles, toModelStore.getAllItems(null, SpdxConstantsV3.CORE_ANNOTATION).count());
+		Set<String> annotationCreationInfos = new HashSet<>();
+		Set<String> annotators = new HashSet<>();
+		for (Element element:emitted.values()) {
+			if (element instanceof Annotation) {
+				annotationCreationInfos.add(element.getCreationInfo().getObjectUri());
+				for (Agent agent:element.getCreationInfo().getCreatedBys()) {
+					annotators.add(agent.getObjectUri());
+				}
+			}
+		}
+		assertEquals(2, annotationCreationInfos.size());
+		assertEquals(1, annotators.size());
+		assertTrue(emitted.containsKey(annotators.iterator().next()));
+		
+		// same result as converting the whole document
+		IModelStore compareStore = new InMemSpdxStore();
+		CreationInfo compareCreationInfo = SpdxModelClassFactoryV3.createCreationInfo(compareStore, DEFAULT_PREFIX + "createdBy", DEFAULT_CREATOR_NAME, copyManager);
+		Spdx2to3Converter compareConverter = new Spdx2to3Converter(compareStore, copyManager, compareCreationInfo, 
+				SpdxModelFactory.getLatestSpecVersion(), DEFAULT_PREFIX, true);
+		SpdxDocument expected = compareConverter.convertAndStore(doc);
+		Map<String, Long> expectedTypeCounts = new HashMap<>();
+		compareStore.getAllItems(null, null).forEach(tv -> expectedTypeCounts.merge(tv.getType(), 1L, Long::sum));
+		Map<String, Long> resultTypeCounts = new HashMap<>();
+		toModelStore.getAllItems(null, null).forEach(tv -> resultTypeCounts.merge(tv.getType(), 1L, Long::sum));
+		assertEquals(expectedTypeCounts, resultTypeCounts);
+		assertEquals(expected.getRootElements().size(), result.getRootElements().size());
+		assertEquals(expected.getName(), result.getName());
+		assertTrue(result.verify().isEmpty());
+		
+		try {
+			converter.convertStreaming(doc, windowSize, windows::add);
+			fail("Document already converted");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+	}
+
+	/**
+	 * Convert the document into a new store using the number of threads
+	 * @param doc SPDX spec version 2 document to convert
+	 * @param threadCount number of threads
+	 * @param emitted list to add the object URI and type of the emitted elements to
+	 * @return object URI and type of each item in the resulting model store
+	 */
+	private List<String> convertWithThreads(org.spdx.library.model.v2.SpdxDocument doc, int threadCount, 
+			List<String> emitted) throws InvalidSPDXAnalysisException {
+		IModelStore resultStore = new InMemSpdxStore();
+		CreationInfo creationInfo = SpdxModelClassFactoryV3.createCreationInfo(resultStore, DEFAULT_PREFIX + "createdBy", DEFAULT_CREATOR_NAME, copyManager);
+		Spdx2to3Converter converter = new Spdx2to3Converter(resultStore, copyManager, creationInfo, 
+				SpdxModelFactory.getLatestSpecVersion(), DEFAULT_PREFIX, true);
+		SpdxDocument result = converter.convertStreaming(doc, 5, threadCount, elements -> {
+			for (Element element:elements) {
+				emitted.add(element.getObjectUri() + " " + element.getType());
+			}
+		});
+		assertTrue(result.verify().isEmpty());
+		List<String> retval = new ArrayList<>();
+		resultStore.getAllItems(null, null).forEach(tv -> retval.add(tv.getObjectUri() + " " + tv.getType()));
+		retval.sort(null);
+		return retval;
+	}
+	
+	@Test
+	public void testConvertStreamingThreads() throws InvalidSPDXAnalysisException {
+		org.spdx.library.model.v2.SpdxDocument doc = createStreamingDocument(40);
+		List<String> expectedEmitted = new ArrayList<>();
+		List<String> expected = convertWithThreads(doc, 1, expectedEmitted);
+		assertEquals(expected.size(), new HashSet<>(expected).size());
+		for (int i = 0; i < 3; i++) {
+			List<String> resultEmitted = new ArrayList<>();
+			List<String> result = convertWithThreads(doc, 4, resultEmitted);
+			assertEquals(expected, result);
+			assertEquals(expectedEmitted, resultEmitted);
+		}
+	}
+
+	
+	@Test
+	public void testLicenseCache() throws InvalidSPDXAnalysisException {
+		Spdx2to3Converter converter = new Spdx2to3Converter(toModelStore, copyManager, defaultCreationInfo, 
+				SpdxModelFactory.getLatestSpecVersion(), DEFAULT_PREFIX, true);
+		AnyLicenseInfo first = converter.convertAndStore(
+				LicenseInfoFactory.parseSPDXLicenseStringCompatV2("MIT AND Apache-2.0", fromModelStore, DOCUMENT_URI, copyManager));
+		assertEquals(0, converter.getLicenseCacheHits());
+		assertEquals(1, converter.getLicenseCacheMisses());
+		// the order of the members does not matter
+		AnyLicenseInfo second = converter.convertAndStore(
+				LicenseInfoFactory.parseSPDXLicenseStringCompatV2("Apache-2.0 AND MIT", fromModelStore, DOCUMENT_URI, copyManager));
+		assertEquals(first.getObjectUri(), second.getObjectUri());
+		assertEquals(1, converter.getLicenseCacheHits());
+		assertEquals(1, converter.getLicenseCacheSize());
+		AnyLicenseInfo or = converter.convertAndStore(
+				LicenseInfoFactory.parseSPDXLicenseStringCompatV2("MIT OR Apache-2.0", fromModelStore, DOCUMENT_URI, copyManager));
+		assertTrue(or instanceof DisjunctiveLicenseSet);
+		AnyLicenseInfo nested = converter.convertAndStore(
+				LicenseInfoFactory.parseSPDXLicenseStringCompatV2("GPL-2.0-or-later WITH Classpath-exception-2.0 OR (Apache-2.0 AND MIT)", 
+						fromModelStore, DOCUMENT_URI, copyManager));
+		assertTrue(((DisjunctiveLicenseSet)nested).getMembers().contains(first));
+		assertEquals(2, converter.getLicenseCacheHits());
+		assertEquals(4, converter.getLicenseCacheMisses());
+		assertEquals(4, converter.getLicenseCacheSize());
+		assertTrue(nested.verify().isEmpty());
+	}
+	
+	@Test
+	public void testLicenseCacheStreaming() throws InvalidSPDXAnalysisException {
+		int numFiles = 10;
+		org.spdx.library.model.v2.SpdxDocument doc = createStreamingDocument(numFiles);
+		Spdx2to3Converter converter = new Spdx2to3Converter(toModelStore, copyManager, defaultCreationInfo, 
+				SpdxModelFactory.getLatestSpecVersion(), DEFAULT_PREFIX, true);
+		Map<String, Element> emitted = new HashMap<>();
+		converter.convertStreaming(doc, 3, 2, elements -> {
+			for (Element element:elements) {
+				assertNull("Element emitted more than once", emitted.put(element.getObjectUri(), element));
+			}
+		});
+		// every file has the same concluded license which is converted once
+		assertEquals(1, converter.getLicenseCacheMisses());
+		assertEquals(numFiles - 1, converter.getLicenseCacheHits());
+		List<String> disjunctiveSets = new ArrayList<>();
+		toModelStore.getAllItems(null, SpdxConstantsV3.EXPANDED_LICENSING_DISJUNCTIVE_LICENSE_SET)
+				.forEach(tv -> disjunctiveSets.add(tv.getObjectUri()));
+		assertEquals(1, disjunctiveSets.size());
+		assertTrue(emitted.containsKey(disjunctiveSets.get(0)));
+		int concludedToSet = 0;
+		for (Element element:emitted.values()) {
+			if (element instanceof Relationship && 
+					RelationshipType.HAS_CONCLUDED_LICENSE.equals(((Relationship)element).getRelationshipType()) &&
+					((Relationship)element).getFrom() instanceof SpdxFile) {
+				for (Element to:((Relationship)element).getTos()) {
+					if (disjunctiveSets.get(0).equals(to.getObjectUri())) {
+						concludedToSet++;
+					}
+				}
+			}
+		}
+		assertEquals(numFiles, concludedToSet);
+	}
+
 }
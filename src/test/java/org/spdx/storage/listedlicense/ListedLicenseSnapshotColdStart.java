@@ -0,0 +1,103 @@
+/**
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.listedlicense;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URL;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+
+/**
+ * Measures the cold start of the local listed license store in a fresh JVM
+ * <p>
+ * Run by {@link ListedLicenseSnapshotTest#testColdStart()} in a child JVM:
+ * <pre>
+ * ListedLicenseSnapshotColdStart json|file|jar [snapshotUrl]
+ * </pre>
+ * where json reads the JSON files, file uses the snapshot on the class path and jar uses the snapshot at
+ * the snapshot URL.  Prints a single line with the elapsed times in milliseconds and the retained heap.
+ *
+ * @author Gary O'Neall
+ */
+public class ListedLicenseSnapshotColdStart {
+
+	static final String[] FIRST_LICENSE_IDS = new String[] {"Apache-2.0", "MIT", "GPL-2.0-only",
+			"BSD-3-Clause", "LGPL-2.1-or-later"};
+
+	/**
+	 * Snapshot URL used in place of the class path snapshot - static since the snapshot is opened by the
+	 * store constructor before any subclass fields are initialized
+	 */
+	private static String mode;
+	private static @Nullable URL snapshotUrl;
+
+	private static class ColdStartStore extends SpdxListedLicenseLocalStore {
+
+		ColdStartStore() throws InvalidSPDXAnalysisException {
+			super();
+		}
+
+		@Override
+		@Nullable ListedLicenseSnapshot openSnapshot(@Nullable URL url) {
+			if ("json".equals(mode)) {
+				return null;
+			} else if ("jar".equals(mode)) {
+				return super.openSnapshot(snapshotUrl);
+			} else {
+				return super.openSnapshot(url);
+			}
+		}
+	}
+
+	/**
+	 * @param args json, file or jar followed by the snapshot URL for jar
+	 * @throws Exception on any error loading the licenses
+	 */
+	public static void main(String[] args) throws Exception {
+		mode = args[0];
+		if (args.length > 1) {
+			snapshotUrl = new URL(args[1]);
+		}
+		long start = System.nanoTime();
+		SpdxListedLicenseLocalStore store = new ColdStartStore();
+		if (!"json".equals(mode) && Objects.isNull(store.getSnapshot())) {
+			throw new IllegalStateException("Snapshot not opened for mode " + mode);
+		}
+		long openNanos = System.nanoTime() - start;
+		for (String id : FIRST_LICENSE_IDS) {
+			store.getValue(SpdxListedLicenseModelStore.licenseOrExceptionIdToObjectUri(id),
+					SpdxConstantsCompatV2.PROP_NAME);
+		}
+		long firstNanos = System.nanoTime() - start;
+		for (String id : store.getSpdxListedLicenseIds()) {
+			store.getValue(SpdxListedLicenseModelStore.licenseOrExceptionIdToObjectUri(id),
+					SpdxConstantsCompatV2.PROP_NAME);
+		}
+		long allNanos = System.nanoTime() - start;
+		System.gc();	// report the retained heap
+		MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+		System.out.println(String.format("%s open=%d first=%d all=%d heapMb=%d", mode, openNanos / 1000000,
+				firstNanos / 1000000, allNanos / 1000000, heap.getUsed() / (1024 * 1024)));
+		store.close();
+	}
+}
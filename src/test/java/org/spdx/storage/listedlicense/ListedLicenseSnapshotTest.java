@@ -0,0 +1,237 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.listedlicense;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.utility.compare.UnitTestHelper;
+
+import com.google.gson.Gson;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ */
+public class ListedLicenseSnapshotTest extends TestCase {
+
+	static final Logger logger = LoggerFactory.getLogger(ListedLicenseSnapshotTest.class);
+
+	static final File JSON_DIR = new File("resources" + File.separator + "stdlicenses");
+	static final String APACHE_ID = "Apache-2.0";
+	static final String ECOS_EXCEPTION_ID = "eCos-exception-2.0";
+
+	private static byte[] snapshotBytes = null;
+
+	Gson gson = new Gson();
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (snapshotBytes == null) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ListedLicenseSnapshotWriter.write(JSON_DIR, bytes);
+			snapshotBytes = bytes.toByteArray();
+		}
+	}
+
+	private <T> T readJsonFile(String id, Class<T> clazz) throws IOException {
+		try (Reader reader = new InputStreamReader(Files.newInputStream(
+				new File(JSON_DIR, id + SpdxListedLicenseModelStore.JSON_SUFFIX).toPath()), StandardCharsets.UTF_8)) {
+			return gson.fromJson(reader, clazz);
+		}
+	}
+
+	public void testGetLicense() throws Exception {
+		ListedLicenseSnapshot snapshot = new ListedLicenseSnapshot(ByteBuffer.wrap(snapshotBytes));
+		LicenseJson expected = readJsonFile(APACHE_ID, LicenseJson.class);
+		LicenseJson result = snapshot.getLicense(APACHE_ID, gson);
+		assertEquals(gson.toJsonTree(expected), gson.toJsonTree(result));
+		assertEquals(APACHE_ID, result.licenseId);
+		assertFalse(result.crossRef.isEmpty());
+		assertNull(snapshot.getLicense("Not-A-License", gson));
+		assertNull(snapshot.getLicense(ECOS_EXCEPTION_ID, gson));
+	}
+
+	public void testGetException() throws Exception {
+		ListedLicenseSnapshot snapshot = new ListedLicenseSnapshot(ByteBuffer.wrap(snapshotBytes));
+		ExceptionJson expected = readJsonFile(ECOS_EXCEPTION_ID, ExceptionJson.class);
+		ExceptionJson result = snapshot.getException(ECOS_EXCEPTION_ID, gson);
+		assertEquals(gson.toJsonTree(expected), gson.toJsonTree(result));
+		assertNull(snapshot.getException(APACHE_ID, gson));
+	}
+
+	public void testOpenFile() throws Exception {
+		File snapshotFile = File.createTempFile("spdx", ".snapshot");
+		try {
+			try (OutputStream os = new FileOutputStream(snapshotFile)) {
+				os.write(snapshotBytes);
+			}
+			ListedLicenseSnapshot snapshot = ListedLicenseSnapshot.open(snapshotFile.toURI().toURL());
+			LicenseJson expected = readJsonFile(APACHE_ID, LicenseJson.class);
+			assertEquals(gson.toJsonTree(expected), gson.toJsonTree(snapshot.getLicense(APACHE_ID, gson)));
+		} finally {
+			snapshotFile.delete();
+		}
+	}
+
+	public void testAllEntriesMatchJson() throws Exception {
+		ListedLicenseSnapshot snapshot = new ListedLicenseSnapshot(ByteBuffer.wrap(snapshotBytes));
+		assertFalse(snapshot.getLicenseIds().isEmpty());
+		for (String id : snapshot.getLicenseIds()) {
+			assertEquals(id, gson.toJsonTree(readJsonFile(id, LicenseJson.class)),
+					gson.toJsonTree(snapshot.getLicense(id, gson)));
+		}
+		assertFalse(snapshot.getExceptionIds().isEmpty());
+		for (String id : snapshot.getExceptionIds()) {
+			assertEquals(id, gson.toJsonTree(readJsonFile(id, ExceptionJson.class)),
+					gson.toJsonTree(snapshot.getException(id, gson)));
+		}
+	}
+
+	public void testOpenJar() throws Exception {
+		File jarFile = File.createTempFile("spdx", ".jar");
+		try {
+			try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(jarFile))) {
+				jos.putNextEntry(new ZipEntry(SpdxListedLicenseLocalStore.SNAPSHOT_FILENAME));
+				jos.write(snapshotBytes);
+				jos.closeEntry();
+			}
+			URL url = new URL("jar:" + jarFile.toURI().toURL() + "!/" + SpdxListedLicenseLocalStore.SNAPSHOT_FILENAME);
+			ListedLicenseSnapshot snapshot = ListedLicenseSnapshot.open(url);
+			LicenseJson expected = readJsonFile(APACHE_ID, LicenseJson.class);
+			assertEquals(gson.toJsonTree(expected), gson.toJsonTree(snapshot.getLicense(APACHE_ID, gson)));
+			// the snapshot is read from the jar only once
+			assertSame(snapshot, ListedLicenseSnapshot.open(url));
+		} finally {
+			jarFile.delete();
+		}
+	}
+
+	/**
+	 * Compares the cold start of the local store using the JSON files, the snapshot file and the snapshot in a jar,
+	 * each in a fresh JVM
+	 */
+	public void testColdStart() throws Exception {
+		if (!UnitTestHelper.runSlowTests()) {
+			return;
+		}
+		File jarFile = File.createTempFile("spdx", ".jar");
+		try {
+			try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(jarFile))) {
+				jos.putNextEntry(new ZipEntry(SpdxListedLicenseLocalStore.SNAPSHOT_FILENAME));
+				jos.write(snapshotBytes);
+				jos.closeEntry();
+			}
+			String jarUrl = "jar:" + jarFile.toURI().toURL() + "!/" + SpdxListedLicenseLocalStore.SNAPSHOT_FILENAME;
+			for (String mode : new String[] {"json", "file", "jar"}) {
+				List<String> command = new ArrayList<>();
+				command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+				command.add("-cp");
+				command.add(System.getProperty("java.class.path"));
+				command.add(ListedLicenseSnapshotColdStart.class.getName());
+				command.add(mode);
+				command.add(jarUrl);
+				Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+				String result = null;
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						if (line.startsWith(mode + " ")) {
+							result = line;
+						}
+					}
+				}
+				assertEquals(0, process.waitFor());
+				assertNotNull(result);
+				logger.info("Listed license cold start: {}", result);
+			}
+		} finally {
+			jarFile.delete();
+		}
+	}
+
+	public void testIsCurrent() throws Exception {
+		SpdxListedLicenseLocalStore store = new SpdxListedLicenseLocalStore();
+		ListedLicenseSnapshot snapshot = new ListedLicenseSnapshot(ByteBuffer.wrap(snapshotBytes));
+		assertEquals(store.getLicenseListVersion(), snapshot.getLicenseListVersion());
+		assertTrue(snapshot.isCurrent(store.getLicenseListVersion(), store.getSpdxListedLicenseIds(),
+				store.getSpdxListedExceptionIds()));
+		assertFalse(snapshot.isCurrent("0.1", store.getSpdxListedLicenseIds(),
+				store.getSpdxListedExceptionIds()));
+		assertFalse(snapshot.isCurrent(store.getLicenseListVersion(), Arrays.asList(APACHE_ID),
+				store.getSpdxListedExceptionIds()));
+		assertFalse(snapshot.isCurrent(store.getLicenseListVersion(), store.getSpdxListedLicenseIds(),
+				Collections.<String>emptyList()));
+	}
+
+	public void testInvalidSnapshot() {
+		byte[] invalid = Arrays.copyOf(snapshotBytes, snapshotBytes.length);
+		invalid[0] = 0;
+		try {
+			new ListedLicenseSnapshot(ByteBuffer.wrap(invalid));
+			fail("Invalid magic number accepted");
+		} catch (IOException e) {
+			// expected
+		}
+		try {
+			new ListedLicenseSnapshot(ByteBuffer.wrap(Arrays.copyOf(snapshotBytes, 64)));
+			fail("Truncated snapshot accepted");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	public void testLocalStoreIgnoresStaleSnapshot() throws Exception {
+		File snapshotFile = File.createTempFile("spdx", ".snapshot");
+		try {
+			try (OutputStream os = new FileOutputStream(snapshotFile)) {
+				os.write(snapshotBytes);
+			}
+			SpdxListedLicenseLocalStore store = new SpdxListedLicenseLocalStore();
+			assertNotNull(store.openSnapshot(snapshotFile.toURI().toURL()));
+			assertNull(store.openSnapshot(null));
+			byte[] invalid = Arrays.copyOf(snapshotBytes, snapshotBytes.length);
+			invalid[0] = 0;
+			try (OutputStream os = new FileOutputStream(snapshotFile)) {
+				os.write(invalid);
+			}
+			assertNull(store.openSnapshot(snapshotFile.toURI().toURL()));
+		} finally {
+			snapshotFile.delete();
+		}
+	}
+}
@@ -21,6 +21,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.TypedValue;
@@ -428,6 +435,134 @@ public class SpdxListedLicenseLocalStoreTest extends TestCase {
 		slll.close();
 	}
 	
+	/**
+	 * Local store which counts the number of license loads and can block the load of a license
+	 */
+	static class BlockingLocalStore extends SpdxListedLicenseLocalStore {
+		final ConcurrentHashMap<String, AtomicInteger> loadCounts = new ConcurrentHashMap<>();
+		final String blockedId;
+		final CountDownLatch loadStarted = new CountDownLatch(1);
+		final CountDownLatch releaseLoad = new CountDownLatch(1);
+
+		BlockingLocalStore(String blockedId) throws InvalidSPDXAnalysisException {
+			super();
+			this.blockedId = blockedId;
+		}
+
+		@Override
+		protected LicenseJson readLicenseJson(String licenseId) throws InvalidSPDXAnalysisException {
+			loadCounts.computeIfAbsent(licenseId, k -> new AtomicInteger()).incrementAndGet();
+			if (licenseId.equals(blockedId)) {
+				loadStarted.countDown();
+				try {
+					releaseLoad.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					throw new InvalidSPDXAnalysisException("Interrupted", e);
+				}
+			}
+			return super.readLicenseJson(licenseId);
+		}
+	}
+
+	public void testSlowLoadDoesNotBlockOtherIds() throws Exception {
+		BlockingLocalStore store = new BlockingLocalStore(APACHE_ID);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Object>> apacheResults = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				apacheResults.add(executor.submit(() -> store.getValue(LICENSE_LIST_URI + APACHE_ID, SpdxConstantsCompatV2.PROP_NAME).get()));
+			}
+			assertTrue(store.loadStarted.await(30, TimeUnit.SECONDS));
+			// Other licenses and exceptions can be read while Apache is loading
+			Future<Object> mitResult = executor.submit(() -> store.getValue(LICENSE_LIST_URI + "MIT", SpdxConstantsCompatV2.PROP_NAME).get());
+			assertEquals("MIT License", mitResult.get(30, TimeUnit.SECONDS));
+			assertEquals(ECOS_LICENSE_NAME, store.getValue(LICENSE_LIST_URI + ECOS_EXCEPTION_ID, SpdxConstantsCompatV2.PROP_NAME).get());
+			for (Future<Object> result : apacheResults) {
+				assertFalse(result.isDone());
+			}
+			store.releaseLoad.countDown();
+			for (Future<Object> result : apacheResults) {
+				assertEquals(APACHE_LICENSE_NAME, result.get(30, TimeUnit.SECONDS));
+			}
+			// Concurrent requests for the same ID share a single load
+			assertEquals(1, store.loadCounts.get(APACHE_ID).get());
+			assertEquals(APACHE_LICENSE_NAME, store.getValue(LICENSE_LIST_URI + APACHE_ID, SpdxConstantsCompatV2.PROP_NAME).get());
+			assertEquals(1, store.loadCounts.get(APACHE_ID).get());
+		} finally {
+			store.releaseLoad.countDown();
+			executor.shutdownNow();
+			store.close();
+		}
+	}
+
+	public void testFailedLoadIsRetried() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		SpdxListedLicenseLocalStore store = new SpdxListedLicenseLocalStore() {
+			@Override
+			protected LicenseJson readLicenseJson(String licenseId) throws InvalidSPDXAnalysisException {
+				if (attempts.incrementAndGet() == 1) {
+					throw new InvalidSPDXAnalysisException("Simulated I/O error");
+				}
+				return super.readLicenseJson(licenseId);
+			}
+		};
+		try {
+			store.getValue(LICENSE_LIST_URI + APACHE_ID, SpdxConstantsCompatV2.PROP_NAME);
+			fail("Expected an I/O error");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+		assertEquals(APACHE_LICENSE_NAME, store.getValue(LICENSE_LIST_URI + APACHE_ID, SpdxConstantsCompatV2.PROP_NAME).get());
+		assertEquals(2, attempts.get());
+		store.close();
+	}
+
+	public void testPreload() throws Exception {
+		BlockingLocalStore store = new BlockingLocalStore("not-blocked");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			assertEquals(APACHE_LICENSE_NAME, store.getValue(LICENSE_LIST_URI + APACHE_ID, SpdxConstantsCompatV2.PROP_NAME).get());
+			ListedLicensePreloadResult result = store.preload(executor);
+			assertEquals(store.getSpdxListedLicenseIds().size() - 1, result.getLicensesDecoded());
+			assertEquals(1, result.getLicensesAlreadyCached());
+			assertEquals(store.getSpdxListedExceptionIds().size(), result.getExceptionsDecoded());
+			assertEquals(0, result.getExceptionsAlreadyCached());
+			assertTrue(result.getFailedIds().isEmpty());
+			// all licenses are now served from the cache
+			assertEquals("MIT License", store.getValue(LICENSE_LIST_URI + "MIT", SpdxConstantsCompatV2.PROP_NAME).get());
+			assertEquals(1, store.loadCounts.get("MIT").get());
+			assertEquals(1, store.loadCounts.get(APACHE_ID).get());
+			result = store.preload(executor);
+			assertEquals(0, result.getLicensesDecoded());
+			assertEquals(0, result.getExceptionsDecoded());
+		} finally {
+			executor.shutdownNow();
+			store.close();
+		}
+	}
+
+	public void testPreloadFailure() throws Exception {
+		SpdxListedLicenseLocalStore store = new SpdxListedLicenseLocalStore() {
+			@Override
+			protected LicenseJson readLicenseJson(String licenseId) throws InvalidSPDXAnalysisException {
+				if ("MIT".equals(licenseId)) {
+					throw new InvalidSPDXAnalysisException("Simulated I/O error");
+				}
+				return super.readLicenseJson(licenseId);
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			ListedLicensePreloadResult result = store.preload(executor);
+			assertEquals(Arrays.asList("MIT"), result.getFailedIds());
+			assertEquals(store.getSpdxListedLicenseIds().size() - 1, result.getLicensesDecoded());
+			assertEquals(APACHE_LICENSE_NAME, store.getValue(LICENSE_LIST_URI + APACHE_ID, SpdxConstantsCompatV2.PROP_NAME).get());
+		} finally {
+			executor.shutdownNow();
+			store.close();
+		}
+	}
+
 	public void testCreationInfo() throws Exception {
 		SpdxListedLicenseLocalStore slll = new SpdxListedLicenseLocalStore();
 		SpdxV3ListedLicenseModelStore modelStore = new SpdxV3ListedLicenseModelStore(slll);
@@ -0,0 +1,228 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.spdx.core.SpdxIdInUseException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.PropertyDescriptor;
+import org.spdx.utility.compare.UnitTestHelper;
+
+/**
+ * Runs the {@link InMemSpdxStoreTest} tests against the concurrent store along with concurrency specific tests
+ *
+ * @author Gary O'Neall
+ */
+public class ConcurrentInMemSpdxStoreTest extends InMemSpdxStoreTest {
+
+	static final String BENCHMARK_NAMESPACE = "http://test.document.uri/benchmark";
+	static final PropertyDescriptor NAME_PROPERTY = new PropertyDescriptor("name", TEST_NAMESPACE1);
+	static final PropertyDescriptor REFERENCE_PROPERTY = new PropertyDescriptor("reference", TEST_NAMESPACE1);
+	static final PropertyDescriptor REFERENCES_PROPERTY = new PropertyDescriptor("references", TEST_NAMESPACE1);
+
+	@Override
+	protected InMemSpdxStore createStore() {
+		return new ConcurrentInMemSpdxStore();
+	}
+
+	public void testShardCount() {
+		assertEquals(ConcurrentInMemSpdxStore.DEFAULT_SHARD_COUNT, new ConcurrentInMemSpdxStore().getShardCount());
+		assertEquals(1, new ConcurrentInMemSpdxStore(1).getShardCount());
+		assertEquals(8, new ConcurrentInMemSpdxStore(5).getShardCount());
+		try {
+			new ConcurrentInMemSpdxStore(0);
+			fail("Zero shards accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	public void testGetAllItemsCreationOrder() throws Exception {
+		try (ConcurrentInMemSpdxStore store = new ConcurrentInMemSpdxStore()) {
+			List<String> expected = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				String objectUri = TEST_NAMESPACE1 + "#id" + (199 - i);
+				store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+				expected.add(objectUri);
+			}
+			assertEquals(expected, store.getAllItems(null, null).map(TypedValue::getObjectUri).collect(Collectors.toList()));
+		}
+	}
+
+	public void testConcurrentReferenceCounts() throws Exception {
+		int threads = 8;
+		int itemsPerThread = 500;
+		try (ConcurrentInMemSpdxStore store = new ConcurrentInMemSpdxStore()) {
+			String targetUri = TEST_NAMESPACE1 + "#target";
+			TypedValue target = new TypedValue(targetUri, TEST_TYPE1, "SPDX-2.3");
+			store.create(target);
+			String collectionUri = TEST_NAMESPACE1 + "#collection";
+			store.create(new TypedValue(collectionUri, TEST_TYPE1, "SPDX-2.3"));
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<?>> results = new ArrayList<>();
+				for (int t = 0; t < threads; t++) {
+					final int thread = t;
+					results.add(executor.submit(() -> {
+						for (int i = 0; i < itemsPerThread; i++) {
+							String objectUri = TEST_NAMESPACE1 + "#item" + thread + "-" + i;
+							TypedValue item = new TypedValue(objectUri, TEST_TYPE2, "SPDX-2.3");
+							store.create(item);
+							store.setValue(objectUri, REFERENCE_PROPERTY, target);
+							store.addValueToCollection(collectionUri, REFERENCES_PROPERTY, item);
+						}
+						return null;
+					}));
+				}
+				for (Future<?> result : results) {
+					result.get(60, TimeUnit.SECONDS);
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+			assertEquals(threads * itemsPerThread, store.getItem(targetUri).getReferenceCount());
+			assertEquals(threads * itemsPerThread, store.collectionSize(collectionUri, REFERENCES_PROPERTY));
+			try {
+				store.delete(targetUri);
+				fail("Deleted a referenced item");
+			} catch (SpdxIdInUseException e) {
+				// expected
+			}
+			store.clearValueCollection(collectionUri, REFERENCES_PROPERTY);
+			for (int t = 0; t < threads; t++) {
+				for (int i = 0; i < itemsPerThread; i++) {
+					store.delete(TEST_NAMESPACE1 + "#item" + t + "-" + i);
+				}
+			}
+			assertEquals(0, store.getItem(targetUri).getReferenceCount());
+			store.delete(targetUri);
+			assertFalse(store.exists(targetUri));
+		}
+	}
+
+	public void testConcurrentReplaceReferences() throws Exception {
+		int threads = 8;
+		int itemsPerThread = 200;
+		try (ConcurrentInMemSpdxStore store = new ConcurrentInMemSpdxStore(4)) {
+			String targetUri = TEST_NAMESPACE1 + "#target";
+			TypedValue target = new TypedValue(targetUri, TEST_TYPE1, "SPDX-2.3");
+			store.create(target);
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<?>> results = new ArrayList<>();
+				for (int t = 0; t < threads; t++) {
+					final int thread = t;
+					results.add(executor.submit(() -> {
+						for (int i = 0; i < itemsPerThread; i++) {
+							String objectUri = TEST_NAMESPACE1 + "#item" + thread + "-" + i;
+							store.create(new TypedValue(objectUri, TEST_TYPE2, "SPDX-2.3"));
+							store.setValue(objectUri, REFERENCE_PROPERTY, target);
+							store.addValueToCollection(objectUri, REFERENCES_PROPERTY, target);
+							store.setValue(objectUri, REFERENCE_PROPERTY, "name");
+							store.setValue(objectUri, REFERENCES_PROPERTY, "name");
+							store.addValueToCollection(objectUri, NAME_PROPERTY, "name");
+							store.delete(objectUri);
+						}
+						return null;
+					}));
+				}
+				for (Future<?> result : results) {
+					result.get(60, TimeUnit.SECONDS);
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+			assertEquals(0, store.getItem(targetUri).getReferenceCount());
+			assertEquals(1, store.getAllItems(null, null).count());
+			store.delete(targetUri);
+			assertFalse(store.exists(targetUri));
+		}
+	}
+
+	/**
+	 * Each thread creates items and adds references between them, measuring items per second
+	 * @param storeSupplier supplies the store to test
+	 * @param threads number of threads loading the store
+	 * @param itemsPerThread number of items each thread creates
+	 * @return items loaded per second
+	 */
+	private double loadThroughput(Supplier<InMemSpdxStore> storeSupplier, int threads, int itemsPerThread) throws Exception {
+		try (InMemSpdxStore store = storeSupplier.get()) {
+			String documentUri = BENCHMARK_NAMESPACE + "#document";
+			store.create(new TypedValue(documentUri, TEST_TYPE1, "SPDX-2.3"));
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				long startTime = System.nanoTime();
+				List<Future<?>> results = new ArrayList<>();
+				for (int t = 0; t < threads; t++) {
+					final int thread = t;
+					results.add(executor.submit(() -> {
+						TypedValue previous = null;
+						for (int i = 0; i < itemsPerThread; i++) {
+							String objectUri = BENCHMARK_NAMESPACE + "#item" + thread + "-" + i;
+							TypedValue item = new TypedValue(objectUri, TEST_TYPE2, "SPDX-2.3");
+							store.create(item);
+							store.setValue(objectUri, NAME_PROPERTY, "Item " + i);
+							if (previous != null) {
+								store.setValue(objectUri, REFERENCE_PROPERTY, previous);
+								store.addValueToCollection(previous.getObjectUri(), REFERENCES_PROPERTY, item);
+							}
+							previous = item;
+						}
+						return null;
+					}));
+				}
+				for (Future<?> result : results) {
+					result.get(10, TimeUnit.MINUTES);
+				}
+				return (double)threads * itemsPerThread / ((System.nanoTime() - startTime) / 1e9);
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Multi-threaded load throughput of the concurrent store compared to {@link InMemSpdxStore}
+	 * <p>
+	 * Only runs if slow tests are enabled - results are logged
+	 */
+	public void testLoadThroughputBenchmark() throws Exception {
+		if (!UnitTestHelper.runSlowTests()) {
+			return;
+		}
+		int itemsPerThread = 50000;
+		// warm up
+		loadThroughput(InMemSpdxStore::new, 4, itemsPerThread / 10);
+		loadThroughput(ConcurrentInMemSpdxStore::new, 4, itemsPerThread / 10);
+		for (int threads : new int[] {1, 2, 4, 8, 16}) {
+			double inMem = loadThroughput(InMemSpdxStore::new, threads, itemsPerThread);
+			double concurrent = loadThroughput(ConcurrentInMemSpdxStore::new, threads, itemsPerThread);
+			logger.info(String.format("%2d threads: InMemSpdxStore %,.0f items/s, ConcurrentInMemSpdxStore %,.0f items/s (%.2fx)",
+					threads, inMem, concurrent, concurrent / inMem));
+		}
+	}
+}
@@ -30,8 +30,11 @@ import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.spdx.core.DuplicateSpdxIdException;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.SpdxIdInUseException;
+import org.spdx.core.SpdxIdNotFoundException;
+import org.spdx.core.SpdxInvalidTypeException;
 import org.spdx.core.TypedValue;
 import org.spdx.library.SpdxModelFactory;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
@@ -79,6 +82,13 @@ public class InMemSpdxStoreTest extends TestCase {
 	
 	String state;	// used to track state in the asynch tests (e.g. testTransaction)
 	
+	/**
+	 * @return a new store for the test - overridden to run the same tests against other in memory stores
+	 */
+	protected InMemSpdxStore createStore() {
+		return new InMemSpdxStore();
+	}
+	
 	private synchronized String setTestState(String newState) {
 		logger.info("Setting state to {}", state);
 		String retval = state;
@@ -110,7 +120,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testUpdateNextIds() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			// License ID's
 			String nextId = store.getNextId(IdType.LicenseRef);
 			assertEquals("LicenseRef-gnrtd0", nextId);
@@ -142,7 +152,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testCreateExists() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			assertFalse(store.exists(TEST_OBJECT_URI1));
 			assertFalse(store.exists(TEST_OBJECT_URI2));
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_SPDX_EXTRACTED_LICENSING_INFO, "SPDX-2.3"));
@@ -155,7 +165,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 
 	public void testGetPropertyValueNames() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			store.create(new TypedValue(TEST_OBJECT_URI2, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			for (int i = 0; i < TEST_VALUE_PROPERTIES.length; i++) {
@@ -188,7 +198,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	
 	
 	public void testGetSetValue() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			store.create(new TypedValue(TEST_OBJECT_URI2, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			assertFalse(store.getValue(TEST_OBJECT_URI1, TEST_VALUE_PROPERTIES[0]).isPresent());
@@ -202,7 +212,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testGetAddValueList() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			store.create(new TypedValue(TEST_OBJECT_URI2, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			assertFalse(store.getValue(TEST_OBJECT_URI1, TEST_LIST_PROPERTIES[0]).isPresent());
@@ -226,7 +236,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 
 	public void testGetNextId() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			// License ID's
 			String nextId = store.getNextId(IdType.LicenseRef);
 			assertEquals("LicenseRef-gnrtd0", nextId);
@@ -254,7 +264,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testRemoveProperty() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			store.create(new TypedValue(TEST_OBJECT_URI2, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			assertFalse(store.getValue(TEST_OBJECT_URI1, TEST_LIST_PROPERTIES[0]).isPresent());
@@ -291,7 +301,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 
 	public void testClearList() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			store.create(new TypedValue(TEST_OBJECT_URI2, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			assertFalse(store.getValue(TEST_OBJECT_URI1, TEST_LIST_PROPERTIES[0]).isPresent());
@@ -310,7 +320,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testRemoveListItem() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			String value1 = "value1";
 			String value2 = "value2";
@@ -329,7 +339,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	
 	//TODO: Fix the following test - it is flakey.  Times out about 1 out of 5 times.  Test problem, not a problem with the code under test
 	public void testLock() throws Exception {
-		try (final InMemSpdxStore store = new InMemSpdxStore()) {
+		try (final InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			String value1 = "value1";
 			@SuppressWarnings("unused")
@@ -455,7 +465,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testCollectionSize() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			store.create(new TypedValue(TEST_OBJECT_URI2, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			assertFalse(store.getValue(TEST_OBJECT_URI1, TEST_LIST_PROPERTIES[0]).isPresent());
@@ -471,7 +481,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testCollectionContains() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			store.create(new TypedValue(TEST_OBJECT_URI2, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			assertFalse(store.getValue(TEST_OBJECT_URI1, TEST_LIST_PROPERTIES[0]).isPresent());
@@ -488,7 +498,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	
 	public void testIsPropertyValueAssignableTo() throws Exception {
 
-		try(InMemSpdxStore store = new InMemSpdxStore()) {
+		try(InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			// String
 			PropertyDescriptor sProperty = new PropertyDescriptor("stringprop", SpdxConstantsCompatV2.SPDX_NAMESPACE);
@@ -517,7 +527,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testCollectionMembersAssignableTo() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			// String
 			PropertyDescriptor sProperty = new PropertyDescriptor("stringprop", SpdxConstantsCompatV2.SPDX_NAMESPACE);
@@ -557,7 +567,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testIsCollectionProperty() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			// String
 			PropertyDescriptor sProperty = new PropertyDescriptor("stringprop", SpdxConstantsCompatV2.SPDX_NAMESPACE);
@@ -570,7 +580,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testIdType() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			assertEquals(IdType.Anonymous, store.getIdType(InMemSpdxStore.ANON_PREFIX+"gnrtd23"));
 			assertEquals(IdType.DocumentRef, store.getIdType(TEST_NAMESPACE1 + "#" + SpdxConstantsCompatV2.EXTERNAL_DOC_REF_PRENUM+"gnrtd23"));
 			assertEquals(IdType.LicenseRef, store.getIdType(TEST_NAMESPACE1 + "#" + SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM+"gnrtd23"));
@@ -583,7 +593,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	
 	@SuppressWarnings("deprecation")
     public void testGetCaseSensisitiveId() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			String expected = "TestIdOne";
 			String lower = expected.toLowerCase();
 			store.create(new TypedValue(TEST_NAMESPACE1 + "#" + expected, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
@@ -599,7 +609,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 
 	public void testGetCaseSensitiveId() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			String expected = "TestIdOne";
 			String lower = expected.toLowerCase();
 			store.create(new TypedValue(TEST_NAMESPACE1 + "#" + expected, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
@@ -615,15 +625,332 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testGetTypedValue() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_ANNOTATION, "SPDX-2.3"));
 			assertEquals(SpdxConstantsCompatV2.CLASS_ANNOTATION, store.getTypedValue(TEST_OBJECT_URI1).get().getType());
 			assertFalse(store.getTypedValue(TEST_OBJECT_URI2).isPresent());
 		}
 	}
 	
+	private List<String> allItemUris(InMemSpdxStore store, String nameSpace, String typeFilter) {
+		return store.getAllItems(nameSpace, typeFilter).map(TypedValue::getObjectUri).collect(Collectors.toList());
+	}
+
+	public void testGetAllItems() throws Exception {
+		try (InMemSpdxStore store = createStore()) {
+			String doc1Annotation = TEST_NAMESPACE1 + "#annotation";
+			String doc2Relationship = TEST_NAMESPACE2 + "#relationship";
+			String doc1Relationship = TEST_NAMESPACE1 + "#relationship";
+			String anon = store.getNextId(IdType.Anonymous);
+			String v3Element = "https://test.document.uri/3/element1";
+			String v3Element2 = "https://test.document.uri/32/element2";
+			store.create(new TypedValue(doc1Annotation, TEST_TYPE1, "SPDX-2.3"));
+			store.create(new TypedValue(doc2Relationship, TEST_TYPE2, "SPDX-2.3"));
+			store.create(new TypedValue(doc1Relationship, TEST_TYPE2, "SPDX-2.3"));
+			store.create(new TypedValue(anon, TEST_TYPE2, "SPDX-2.3"));
+			store.create(new TypedValue(v3Element, TEST_TYPE1, "SPDX-2.3"));
+			store.create(new TypedValue(v3Element2, TEST_TYPE1, "SPDX-2.3"));
+
+			assertEquals(Arrays.asList(doc1Annotation, doc2Relationship, doc1Relationship, anon, v3Element, v3Element2),
+					allItemUris(store, null, null));
+			assertEquals(Arrays.asList(doc2Relationship, doc1Relationship, anon), allItemUris(store, null, TEST_TYPE2));
+			assertEquals(Arrays.asList(doc1Annotation, doc1Relationship), allItemUris(store, TEST_NAMESPACE1, null));
+			assertEquals(Arrays.asList(doc1Annotation, doc1Relationship), allItemUris(store, TEST_NAMESPACE1 + "#", null));
+			assertEquals(Collections.singletonList(doc1Relationship), allItemUris(store, TEST_NAMESPACE1, TEST_TYPE2));
+			assertEquals(Collections.singletonList(doc1Relationship), allItemUris(store, TEST_NAMESPACE1 + "#rel", null));
+			assertEquals(Arrays.asList(doc1Annotation, doc2Relationship, doc1Relationship),
+					allItemUris(store, "http://test.document.uri/", null));
+			assertEquals(Collections.singletonList(anon), allItemUris(store, InMemSpdxStore.ANON_PREFIX, null));
+			assertEquals(Collections.singletonList(anon), allItemUris(store, anon, null));
+			assertEquals(Arrays.asList(v3Element, v3Element2), allItemUris(store, "https://test.document.uri/3", null));
+			assertEquals(Collections.singletonList(v3Element), allItemUris(store, "https://test.document.uri/3/", null));
+			assertEquals(Collections.singletonList(v3Element2), allItemUris(store, "https://test.document.uri/32/elem", null));
+			assertTrue(allItemUris(store, TEST_NAMESPACE1 + "#none", null).isEmpty());
+			assertTrue(allItemUris(store, TEST_NAMESPACE2, TEST_TYPE1).isEmpty());
+			assertTrue(allItemUris(store, null, SpdxConstantsCompatV2.CLASS_SPDX_FILE).isEmpty());
+
+			store.delete(doc1Relationship);
+			assertEquals(Collections.singletonList(doc1Annotation), allItemUris(store, TEST_NAMESPACE1, null));
+			assertTrue(allItemUris(store, TEST_NAMESPACE1, TEST_TYPE2).isEmpty());
+			assertEquals(Arrays.asList(doc2Relationship, anon), allItemUris(store, null, TEST_TYPE2));
+			store.create(new TypedValue(doc1Relationship, TEST_TYPE2, "SPDX-2.3"));
+			assertEquals(Arrays.asList(doc1Annotation, doc1Relationship), allItemUris(store, TEST_NAMESPACE1, null));
+			try {
+				store.create(new TypedValue(doc1Annotation, TEST_TYPE2, "SPDX-2.3"));
+				fail("Duplicate create");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+			assertEquals(Collections.singletonList(doc1Relationship), allItemUris(store, TEST_NAMESPACE1, TEST_TYPE2));
+
+			store.clear();
+			assertTrue(allItemUris(store, null, null).isEmpty());
+			assertTrue(allItemUris(store, TEST_NAMESPACE1, null).isEmpty());
+			assertTrue(allItemUris(store, null, TEST_TYPE1).isEmpty());
+		}
+	}
+
+	public void testItemIndexBuiltWhenUsed() throws Exception {
+		try (InMemSpdxStore store = createStore()) {
+			String doc1Annotation = TEST_NAMESPACE1 + "#annotation";
+			String doc1Relationship = TEST_NAMESPACE1 + "#relationship";
+			store.create(new TypedValue(doc1Annotation, TEST_TYPE1, "SPDX-2.3"));
+			store.create(new TypedValue(doc1Relationship, TEST_TYPE2, "SPDX-2.3"));
+			store.create(new TypedValue(TEST_NAMESPACE2 + "#relationship", TEST_TYPE2, "SPDX-2.3"));
+			store.delete(doc1Annotation);
+			assertNull(store.itemIndex);
+			assertEquals(Collections.singletonList(doc1Relationship), allItemUris(store, TEST_NAMESPACE1, TEST_TYPE2));
+			store.create(new TypedValue(doc1Annotation, TEST_TYPE1, "SPDX-2.3"));
+			assertEquals(Arrays.asList(doc1Relationship, doc1Annotation), allItemUris(store, TEST_NAMESPACE1, null));
+			store.clear();
+			assertNull(store.itemIndex);
+			store.create(new TypedValue(doc1Annotation, TEST_TYPE1, "SPDX-2.3"));
+			assertEquals(Collections.singletonList(doc1Annotation), allItemUris(store, null, TEST_TYPE1));
+		}
+	}
+
+	public void testNamespaceKey() {
+		assertEquals(TEST_NAMESPACE1 + "#", StoredTypedItemIndex.namespaceKey(TEST_OBJECT_URI1));
+		assertEquals("https://test.document.uri/3/", StoredTypedItemIndex.namespaceKey("https://test.document.uri/3/element1"));
+		assertEquals(InMemSpdxStore.ANON_PREFIX + "gnrtd", StoredTypedItemIndex.namespaceKey(InMemSpdxStore.ANON_PREFIX + "gnrtd12"));
+		assertEquals("", StoredTypedItemIndex.namespaceKey("123"));
+	}
+
+	public void testStringInternPool() throws Exception {
+		try (InMemSpdxStore store = createStore()) {
+			PropertyDescriptor singleProperty = new PropertyDescriptor("single", TEST_NAMESPACE1);
+			PropertyDescriptor listProperty = new PropertyDescriptor("list", TEST_NAMESPACE1);
+			store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+			store.create(new TypedValue(TEST_OBJECT_URI2, TEST_TYPE1, "SPDX-2.3"));
+			String value = "shared value";
+			store.setStringInternPool(new StringInternPool());
+			store.setValue(TEST_OBJECT_URI1, singleProperty, new String(value));
+			store.setValue(TEST_OBJECT_URI2, singleProperty, new String(value));
+			store.addValueToCollection(TEST_OBJECT_URI2, listProperty, new String(value));
+			Object value1 = store.getValue(TEST_OBJECT_URI1, singleProperty).get();
+			assertEquals(value, value1);
+			assertSame(value1, store.getValue(TEST_OBJECT_URI2, singleProperty).get());
+			assertSame(value1, store.listValues(TEST_OBJECT_URI2, listProperty).next());
+			store.setStringInternPool(null);
+			store.setValue(TEST_OBJECT_URI2, singleProperty, new String(value));
+			assertNotSame(value1, store.getValue(TEST_OBJECT_URI2, singleProperty).get());
+		}
+	}
+
+	public void testApplyBatch() throws Exception {
+		try (InMemSpdxStore store = createStore()) {
+			PropertyDescriptor singleProperty = new PropertyDescriptor("single", TEST_NAMESPACE1);
+			PropertyDescriptor listProperty = new PropertyDescriptor("list", TEST_NAMESPACE1);
+			TypedValue target = new TypedValue(TEST_NAMESPACE1 + "#target", TEST_TYPE1, "SPDX-2.3");
+			TypedValue target2 = new TypedValue(TEST_NAMESPACE1 + "#target2", TEST_TYPE1, "SPDX-2.3");
+			store.create(target);
+			store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+			store.setValue(TEST_OBJECT_URI1, singleProperty, target);
+
+			SpdxStoreBatch batch = new SpdxStoreBatch();
+			batch.create(target2);
+			batch.create(new TypedValue(TEST_OBJECT_URI2, TEST_TYPE1, "SPDX-2.3"));
+			batch.setValue(TEST_OBJECT_URI2, singleProperty, "value");
+			batch.addValueToCollection(TEST_OBJECT_URI2, listProperty, target);
+			batch.addValueToCollection(TEST_OBJECT_URI2, listProperty, target2);
+			batch.addValueToCollection(TEST_OBJECT_URI2, listProperty, target);
+			// replaces the existing reference to target
+			batch.setValue(TEST_OBJECT_URI1, singleProperty, target2);
+			assertEquals(7, batch.size());
+			batch.applyTo(store);
+
+			assertEquals("value", store.getValue(TEST_OBJECT_URI2, singleProperty).get());
+			List<Object> values = new ArrayList<>();
+			store.listValues(TEST_OBJECT_URI2, listProperty).forEachRemaining(values::add);
+			assertEquals(Arrays.asList(target, target2, target), values);
+			assertEquals(target2, store.getValue(TEST_OBJECT_URI1, singleProperty).get());
+			assertEquals(2, store.getItem(target.getObjectUri()).getReferenceCount());
+			assertEquals(Collections.singletonList(new IncomingReference(TEST_OBJECT_URI2, listProperty)),
+					store.getIncomingReferences(target.getObjectUri()));
+			assertEquals(2, store.getItem(target2.getObjectUri()).getReferenceCount());
+			assertEquals(2, store.getIncomingReferences(target2.getObjectUri()).size());
+			store.clearValueCollection(TEST_OBJECT_URI2, listProperty);
+			assertEquals(0, store.getItem(target.getObjectUri()).getReferenceCount());
+		}
+	}
+
+	public void testApplyBatchValidation() throws Exception {
+		try (InMemSpdxStore store = createStore()) {
+			PropertyDescriptor singleProperty = new PropertyDescriptor("single", TEST_NAMESPACE1);
+			store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+			SpdxStoreBatch batch = new SpdxStoreBatch();
+			batch.setValue(TEST_OBJECT_URI1, singleProperty, "value");
+			batch.setValue(TEST_OBJECT_URI1, singleProperty, new TypedValue(TEST_OBJECT_URI2, TEST_TYPE1, "SPDX-2.3"));
+			batch.create(new TypedValue(TEST_OBJECT_URI2, TEST_TYPE1, "SPDX-2.3"));
+			try {
+				batch.applyTo(store);
+				fail("Reference to an item created later in the batch accepted");
+			} catch (SpdxIdNotFoundException e) {
+				// expected
+			}
+			assertFalse(store.getValue(TEST_OBJECT_URI1, singleProperty).isPresent());
+			assertFalse(store.exists(TEST_OBJECT_URI2));
+			batch = new SpdxStoreBatch();
+			batch.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+			try {
+				batch.applyTo(store);
+				fail("Duplicate item accepted");
+			} catch (DuplicateSpdxIdException e) {
+				// expected
+			}
+		}
+	}
+
+	public void testApplyBatchInvalidValues() throws Exception {
+		try (InMemSpdxStore store = createStore()) {
+			PropertyDescriptor singleProperty = new PropertyDescriptor("single", TEST_NAMESPACE1);
+			PropertyDescriptor listProperty = new PropertyDescriptor("list", TEST_NAMESPACE1);
+			TypedValue target = new TypedValue(TEST_NAMESPACE1 + "#target", TEST_TYPE1, "SPDX-2.3");
+			store.create(target);
+			store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+			store.setValue(TEST_OBJECT_URI1, singleProperty, "value");
+			// unsupported value class after a change referencing the target
+			SpdxStoreBatch batch = new SpdxStoreBatch();
+			batch.addValueToCollection(TEST_OBJECT_URI1, listProperty, target);
+			batch.setValue(TEST_OBJECT_URI1, listProperty, new StringBuilder("unsupported"));
+			try {
+				batch.applyTo(store);
+				fail("Unsupported value class accepted");
+			} catch (SpdxInvalidTypeException e) {
+				// expected
+			}
+			// adding to a property which is not a collection
+			batch = new SpdxStoreBatch();
+			batch.addValueToCollection(TEST_OBJECT_URI1, listProperty, target);
+			batch.addValueToCollection(TEST_OBJECT_URI1, singleProperty, target);
+			try {
+				batch.applyTo(store);
+				fail("Adding to a non collection property accepted");
+			} catch (SpdxInvalidTypeException e) {
+				// expected
+			}
+			// adding to a property set earlier in the batch
+			batch = new SpdxStoreBatch();
+			batch.setValue(TEST_OBJECT_URI1, listProperty, "set");
+			batch.addValueToCollection(TEST_OBJECT_URI1, listProperty, target);
+			try {
+				batch.applyTo(store);
+				fail("Adding to a property set earlier in the batch accepted");
+			} catch (SpdxInvalidTypeException e) {
+				// expected
+			}
+			assertFalse(store.getValue(TEST_OBJECT_URI1, listProperty).isPresent());
+			assertEquals("value", store.getValue(TEST_OBJECT_URI1, singleProperty).get());
+			assertEquals(0, store.getItem(target.getObjectUri()).getReferenceCount());
+			store.delete(target.getObjectUri());
+			assertFalse(store.exists(target.getObjectUri()));
+		}
+	}
+
+	public void testApplyBatchFailsPartway() throws Exception {
+		String failUri = TEST_NAMESPACE1 + "#fail";
+		try (InMemSpdxStore store = new InMemSpdxStore() {
+			@Override
+			public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+				if (failUri.equals(typedValue.getObjectUri())) {
+					throw new InvalidSPDXAnalysisException("Simulated failure");
+				}
+				super.create(typedValue);
+			}
+		}) {
+			PropertyDescriptor singleProperty = new PropertyDescriptor("single", TEST_NAMESPACE1);
+			PropertyDescriptor listProperty = new PropertyDescriptor("list", TEST_NAMESPACE1);
+			TypedValue target = new TypedValue(TEST_NAMESPACE1 + "#target", TEST_TYPE1, "SPDX-2.3");
+			store.create(target);
+			store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+			SpdxStoreBatch batch = new SpdxStoreBatch();
+			batch.setValue(TEST_OBJECT_URI1, singleProperty, target);
+			batch.addValueToCollection(TEST_OBJECT_URI1, listProperty, target);
+			batch.create(new TypedValue(failUri, TEST_TYPE1, "SPDX-2.3"));
+			batch.addValueToCollection(TEST_OBJECT_URI1, listProperty, target);
+			try {
+				batch.applyTo(store);
+				fail("Simulated failure not thrown");
+			} catch (InvalidSPDXAnalysisException e) {
+				assertEquals("Simulated failure", e.getMessage());
+			}
+			// the changes applied before the failure are stored and counted
+			assertEquals(target, store.getValue(TEST_OBJECT_URI1, singleProperty).get());
+			assertEquals(2, store.getItem(target.getObjectUri()).getReferenceCount());
+			try {
+				store.delete(target.getObjectUri());
+				fail("Referenced item deleted");
+			} catch (SpdxIdInUseException e) {
+				// expected
+			}
+			store.removeProperty(TEST_OBJECT_URI1, singleProperty);
+			store.clearValueCollection(TEST_OBJECT_URI1, listProperty);
+			assertEquals(0, store.getItem(target.getObjectUri()).getReferenceCount());
+			store.delete(target.getObjectUri());
+			assertFalse(store.exists(target.getObjectUri()));
+		}
+	}
+
+	public void testIncomingReferences() throws Exception {
+		try (InMemSpdxStore store = createStore()) {
+			PropertyDescriptor singleProperty = new PropertyDescriptor("single", TEST_NAMESPACE1);
+			PropertyDescriptor listProperty = new PropertyDescriptor("list", TEST_NAMESPACE1);
+			String targetUri = TEST_NAMESPACE1 + "#target";
+			String target2Uri = TEST_NAMESPACE1 + "#target2";
+			TypedValue target = new TypedValue(targetUri, TEST_TYPE1, "SPDX-2.3");
+			TypedValue target2 = new TypedValue(target2Uri, TEST_TYPE1, "SPDX-2.3");
+			store.create(target);
+			store.create(target2);
+			store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+			store.create(new TypedValue(TEST_OBJECT_URI2, TEST_TYPE1, "SPDX-2.3"));
+			assertTrue(store.getIncomingReferences(targetUri).isEmpty());
+
+			store.setValue(TEST_OBJECT_URI1, singleProperty, target);
+			store.addValueToCollection(TEST_OBJECT_URI2, listProperty, target);
+			store.addValueToCollection(TEST_OBJECT_URI2, listProperty, target);
+			List<IncomingReference> references = store.getIncomingReferences(targetUri);
+			assertEquals(2, references.size());
+			assertTrue(references.contains(new IncomingReference(TEST_OBJECT_URI1, singleProperty)));
+			assertTrue(references.contains(new IncomingReference(TEST_OBJECT_URI2, listProperty)));
+			assertEquals(3, store.getItem(targetUri).getReferenceCount());
+			try {
+				store.delete(targetUri);
+				fail("Deleted a referenced item");
+			} catch (SpdxIdInUseException e) {
+				assertTrue(e.getMessage().contains(TEST_OBJECT_URI1));
+			}
+
+			// replacing a value removes the previous reference
+			store.setValue(TEST_OBJECT_URI1, singleProperty, target2);
+			assertEquals(Collections.singletonList(new IncomingReference(TEST_OBJECT_URI2, listProperty)),
+					store.getIncomingReferences(targetUri));
+			assertEquals(Collections.singletonList(new IncomingReference(TEST_OBJECT_URI1, singleProperty)),
+					store.getIncomingReferences(target2Uri));
+			store.setValue(TEST_OBJECT_URI1, singleProperty, "not a reference");
+			assertTrue(store.getIncomingReferences(target2Uri).isEmpty());
+			assertEquals(0, store.getItem(target2Uri).getReferenceCount());
+
+			assertFalse(store.removeValueFromCollection(TEST_OBJECT_URI2, listProperty, target2));
+			assertTrue(store.removeValueFromCollection(TEST_OBJECT_URI2, listProperty, target));
+			assertEquals(1, store.getIncomingReferences(targetUri).size());
+			store.removeProperty(TEST_OBJECT_URI2, listProperty);
+			assertTrue(store.getIncomingReferences(targetUri).isEmpty());
+			assertEquals(0, store.getItem(targetUri).getReferenceCount());
+
+			// deleting a referring item removes its references
+			store.addValueToCollection(TEST_OBJECT_URI2, listProperty, target);
+			store.setValue(TEST_OBJECT_URI2, singleProperty, target2);
+			store.delete(TEST_OBJECT_URI2);
+			assertTrue(store.getIncomingReferences(targetUri).isEmpty());
+			assertTrue(store.getIncomingReferences(target2Uri).isEmpty());
+			store.delete(targetUri);
+			store.delete(target2Uri);
+			assertFalse(store.exists(targetUri));
+		}
+	}
+
 	public void testDelete() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			assertFalse(store.exists(TEST_OBJECT_URI1));
 			assertFalse(store.exists(TEST_OBJECT_URI2));
 			store.create(new TypedValue(TEST_OBJECT_URI1, SpdxConstantsCompatV2.CLASS_SPDX_EXTRACTED_LICENSING_INFO, "SPDX-2.3"));
@@ -638,7 +965,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testDeleteInUse() throws Exception {
-		try (InMemSpdxStore store = new InMemSpdxStore()) {
+		try (InMemSpdxStore store = createStore()) {
 			String id1 = "TestId1";
 			String id2 = "testId2";
 			String id3 = "testId3";
@@ -697,7 +1024,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	}
 	
 	public void testReferenceCounts() throws Exception {
-	    try (InMemSpdxStore store = new InMemSpdxStore()) {
+	    try (InMemSpdxStore store = createStore()) {
 	    	store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
 	        store.create(new TypedValue(TEST_NAMESPACE1 + "#" + TEST_ID2, TEST_TYPE2, "SPDX-2.3"));
 	        StoredTypedItem item = store.getItem(TEST_OBJECT_URI1);
@@ -716,7 +1043,7 @@ public class InMemSpdxStoreTest extends TestCase {
 	        		new PropertyDescriptor("prop2", SpdxConstantsCompatV2.SPDX_NAMESPACE));
 	        assertEquals(2, item.getReferenceCount());
 	        store.removeValueFromCollection(TEST_NAMESPACE1 + "#" + TEST_ID2, 
-	        		new PropertyDescriptor("prop2", SpdxConstantsCompatV2.SPDX_NAMESPACE), tv);
+	        		new PropertyDescriptor("prop3", SpdxConstantsCompatV2.SPDX_NAMESPACE), tv);
 	        assertEquals(1, item.getReferenceCount());
 	        store.clearValueCollection(TEST_NAMESPACE1 + "#" + TEST_ID2, 
 	        		new PropertyDescriptor("prop1", SpdxConstantsCompatV2.SPDX_NAMESPACE));
@@ -725,8 +1052,24 @@ public class InMemSpdxStoreTest extends TestCase {
 	    }
 	}
 	
+	public void testReferenceCountsSetValueReplacesCollection() throws Exception {
+	    try (InMemSpdxStore store = createStore()) {
+	    	store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+	        store.create(new TypedValue(TEST_NAMESPACE1 + "#" + TEST_ID2, TEST_TYPE2, "SPDX-2.3"));
+	        StoredTypedItem item = store.getItem(TEST_OBJECT_URI1);
+	        TypedValue tv = new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3");
+	        PropertyDescriptor prop = new PropertyDescriptor("prop1", SpdxConstantsCompatV2.SPDX_NAMESPACE);
+	        store.addValueToCollection(TEST_NAMESPACE1 + "#" + TEST_ID2, prop, tv);
+	        assertEquals(1, item.getReferenceCount());
+	        store.setValue(TEST_NAMESPACE1 + "#" + TEST_ID2, prop, "plain value");
+	        assertEquals(0, item.getReferenceCount());
+	        store.delete(TEST_OBJECT_URI1);
+	        assertFalse(store.exists(TEST_OBJECT_URI1));
+	    }
+	}
+	
 	   public void testReferenceCountsDelete() throws Exception {
-	        try (InMemSpdxStore store = new InMemSpdxStore()) {
+	        try (InMemSpdxStore store = createStore()) {
 	        	store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
 		        store.create(new TypedValue(TEST_NAMESPACE1 + "#" + TEST_ID2, TEST_TYPE2, "SPDX-2.3"));
 		        StoredTypedItem item = store.getItem(TEST_OBJECT_URI1);
@@ -0,0 +1,260 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.spdx.core.SimpleUriValue;
+import org.spdx.core.TypedValue;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.storage.PropertyDescriptor;
+import org.spdx.storage.IModelStore.IdType;
+
+/**
+ * Runs the {@link InMemSpdxStoreTest} tests against the memory mapped store along with persistence tests
+ *
+ * @author Gary O'Neall
+ */
+public class MappedSpdxStoreTest extends InMemSpdxStoreTest {
+
+	static final PropertyDescriptor NAME_PROPERTY = new PropertyDescriptor("name", TEST_NAMESPACE1);
+	static final PropertyDescriptor COUNT_PROPERTY = new PropertyDescriptor("count", TEST_NAMESPACE1);
+	static final PropertyDescriptor FLAG_PROPERTY = new PropertyDescriptor("flag", TEST_NAMESPACE1);
+	static final PropertyDescriptor URI_PROPERTY = new PropertyDescriptor("uri", TEST_NAMESPACE1);
+	static final PropertyDescriptor REFERENCE_PROPERTY = new PropertyDescriptor("reference", TEST_NAMESPACE1);
+	static final PropertyDescriptor REFERENCES_PROPERTY = new PropertyDescriptor("references", TEST_NAMESPACE1);
+	static final PropertyDescriptor EMPTY_PROPERTY = new PropertyDescriptor("empty", TEST_NAMESPACE1);
+
+	Path storeFile;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		storeFile = Files.createTempFile("spdxtest", ".store");
+		Files.delete(storeFile);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		Files.deleteIfExists(storeFile);
+	}
+
+	@Override
+	protected InMemSpdxStore createStore() {
+		try {
+			return new MappedSpdxStore();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static List<Object> toList(Iterator<Object> iter) {
+		List<Object> retval = new ArrayList<>();
+		iter.forEachRemaining(retval::add);
+		return retval;
+	}
+
+	/**
+	 * Create items with one of each kind of value
+	 * @param store store to populate
+	 * @param count number of items referencing the target
+	 * @return typed value for the target item
+	 */
+	private static TypedValue populate(InMemSpdxStore store, int count) throws Exception {
+		TypedValue target = new TypedValue(TEST_NAMESPACE1 + "#target", TEST_TYPE2, "SPDX-2.3");
+		store.create(target);
+		for (int i = 0; i < count; i++) {
+			String objectUri = TEST_NAMESPACE1 + "#Item" + i;
+			store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+			store.setValue(objectUri, NAME_PROPERTY, "name é " + i);
+			store.setValue(objectUri, COUNT_PROPERTY, -i);
+			store.setValue(objectUri, FLAG_PROPERTY, i % 2 == 0);
+			store.setValue(objectUri, URI_PROPERTY, new SimpleUriValue(SpdxConstantsCompatV2.URI_VALUE_NOASSERTION));
+			store.setValue(objectUri, REFERENCE_PROPERTY, target);
+			store.addValueToCollection(objectUri, REFERENCES_PROPERTY, target);
+			store.addValueToCollection(objectUri, REFERENCES_PROPERTY, "member" + i);
+			store.addValueToCollection(objectUri, REFERENCES_PROPERTY, target);
+			store.collectionSize(objectUri, EMPTY_PROPERTY);
+		}
+		return target;
+	}
+
+	private static void verify(InMemSpdxStore store, TypedValue target, int count) throws Exception {
+		for (int i = 0; i < count; i++) {
+			String objectUri = TEST_NAMESPACE1 + "#Item" + i;
+			assertEquals("name é " + i, store.getValue(objectUri, NAME_PROPERTY).get());
+			assertEquals(-i, store.getValue(objectUri, COUNT_PROPERTY).get());
+			assertEquals(i % 2 == 0, store.getValue(objectUri, FLAG_PROPERTY).get());
+			assertEquals(SpdxConstantsCompatV2.URI_VALUE_NOASSERTION,
+					((SimpleUriValue)store.getValue(objectUri, URI_PROPERTY).get()).getIndividualURI());
+			assertEquals(target, store.getValue(objectUri, REFERENCE_PROPERTY).get());
+			assertEquals(Arrays.asList(target, "member" + i, target), toList(store.listValues(objectUri, REFERENCES_PROPERTY)));
+			assertTrue(store.isCollectionProperty(objectUri, EMPTY_PROPERTY));
+		}
+		assertEquals(count * 3, store.getItem(target.getObjectUri()).getReferenceCount());
+		assertEquals(count * 2, store.getIncomingReferences(target.getObjectUri()).size());
+	}
+
+	public void testReopen() throws Exception {
+		int count = 20;
+		TypedValue target;
+		String nextId;
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile)) {
+			target = populate(store, count);
+			store.create(new TypedValue(store.getNextId(IdType.SpdxId), TEST_TYPE1, "SPDX-2.3"));
+			nextId = store.getNextId(IdType.SpdxId);
+			verify(store, target, count);
+		}
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile)) {
+			verify(store, target, count);
+			assertEquals(count + 2, store.getAllItems(null, null).count());
+			assertEquals(count, store.getAllItems(TEST_NAMESPACE1 + "#Item", TEST_TYPE1).count());
+			assertEquals("Item3", store.getCaseSensitiveId(TEST_NAMESPACE1, "item3").get());
+			assertEquals(nextId, store.getNextId(IdType.SpdxId));
+			store.delete(TEST_NAMESPACE1 + "#Item0");
+			store.setValue(TEST_NAMESPACE1 + "#Item1", NAME_PROPERTY, "renamed");
+		}
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile)) {
+			assertFalse(store.exists(TEST_NAMESPACE1 + "#Item0"));
+			assertEquals("renamed", store.getValue(TEST_NAMESPACE1 + "#Item1", NAME_PROPERTY).get());
+			assertEquals((count - 1) * 3, store.getItem(target.getObjectUri()).getReferenceCount());
+			store.clear();
+		}
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile)) {
+			assertEquals(0, store.getAllItems(null, null).count());
+			store.create(target);
+		}
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile)) {
+			assertEquals(Collections.singletonList(target.getObjectUri()),
+					store.getAllItems(null, null).map(TypedValue::getObjectUri).collect(Collectors.toList()));
+		}
+	}
+
+	public void testEviction() throws Exception {
+		int count = 50;
+		// a chunk size smaller than the records exercises records spanning chunks
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile, 3, 64, false)) {
+			TypedValue target = populate(store, count);
+			verify(store, target, count);
+			List<String> expected = new ArrayList<>();
+			expected.add(target.getObjectUri());
+			for (int i = 0; i < count; i++) {
+				expected.add(TEST_NAMESPACE1 + "#Item" + i);
+			}
+			assertEquals(expected, store.getAllItems(null, null).map(TypedValue::getObjectUri).collect(Collectors.toList()));
+			for (int i = 0; i < count; i++) {
+				store.removeProperty(TEST_NAMESPACE1 + "#Item" + i, REFERENCE_PROPERTY);
+				store.clearValueCollection(TEST_NAMESPACE1 + "#Item" + i, REFERENCES_PROPERTY);
+			}
+			assertEquals(0, store.getItem(target.getObjectUri()).getReferenceCount());
+			store.delete(target.getObjectUri());
+			assertFalse(store.exists(target.getObjectUri()));
+		}
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile, 3, 64, false)) {
+			assertFalse(store.exists(TEST_NAMESPACE1 + "#target"));
+			assertEquals(count, store.getAllItems(null, null).count());
+			assertFalse(store.getValue(TEST_NAMESPACE1 + "#Item7", REFERENCE_PROPERTY).isPresent());
+			assertEquals(0, store.collectionSize(TEST_NAMESPACE1 + "#Item7", REFERENCES_PROPERTY));
+		}
+	}
+
+	public void testReadOnlyAccessNotWritten() throws Exception {
+		int count = 20;
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile, 3, 64, false)) {
+			TypedValue target = populate(store, count);
+			store.flush();
+			long size = store.getFileSize();
+			for (int i = 0; i < count; i++) {
+				String objectUri = TEST_NAMESPACE1 + "#Item" + i;
+				// updates which do not change the item
+				assertFalse(store.removeValueFromCollection(objectUri, REFERENCES_PROPERTY, "absent"));
+				store.clearValueCollection(objectUri, EMPTY_PROPERTY);
+				store.getValue(objectUri, NAME_PROPERTY);
+			}
+			verify(store, target, count);
+			store.flush();
+			assertEquals(size, store.getFileSize());
+			store.setValue(TEST_NAMESPACE1 + "#Item0", NAME_PROPERTY, "changed");
+			// the size of a missing collection creates an empty collection
+			store.collectionSize(TEST_NAMESPACE1 + "#Item5", new PropertyDescriptor("created", TEST_NAMESPACE1));
+			store.flush();
+			assertTrue(store.getFileSize() > size);
+		}
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile, 3, 64, false)) {
+			assertEquals("changed", store.getValue(TEST_NAMESPACE1 + "#Item0", NAME_PROPERTY).get());
+			assertTrue(store.isCollectionProperty(TEST_NAMESPACE1 + "#Item5", new PropertyDescriptor("created", TEST_NAMESPACE1)));
+		}
+	}
+
+	public void testGetAllItemsFiltered() throws Exception {
+		int count = 20;
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile, 3, 64, false)) {
+			populate(store, count);
+			store.create(new TypedValue(TEST_NAMESPACE2 + "#Item1", TEST_TYPE2, "SPDX-2.3"));
+			store.delete(TEST_NAMESPACE1 + "#Item12");
+		}
+		try (MappedSpdxStore store = new MappedSpdxStore(storeFile, 3, 64, false)) {
+			List<String> expected = new ArrayList<>();
+			expected.add(TEST_NAMESPACE1 + "#Item1");
+			for (int i = 10; i < count; i++) {
+				if (i != 12) {
+					expected.add(TEST_NAMESPACE1 + "#Item" + i);
+				}
+			}
+			assertEquals(expected, store.getAllItems(TEST_NAMESPACE1 + "#Item1", null)
+					.map(TypedValue::getObjectUri).collect(Collectors.toList()));
+			assertEquals(expected, store.getAllItems(TEST_NAMESPACE1 + "#Item1", TEST_TYPE1)
+					.map(TypedValue::getObjectUri).collect(Collectors.toList()));
+			assertEquals(Arrays.asList(TEST_NAMESPACE1 + "#target", TEST_NAMESPACE2 + "#Item1"),
+					store.getAllItems(null, TEST_TYPE2).map(TypedValue::getObjectUri).collect(Collectors.toList()));
+			assertEquals(Collections.singletonList(TEST_NAMESPACE2 + "#Item1"),
+					store.getAllItems("http://test.document.uri/2", null).map(TypedValue::getObjectUri).collect(Collectors.toList()));
+			assertEquals(0, store.getAllItems(TEST_NAMESPACE2, TEST_TYPE1).count());
+			store.create(new TypedValue(TEST_NAMESPACE2 + "#Item2", TEST_TYPE1, "SPDX-2.3"));
+			assertEquals(1, store.getAllItems(TEST_NAMESPACE2, TEST_TYPE1).count());
+			store.clear();
+			assertEquals(0, store.getAllItems(TEST_NAMESPACE1, null).count());
+		}
+	}
+
+	public void testInvalidFile() throws Exception {
+		Files.write(storeFile, "not a store file - not a store file".getBytes());
+		try {
+			new MappedSpdxStore(storeFile).close();
+			fail("Invalid store file accepted");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	public void testTemporaryFileDeleted() throws Exception {
+		MappedSpdxStore store = new MappedSpdxStore(storeFile, 10, 1024, true);
+		store.create(new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3"));
+		store.close();
+		assertFalse(Files.exists(storeFile));
+	}
+}
@@ -0,0 +1,402 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.spdx.core.DuplicateSpdxIdException;
+import org.spdx.core.IndividualUriValue;
+import org.spdx.core.SimpleUriValue;
+import org.spdx.core.SpdxIdNotFoundException;
+import org.spdx.core.TypedValue;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.storage.IModelStore.IModelStoreLock;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * Runs the {@link InMemSpdxStoreTest} tests against the persistent store along with persistence tests
+ *
+ * @author Gary O'Neall
+ */
+public class PersistentSpdxStoreTest extends InMemSpdxStoreTest {
+
+	static final PropertyDescriptor NAME_PROPERTY = new PropertyDescriptor("name", TEST_NAMESPACE1);
+	static final PropertyDescriptor COUNT_PROPERTY = new PropertyDescriptor("count", TEST_NAMESPACE1);
+	static final PropertyDescriptor URI_PROPERTY = new PropertyDescriptor("uri", TEST_NAMESPACE1);
+	static final PropertyDescriptor REFERENCE_PROPERTY = new PropertyDescriptor("reference", TEST_NAMESPACE1);
+	static final PropertyDescriptor REFERENCES_PROPERTY = new PropertyDescriptor("references", TEST_NAMESPACE1);
+	/**
+	 * Accepted by the item but fails when it is written to the log
+	 */
+	static final IndividualUriValue UNWRITABLE_URI_VALUE = () -> null;
+
+	Path storeFile;
+	Path indexFile;
+	List<Path> createdFiles = new ArrayList<>();
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		storeFile = newStoreFile();
+		indexFile = storeFile.resolveSibling(storeFile.getFileName() + PersistentSpdxStore.INDEX_FILE_SUFFIX);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		for (Path file : createdFiles) {
+			Files.deleteIfExists(file);
+			// index and later generations of the log
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(file.toAbsolutePath().getParent(),
+					file.getFileName() + ".*")) {
+				for (Path related : stream) {
+					Files.deleteIfExists(related);
+				}
+			}
+		}
+	}
+
+	private Path newStoreFile() throws IOException {
+		Path file = Files.createTempFile("spdxtest", ".store");
+		Files.delete(file);
+		createdFiles.add(file);
+		return file;
+	}
+
+	@Override
+	protected InMemSpdxStore createStore() {
+		try {
+			return new PersistentSpdxStore(newStoreFile());
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static List<Object> toList(Iterator<Object> iter) {
+		List<Object> retval = new ArrayList<>();
+		iter.forEachRemaining(retval::add);
+		return retval;
+	}
+
+	private static TypedValue populate(InMemSpdxStore store, int count) throws Exception {
+		TypedValue target = new TypedValue(TEST_NAMESPACE1 + "#target", TEST_TYPE2, "SPDX-2.3");
+		store.create(target);
+		for (int i = 0; i < count; i++) {
+			String objectUri = TEST_NAMESPACE1 + "#Item" + i;
+			store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+			store.setValue(objectUri, NAME_PROPERTY, "name " + i);
+			store.setValue(objectUri, COUNT_PROPERTY, i);
+			store.setValue(objectUri, URI_PROPERTY, new SimpleUriValue(SpdxConstantsCompatV2.URI_VALUE_NOASSERTION));
+			store.setValue(objectUri, REFERENCE_PROPERTY, target);
+			store.addValueToCollection(objectUri, REFERENCES_PROPERTY, target);
+			store.addValueToCollection(objectUri, REFERENCES_PROPERTY, "member" + i);
+		}
+		return target;
+	}
+
+	private static void verify(InMemSpdxStore store, TypedValue target, int count) throws Exception {
+		for (int i = 0; i < count; i++) {
+			String objectUri = TEST_NAMESPACE1 + "#Item" + i;
+			assertEquals("name " + i, store.getValue(objectUri, NAME_PROPERTY).get());
+			assertEquals(i, store.getValue(objectUri, COUNT_PROPERTY).get());
+			assertEquals(SpdxConstantsCompatV2.URI_VALUE_NOASSERTION,
+					((SimpleUriValue)store.getValue(objectUri, URI_PROPERTY).get()).getIndividualURI());
+			assertEquals(target, store.getValue(objectUri, REFERENCE_PROPERTY).get());
+			assertEquals(Arrays.asList(target, "member" + i), toList(store.listValues(objectUri, REFERENCES_PROPERTY)));
+		}
+		assertEquals(count * 2, store.getItem(target.getObjectUri()).getReferenceCount());
+	}
+
+	public void testReopen() throws Exception {
+		int count = 20;
+		TypedValue target;
+		String nextId;
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile, 5, 256)) {
+			target = populate(store, count);
+			store.create(new TypedValue(store.getNextId(IdType.SpdxId), TEST_TYPE1, "SPDX-2.3"));
+			nextId = store.getNextId(IdType.SpdxId);
+			verify(store, target, count);
+		}
+		assertTrue(Files.exists(indexFile));
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile, 5, 256)) {
+			verify(store, target, count);
+			assertEquals(count + 2, store.getAllItems(null, null).count());
+			assertEquals(count, store.getAllItems(TEST_NAMESPACE1 + "#Item", TEST_TYPE1).count());
+			assertEquals("Item3", store.getCaseSensitiveId(TEST_NAMESPACE1, "item3").get());
+			assertEquals(nextId, store.getNextId(IdType.SpdxId));
+			store.delete(TEST_NAMESPACE1 + "#Item0");
+			store.setValue(TEST_NAMESPACE1 + "#Item1", NAME_PROPERTY, "renamed");
+		}
+		// without the index the entire log is read
+		Files.delete(indexFile);
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			assertFalse(store.exists(TEST_NAMESPACE1 + "#Item0"));
+			assertEquals("renamed", store.getValue(TEST_NAMESPACE1 + "#Item1", NAME_PROPERTY).get());
+			assertEquals((count - 1) * 2, store.getItem(target.getObjectUri()).getReferenceCount());
+			assertEquals(nextId, store.getNextId(IdType.SpdxId));
+			store.clear();
+		}
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			assertEquals(0, store.getAllItems(null, null).count());
+		}
+	}
+
+	public void testIncompleteTransaction() throws Exception {
+		String objectUri = TEST_NAMESPACE1 + "#Item0";
+		PersistentSpdxStore store = new PersistentSpdxStore(storeFile);
+		store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+		store.setValue(objectUri, NAME_PROPERTY, "committed");
+		IModelStoreLock lock = store.enterCriticalSection(false);
+		try {
+			store.setValue(objectUri, NAME_PROPERTY, "uncommitted");
+			store.setValue(objectUri, COUNT_PROPERTY, 5);
+			store.create(new TypedValue(TEST_NAMESPACE1 + "#Item1", TEST_TYPE1, "SPDX-2.3"));
+		} finally {
+			// closing before leaving the critical section simulates the process stopping
+			store.close();
+		}
+		store = new PersistentSpdxStore(storeFile);
+		try {
+			assertEquals("committed", store.getValue(objectUri, NAME_PROPERTY).get());
+			assertFalse(store.getValue(objectUri, URI_PROPERTY).isPresent());
+			assertFalse(store.exists(TEST_NAMESPACE1 + "#Item1"));
+			// the discarded records are overwritten by new records
+			store.setValue(objectUri, COUNT_PROPERTY, 7);
+		} finally {
+			store.close();
+		}
+		try (PersistentSpdxStore reopened = new PersistentSpdxStore(storeFile)) {
+			assertEquals(7, reopened.getValue(objectUri, COUNT_PROPERTY).get());
+		}
+		assertNotNull(lock);
+	}
+
+	public void testFailedTransaction() throws Exception {
+		String objectUri = TEST_NAMESPACE1 + "#Item0";
+		String deletedUri = TEST_NAMESPACE1 + "#Item1";
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile, 1, 4096)) {
+			store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+			store.create(new TypedValue(deletedUri, TEST_TYPE1, "SPDX-2.3"));
+			store.setValue(objectUri, NAME_PROPERTY, "committed");
+			IModelStoreLock lock = store.enterCriticalSection(false);
+			try {
+				store.setValue(objectUri, NAME_PROPERTY, "rolled back");
+				store.setValue(objectUri, REFERENCE_PROPERTY, new TypedValue(deletedUri, TEST_TYPE1, "SPDX-2.3"));
+				store.create(new TypedValue(TEST_NAMESPACE1 + "#Item2", TEST_TYPE1, "SPDX-2.3"));
+				store.setValue(objectUri, REFERENCE_PROPERTY, "replaced");
+				store.delete(deletedUri);
+				// the item is changed before the value fails to be written to the log
+				store.setValue(objectUri, URI_PROPERTY, UNWRITABLE_URI_VALUE);
+				fail("Value without a URI should fail");
+			} catch (NullPointerException e) {
+				// expected
+			}
+			assertRolledBack(lock);
+			assertEquals("committed", store.getValue(objectUri, NAME_PROPERTY).get());
+			assertFalse(store.getValue(objectUri, URI_PROPERTY).isPresent());
+			assertFalse(store.getValue(objectUri, REFERENCE_PROPERTY).isPresent());
+			assertTrue(store.exists(deletedUri));
+			assertEquals(0, store.getItem(deletedUri).getReferenceCount());
+			assertFalse(store.exists(TEST_NAMESPACE1 + "#Item2"));
+			lock = store.enterCriticalSection(false);
+			try {
+				store.clear();
+				store.create(new TypedValue(TEST_NAMESPACE1 + "#Item3", TEST_TYPE1, "SPDX-2.3"));
+				store.delete(TEST_NAMESPACE1 + "#Item3");
+				store.delete(TEST_NAMESPACE1 + "#Item3");
+				store.create(new TypedValue(TEST_NAMESPACE1 + "#Item4", TEST_TYPE1, "SPDX-2.3"));
+				store.addValueToCollection(TEST_NAMESPACE1 + "#Item4", URI_PROPERTY, UNWRITABLE_URI_VALUE);
+				fail("Value without a URI should fail");
+			} catch (NullPointerException e) {
+				// expected
+			}
+			assertRolledBack(lock);
+			assertEquals(2, store.getAllItems(null, null).count());
+			assertEquals("committed", store.getValue(objectUri, NAME_PROPERTY).get());
+			store.setValue(objectUri, COUNT_PROPERTY, 3);
+		}
+		Files.delete(indexFile);
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			assertEquals(2, store.getAllItems(null, null).count());
+			assertEquals("committed", store.getValue(objectUri, NAME_PROPERTY).get());
+			assertEquals(3, store.getValue(objectUri, COUNT_PROPERTY).get());
+			assertFalse(store.getValue(objectUri, REFERENCE_PROPERTY).isPresent());
+			assertEquals(0, store.getItem(deletedUri).getReferenceCount());
+		}
+	}
+
+	/**
+	 * @param lock lock for a write critical section with a failed store operation
+	 */
+	private void assertRolledBack(IModelStoreLock lock) {
+		try {
+			lock.unlock();
+			fail("Leaving a rolled back transaction should fail");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof NullPointerException);
+		}
+	}
+
+	public void testHandledFailureInTransaction() throws Exception {
+		String objectUri = TEST_NAMESPACE1 + "#Item0";
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+			IModelStoreLock lock = store.enterCriticalSection(false);
+			try {
+				store.setValue(objectUri, NAME_PROPERTY, "kept");
+				try {
+					store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+					fail("Duplicate item should fail");
+				} catch (DuplicateSpdxIdException e) {
+					// handled - failures which do not change the store do not roll back the transaction
+				}
+				store.create(new TypedValue(TEST_NAMESPACE1 + "#Item1", TEST_TYPE1, "SPDX-2.3"));
+				try {
+					store.setValue(TEST_NAMESPACE1 + "#missing", NAME_PROPERTY, "fails");
+					fail("Missing item should fail");
+				} catch (SpdxIdNotFoundException e) {
+					// handled
+				}
+			} finally {
+				lock.unlock();
+			}
+			assertEquals("kept", store.getValue(objectUri, NAME_PROPERTY).get());
+			assertTrue(store.exists(TEST_NAMESPACE1 + "#Item1"));
+		}
+		Files.delete(indexFile);
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			assertEquals("kept", store.getValue(objectUri, NAME_PROPERTY).get());
+			assertTrue(store.exists(TEST_NAMESPACE1 + "#Item1"));
+		}
+	}
+
+	public void testCommittedTransaction() throws Exception {
+		String objectUri = TEST_NAMESPACE1 + "#Item0";
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			IModelStoreLock lock = store.enterCriticalSection(false);
+			try {
+				store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+				store.setValue(objectUri, NAME_PROPERTY, "committed");
+			} finally {
+				lock.unlock();
+			}
+		}
+		Files.delete(indexFile);
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			assertEquals("committed", store.getValue(objectUri, NAME_PROPERTY).get());
+		}
+	}
+
+	public void testCompaction() throws Exception {
+		int count = 30;
+		TypedValue target;
+		long sizeBefore;
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile, 5, 1024)) {
+			target = populate(store, count);
+			for (int i = 0; i < 20; i++) {
+				for (int j = 0; j < count; j++) {
+					store.setValue(TEST_NAMESPACE1 + "#Item" + j, COUNT_PROPERTY, i);
+				}
+			}
+			for (int j = 0; j < count; j++) {
+				store.setValue(TEST_NAMESPACE1 + "#Item" + j, COUNT_PROPERTY, j);
+			}
+			store.create(new TypedValue(TEST_NAMESPACE1 + "#deleted", TEST_TYPE1, "SPDX-2.3"));
+			store.delete(TEST_NAMESPACE1 + "#deleted");
+			sizeBefore = store.getFileSize();
+			store.compactAsync().get();
+			assertTrue(store.getFileSize() < sizeBefore / 2);
+			assertTrue(Files.exists(PersistentSpdxStore.generationFile(storeFile, 1)));
+			verify(store, target, count);
+			store.setValue(TEST_NAMESPACE1 + "#Item0", NAME_PROPERTY, "name 0");
+		}
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile, 5, 1024)) {
+			verify(store, target, count);
+			assertEquals(count + 1, store.getAllItems(null, null).count());
+			assertFalse(store.exists(TEST_NAMESPACE1 + "#deleted"));
+			store.compact();
+		}
+		assertFalse(Files.exists(storeFile));
+		assertFalse(Files.exists(PersistentSpdxStore.generationFile(storeFile, 1)));
+		// without the index the compaction is recognized as complete from the log
+		Files.delete(indexFile);
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile, 5, 1024)) {
+			verify(store, target, count);
+		}
+	}
+
+	public void testIncompleteCompaction() throws Exception {
+		TypedValue target;
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			target = populate(store, 10);
+		}
+		// a log file left by a compaction which did not complete
+		Path incomplete = PersistentSpdxStore.generationFile(storeFile, 1);
+		new MappedLogFile(incomplete, 1024).close();
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			assertFalse(Files.exists(incomplete));
+			verify(store, target, 10);
+			store.compact();
+		}
+		assertTrue(Files.exists(PersistentSpdxStore.generationFile(storeFile, 2)));
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile)) {
+			verify(store, target, 10);
+		}
+	}
+
+	public void testLongChain() throws Exception {
+		String objectUri = TEST_NAMESPACE1 + "#Item0";
+		int count = PersistentSpdxStore.SNAPSHOT_CHAIN_LENGTH * 3;
+		List<Object> expected = new ArrayList<>();
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile, 1, 4096)) {
+			store.create(new TypedValue(objectUri, TEST_TYPE1, "SPDX-2.3"));
+			store.create(new TypedValue(TEST_OBJECT_URI2, TEST_TYPE1, "SPDX-2.3"));
+			for (int i = 0; i < count; i++) {
+				store.addValueToCollection(objectUri, REFERENCES_PROPERTY, "member" + i);
+				expected.add("member" + i);
+				// loading another item evicts the item so that it is rebuilt from its records
+				store.getValue(TEST_OBJECT_URI2, NAME_PROPERTY);
+			}
+			store.removeValueFromCollection(objectUri, REFERENCES_PROPERTY, "member0");
+			expected.remove(0);
+			assertEquals(expected, toList(store.listValues(objectUri, REFERENCES_PROPERTY)));
+		}
+		Files.delete(indexFile);
+		try (PersistentSpdxStore store = new PersistentSpdxStore(storeFile, 1, 4096)) {
+			assertEquals(expected, toList(store.listValues(objectUri, REFERENCES_PROPERTY)));
+		}
+	}
+
+	public void testInvalidFile() throws Exception {
+		Files.write(storeFile, "not a store file - not a store file".getBytes());
+		try {
+			new PersistentSpdxStore(storeFile).close();
+			fail("Invalid store file accepted");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+}
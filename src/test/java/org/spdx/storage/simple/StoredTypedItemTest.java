@@ -18,14 +18,20 @@
 package org.spdx.storage.simple;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.SimpleUriValue;
 import org.spdx.core.TypedValue;
 import org.spdx.library.SpdxModelFactory;
 import org.spdx.library.model.v2.Relationship;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.storage.PropertyDescriptor;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.utility.compare.UnitTestHelper;
 
 import junit.framework.TestCase;
 
@@ -34,6 +40,8 @@ import junit.framework.TestCase;
  */
 public class StoredTypedItemTest extends TestCase {
 
+	static final Logger logger = LoggerFactory.getLogger(StoredTypedItemTest.class);
+
 	static final String TEST_ID1 = "TestID1";
 	static final String TEST_ID2 = "TestID2";
 	static final String TEST_TYPE1 = SpdxConstantsCompatV2.CLASS_ANNOTATION;
@@ -174,6 +182,135 @@ public class StoredTypedItemTest extends TestCase {
 		}
 	}
 	
+	public void testGetValueListOrderAndDuplicates() throws InvalidSPDXAnalysisException {
+		StoredTypedItem sti = new StoredTypedItem(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3");
+		TypedValue tv1 = new TypedValue(TEST_OBJECT_URI1, TEST_TYPE2, "SPDX-2.3");
+		TypedValue tv2 = new TypedValue(TEST_OBJECT_URI2, TEST_TYPE2, "SPDX-2.3");
+		List<Object> expected = Arrays.asList("b", tv2, "a", tv1, "b", tv2);
+		for (Object value : expected) {
+			sti.addValueToList(TEST_LIST_PROPERTIES[0], value);
+		}
+		assertEquals(expected, InMemSpdxStoreTest.toImmutableList(sti.getValueList(TEST_LIST_PROPERTIES[0])));
+		assertEquals(6, sti.collectionSize(TEST_LIST_PROPERTIES[0]));
+		assertTrue(sti.removeValueFromList(TEST_LIST_PROPERTIES[0], "b"));
+		assertTrue(sti.removeTypedValueFromList(TEST_LIST_PROPERTIES[0], tv2));
+		assertEquals(Arrays.asList("a", tv1, "b", tv2), InMemSpdxStoreTest.toImmutableList(sti.getValueList(TEST_LIST_PROPERTIES[0])));
+		assertEquals(4, sti.collectionSize(TEST_LIST_PROPERTIES[0]));
+		assertTrue(sti.collectionContains(TEST_LIST_PROPERTIES[0], "b"));
+		assertTrue(sti.collectionContains(TEST_LIST_PROPERTIES[0], tv2));
+		assertTrue(sti.removeValueFromList(TEST_LIST_PROPERTIES[0], "b"));
+		assertTrue(sti.removeTypedValueFromList(TEST_LIST_PROPERTIES[0], tv2));
+		assertFalse(sti.collectionContains(TEST_LIST_PROPERTIES[0], "b"));
+		assertFalse(sti.collectionContains(TEST_LIST_PROPERTIES[0], tv2));
+		assertFalse(sti.removeValueFromList(TEST_LIST_PROPERTIES[0], "b"));
+		assertFalse(sti.collectionContains(TEST_LIST_PROPERTIES[0], new TypedValue(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3")));
+		assertEquals(2, sti.collectionSize(TEST_LIST_PROPERTIES[0]));
+	}
+
+	public void testGetValueListConcurrentUpdate() throws InvalidSPDXAnalysisException {
+		StoredTypedItem sti = new StoredTypedItem(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3");
+		for (int i = 0; i < 100; i++) {
+			sti.addValueToList(TEST_LIST_PROPERTIES[0], "value" + i);
+		}
+		Iterator<Object> iter = sti.getValueList(TEST_LIST_PROPERTIES[0]);
+		int count = 0;
+		while (iter.hasNext()) {
+			Object value = iter.next();
+			// updates while iterating do not fail the iteration
+			sti.removeValueFromList(TEST_LIST_PROPERTIES[0], value);
+			sti.addValueToList(TEST_LIST_PROPERTIES[1], value);
+			count++;
+		}
+		assertEquals(100, count);
+		assertEquals(0, sti.collectionSize(TEST_LIST_PROPERTIES[0]));
+		assertEquals(100, sti.collectionSize(TEST_LIST_PROPERTIES[1]));
+		sti.clearPropertyValueList(TEST_LIST_PROPERTIES[1]);
+		assertEquals(0, sti.collectionSize(TEST_LIST_PROPERTIES[1]));
+		assertFalse(sti.getValueList(TEST_LIST_PROPERTIES[1]).hasNext());
+	}
+
+	public void testIncomingReferences() throws InvalidSPDXAnalysisException {
+		StoredTypedItem sti = new StoredTypedItem(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3");
+		assertTrue(sti.getIncomingReferences().isEmpty());
+		assertEquals(1, sti.addIncomingReference(TEST_OBJECT_URI2, TEST_LIST_PROPERTIES[0]));
+		assertEquals(2, sti.addIncomingReference(TEST_OBJECT_URI2, TEST_LIST_PROPERTIES[0]));
+		assertEquals(3, sti.addIncomingReference(TEST_OBJECT_URI2, TEST_VALUE_PROPERTIES[0]));
+		assertEquals(2, sti.getIncomingReferences().size());
+		assertEquals(2, sti.removeIncomingReference(TEST_OBJECT_URI2, TEST_LIST_PROPERTIES[0]));
+		assertEquals(2, sti.getIncomingReferences().size());
+		assertEquals(1, sti.removeIncomingReference(TEST_OBJECT_URI2, TEST_LIST_PROPERTIES[0]));
+		assertEquals(Arrays.asList(new IncomingReference(TEST_OBJECT_URI2, TEST_VALUE_PROPERTIES[0])), sti.getIncomingReferences());
+		assertEquals(0, sti.removeIncomingReference(TEST_OBJECT_URI2, TEST_VALUE_PROPERTIES[0]));
+		assertTrue(sti.getIncomingReferences().isEmpty());
+		try {
+			sti.removeIncomingReference(TEST_OBJECT_URI2, TEST_VALUE_PROPERTIES[0]);
+			fail("Reference count underflow");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+	}
+
+	public void testUsesId() throws InvalidSPDXAnalysisException {
+		StoredTypedItem sti = new StoredTypedItem(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3");
+		sti.setValue(TEST_VALUE_PROPERTIES[0], new TypedValue(TEST_OBJECT_URI2, TEST_TYPE2, "SPDX-2.3"));
+		sti.addValueToList(TEST_LIST_PROPERTIES[0], new TypedValue("listId", TEST_TYPE2, "SPDX-2.3"));
+		sti.addValueToList(TEST_LIST_PROPERTIES[1], "stringId");
+		assertTrue(sti.usesId(TEST_OBJECT_URI2));
+		assertTrue(sti.usesId("listId"));
+		assertTrue(sti.usesId("LISTID"));
+		assertFalse(sti.usesId("stringId"));
+		assertFalse(sti.usesId(null));
+	}
+
+	public void testSharedPropertySchema() throws InvalidSPDXAnalysisException {
+		StoredTypedItem sti1 = new StoredTypedItem(TEST_OBJECT_URI1, new String(TEST_TYPE1), "SPDX-2.3");
+		StoredTypedItem sti2 = new StoredTypedItem(TEST_OBJECT_URI2, new String(TEST_TYPE1), new String("SPDX-2.3"));
+		assertSame(sti1.getType(), sti2.getType());
+		assertSame(sti1.getSpecVersion(), sti2.getSpecVersion());
+		sti1.setValue(TEST_VALUE_PROPERTIES[2], "value1");
+		sti2.setValue(TEST_VALUE_PROPERTIES[1], "value2");
+		sti2.setValue(TEST_VALUE_PROPERTIES[2], "value3");
+		assertEquals(Arrays.asList(TEST_VALUE_PROPERTIES[2]), sti1.getPropertyValueDescriptors());
+		assertEquals(2, sti2.getPropertyValueDescriptors().size());
+		assertEquals("value1", sti1.getValue(TEST_VALUE_PROPERTIES[2]));
+		assertNull(sti1.getValue(TEST_VALUE_PROPERTIES[1]));
+		assertEquals("value2", sti2.getValue(TEST_VALUE_PROPERTIES[1]));
+		assertEquals("value3", sti2.getValue(TEST_VALUE_PROPERTIES[2]));
+		sti2.removeProperty(TEST_VALUE_PROPERTIES[1]);
+		assertEquals(Arrays.asList(TEST_VALUE_PROPERTIES[2]), sti2.getPropertyValueDescriptors());
+		assertNull(sti2.getValue(TEST_VALUE_PROPERTIES[1]));
+		sti2.setValue(TEST_VALUE_PROPERTIES[1], "value4");
+		assertEquals("value4", sti2.getValue(TEST_VALUE_PROPERTIES[1]));
+		assertNull(sti1.getValue(TEST_VALUE_PROPERTIES[1]));
+	}
+
+	public void testStringInternPool() {
+		StringInternPool pool = new StringInternPool(5, 2);
+		String value1 = "abc";
+		assertSame(value1, pool.intern(value1));
+		assertSame(value1, pool.intern(new String(value1)));
+		String longValue = "abcdefg";
+		assertSame(longValue, pool.intern(longValue));
+		String longCopy = new String(longValue);
+		assertSame(longCopy, pool.intern(longCopy));
+		assertEquals(1, pool.size());
+		String value2 = "def";
+		assertSame(value2, pool.intern(value2));
+		String value3 = "ghi";
+		String value3Copy = new String(value3);
+		pool.intern(value3);
+		assertSame(value3Copy, pool.intern(value3Copy));
+		assertEquals(2, pool.size());
+		pool.clear();
+		assertEquals(0, pool.size());
+		try {
+			new StringInternPool(-1, 1);
+			fail("Negative string length");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
 	public void testRemove() throws InvalidSPDXAnalysisException {
 		StoredTypedItem sti = new StoredTypedItem(TEST_OBJECT_URI1, TEST_TYPE1, "SPDX-2.3");
 		assertEquals(0, sti.getPropertyValueDescriptors().size());
@@ -292,4 +429,78 @@ public class StoredTypedItemTest extends TestCase {
 		assertFalse(sti.isCollectionProperty(sProperty));
 	}
 
+	/**
+	 * Load files with typical properties into a store - strings are copied to simulate values read by a parser
+	 * @param store store to load
+	 * @param fileCount number of files to load - each file also has a checksum
+	 */
+	static void loadFiles(InMemSpdxStore store, int fileCount) throws InvalidSPDXAnalysisException {
+		String namespace = "https://test.doc.uri/benchmark#";
+		String licenseUri = namespace + "Apache-2.0";
+		store.create(new TypedValue(licenseUri, SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE, "SPDX-2.3"));
+		for (int i = 0; i < fileCount; i++) {
+			String fileUri = namespace + "SPDXRef-file" + i;
+			store.create(new TypedValue(fileUri, new String(SpdxConstantsCompatV2.CLASS_SPDX_FILE), new String("SPDX-2.3")));
+			store.setValue(fileUri, SpdxConstantsCompatV2.PROP_FILE_NAME, "./src/main/java/org/example/File" + i + ".java");
+			store.setValue(fileUri, SpdxConstantsCompatV2.PROP_COPYRIGHT_TEXT, new String("NOASSERTION"));
+			store.setValue(fileUri, SpdxConstantsCompatV2.PROP_LICENSE_CONCLUDED,
+					new TypedValue(new String(licenseUri), new String(SpdxConstantsCompatV2.CLASS_SPDX_LISTED_LICENSE), new String("SPDX-2.3")));
+			store.addValueToCollection(fileUri, SpdxConstantsCompatV2.PROP_FILE_TYPE,
+					new SimpleUriValue(new String(SpdxConstantsCompatV2.SPDX_NAMESPACE + "fileType_source")));
+			store.addValueToCollection(fileUri, SpdxConstantsCompatV2.PROP_FILE_CONTRIBUTOR, new String("Source Auditor Inc."));
+			String checksumUri = store.getNextId(IdType.Anonymous);
+			store.create(new TypedValue(checksumUri, new String(SpdxConstantsCompatV2.CLASS_SPDX_CHECKSUM), new String("SPDX-2.3")));
+			store.setValue(checksumUri, SpdxConstantsCompatV2.PROP_CHECKSUM_ALGORITHM,
+					new SimpleUriValue(new String(SpdxConstantsCompatV2.SPDX_NAMESPACE + "checksumAlgorithm_sha1")));
+			store.setValue(checksumUri, SpdxConstantsCompatV2.PROP_CHECKSUM_VALUE, String.format("%040x", i));
+			store.addValueToCollection(fileUri, SpdxConstantsCompatV2.PROP_FILE_CHECKSUM,
+					new TypedValue(new String(checksumUri), new String(SpdxConstantsCompatV2.CLASS_SPDX_CHECKSUM), new String("SPDX-2.3")));
+		}
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Heap used per file loaded into the store
+	 * @param store empty store
+	 * @param fileCount number of files to load
+	 * @return bytes per file including its checksum and the type and namespace indexes
+	 */
+	static long bytesPerFile(InMemSpdxStore store, int fileCount) throws Exception {
+		long before = usedHeap();
+		loadFiles(store, fileCount);
+		long loaded = usedHeap();
+		// the indexes are built by the first getAllItems
+		assertEquals(fileCount, store.getAllItems(null, SpdxConstantsCompatV2.CLASS_SPDX_FILE).count());
+		long after = usedHeap();
+		logger.info("{} bytes per file for the type and namespace indexes", (after - loaded) / fileCount);
+		assertEquals(fileCount * 2 + 1, store.getAllItems(null, null).count());
+		return (after - before) / fileCount;
+	}
+
+	/**
+	 * Heap used per stored file with and without the string intern pool
+	 * <p>
+	 * Only runs if slow tests are enabled - results are logged
+	 */
+	public void testMemoryPerElementBenchmark() throws Exception {
+		if (!UnitTestHelper.runSlowTests()) {
+			return;
+		}
+		int fileCount = 200000;
+		try (InMemSpdxStore store = new InMemSpdxStore()) {
+			logger.info("{} bytes per file", bytesPerFile(store, fileCount));
+		}
+		try (InMemSpdxStore store = new InMemSpdxStore()) {
+			store.setStringInternPool(new StringInternPool());
+			logger.info("{} bytes per file with a string intern pool", bytesPerFile(store, fileCount));
+		}
+	}
 }
@@ -0,0 +1,138 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.spdx.utility.compare.MatchAbort.MatchAbortedException;
+
+import junit.framework.TestCase;
+
+/**
+ * Test compiled license templates
+ *
+ * @author Gary O'Neall
+ */
+public class CompiledLicenseTemplateTest extends TestCase {
+
+	static final String[] TEMPLATE_TEXT_PAIRS = new String[] {"AAL", "APL-1.0", "Apache-1.0", "BSD-2-Clause",
+			"BSD-Protection", "EPL-2.0", "EUPL-1.2", "FTL", "ISC", "MPL-1.0", "SGI-B-1.0", "Xdebug-1.03"};
+
+	static final String CONSECUTIVE_VAR_TEMPLATE = "Copyright <<var;name=\"year\";original=\"2026\";match=\"[0-9]+\">> " +
+			"<<var;name=\"holder\";original=\"Someone\";match=\".+\">>\nAll rights reserved.";
+
+	private static String templateFile(String licenseId) {
+		return "TestFiles" + File.separator + licenseId + ".template.txt";
+	}
+
+	private static String textFile(String licenseId) {
+		return "TestFiles" + File.separator + licenseId + ".txt";
+	}
+
+	public void testMatch() throws Exception {
+		for (String licenseId:TEMPLATE_TEXT_PAIRS) {
+			CompiledLicenseTemplate compiled = new CompiledLicenseTemplate(UnitTestHelper.fileToText(templateFile(licenseId)));
+			String text = UnitTestHelper.fileToText(textFile(licenseId));
+			assertFalse(licenseId, compiled.match(text).isDifferenceFound());
+			// matching must not change the compiled template
+			assertFalse(licenseId, compiled.match(text).isDifferenceFound());
+			assertTrue(licenseId, compiled.match("Some text which is not a license").isDifferenceFound());
+			assertFalse(licenseId, compiled.match(text).isDifferenceFound());
+		}
+	}
+
+	public void testSameAsTemplateMatch() throws Exception {
+		String mplTemplate = UnitTestHelper.fileToText(templateFile("MPL-1.0"));
+		String bsdTemplate = UnitTestHelper.fileToText(templateFile("BSD-3-Clause"));
+		String mplText = UnitTestHelper.fileToText(textFile("MPL-1.0"));
+		CompiledLicenseTemplate compiled = new CompiledLicenseTemplate(bsdTemplate);
+		assertEquals(LicenseCompareHelper.isTextMatchingTemplate(bsdTemplate, mplText).getDifferenceMessage(),
+				compiled.match(mplText).getDifferenceMessage());
+		assertTrue(compiled.match(mplText).isDifferenceFound());
+		assertEquals(mplTemplate, new CompiledLicenseTemplate(mplTemplate).getTemplate());
+	}
+
+	public void testConsecutiveVariables() throws Exception {
+		CompiledLicenseTemplate compiled = new CompiledLicenseTemplate(CONSECUTIVE_VAR_TEMPLATE);
+		for (int i = 0; i < 3; i++) {
+			assertFalse(compiled.match("Copyright 2019 Source Auditor Inc.\nAll rights reserved.").isDifferenceFound());
+			assertTrue(compiled.match("Copyright 2019 Source Auditor Inc.\nSome rights reserved.").isDifferenceFound());
+		}
+	}
+
+	public void testMatchAbort() throws Exception {
+		CompiledLicenseTemplate compiled = new CompiledLicenseTemplate(UnitTestHelper.fileToText(templateFile("EPL-2.0")));
+		String text = UnitTestHelper.fileToText(textFile("EPL-2.0"));
+		assertFalse(compiled.match(text, MatchAbort.NEVER).isDifferenceFound());
+		try {
+			compiled.match(text, new MatchAbort(0, new AtomicBoolean(true)));
+			fail("Cancelled match should be aborted");
+		} catch (MatchAbortedException e) {
+			assertFalse(e.isTimedOut());
+		}
+		final AtomicLong nanos = new AtomicLong();
+		try {
+			compiled.match(text, new MatchAbort(1, new AtomicBoolean(false), () -> nanos.getAndAdd(2)));
+			fail("Timed out match should be aborted");
+		} catch (MatchAbortedException e) {
+			assertTrue(e.isTimedOut());
+		}
+		// an aborted match must not change the compiled template
+		assertFalse(compiled.match(text).isDifferenceFound());
+		assertTrue(compiled.match(CONSECUTIVE_VAR_TEMPLATE, MatchAbort.NEVER).isDifferenceFound());
+	}
+
+	public void testInvalidTemplate() {
+		try {
+			new CompiledLicenseTemplate("Text <<beginOptional>> no end optional");
+			fail("Expected an exception for a missing end optional");
+		} catch (SpdxCompareException e) {
+			// expected
+		}
+	}
+
+	public void testConcurrentMatch() throws Exception {
+		final CompiledLicenseTemplate compiled = new CompiledLicenseTemplate(UnitTestHelper.fileToText(templateFile("EPL-2.0")));
+		final String text = UnitTestHelper.fileToText(textFile("EPL-2.0"));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() throws Exception {
+						return compiled.match(text).isDifferenceFound();
+					}
+				}));
+			}
+			for (Future<Boolean> result:results) {
+				assertFalse(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
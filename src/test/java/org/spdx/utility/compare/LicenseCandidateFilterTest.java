@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.spdx.utility.compare.LicenseCandidateFilter.CandidateResult;
+
+import junit.framework.TestCase;
+
+/**
+ * Test the license candidate filter
+ *
+ * @author Gary O'Neall
+ */
+public class LicenseCandidateFilterTest extends TestCase {
+
+	static final String[] LICENSE_IDS = new String[] {"AAL", "APL-1.0", "Apache-1.0", "BSD-2-Clause",
+			"BSD-Protection", "EPL-2.0", "EUPL-1.2", "FTL", "ISC", "MPL-1.0", "SGI-B-1.0", "Xdebug-1.03"};
+
+	LicenseCandidateFilter filter;
+
+	public void setUp() throws Exception {
+		Map<String, String> templates = new LinkedHashMap<>();
+		for (String licenseId:LICENSE_IDS) {
+			templates.put(licenseId, UnitTestHelper.fileToText(
+					"TestFiles" + File.separator + licenseId + ".template.txt"));
+		}
+		templates.put("blank", "");
+		filter = new LicenseCandidateFilter(templates);
+	}
+
+	static String[] tokenize(String text) {
+		return CompiledLicenseTemplate.tokenize(text).getTokens();
+	}
+
+	public void testNoFalseNegatives() throws Exception {
+		for (String licenseId:LICENSE_IDS) {
+			String text = UnitTestHelper.fileToText("TestFiles" + File.separator + licenseId + ".txt");
+			CandidateResult result = filter.filterCandidates(tokenize(text));
+			assertTrue(licenseId, result.getCandidateIds().contains(licenseId));
+			result = filter.filterCandidates(LicenseCandidateFilter.tokenizeForWithinText(
+					"Some prefix text " + text + " some suffix text"));
+			assertTrue(licenseId, result.getCandidateIds().contains(licenseId));
+		}
+	}
+
+	public void testPruned() throws Exception {
+		String text = UnitTestHelper.fileToText("TestFiles" + File.separator + "ISC.txt");
+		CandidateResult result = filter.filterCandidates(tokenize(text));
+		assertEquals(LICENSE_IDS.length + 1, result.getNumEvaluated());
+		assertTrue(result.getCandidateIds().contains("ISC"));
+		assertTrue(result.getCandidateIds().contains("blank"));
+		assertFalse(result.getCandidateIds().contains("MPL-1.0"));
+		assertFalse(result.getCandidateIds().contains("EPL-2.0"));
+		assertEquals(result.getNumEvaluated() - result.getCandidateIds().size(), result.getNumPruned());
+		assertTrue(result.getNumPruned() > 0);
+		assertEquals(LICENSE_IDS.length + 1, filter.getTotalEvaluated());
+		assertEquals(result.getNumPruned(), filter.getTotalPruned());
+	}
+
+	public void testBlankTemplateNeverPruned() {
+		CandidateResult result = filter.filterCandidates(tokenize("Not a license"));
+		assertEquals(Arrays.asList("blank"), result.getCandidateIds());
+	}
+
+	public void testUnknownAndDuplicateIds() throws Exception {
+		String text = UnitTestHelper.fileToText("TestFiles" + File.separator + "ISC.txt");
+		CandidateResult result = filter.filterCandidates(tokenize(text),
+				Arrays.asList("ISC", "unknown", "MPL-1.0", "ISC"));
+		assertEquals(Arrays.asList("ISC", "unknown", "ISC"), result.getCandidateIds());
+		assertEquals(4, result.getNumEvaluated());
+		assertEquals(1, result.getNumPruned());
+	}
+
+	public void testRankedCandidateIds() throws Exception {
+		String text = UnitTestHelper.fileToText("TestFiles" + File.separator + "ISC.txt");
+		CandidateResult result = filter.filterCandidates(tokenize(text), Arrays.asList("unknown", "blank", "ISC"));
+		assertEquals(Arrays.asList("unknown", "blank", "ISC"), result.getCandidateIds());
+		assertEquals(Arrays.asList("ISC", "unknown", "blank"), result.getRankedCandidateIds());
+	}
+
+	public void testSize() {
+		assertEquals(LICENSE_IDS.length + 1, filter.size());
+	}
+}
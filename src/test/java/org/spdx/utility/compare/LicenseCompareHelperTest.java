@@ -734,6 +734,16 @@ public class LicenseCompareHelperTest extends TestCase {
 
 		// Tests for the 2-arg version of matchingStandardLicenseIdsWithinText (which is faster than the 1-arg version)
 		assertListsEqual(expectedResultApache20, LicenseCompareHelper.matchingStandardLicenseIdsWithinText(multiLicenseText, Arrays.asList("Apache-2.0")));
+		// a few license IDs do not build the candidate filter index but use it once it is built
+		LicenseTemplateIndex index = LicenseTemplateIndex.getListedLicenseIndexIfBuilt();
+		if (index == null) {
+			assertListsEqual(expectedResultEmpty, LicenseCompareHelper.matchingStandardLicenseIdsWithinText(multiLicenseText, Arrays.asList("MIT")));
+			assertNull(LicenseTemplateIndex.getListedLicenseIndexIfBuilt());
+		} else {
+			long evaluated = index.getCandidateFilter().getTotalEvaluated();
+			assertListsEqual(expectedResultEmpty, LicenseCompareHelper.matchingStandardLicenseIdsWithinText(multiLicenseText, Arrays.asList("MIT")));
+			assertEquals(evaluated + 1, index.getCandidateFilter().getTotalEvaluated());
+		}
 		if (UnitTestHelper.runSlowTests()) {
 			assertListsEqual(expectedResultGpl30, LicenseCompareHelper.matchingStandardLicenseIdsWithinText(multiLicenseText, Arrays.asList("GPL-3.0")));
 		}
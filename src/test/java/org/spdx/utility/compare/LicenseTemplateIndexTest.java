@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.spdx.library.ListedLicenses;
+
+import junit.framework.TestCase;
+
+/**
+ * Test the license template index
+ *
+ * @author Gary O'Neall
+ */
+public class LicenseTemplateIndexTest extends TestCase {
+
+	static final String GPL_2_TEXT = "TestFiles" + File.separator + "GPL-2.0.txt";
+
+	LicenseTemplateIndex index;
+
+	public void setUp() throws Exception {
+		Map<String, CompiledLicenseTemplate> templates = new LinkedHashMap<>();
+		for (String licenseId:new String[] {"MPL-1.0", "ISC", "BSD-3-Clause", "ISC-copy"}) {
+			String fileId = licenseId.equals("ISC-copy") ? "ISC" : licenseId;
+			templates.put(licenseId, new CompiledLicenseTemplate(UnitTestHelper.fileToText(
+					"TestFiles" + File.separator + fileId + ".template.txt")));
+		}
+		index = new LicenseTemplateIndex("test", templates);
+	}
+
+	public void testMatchingLicenseIds() throws Exception {
+		String iscText = UnitTestHelper.fileToText("TestFiles" + File.separator + "ISC.txt");
+		assertEquals(Arrays.asList("ISC", "ISC-copy"), index.matchingLicenseIds(iscText));
+		assertEquals(Arrays.asList("ISC-copy", "ISC"), index.matchingLicenseIds(iscText, Arrays.asList("ISC-copy", "unknown", "ISC")));
+		assertTrue(index.matchingLicenseIds("Not a license").isEmpty());
+	}
+
+	public void testGetters() {
+		assertEquals("test", index.getLicenseListVersion());
+		assertEquals(4, index.size());
+		assertEquals(Arrays.asList("MPL-1.0", "ISC", "BSD-3-Clause", "ISC-copy"), Arrays.asList(index.getLicenseIds().toArray()));
+		assertNotNull(index.getCompiledTemplate("ISC"));
+		assertNull(index.getCompiledTemplate("unknown"));
+	}
+
+	public void testListedLicenseIndex() throws Exception {
+		if (UnitTestHelper.runSlowTests()) {
+			LicenseTemplateIndex listedIndex = LicenseTemplateIndex.getListedLicenseIndex();
+			assertEquals(ListedLicenses.getListedLicenses().getLicenseListVersion(), listedIndex.getLicenseListVersion());
+			assertEquals(ListedLicenses.getListedLicenses().getSpdxListedLicenseIds().size(), listedIndex.size());
+			assertSame(listedIndex, LicenseTemplateIndex.getListedLicenseIndex());
+			List<String> result = listedIndex.matchingLicenseIds(UnitTestHelper.fileToText(GPL_2_TEXT));
+			assertEquals(4, result.size());
+			for (String licenseId:result) {
+				assertTrue(licenseId.startsWith("GPL-2"));
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.spdx.library.ListedLicenses;
+import org.spdx.utility.compare.LicenseWithinTextSearcher.SearchResult;
+
+import junit.framework.TestCase;
+
+/**
+ * Test the parallel license within text searcher
+ *
+ * @author Gary O'Neall
+ */
+public class LicenseWithinTextSearcherTest extends TestCase {
+
+	String multiLicenseText;
+	String apache20;
+	ExecutorService executor;
+
+	public void setUp() throws Exception {
+		String mit = ListedLicenses.getListedLicenses().getListedLicenseById("MIT").getLicenseText();
+		apache20 = ListedLicenses.getListedLicenses().getListedLicenseById("Apache-2.0").getLicenseText();
+		String isc = ListedLicenses.getListedLicenses().getListedLicenseById("ISC").getLicenseText();
+		multiLicenseText = mit + "\n\n----------\n\n" + apache20 + "\n\n----------\n\n" + isc;
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+	}
+
+	public void testSearch() throws Exception {
+		List<String> licenseIds = Arrays.asList("ISC", "GPL-3.0-only", "Apache-2.0", "BSD-2-Clause", "MIT");
+		SearchResult result = new LicenseWithinTextSearcher(executor, 0, 0).search(multiLicenseText, licenseIds);
+		assertEquals(Arrays.asList("ISC", "Apache-2.0", "MIT"), result.getMatchingLicenseIds());
+		assertTrue(result.getTimedOutLicenseIds().isEmpty());
+		assertFalse(result.isMatchLimitReached());
+		assertEquals(LicenseCompareHelper.matchingStandardLicenseIdsWithinText(multiLicenseText, licenseIds),
+				result.getMatchingLicenseIds());
+		// Order follows the license IDs
+		result = new LicenseWithinTextSearcher().search(multiLicenseText, Arrays.asList("MIT", "Apache-2.0", "ISC"));
+		assertEquals(Arrays.asList("MIT", "Apache-2.0", "ISC"), result.getMatchingLicenseIds());
+	}
+
+	public void testEmpty() throws Exception {
+		LicenseWithinTextSearcher searcher = new LicenseWithinTextSearcher(executor, 0, 0);
+		assertTrue(searcher.search(null).getMatchingLicenseIds().isEmpty());
+		assertTrue(searcher.search("").getMatchingLicenseIds().isEmpty());
+		assertTrue(searcher.search(multiLicenseText, Arrays.asList()).getMatchingLicenseIds().isEmpty());
+		assertTrue(searcher.search("Not a license", Arrays.asList("MIT", "Apache-2.0")).getMatchingLicenseIds().isEmpty());
+	}
+
+	public void testMatchLimit() throws Exception {
+		LicenseWithinTextSearcher searcher = new LicenseWithinTextSearcher(executor, 2, 0);
+		assertEquals(2, searcher.getMatchLimit());
+		SearchResult result = searcher.search(multiLicenseText, Arrays.asList("ISC", "GPL-3.0-only", "Apache-2.0", "MIT"));
+		assertEquals(Arrays.asList("ISC", "Apache-2.0"), result.getMatchingLicenseIds());
+		assertTrue(result.isMatchLimitReached());
+		result = searcher.search(multiLicenseText, Arrays.asList("GPL-3.0-only", "MIT", "Apache-2.0"));
+		assertEquals(Arrays.asList("MIT", "Apache-2.0"), result.getMatchingLicenseIds());
+		assertFalse(result.isMatchLimitReached());
+	}
+
+	public void testLicenseTimeout() throws Exception {
+		// each read of the clock advances it by one second so that the first check exceeds the timeout
+		final AtomicLong nanos = new AtomicLong();
+		LicenseWithinTextSearcher searcher = new LicenseWithinTextSearcher(executor, 0, 1,
+				() -> nanos.getAndAdd(TimeUnit.SECONDS.toNanos(1)));
+		assertEquals(1, searcher.getLicenseTimeoutMillis());
+		SearchResult result = searcher.search(multiLicenseText, Arrays.asList("MIT", "Apache-2.0"));
+		assertTrue(result.getMatchingLicenseIds().isEmpty());
+		assertEquals(Arrays.asList("MIT", "Apache-2.0"), result.getTimedOutLicenseIds());
+		// a clock which never advances never times out
+		searcher = new LicenseWithinTextSearcher(executor, 0, 1, () -> 0L);
+		result = searcher.search(multiLicenseText, Arrays.asList("MIT", "Apache-2.0"));
+		assertEquals(Arrays.asList("MIT", "Apache-2.0"), result.getMatchingLicenseIds());
+		assertTrue(result.getTimedOutLicenseIds().isEmpty());
+	}
+
+	public void testInvalidArguments() {
+		try {
+			new LicenseWithinTextSearcher(executor, -1, 0);
+			fail("Negative match limit should fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			new LicenseWithinTextSearcher(executor, 0, -1);
+			fail("Negative timeout should fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+
+/**
+ * Test the template regex matcher cache
+ *
+ * @author Gary O'Neall
+ */
+public class TemplateRegexMatcherCacheTest extends TestCase {
+
+	static final String ISC_TEMPLATE = "TestFiles" + File.separator + "ISC.template.txt";
+	static final String ISC_TEXT = "TestFiles" + File.separator + "ISC.txt";
+	static final String MPL_TEMPLATE = "TestFiles" + File.separator + "MPL-1.0.template.txt";
+	static final String FTL_TEMPLATE = "TestFiles" + File.separator + "FTL.template.txt";
+
+	public void testGetMatcher() throws Exception {
+		TemplateRegexMatcherCache cache = new TemplateRegexMatcherCache(10);
+		String template = UnitTestHelper.fileToText(ISC_TEMPLATE);
+		TemplateRegexMatcher matcher = cache.getMatcher("1.0", template);
+		assertEquals(template, matcher.getTemplate());
+		assertSame(matcher, cache.getMatcher("1.0", new String(template)));
+		assertNotSame(matcher, cache.getMatcher("2.0", template));
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	public void testEviction() throws Exception {
+		TemplateRegexMatcherCache cache = new TemplateRegexMatcherCache(2);
+		String isc = UnitTestHelper.fileToText(ISC_TEMPLATE);
+		String mpl = UnitTestHelper.fileToText(MPL_TEMPLATE);
+		String ftl = UnitTestHelper.fileToText(FTL_TEMPLATE);
+		TemplateRegexMatcher iscMatcher = cache.getMatcher("1.0", isc);
+		TemplateRegexMatcher mplMatcher = cache.getMatcher("1.0", mpl);
+		assertSame(iscMatcher, cache.getMatcher("1.0", isc));	// ISC is now the most recently used
+		cache.getMatcher("1.0", ftl);
+		assertEquals(2, cache.size());
+		assertSame(iscMatcher, cache.getMatcher("1.0", isc));
+		assertNotSame(mplMatcher, cache.getMatcher("1.0", mpl));
+	}
+
+	public void testDisabled() throws Exception {
+		TemplateRegexMatcherCache cache = new TemplateRegexMatcherCache(0);
+		String template = UnitTestHelper.fileToText(ISC_TEMPLATE);
+		assertNotSame(cache.getMatcher("1.0", template), cache.getMatcher("1.0", template));
+		assertEquals(0, cache.size());
+		try {
+			new TemplateRegexMatcherCache(-1);
+			fail("Negative size should fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	public void testReuseMatcher() throws Exception {
+		TemplateRegexMatcherCache cache = new TemplateRegexMatcherCache(10);
+		TemplateRegexMatcher matcher = cache.getMatcher("1.0", UnitTestHelper.fileToText(ISC_TEMPLATE));
+		String iscText = UnitTestHelper.fileToText(ISC_TEXT);
+		assertTrue(matcher.isTemplateMatchWithinText("Some preceding text " + iscText + " some following text"));
+		assertFalse(matcher.isTemplateMatchWithinText("Not the license"));
+		assertTrue(matcher.isTemplateMatchWithinText(iscText));
+	}
+
+	public void testConcurrentMatch() throws Exception {
+		TemplateRegexMatcherCache cache = new TemplateRegexMatcherCache(10);
+		String template = UnitTestHelper.fileToText(ISC_TEMPLATE);
+		String iscText = UnitTestHelper.fileToText(ISC_TEXT);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				final String text = i % 2 == 0 ? "Prefix " + iscText : "Not the license";
+				results.add(executor.submit(() -> cache.getMatcher("1.0", template).isTemplateMatchWithinText(text)));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals(i % 2 == 0, results.get(i).get().booleanValue());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(1, cache.size());
+	}
+}
@@ -25,7 +25,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.spdx.core.DefaultModelStore;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.LicenseInfoFactory;
@@ -51,11 +54,14 @@ import org.spdx.library.model.v3_0_1.simplelicensing.AnyLicenseInfo;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
 import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.utility.compare.UnitTestHelper;
 
 import junit.framework.TestCase;
 
 public class LicenseExpressionParserTest extends TestCase {
 
+	static final Logger logger = LoggerFactory.getLogger(LicenseExpressionParserTest.class);
+
 	static final String[] STD_IDS = new String[] {"AFL-3.0", "CECILL-B", "EUPL-1.0", "Afmparse"};
 	static final String[] NONSTD_IDS = new String[] {SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM+"1",
 		SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM+"2", SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM+"3",
@@ -388,4 +394,91 @@ public class LicenseExpressionParserTest extends TestCase {
     	AnyLicenseInfo result = LicenseInfoFactory.parseSPDXLicenseString("MIT WITH Autoconf-exception-2.0");
         assertEquals("MIT WITH Autoconf-exception-2.0",result.toString());
     }
+
+	/**
+	 * Tokenizer used before the single pass tokenizer - the tokens must be the same
+	 */
+	private static String[] regexTokenizeExpression(String expression) {
+		List<String> tokens = new ArrayList<>();
+		for (String word : expression.split("\\s")) {
+			regexProcessWord(word, tokens);
+		}
+		return tokens.toArray(new String[0]);
+	}
+
+	private static void regexProcessWord(String word, List<String> tokens) {
+		if (word.isEmpty()) {
+			return;
+		} else if (word.startsWith("(")) {
+			tokens.add("(");
+			regexProcessWord(word.substring(1), tokens);
+		} else if (word.endsWith(")")) {
+			regexProcessWord(word.substring(0, word.length()-1), tokens);
+			tokens.add(")");
+		} else if (word.endsWith("+")) {
+			regexProcessWord(word.substring(0, word.length()-1), tokens);
+			tokens.add("+");
+		} else {
+			tokens.add(word);
+		}
+	}
+
+	public void testTokenizeExpression() {
+		String[] expressions = new String[] {"MIT", "  MIT\tOR\nApache-2.0 ", "(MIT AND (GPL-2.0+ WITH Classpath-exception-2.0))",
+				"((MIT))+)", "(+", "()", ")(", "a(b) c+d", "+MIT", "MIT+)+", "\u000B\f\rMIT\u00A0OR X", ""};
+		for (String expression : expressions) {
+			assertTrue(expression, Arrays.equals(regexTokenizeExpression(expression), 
+					LicenseExpressionParser.tokenizeExpression(expression)));
+		}
+		char[] chars = new char[] {'(', ')', '+', ' ', '\t', 'a', 'B', '-'};
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			StringBuilder sb = new StringBuilder();
+			int length = random.nextInt(20);
+			for (int j = 0; j < length; j++) {
+				sb.append(chars[random.nextInt(chars.length)]);
+			}
+			String expression = sb.toString();
+			assertTrue(expression, Arrays.equals(regexTokenizeExpression(expression), 
+					LicenseExpressionParser.tokenizeExpression(expression)));
+		}
+	}
+
+	/**
+	 * Throughput of the single pass tokenizer compared to the regular expression tokenizer and of
+	 * parsing complete expressions
+	 * <p>
+	 * Only runs if slow tests are enabled - results are logged
+	 */
+	public void testTokenizeThroughputBenchmark() throws InvalidSPDXAnalysisException {
+		if (!UnitTestHelper.runSlowTests()) {
+			return;
+		}
+		String[] expressions = new String[] {"MIT", "Apache-2.0 OR MIT", "GPL-2.0-or-later WITH Classpath-exception-2.0",
+				"(MIT AND (LicenseRef-a OR BSD-3-Clause)) OR (Apache-2.0 AND GPL-2.0+ WITH Classpath-exception-2.0)"};
+		int iterations = 2000000;
+		for (int round = 0; round < 3; round++) {
+			long tokens = 0;
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				tokens += regexTokenizeExpression(expressions[i % expressions.length]).length;
+			}
+			double regex = iterations / ((System.nanoTime() - start) / 1e9);
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				tokens -= LicenseExpressionParser.tokenizeExpression(expressions[i % expressions.length]).length;
+			}
+			double singlePass = iterations / ((System.nanoTime() - start) / 1e9);
+			assertEquals(0, tokens);
+			logger.info(String.format("tokenize: regex %,.0f expressions/s, single pass %,.0f expressions/s (%.2fx)", 
+					regex, singlePass, singlePass / regex));
+		}
+		int parseIterations = 20000;
+		long start = System.nanoTime();
+		for (int i = 0; i < parseIterations; i++) {
+			LicenseExpressionParser.parseLicenseExpression(expressions[i % expressions.length], 
+					new InMemSpdxStore(), DEFAULT_PREFIX, creationInfo, copyManager, idMap);
+		}
+		logger.info(String.format("parse: %,.0f expressions/s", parseIterations / ((System.nanoTime() - start) / 1e9)));
+	}
 }
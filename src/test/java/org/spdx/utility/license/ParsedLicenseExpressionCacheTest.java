@@ -0,0 +1,173 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2026 Source Auditor Inc.
+ * SPDX-FileType: SOURCE
+ * SPDX-License-Identifier: Apache-2.0
+ * <p>
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * <p>
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.license;
+
+import org.spdx.core.DefaultModelStore;
+import org.spdx.library.LicenseInfoFactory;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v3_0_1.SpdxModelClassFactoryV3;
+import org.spdx.library.model.v3_0_1.core.CreationInfo;
+import org.spdx.library.model.v3_0_1.expandedlicensing.ConjunctiveLicenseSet;
+import org.spdx.library.model.v3_0_1.expandedlicensing.ListedLicense;
+import org.spdx.library.model.v3_0_1.simplelicensing.AnyLicenseInfo;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.utility.license.ParsedLicenseExpression.Kind;
+
+import junit.framework.TestCase;
+
+/**
+ * Test the parsed license expression cache
+ *
+ * @author Gary O'Neall
+ */
+public class ParsedLicenseExpressionCacheTest extends TestCase {
+
+	static final String DEFAULT_PREFIX = "https://default.prefix/";
+
+	ModelCopyManager copyManager;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		SpdxModelFactory.init();
+		copyManager = new ModelCopyManager();
+		DefaultModelStore.initialize(new InMemSpdxStore(), "https://docnamespace", copyManager);
+	}
+
+	protected void tearDown() throws Exception {
+		ParsedLicenseExpressionCache.getInstance().setMaxSize(0);
+		ParsedLicenseExpressionCache.getInstance().clear();
+		super.tearDown();
+	}
+
+	public void testParse() throws Exception {
+		ParsedLicenseExpressionCache cache = new ParsedLicenseExpressionCache(10);
+		ParsedLicenseExpression parsed = cache.parse("mit AND (LicenseRef-1 OR Apache-2.0+)");
+		assertEquals(Kind.AND, parsed.getKind());
+		assertEquals(Kind.LISTED_LICENSE, parsed.getMembers().get(0).getKind());
+		assertEquals("MIT", parsed.getMembers().get(0).getId().get());
+		assertEquals("(MIT AND (LicenseRef-1 OR Apache-2.0+))", parsed.toString());
+		assertSame(parsed, cache.parse("mit AND (LicenseRef-1 OR Apache-2.0+)"));
+		ParsedLicenseExpression parsedV2 = cache.parseCompatV2("mit AND (LicenseRef-1 OR Apache-2.0+)");
+		assertNotSame(parsed, parsedV2);
+		assertTrue(parsedV2.isCompatV2());
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(1.0 / 3.0, cache.getHitRate(), 0.0001);
+		try {
+			cache.parse("MIT AND");
+			fail("Invalid expression should fail");
+		} catch (LicenseParserException e) {
+			// expected
+		}
+		assertEquals(2, cache.size());
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHits());
+	}
+
+	public void testLongSet() throws Exception {
+		StringBuilder sb = new StringBuilder("(LicenseRef-a OR LicenseRef-b)");
+		for (int i = 0; i < 20000; i++) {
+			sb.append(" OR LicenseRef-");
+			sb.append(i);
+		}
+		sb.append(" AND MIT");
+		ParsedLicenseExpression parsed = LicenseExpressionParser.parseExpressionUncached(sb.toString(), false);
+		assertEquals(Kind.OR, parsed.getKind());
+		assertEquals(20002, parsed.getMembers().size());
+		assertEquals("LicenseRef-a", parsed.getMembers().get(0).getId().get());
+		assertEquals("LicenseRef-19998", parsed.getMembers().get(20000).getId().get());
+		ParsedLicenseExpression last = parsed.getMembers().get(20001);
+		assertEquals(Kind.AND, last.getKind());
+		assertEquals("(LicenseRef-19999 AND MIT)", last.toString());
+		try {
+			parsed.getMembers().add(last);
+			fail("Members should be immutable");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
+	public void testEviction() throws Exception {
+		ParsedLicenseExpressionCache cache = new ParsedLicenseExpressionCache(2);
+		ParsedLicenseExpression mit = cache.parse("MIT");
+		ParsedLicenseExpression apache = cache.parse("Apache-2.0");
+		assertSame(mit, cache.parse("MIT"));	// MIT is now the most recently used
+		cache.parse("GPL-2.0-or-later WITH Classpath-exception-2.0");
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertSame(mit, cache.parse("MIT"));
+		assertNotSame(apache, cache.parse("Apache-2.0"));
+		assertEquals(2, cache.getEvictions());
+		cache.setMaxSize(1);
+		assertEquals(1, cache.size());
+		assertEquals(3, cache.getEvictions());
+	}
+
+	public void testDisabled() throws Exception {
+		ParsedLicenseExpressionCache cache = new ParsedLicenseExpressionCache(0);
+		ParsedLicenseExpression parsed = cache.parse("MIT OR Apache-2.0");
+		assertNotSame(parsed, cache.parse("MIT OR Apache-2.0"));
+		assertEquals(parsed, cache.parse("MIT OR Apache-2.0"));
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHits());
+		assertEquals(0, ParsedLicenseExpressionCache.getInstance().getMaxSize());
+		try {
+			new ParsedLicenseExpressionCache(-1);
+			fail("Negative size should fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	public void testLicenseInfoFactory() throws Exception {
+		ParsedLicenseExpressionCache cache = LicenseInfoFactory.getParsedLicenseExpressionCache();
+		cache.setMaxSize(100);
+		String expression = "MIT AND LicenseRef-cached";
+		IModelStore firstStore = new InMemSpdxStore();
+		CreationInfo firstCreationInfo = SpdxModelClassFactoryV3.createCreationInfo(firstStore,
+				DEFAULT_PREFIX + "createdBy", "Creator", copyManager);
+		AnyLicenseInfo first = LicenseInfoFactory.parseSPDXLicenseString(expression, firstStore, DEFAULT_PREFIX,
+				firstCreationInfo, copyManager, null);
+		IModelStore secondStore = new InMemSpdxStore();
+		CreationInfo secondCreationInfo = SpdxModelClassFactoryV3.createCreationInfo(secondStore,
+				DEFAULT_PREFIX + "createdBy", "Creator", copyManager);
+		AnyLicenseInfo second = LicenseInfoFactory.parseSPDXLicenseString(expression, secondStore, DEFAULT_PREFIX,
+				secondCreationInfo, copyManager, null);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertTrue(second instanceof ConjunctiveLicenseSet);
+		assertSame(secondStore, second.getModelStore());
+		assertEquals(first.toString(), second.toString());
+		assertTrue(second.verify().isEmpty());
+		boolean foundListed = false;
+		for (AnyLicenseInfo member : ((ConjunctiveLicenseSet)second).getMembers()) {
+			if (member instanceof ListedLicense) {
+				foundListed = true;
+			}
+		}
+		assertTrue(foundListed);
+		org.spdx.library.model.v2.license.AnyLicenseInfo v2 = LicenseInfoFactory.parseSPDXLicenseStringCompatV2(expression,
+				new InMemSpdxStore(), "https://test.doc.uri", copyManager);
+		assertTrue(v2 instanceof org.spdx.library.model.v2.license.ConjunctiveLicenseSet);
+		assertEquals(2, cache.getMisses());
+	}
+}
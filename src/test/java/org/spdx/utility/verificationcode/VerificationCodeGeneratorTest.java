@@ -20,9 +20,19 @@ package org.spdx.utility.verificationcode;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.SpdxModelFactory;
 import org.spdx.library.model.v2.SpdxFile;
@@ -33,6 +43,7 @@ import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
 import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.utility.compare.UnitTestHelper;
 
 import junit.framework.TestCase;
 
@@ -41,6 +52,8 @@ import junit.framework.TestCase;
  */
 public class VerificationCodeGeneratorTest extends TestCase {
 	
+	static final Logger logger = LoggerFactory.getLogger(VerificationCodeGeneratorTest.class);
+	
     static final String SOURCE_PATH = "TestFiles" + File.separator + "spdx-parser-source";
 
     static final String[] SKIPPED_FILE_NAMES = new String[] {
@@ -98,6 +111,86 @@ public class VerificationCodeGeneratorTest extends TestCase {
         compareFileNameArrays(SKIPPED_FILE_NAMES, vc.getExcludedFileNames());
     }
     
+    public void testGeneratePackageVerificationCodeParallel() throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+        VerificationCodeGenerator vg = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
+        File sourceDirectory = new File(SOURCE_PATH);
+        File[] skippedFiles = new File[SKIPPED_FILE_NAMES.length];
+        for (int i = 0; i < skippedFiles.length; i++) {
+            skippedFiles[i] = new File(SKIPPED_FILE_NAMES[i]);
+        }
+        for (int threadCount : new int[] {1, 2, 8}) {
+            SpdxPackageVerificationCode vc = vg.generatePackageVerificationCode(sourceDirectory, skippedFiles, 
+                    modelStore, DOCUMENT_URI, threadCount);
+            assertEquals(SHA1_RESULT, vc.getValue());
+            compareFileNameArrays(SKIPPED_FILE_NAMES, vc.getExcludedFileNames());
+        }
+        try {
+            vg.generatePackageVerificationCode(sourceDirectory, skippedFiles, modelStore, DOCUMENT_URI, 0);
+            fail("Thread count of 0 should fail");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testGeneratePackageVerificationCodeParallelError() throws NoSuchAlgorithmException, InvalidSPDXAnalysisException {
+        VerificationCodeGenerator vg = new VerificationCodeGenerator(file -> {
+            throw new IOException("Can not read " + file.getName());
+        });
+        try {
+            vg.generatePackageVerificationCode(new File(SOURCE_PATH), new File[0], modelStore, DOCUMENT_URI, 4);
+            fail("Checksum errors should be thrown");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("Can not read"));
+        }
+    }
+
+    /**
+     * Compares generating the verification code for a directory tree on one thread against several threads
+     */
+    public void testGeneratePackageVerificationCodeBenchmark() throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+        if (!UnitTestHelper.runSlowTests()) {
+            return;
+        }
+        Path tempDir = Files.createTempDirectory("spdx-verification-code");
+        try {
+            byte[] content = new byte[4096];
+            for (int i = 0; i < content.length; i++) {
+                content[i] = (byte)i;
+            }
+            for (int dir = 0; dir < 100; dir++) {
+                Path subDir = Files.createDirectories(tempDir.resolve("dir" + dir).resolve("sub"));
+                for (int file = 0; file < 50; file++) {
+                    Files.write(subDir.resolve("file" + file + ".c"), content);
+                    Files.write(subDir.resolve("name" + file + ".txt"), ("file " + dir + " " + file).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            VerificationCodeGenerator vg = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
+            // warm up
+            vg.generatePackageVerificationCode(tempDir.toFile(), new File[0], modelStore, DOCUMENT_URI, 1);
+            long start = System.nanoTime();
+            String serialValue = vg.generatePackageVerificationCode(tempDir.toFile(), new File[0], 
+                    modelStore, DOCUMENT_URI, 1).getValue();
+            long serialNanos = System.nanoTime() - start;
+            int threadCount = Math.max(4, Runtime.getRuntime().availableProcessors());
+            start = System.nanoTime();
+            String parallelValue = vg.generatePackageVerificationCode(tempDir.toFile(), new File[0], 
+                    modelStore, DOCUMENT_URI, threadCount).getValue();
+            long parallelNanos = System.nanoTime() - start;
+            assertEquals(serialValue, parallelValue);
+            logger.info(String.format("Generated the verification code for 10000 files on one thread in %d ms and on %d threads in %d ms",
+                    serialNanos / 1000000, threadCount, parallelNanos / 1000000));
+        } finally {
+            List<Path> toDelete = new ArrayList<>();
+            try (Stream<Path> paths = Files.walk(tempDir)) {
+                paths.forEach(toDelete::add);
+            }
+            Collections.sort(toDelete, Comparator.reverseOrder());
+            for (Path path : toDelete) {
+                Files.delete(path);
+            }
+        }
+    }
+    
     /**
      * @param skippedFileNames
      * @param excludedFileNames